@@ -7,6 +7,7 @@ import org.snapfx.close.DockCloseResult;
 import org.snapfx.close.DockCloseSource;
 import org.snapfx.dnd.DockDragData;
 import org.snapfx.dnd.DockDragService;
+import org.snapfx.dnd.DockDropRouter;
 import org.snapfx.dnd.DockDropVisualizationMode;
 import org.snapfx.localization.DockLocalizationProvider;
 import org.snapfx.localization.internal.DockLocalizationService;
@@ -17,9 +18,12 @@ import org.snapfx.floating.DockFloatingPinSource;
 import org.snapfx.floating.DockFloatingSnapTarget;
 import org.snapfx.floating.DockFloatingController;
 import org.snapfx.floating.DockFloatingWindow;
+import org.snapfx.floating.DockFloatingWindowHitIndex;
+import org.snapfx.floating.DockFloatingWindowPool;
 import org.snapfx.model.*;
 import org.snapfx.persistence.DockLayoutSerializer;
 import org.snapfx.persistence.DockLayoutLoadException;
+import org.snapfx.persistence.DockContentHibernationService;
 import org.snapfx.persistence.DockLayoutSnapshotService;
 import org.snapfx.persistence.DockNodeFactory;
 import org.snapfx.sidebar.DockSideBarMode;
@@ -31,16 +35,21 @@ import org.snapfx.theme.DockThemeStyleClasses;
 import org.snapfx.theme.DockThemeStylesheetManager;
 import com.google.gson.JsonArray;
 import org.snapfx.view.DockCloseButtonMode;
+import org.snapfx.view.DockDropZoneTable;
 import org.snapfx.view.DockLayoutEngine;
+import org.snapfx.view.DockRebuildScheduler;
+import org.snapfx.view.DockHeaderRenderMode;
 import org.snapfx.view.DockTitleBarMode;
 import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.application.Platform;
 import javafx.beans.binding.Bindings;
 import javafx.beans.property.ObjectProperty;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.property.SimpleObjectProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.FXCollections;
+import javafx.collections.ListChangeListener;
 import javafx.collections.ObservableList;
 import javafx.event.EventHandler;
 import javafx.geometry.Bounds;
@@ -128,6 +137,8 @@ public class SnapFX {
     private final DockGraph dockGraph;
     private final DockLayoutEngine layoutEngine;
     private final DockDragService dragService;
+    private final DockRebuildScheduler rebuildScheduler;
+    private final DockContentHibernationService contentHibernationService;
     private final DockLayoutSerializer serializer;
     private final DockLayoutSnapshotService layoutSnapshotService;
     private final DockShortcutController shortcutController;
@@ -146,6 +157,9 @@ public class SnapFX {
     private final ObservableList<DockNode> hiddenNodes;
     private final ObservableList<DockFloatingWindow> floatingWindows;
     private final ObservableList<DockFloatingWindow> readOnlyFloatingWindows;
+    private final DockFloatingWindowHitIndex floatingWindowHitIndex;
+    private final DockFloatingWindowPool floatingWindowPool;
+    private final DockDropRouter dropRouter;
     private final EnumMap<Side, VBox> renderedSideBarStrips;
     private Side activeSideBarResizeSide;
     private double sideBarResizeDragStartScreenX;
@@ -173,6 +187,8 @@ public class SnapFX {
     private DockUserAgentThemeMode userAgentThemeMode = DockUserAgentThemeMode.AUTO;
 
     private Pane rootContainer; // Container that holds the buildLayout() result
+    private BorderPane sideBarLayoutHost; // Main layout with sidebar strips and pinned panels, reused across rebuilds
+    private StackPane sideBarLayeredHost; // Layers sidebar overlay panels above sideBarLayoutHost
 
     private final class FxThreadObjectProperty<T> extends SimpleObjectProperty<T> {
         private final String propertyName;
@@ -199,8 +215,10 @@ public class SnapFX {
         this.dockGraph = new DockGraph();
         this.dragService = new DockDragService(dockGraph);
         this.layoutEngine = new DockLayoutEngine(dockGraph, dragService);
+        this.rebuildScheduler = new DockRebuildScheduler(this::rebuildRootView);
         this.serializer = new DockLayoutSerializer(dockGraph);
         this.layoutSnapshotService = new DockLayoutSnapshotService();
+        this.contentHibernationService = new DockContentHibernationService(this::collectDockGraphs);
         this.shortcutController = new DockShortcutController();
         this.sideBarController = new DockSideBarController();
         this.floatingController = new DockFloatingController();
@@ -212,7 +230,10 @@ public class SnapFX {
         this.hiddenNodes = FXCollections.observableArrayList();
         this.floatingWindows = FXCollections.observableArrayList();
         this.readOnlyFloatingWindows = FXCollections.unmodifiableObservableList(floatingWindows);
+        this.floatingWindowHitIndex = new DockFloatingWindowHitIndex(floatingWindows);
+        this.floatingWindowPool = new DockFloatingWindowPool(dragService);
         this.renderedSideBarStrips = new EnumMap<>(Side.class);
+        this.dropRouter = new DockDropRouter();
         this.themeStylesheetManager = new DockThemeStylesheetManager();
         this.userAgentThemeCompatStylesheetUrl = resolveOptionalStylesheetUrl(ATLANTAFX_COMPAT_STYLESHEET_RESOURCE_PATH);
         this.localeProperty.addListener((obs, oldLocale, newLocale) -> onLocaleChanged(newLocale));
@@ -228,23 +249,23 @@ public class SnapFX {
         this.dragService.setOnFloatDetachRequest(this::handleUnresolvedDropRequest);
         this.dragService.setOnDragHover(this::handleDragHover);
         this.dragService.setOnDragFinished(this::clearDragPreviews);
-        this.dragService.setSuppressMainDropAtScreenPoint(
-            (screenX, screenY) -> floatingController.isMainDropSuppressedByFloatingWindow(floatingWindows, screenX, screenY)
+        this.dropRouter.setHostSupplier(this::collectDropHosts);
+        this.dropRouter.setSideBarStrips(renderedSideBarStrips);
+        this.dropRouter.setFrontHostLocator(floatingWindowHitIndex::findTopWindowAt);
+        this.floatingWindows.addListener((ListChangeListener<DockFloatingWindow>) change -> dropRouter.invalidate());
+        this.dragService.setDropRouter(dropRouter);
+        this.floatingWindowPool.setOnWindowPrepared(this::prepareIdleFloatingWindow);
+        this.floatingWindowPool.setOnWindowDiscarded(
+            idleWindow -> shortcutController.unbindFloatingShortcutScene(idleWindow, shortcutKeyEventFilter)
         );
 
         // Auto-rebuild view when revision changes (after D&D, dock/undock operations)
-        this.dockGraph.revisionProperty().addListener((obs, o, n) -> {
-            if (rootContainer != null) {
-                // Rebuild on next frame to ensure all model changes are complete
-                Platform.runLater(this::rebuildRootView);
-            }
-        });
+        this.dockGraph.revisionProperty().addListener((obs, o, n) -> requestRebuild());
 
         // Auto-rebuild view when root element changes
         this.dockGraph.rootProperty().addListener((obs, oldRoot, newRoot) -> {
-            if (oldRoot != newRoot && rootContainer != null) {
-                // Root element changed, rebuild the view
-                Platform.runLater(this::rebuildRootView);
+            if (oldRoot != newRoot) {
+                requestRebuild();
             }
         });
     }
@@ -272,6 +293,8 @@ public class SnapFX {
             applyManagedThemeStylesheet(floatingWindow.getScene(), null);
             shortcutController.bindFloatingShortcutScene(floatingWindow, shortcutKeyEventFilter);
         }
+        floatingWindowPool.setOwnerStage(primaryStage);
+        floatingWindowPool.warmUp();
     }
 
     /**
@@ -523,7 +546,7 @@ public class SnapFX {
             rootContainer.sceneProperty().addListener(rootContainerSceneListener);
         }
 
-        rebuildRootContainerContent();
+        rebuildScheduler.rebuildNow();
         rebindShortcutScene(rootContainer.getScene());
 
         return rootContainer;
@@ -537,9 +560,13 @@ public class SnapFX {
         rebuildRootContainerContent();
     }
 
+    /**
+     * Marks the root view dirty; all invalidations before the next pulse collapse into a single rebuild
+     * that runs after the current model changes are complete.
+     */
     private void requestRebuild() {
         if (rootContainer != null) {
-            Platform.runLater(this::rebuildRootView);
+            rebuildScheduler.requestRebuild();
         }
     }
 
@@ -567,7 +594,7 @@ public class SnapFX {
     private void refreshLocalizationUi() {
         applyLocalizationConfiguration();
         if (rootContainer != null) {
-            rebuildRootView();
+            rebuildScheduler.rebuildNow();
         }
         for (DockFloatingWindow floatingWindow : floatingWindows) {
             floatingWindow.refreshLocalization();
@@ -591,8 +618,8 @@ public class SnapFX {
         if (rootContainer == null) {
             return;
         }
-        // Detach old content first so DockNode content can be re-hosted by the rebuilt layout or sidebar panel.
-        rootContainer.getChildren().clear();
+        // The previous layout stays attached while rebuilding, so reused views and DockNode content hosts never
+        // leave the scene; nodes that move to a sidebar panel are re-parented by their new host.
         Node layout = layoutEngine.buildSceneGraph();
         replaceRootContainerContent(layout);
         reattachSideBarDropInsertLine();
@@ -602,16 +629,22 @@ public class SnapFX {
      * Replaces the current root content with a composed layout that includes sidebar stripes, overlay panels, and
      * pinned sidebar panels.
      *
-     * <p>Callers clear the root container before composition so JavaFX content nodes can safely move between the
-     * main layout and sidebar panel hosts during pin/restore transitions.</p>
+     * <p>An unchanged composed layout is kept in place; only transient children such as the sidebar drop insert
+     * line are removed. DockNode content moves between the main layout and sidebar panel hosts through the node's
+     * {@link DockNode#getContentHost() content host}.</p>
      */
     private void replaceRootContainerContent(Node layout) {
         if (rootContainer == null) {
             return;
         }
         Node composedLayout = buildSideBarDecoratedLayout(layout);
-        if (composedLayout != null) {
-            rootContainer.getChildren().add(composedLayout);
+        ObservableList<Node> children = rootContainer.getChildren();
+        if (composedLayout == null) {
+            children.clear();
+        } else if (children.isEmpty() || children.getFirst() != composedLayout) {
+            children.setAll(composedLayout);
+        } else if (children.size() > 1) {
+            children.remove(1, children.size());
         }
     }
 
@@ -626,23 +659,30 @@ public class SnapFX {
         pruneInvalidSideBarViewState();
         renderedSideBarStrips.clear();
         if (sideBarController.getSideBarMode() == DockSideBarMode.NEVER) {
+            if (sideBarLayoutHost != null) {
+                sideBarLayoutHost.setCenter(null);
+                sideBarLayoutHost = null;
+                sideBarLayeredHost = null;
+            }
             return mainLayout;
         }
 
-        BorderPane host = new BorderPane();
-        if (mainLayout != null) {
-            host.setCenter(mainLayout);
-        }
-        Node leftSideHost = createSideBarSideHost(Side.LEFT);
-        if (leftSideHost != null) {
-            host.setLeft(leftSideHost);
+        // The decoration hosts are kept across rebuilds so the main layout is not re-parented on every rebuild.
+        if (sideBarLayeredHost == null) {
+            sideBarLayoutHost = new BorderPane();
+            sideBarLayeredHost = new StackPane(sideBarLayoutHost);
         }
-        Node rightSideHost = createSideBarSideHost(Side.RIGHT);
-        if (rightSideHost != null) {
-            host.setRight(rightSideHost);
+        BorderPane host = sideBarLayoutHost;
+        if (host.getCenter() != mainLayout) {
+            host.setCenter(mainLayout);
         }
+        host.setLeft(createSideBarSideHost(Side.LEFT));
+        host.setRight(createSideBarSideHost(Side.RIGHT));
 
-        StackPane layeredHost = new StackPane(host);
+        StackPane layeredHost = sideBarLayeredHost;
+        if (layeredHost.getChildren().size() > 1) {
+            layeredHost.getChildren().remove(1, layeredHost.getChildren().size());
+        }
         Node leftOverlay = createSideBarOverlayHost(Side.LEFT);
         if (leftOverlay != null) {
             StackPane.setAlignment(leftOverlay, Pos.CENTER_LEFT);
@@ -916,7 +956,7 @@ public class SnapFX {
         StackPane contentHost = new StackPane();
         contentHost.getStyleClass().add(DockThemeStyleClasses.DOCK_SIDEBAR_PANEL_CONTENT);
         VBox.setVgrow(contentHost, Priority.ALWAYS);
-        attachDockNodeContent(contentHost, dockNode.getContent());
+        attachDockNodeContent(contentHost, dockNode);
 
         panel.getChildren().addAll(header, contentHost);
         return panel;
@@ -1108,11 +1148,13 @@ public class SnapFX {
         return dockNode.getTitle().substring(0, 1).toUpperCase();
     }
 
-    private void attachDockNodeContent(StackPane host, Node content) {
-        if (host == null || content == null) {
+    private void attachDockNodeContent(StackPane host, DockNode dockNode) {
+        if (host == null || dockNode == null) {
             return;
         }
-        host.getChildren().setAll(content);
+        // Move the node's stable content host, never the content itself.
+        dockNode.ensureContentCreated();
+        host.getChildren().setAll(dockNode.getContentHost());
     }
 
     private void onSideBarIconClicked(Side side, DockNode dockNode) {
@@ -1352,6 +1394,9 @@ public class SnapFX {
         for (DockFloatingWindow floatingWindow : floatingWindows) {
             applyManagedThemeStylesheet(floatingWindow.getScene(), previousStylesheetUrl);
         }
+        for (DockFloatingWindow idleWindow : floatingWindowPool.getIdleWindows()) {
+            applyManagedThemeStylesheet(idleWindow.getScene(), previousStylesheetUrl);
+        }
     }
 
     private void applyManagedThemeStylesheet(Scene scene, String previousStylesheetUrl) {
@@ -1525,6 +1570,7 @@ public class SnapFX {
     public void setNodeFactory(DockNodeFactory factory) {
         this.nodeFactory = factory;
         serializer.setNodeFactory(factory);
+        contentHibernationService.setNodeFactory(factory);
     }
 
     /**
@@ -1913,7 +1959,7 @@ public class SnapFX {
             }
         }
 
-        DockFloatingWindow floatingWindow = new DockFloatingWindow(node, dragService);
+        DockFloatingWindow floatingWindow = floatingWindowPool.acquire(node);
         floatingWindow.setTextResolver(this::text);
         floatingWindow.getDockGraph().setLocked(dockGraph.isLocked());
         floatingController.applyRememberedFloatingBounds(node, floatingWindow);
@@ -1979,10 +2025,14 @@ public class SnapFX {
         for (DockNode node : pendingNodes) {
             dockAtHostFallbackOrMain(node);
         }
+        floatingWindowPool.release(floatingWindow);
     }
 
     /**
      * Returns all currently open floating windows. (read-only)
+     * <p>Once pooling is enabled via {@link #getFloatingWindowPool()}, closed and attached windows are reused for
+     * later float operations and layout loads with a new {@link DockFloatingWindow#getId() ID}. Do not keep a window
+     * instance after it left this list.</p>
      * @return read-only list of floating windows
      */
     public ObservableList<DockFloatingWindow> getFloatingWindows() {
@@ -2046,7 +2096,8 @@ public class SnapFX {
         if (request == null || request.draggedNode() == null) {
             return;
         }
-        if (tryDropIntoSideBar(request.draggedNode(), request.screenX(), request.screenY())) {
+        dropRouter.route(request.draggedNode(), request.screenX(), request.screenY());
+        if (tryDropIntoRoutedSideBar(request.draggedNode())) {
             return;
         }
         if (tryDropIntoFloatingWindow(request.draggedNode(), request.screenX(), request.screenY())) {
@@ -2069,32 +2120,19 @@ public class SnapFX {
             return;
         }
 
-        DockFloatingWindow topWindow = floatingController.findTopFloatingWindowAt(
-            floatingWindows,
-            hoverEvent.screenX(),
-            hoverEvent.screenY()
-        );
+        dropRouter.route(hoverEvent.draggedNode(), hoverEvent.screenX(), hoverEvent.screenY());
+        DockFloatingWindow topWindow = resolveRoutedFloatingWindow();
         if (topWindow == null) {
-            updateSideBarDropPreview(hoverEvent.draggedNode(), hoverEvent.screenX(), hoverEvent.screenY());
+            updateRoutedSideBarDropPreview(hoverEvent.draggedNode());
             clearFloatingDropPreviews();
             return;
         }
 
         clearSideBarDropPreview();
-        if (floatingWindows.isEmpty()) {
-            clearFloatingDropPreviews();
-            return;
-        }
-
         DockDropVisualizationMode visualizationMode = dragService.getDropVisualizationMode();
-        for (DockFloatingWindow floatingWindow : new ArrayList<>(floatingWindows)) {
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
             if (floatingWindow == topWindow) {
-                floatingWindow.updateDropPreview(
-                    hoverEvent.draggedNode(),
-                    hoverEvent.screenX(),
-                    hoverEvent.screenY(),
-                    visualizationMode
-                );
+                floatingWindow.updateDropPreview(dropRouter, visualizationMode);
                 continue;
             }
             floatingWindow.clearDropPreview();
@@ -2110,24 +2148,26 @@ public class SnapFX {
         if (floatingWindows.isEmpty()) {
             return;
         }
-        for (DockFloatingWindow floatingWindow : new ArrayList<>(floatingWindows)) {
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
             floatingWindow.clearDropPreview();
         }
     }
 
     private boolean tryDropIntoFloatingWindow(DockNode node, double screenX, double screenY) {
-        DockFloatingWindow topWindow = floatingController.findTopFloatingWindowAt(floatingWindows, screenX, screenY);
-        if (topWindow == null) {
-            return false;
-        }
-        DockFloatingWindow.DropTarget bestTarget = topWindow.resolveDropTarget(screenX, screenY, node);
-        if (bestTarget == null) {
+        dropRouter.route(node, screenX, screenY);
+        DockFloatingWindow topWindow = resolveRoutedFloatingWindow();
+        int zone = dropRouter.getRoutedZone();
+        if (topWindow == null || zone < 0) {
             return false;
         }
+        DockDropZoneTable zones = dropRouter.getZones();
+        DockElement target = zones.getTarget(zone);
+        DockPosition position = zones.getPosition(zone);
+        Integer tabIndex = zones.getResolvedTabIndex() >= 0 ? zones.getResolvedTabIndex() : null;
 
         DockFloatingWindow sourceWindow = floatingController.findFloatingWindowContainingNode(floatingWindows, node);
         if (sourceWindow != null && sourceWindow == topWindow) {
-            topWindow.moveNode(node, bestTarget.target(), bestTarget.position(), bestTarget.tabIndex());
+            topWindow.moveNode(node, target, position, tabIndex);
             topWindow.toFront();
             return true;
         }
@@ -2150,60 +2190,39 @@ public class SnapFX {
         }
 
         hiddenNodes.remove(node);
-        topWindow.dockNode(node, bestTarget.target(), bestTarget.position(), bestTarget.tabIndex());
+        topWindow.dockNode(node, target, position, tabIndex);
         topWindow.toFront();
         return true;
     }
 
-    private boolean tryDropIntoSideBar(DockNode node, double screenX, double screenY) {
-        Point2D scenePoint = toRootContainerScenePoint(screenX, screenY);
-        if (scenePoint == null) {
-            return false;
-        }
-        return tryDropIntoSideBarAtScenePoint(node, scenePoint.getX(), scenePoint.getY());
+    private DockFloatingWindow resolveRoutedFloatingWindow() {
+        DockDropRouter.Host routedHost = dropRouter.getRoutedHost();
+        return routedHost != null && routedHost.owner() instanceof DockFloatingWindow floatingWindow
+            ? floatingWindow
+            : null;
     }
 
-    private boolean tryDropIntoSideBarAtScenePoint(DockNode node, double sceneX, double sceneY) {
-        clearSideBarDropPreview();
-        SideBarDropTarget dropTarget = resolveSideBarDropTargetAtScenePoint(sceneX, sceneY);
-        if (dropTarget == null) {
-            return false;
+    private List<DockDropRouter.Host> collectDropHosts() {
+        List<DockDropRouter.Host> hosts = new ArrayList<>(floatingWindows.size() + 1);
+        if (rootContainer != null && rootContainer.getScene() != null) {
+            hosts.add(new DockDropRouter.Host(this, rootContainer.getScene(), layoutEngine, dockGraph, true));
         }
-        return applySideBarDropTarget(node, dropTarget);
-    }
-
-    private SideBarDropTarget resolveSideBarDropTargetAtScenePoint(double sceneX, double sceneY) {
-        for (Side side : List.of(Side.LEFT, Side.RIGHT)) {
-            VBox strip = renderedSideBarStrips.get(side);
-            if (strip == null || strip.getScene() == null) {
-                continue;
-            }
-            Bounds stripBounds = strip.localToScene(strip.getBoundsInLocal());
-            if (stripBounds == null || !stripBounds.contains(sceneX, sceneY)) {
-                continue;
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
+            DockDropRouter.Host host = floatingWindow.getDropHost();
+            if (host != null) {
+                hosts.add(host);
             }
-            return new SideBarDropTarget(side, resolveSideBarInsertIndex(strip, sceneY));
         }
-        return null;
+        return hosts;
     }
 
-    private int resolveSideBarInsertIndex(VBox strip, double sceneY) {
-        if (strip == null) {
-            return 0;
-        }
-        int index = 0;
-        for (Node child : strip.getChildren()) {
-            Bounds childBounds = child.localToScene(child.getBoundsInLocal());
-            if (childBounds == null) {
-                continue;
-            }
-            double centerY = (childBounds.getMinY() + childBounds.getMaxY()) / 2.0;
-            if (sceneY < centerY) {
-                return index;
-            }
-            index++;
+    private boolean tryDropIntoRoutedSideBar(DockNode node) {
+        clearSideBarDropPreview();
+        Side side = dropRouter.getRoutedSideBar();
+        if (side == null) {
+            return false;
         }
-        return index;
+        return applySideBarDropTarget(node, new SideBarDropTarget(side, dropRouter.getRoutedSideBarInsertIndex()));
     }
 
     private boolean applySideBarDropTarget(DockNode node, SideBarDropTarget dropTarget) {
@@ -2238,38 +2257,21 @@ public class SnapFX {
         return true;
     }
 
-    private void updateSideBarDropPreview(DockNode draggedNode, double screenX, double screenY) {
-        if (draggedNode == null || dockGraph.isLocked()) {
+    private void updateRoutedSideBarDropPreview(DockNode draggedNode) {
+        Side side = dropRouter.getRoutedSideBar();
+        if (draggedNode == null || side == null || dockGraph.isLocked()) {
             clearSideBarDropPreview();
             return;
         }
-        Point2D scenePoint = toRootContainerScenePoint(screenX, screenY);
-        if (scenePoint == null) {
-            clearSideBarDropPreview();
-            return;
-        }
-        updateSideBarDropPreviewAtScenePoint(draggedNode, scenePoint.getX(), scenePoint.getY());
-    }
-
-    private boolean updateSideBarDropPreviewAtScenePoint(DockNode draggedNode, double sceneX, double sceneY) {
-        if (draggedNode == null || dockGraph.isLocked()) {
-            clearSideBarDropPreview();
-            return false;
-        }
-        SideBarDropTarget dropTarget = resolveSideBarDropTargetAtScenePoint(sceneX, sceneY);
-        if (dropTarget == null) {
-            clearSideBarDropPreview();
-            return false;
-        }
-
-        VBox strip = renderedSideBarStrips.get(dropTarget.side());
-        SideBarDropPreview preview = buildSideBarDropPreview(strip, dropTarget);
+        SideBarDropPreview preview = buildSideBarDropPreview(
+            renderedSideBarStrips.get(side),
+            new SideBarDropTarget(side, dropRouter.getRoutedSideBarInsertIndex())
+        );
         if (preview == null) {
             clearSideBarDropPreview();
-            return false;
+            return;
         }
         showSideBarDropPreview(preview);
-        return true;
     }
 
     private SideBarDropPreview buildSideBarDropPreview(VBox strip, SideBarDropTarget dropTarget) {
@@ -2367,17 +2369,6 @@ public class SnapFX {
         }
     }
 
-    private Point2D toRootContainerScenePoint(double screenX, double screenY) {
-        if (rootContainer == null || rootContainer.getScene() == null) {
-            return null;
-        }
-        Point2D localPoint = rootContainer.screenToLocal(screenX, screenY);
-        if (localPoint == null) {
-            return null;
-        }
-        return rootContainer.localToScene(localPoint);
-    }
-
     private void configureFloatingWindowCallbacks(DockFloatingWindow floatingWindow) {
         if (floatingWindow == null) {
             return;
@@ -2470,7 +2461,7 @@ public class SnapFX {
             removeFloatingWindowSilently(sourceWindow);
         }
 
-        DockFloatingWindow floatingWindow = new DockFloatingWindow(node, dragService);
+        DockFloatingWindow floatingWindow = floatingWindowPool.acquire(node);
         floatingWindow.setTextResolver(this::text);
         floatingWindow.getDockGraph().setLocked(dockGraph.isLocked());
         floatingController.applyRememberedFloatingBounds(node, floatingWindow);
@@ -2583,32 +2574,8 @@ public class SnapFX {
         onCloseHandled.accept(new DockCloseResult(request, appliedBehavior, canceled));
     }
 
-    private boolean isInGraph(DockNode node) {
-        return node != null && findInGraph(dockGraph.getRoot(), node);
-    }
-
     private boolean isInGraph(DockElement element) {
-        if (element == dockGraph.getRoot()) {
-            return true;
-        }
-        return findInGraph(dockGraph.getRoot(), element);
-    }
-
-    private boolean findInGraph(DockElement current, DockElement target) {
-        if (current == null) {
-            return false;
-        }
-        if (current == target) {
-            return true;
-        }
-        if (current instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                if (findInGraph(child, target)) {
-                    return true;
-                }
-            }
-        }
-        return false;
+        return dockGraph.isInMainLayout(element);
     }
 
     /**
@@ -2639,6 +2606,47 @@ public class SnapFX {
         return layoutEngine;
     }
 
+    /**
+     * Returns the scheduler that coalesces main-layout rebuild requests.
+     * Its counters show how many rebuild requests were absorbed into an already pending rebuild.
+     *
+     * @return main-layout rebuild scheduler
+     */
+    public DockRebuildScheduler getRebuildScheduler() {
+        return rebuildScheduler;
+    }
+
+    /**
+     * Returns the service that hibernates hidden DockNode content of the main layout and all floating windows.
+     * Hibernation is disabled until {@link DockContentHibernationService#setEnabled(boolean)} is called and uses the
+     * factory set via {@link #setNodeFactory(DockNodeFactory)} to recreate content.
+     *
+     * @return content hibernation service
+     */
+    public DockContentHibernationService getContentHibernationService() {
+        return contentHibernationService;
+    }
+
+    /**
+     * Returns the pool that reuses closed floating windows for later float operations and layout loads.
+     * Pooling is disabled until {@link DockFloatingWindowPool#setCapacity(int)} is called; idle windows are
+     * pre-created by {@link #initialize(Stage)} when {@link DockFloatingWindowPool#setWarmUpCount(int)} is set.
+     *
+     * @return floating-window pool
+     */
+    public DockFloatingWindowPool getFloatingWindowPool() {
+        return floatingWindowPool;
+    }
+
+    private List<DockGraph> collectDockGraphs() {
+        List<DockGraph> graphs = new ArrayList<>(floatingWindows.size() + 1);
+        graphs.add(dockGraph);
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
+            graphs.add(floatingWindow.getDockGraph());
+        }
+        return graphs;
+    }
+
     /**
      * Returns the drag service used by this SnapFX instance.
      *
@@ -2704,6 +2712,83 @@ public class SnapFX {
         return layoutEngine.getTitleBarMode();
     }
 
+    /**
+     * Sets how layout views render dock-node title bars.
+     *
+     * @param mode header render mode
+     */
+    public void setHeaderRenderMode(DockHeaderRenderMode mode) {
+        layoutEngine.setHeaderRenderMode(mode);
+        requestRebuild();
+    }
+
+    /**
+     * Returns how layout views render dock-node title bars.
+     *
+     * @return header render mode
+     */
+    public DockHeaderRenderMode getHeaderRenderMode() {
+        return layoutEngine.getHeaderRenderMode();
+    }
+
+    /**
+     * Enables incremental construction of the main layout. Layout builds then create all splits and the selected
+     * tab of every tab pane right away, show placeholders for the other tab contents and create those views on the
+     * following pulses within {@link #setIncrementalLayoutBuildFrameBudget(Duration) the frame budget}. Selecting a
+     * placeholder tab creates its view immediately. Disabling the mode creates all pending views.
+     *
+     * @param enabled {@code true} to build large layouts incrementally
+     */
+    public void setIncrementalLayoutBuildEnabled(boolean enabled) {
+        layoutEngine.setIncrementalBuildEnabled(enabled);
+    }
+
+    /**
+     * Returns whether the main layout is built incrementally.
+     *
+     * @return {@code true} when incremental layout builds are enabled
+     */
+    public boolean isIncrementalLayoutBuildEnabled() {
+        return layoutEngine.isIncrementalBuildEnabled();
+    }
+
+    /**
+     * Sets the time per pulse spent on creating pending views of an incremental layout build.
+     *
+     * @param frameBudget frame budget, defaults to 8 ms when {@code null} or not positive
+     */
+    public void setIncrementalLayoutBuildFrameBudget(Duration frameBudget) {
+        layoutEngine.setIncrementalBuildFrameBudget(frameBudget);
+    }
+
+    /**
+     * Returns the time per pulse spent on creating pending views of an incremental layout build.
+     *
+     * @return frame budget
+     */
+    public Duration getIncrementalLayoutBuildFrameBudget() {
+        return layoutEngine.getIncrementalBuildFrameBudget();
+    }
+
+    /**
+     * Returns how far the main layout is realized, from {@code 0} to {@code 1}. The value stays {@code 1} unless an
+     * incremental layout build left views pending.
+     *
+     * @return read-only layout realization progress property
+     */
+    public ReadOnlyDoubleProperty layoutRealizationProgressProperty() {
+        return layoutEngine.realizationProgressProperty();
+    }
+
+    /**
+     * Sets the callback invoked when an incremental layout build created its last pending view.
+     *
+     * @param handler completion callback, or {@code null}
+     */
+    public void setOnLayoutRealized(Runnable handler) {
+        layoutEngine.setOnLayoutRealized(handler);
+    }
+
     /**
      * Returns the primary stage last passed to {@link #initialize(Stage)}.
      *
@@ -3063,6 +3148,7 @@ public class SnapFX {
                 hiddenNodes.add(node);
             }
         }
+        floatingWindowPool.release(floatingWindow);
     }
 
     private void removeFloatingWindowSilently(DockFloatingWindow floatingWindow) {
@@ -3071,6 +3157,12 @@ public class SnapFX {
         }
         shortcutController.unbindFloatingShortcutScene(floatingWindow, shortcutKeyEventFilter);
         floatingWindow.closeWithoutNotification();
+        floatingWindowPool.release(floatingWindow);
+    }
+
+    private void prepareIdleFloatingWindow(DockFloatingWindow idleWindow) {
+        applyManagedThemeStylesheet(idleWindow.getScene(), null);
+        shortcutController.bindFloatingShortcutScene(idleWindow, shortcutKeyEventFilter);
     }
 
     /**
@@ -3274,21 +3366,10 @@ public class SnapFX {
         if (element == null) {
             return false;
         }
-        DockElement hostRoot = getHostRoot(hostWindow);
-        if (hostRoot == null) {
-            return false;
-        }
-        return hostRoot == element || findInGraph(hostRoot, element);
-    }
-
-    private DockElement getHostRoot(DockFloatingWindow hostWindow) {
         if (hostWindow == null) {
-            return dockGraph.getRoot();
-        }
-        if (!floatingWindows.contains(hostWindow)) {
-            return null;
+            return dockGraph.isInMainLayout(element);
         }
-        return hostWindow.getDockGraph().getRoot();
+        return floatingWindows.contains(hostWindow) && hostWindow.getDockGraph().isInMainLayout(element);
     }
 
     private void dockAtRememberedOrFallback(DockNode node) {
@@ -3369,7 +3450,7 @@ public class SnapFX {
             return;
         }
 
-        DockFloatingWindow floatingWindow = new DockFloatingWindow(floatingRoot, dragService);
+        DockFloatingWindow floatingWindow = floatingWindowPool.acquire(floatingRoot);
         floatingWindow.setTextResolver(this::text);
         floatingWindow.getDockGraph().setLocked(dockGraph.isLocked());
         if (isFinitePositive(snapshot.width()) || isFinitePositive(snapshot.height())) {
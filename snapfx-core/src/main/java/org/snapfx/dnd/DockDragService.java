@@ -7,11 +7,14 @@ import org.snapfx.model.DockTabPane;
 import org.snapfx.view.DockLayoutEngine;
 import org.snapfx.view.DockNodeView;
 import org.snapfx.view.DockDropZone;
+import org.snapfx.view.DockDropZoneTable;
 import org.snapfx.view.DockDropZoneType;
 import org.snapfx.model.DockPosition;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Bounds;
 import javafx.geometry.Point2D;
+import javafx.geometry.Rectangle2D;
 import javafx.scene.Node;
 import javafx.scene.Scene;
 import javafx.scene.canvas.Canvas;
@@ -69,6 +72,7 @@ public class DockDragService {
     private final ObjectProperty<DockDragData> currentDragProperty = new SimpleObjectProperty<>();
 
     private DockGhostOverlay ghostOverlay;
+    private final DockGhostSnapshotRenderer ghostRenderer = new DockGhostSnapshotRenderer();
     private Stage ghostStage;
     private DockDropIndicator dropIndicator;
     private DockDropZonesOverlay dropZonesOverlay;
@@ -79,9 +83,30 @@ public class DockDragService {
     private Consumer<DragHoverEvent> onDragHover;
     private Runnable onDragFinished;
     private BiPredicate<Double, Double> suppressMainDropAtScreenPoint;
+    private DockDropRouter dropRouter;
     private BiFunction<String, Object[], String> textResolver = DEFAULT_TEXT_RESOLVER;
     private final EventHandler<KeyEvent> dragCancelKeyHandler = this::handleDragCancelKeyPressed;
     private final List<Scene> dragCancelScenes = new ArrayList<>();
+    private final DockDropZoneTable sessionDropZones = new DockDropZoneTable();
+    private boolean sessionDropZonesValid;
+    private long sessionDropZonesRevision;
+    private long sessionDropZonesGeometryVersion;
+    private long dropZoneCollectionCount;
+    private final AnimationTimer dragFrameTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onDragFramePulse();
+        }
+    };
+    private boolean dragFrameTimerRunning;
+    private boolean dragFramePending;
+    private double pendingScreenX;
+    private double pendingScreenY;
+    private long dragEventCount;
+    private long dragFrameCount;
+    private long lastDragFrameNanos;
+    private long maxDragFrameNanos;
+    private long totalDragFrameNanos;
 
     /**
      * Creates a drag service bound to one dock graph.
@@ -267,38 +292,101 @@ public class DockDragService {
         }
 
         currentDragProperty.set(currentDrag);
+        invalidateSessionDropZones();
+        if (dropRouter != null) {
+            dropRouter.invalidate();
+        }
+        resetDragFrameStats();
 
-        // Create snapshot of the dragged element
+        // Show a cached thumbnail or the title placeholder right away; the real snapshot follows on the next pulse
         if (ghostOverlay != null) {
-            WritableImage img = null;
-            try {
-                if (layoutEngine != null) {
-                    DockNodeView nodeView = layoutEngine.getDockNodeView(currentDrag.getDraggedNode());
-                    if (nodeView != null) {
-                        img = nodeView.snapshot(null, null);
-                    }
-                }
-                if (img == null && currentDrag.getDraggedNode().getContent() != null) {
-                    img = currentDrag.getDraggedNode().getContent().snapshot(null, null);
-                }
-            } catch (Exception ex) {
-                // ignore and fall back
+            DockNode draggedNode = currentDrag.getDraggedNode();
+            Node snapshotSource = resolveGhostSnapshotSource(draggedNode);
+            DockGhostSnapshotRenderer.Thumbnail cached = ghostRenderer.getCached(draggedNode, snapshotSource);
+            if (cached != null) {
+                ghostOverlay.setImage(cached.image(), cached.width(), cached.height());
+            } else {
+                WritableImage placeholder = createPlaceholderImage(draggedNode.getTitle());
+                ghostOverlay.setImage(placeholder, placeholder.getWidth(), placeholder.getHeight());
+                requestGhostSnapshot(draggedNode, snapshotSource);
             }
+            showGhostOverlay();
+            updateGhostOverlay(dragStartX, dragStartY);
+        }
+    }
 
-            // Fallback: small placeholder image with title if snapshot isn't possible
-            if (img == null) {
-                img = createPlaceholderImage(currentDrag.getDraggedNode().getTitle());
+    private Node resolveGhostSnapshotSource(DockNode draggedNode) {
+        if (layoutEngine != null) {
+            DockNodeView nodeView = layoutEngine.getDockNodeView(draggedNode);
+            if (nodeView != null) {
+                return nodeView;
             }
+        }
+        return draggedNode.getContent();
+    }
 
-            ghostOverlay.setImage(img);
-            showGhostOverlay();
-            updateGhostOverlay(dragStartX, dragStartY);
+    private void requestGhostSnapshot(DockNode draggedNode, Node snapshotSource) {
+        if (snapshotSource == null) {
+            return;
+        }
+        DockDragData drag = currentDrag;
+        try {
+            ghostRenderer.render(draggedNode, snapshotSource, thumbnail -> {
+                if (currentDrag != drag || ghostOverlay == null || !ghostOverlay.isVisible()) {
+                    return;
+                }
+                ghostOverlay.setImage(thumbnail.image(), thumbnail.width(), thumbnail.height());
+                if (ghostStage != null && ghostStage.isShowing()) {
+                    ghostStage.sizeToScene();
+                }
+            });
+        } catch (Exception ex) {
+            // keep the placeholder
+        }
+    }
+
+    /**
+     * Returns whether drag ghost thumbnails are cached per dock node.
+     *
+     * @return {@code true} when thumbnails are cached
+     */
+    public boolean isGhostSnapshotCachingEnabled() {
+        return ghostRenderer.isCachingEnabled();
+    }
+
+    /**
+     * Enables or disables per-dock-node caching of drag ghost thumbnails. Cached thumbnails are reused until the
+     * node content is replaced, the rendered size changes or {@link #invalidateGhostSnapshot(DockNode)} is called.
+     * Disabling the cache drops all cached thumbnails.
+     *
+     * @param enabled {@code true} to cache thumbnails
+     */
+    public void setGhostSnapshotCachingEnabled(boolean enabled) {
+        ghostRenderer.setCachingEnabled(enabled);
+    }
+
+    /**
+     * Drops the cached drag ghost thumbnail of one dock node, for example after its content was redrawn.
+     *
+     * @param dockNode dock node whose thumbnail is stale
+     */
+    public void invalidateGhostSnapshot(DockNode dockNode) {
+        if (dockNode != null) {
+            ghostRenderer.invalidate(dockNode);
         }
     }
 
+    long getGhostSnapshotRenderCount() {
+        return ghostRenderer.getRenderCount();
+    }
+
     /**
      * Updates the drag position (called on mouse drag).
      * Activates drag only after threshold is exceeded.
+     * <p>
+     * Only the ghost window follows every event. Hover callbacks and drop-target resolution run once per pulse for
+     * the latest pointer position; events arriving before that pulse only replace the pending position.
+     * </p>
      *
      * @param event source drag event
      */
@@ -307,14 +395,90 @@ public class DockDragService {
         if (!checkDragThreshold(event)) return;
 
         updateDragPosition(event);
-        updateGhostOverlay(event.getScreenX(), event.getScreenY());
-        Point2D scenePoint = toMainScenePoint(event.getScreenX(), event.getScreenY());
+        moveGhostStage(event.getScreenX(), event.getScreenY());
+        pendingScreenX = event.getScreenX();
+        pendingScreenY = event.getScreenY();
+        dragEventCount++;
+        dragFramePending = true;
+        if (!dragFrameTimerRunning) {
+            dragFrameTimerRunning = true;
+            dragFrameTimer.start();
+        }
+    }
 
-        if (layoutEngine != null) {
-            updateDropTarget(scenePoint.getX(), scenePoint.getY(), event.getScreenX(), event.getScreenY());
+    private void onDragFramePulse() {
+        if (!dragFramePending) {
+            // A pulse passed without drag events; stop until the pointer moves again.
+            stopDragFrameTimer();
+            return;
+        }
+        flushDragFrame();
+    }
+
+    private void stopDragFrameTimer() {
+        if (dragFrameTimerRunning) {
+            dragFrameTimerRunning = false;
+            dragFrameTimer.stop();
+        }
+    }
+
+    /**
+     * Runs the pending per-frame drag work for the latest pointer position, if any.
+     * The next pulse then has nothing left to flush.
+     */
+    void flushDragFrame() {
+        if (!dragFramePending) {
+            return;
+        }
+        dragFramePending = false;
+        if (currentDrag == null) {
+            return;
+        }
+        long startNanos = System.nanoTime();
+        double screenX = pendingScreenX;
+        double screenY = pendingScreenY;
+        if (onDragHover != null) {
+            onDragHover.accept(new DragHoverEvent(currentDrag.getDraggedNode(), screenX, screenY));
+        }
+        if (ghostStage != null && ghostStage.isShowing()) {
+            ghostStage.toFront();
+        }
+        if (dropRouter != null) {
+            updateRoutedDropTarget(screenX, screenY);
+        } else if (layoutEngine != null) {
+            Point2D scenePoint = toMainScenePoint(screenX, screenY);
+            updateDropTarget(scenePoint.getX(), scenePoint.getY(), screenX, screenY);
         } else {
             clearDropTarget();
         }
+        recordDragFrame(System.nanoTime() - startNanos);
+    }
+
+    private void recordDragFrame(long frameNanos) {
+        dragFrameCount++;
+        lastDragFrameNanos = frameNanos;
+        maxDragFrameNanos = Math.max(maxDragFrameNanos, frameNanos);
+        totalDragFrameNanos += frameNanos;
+    }
+
+    private void resetDragFrameStats() {
+        dragFramePending = false;
+        stopDragFrameTimer();
+        dragEventCount = 0;
+        dragFrameCount = 0;
+        lastDragFrameNanos = 0;
+        maxDragFrameNanos = 0;
+        totalDragFrameNanos = 0;
+    }
+
+    /**
+     * Returns drag-frame timing of the current or most recent drag session.
+     *
+     * @return drag-frame statistics
+     */
+    public DragFrameStats getDragFrameStats() {
+        return new DragFrameStats(dragEventCount, dragFrameCount, lastDragFrameNanos, maxDragFrameNanos,
+            totalDragFrameNanos);
     }
 
     /**
@@ -340,9 +504,6 @@ public class DockDragService {
     private void updateDragPosition(MouseEvent event) {
         currentDrag.setMouseX(event.getScreenX());
         currentDrag.setMouseY(event.getScreenY());
-        if (onDragHover != null) {
-            onDragHover.accept(new DragHoverEvent(currentDrag.getDraggedNode(), event.getScreenX(), event.getScreenY()));
-        }
     }
 
     /**
@@ -359,6 +520,16 @@ public class DockDragService {
         }
     }
 
+    /**
+     * Moves the ghost window with the pointer without restacking it.
+     */
+    private void moveGhostStage(double screenX, double screenY) {
+        if (ghostStage != null) {
+            ghostStage.setX(screenX + GHOST_OFFSET_X);
+            ghostStage.setY(screenY + GHOST_OFFSET_Y);
+        }
+    }
+
     private void showGhostOverlay() {
         if (ghostOverlay == null || ghostStage == null) {
             return;
@@ -387,38 +558,55 @@ public class DockDragService {
             return;
         }
 
-        List<DockDropZone> zones = layoutEngine.collectDropZones();
-        List<DockDropZone> validZones = filterZonesForDrag(zones, currentDrag.getDraggedNode());
-        DockDropZone activeZone = layoutEngine.findBestDropZone(validZones, sceneX, sceneY);
+        DockDropZoneTable validZones = resolveSessionDropZones(currentDrag.getDraggedNode());
+        int activeIndex = validZones.findBest(sceneX, sceneY);
 
-        if (activateTabHoverIfNeeded(activeZone)) {
-            zones = layoutEngine.collectDropZones();
-            validZones = filterZonesForDrag(zones, currentDrag.getDraggedNode());
-            activeZone = layoutEngine.findBestDropZone(validZones, sceneX, sceneY);
+        if (activateTabHoverIfNeeded(validZones, activeIndex)) {
+            invalidateSessionDropZones();
+            validZones = resolveSessionDropZones(currentDrag.getDraggedNode());
+            activeIndex = validZones.findBest(sceneX, sceneY);
         }
 
-        if (dropZonesOverlay != null) {
-            List<DockDropZone> zonesToShow = getZonesForVisualization(validZones, activeZone);
-            if (zonesToShow.isEmpty()) {
-                dropZonesOverlay.hide();
-            } else {
-                dropZonesOverlay.showZones(zonesToShow);
-            }
+        updateDropZonesOverlay(validZones, 0, validZones.size(), activeIndex, dropZoneCollectionCount, 0, 0);
+        applyDropTarget(validZones, activeIndex, 0, 0);
+    }
+
+    /**
+     * Updates the drop target from the drop router. The main layout only gets a target while the router picks it as
+     * the front-most host; zones are converted back from screen space into the main scene for the overlays.
+     */
+    private void updateRoutedDropTarget(double screenX, double screenY) {
+        int host = dropRouter.route(currentDrag.getDraggedNode(), screenX, screenY);
+        DockDropRouter.Host routedHost = dropRouter.getRoutedHost();
+        if (routedHost == null || routedHost.layoutEngine() != layoutEngine) {
+            clearDropTarget();
+            return;
         }
+        DockDropZoneTable zones = dropRouter.getZones();
+        int activeIndex = dropRouter.getRoutedZone();
+        double offsetX = dropRouter.getHostScreenX(host);
+        double offsetY = dropRouter.getHostScreenY(host);
+        updateDropZonesOverlay(zones, dropRouter.getZoneStart(host), dropRouter.getZoneEnd(host), activeIndex,
+            dropRouter.getBuildCount(), offsetX, offsetY);
+        applyDropTarget(zones, activeIndex, offsetX, offsetY);
+    }
 
-        if (activeZone == null) {
+    private void applyDropTarget(DockDropZoneTable zones, int activeIndex, double offsetX, double offsetY) {
+        if (activeIndex < 0) {
             clearDropTarget(false);
             return;
         }
 
-        setDropTarget(activeZone.getTarget(), activeZone.getPosition(), activeZone.getTabIndex());
+        int tabIndex = zones.getResolvedTabIndex();
+        setDropTarget(zones.getTarget(activeIndex), zones.getPosition(activeIndex),
+            tabIndex >= 0 ? tabIndex : null);
         if (dropVisualizationMode == DockDropVisualizationMode.OFF) {
             if (dropIndicator != null) {
                 dropIndicator.hide();
             }
             return;
         }
-        showDropIndicator(activeZone);
+        showDropIndicator(zones, activeIndex, offsetX, offsetY);
     }
 
     /**
@@ -438,11 +626,12 @@ public class DockDragService {
     /**
      * Shows the drop indicator at the specified position.
      */
-    private void showDropIndicator(DockDropZone zone) {
+    private void showDropIndicator(DockDropZoneTable zones, int index, double offsetX, double offsetY) {
         if (dropIndicator == null) return;
 
-        Bounds bounds = zone.getBounds();
-        dropIndicator.show(bounds, zone.getInsertLineX());
+        dropIndicator.show(zones.getMinX(index) - offsetX, zones.getMinY(index) - offsetY,
+            zones.getMaxX(index) - offsetX, zones.getMaxY(index) - offsetY,
+            zones.getResolvedInsertLineX() - offsetX);
 
         if (ghostStage != null && ghostStage.isShowing()) {
             ghostStage.toFront();
@@ -493,6 +682,10 @@ public class DockDragService {
             return;
         }
 
+        // Resolve the drop target for the last pointer position before reading it
+        flushDragFrame();
+        stopDragFrameTimer();
+
         // Hide overlays
         hideGhostOverlay();
         if (dropIndicator != null) {
@@ -522,6 +715,10 @@ public class DockDragService {
         }
 
         unregisterDragCancelKeyHandlers();
+        invalidateSessionDropZones();
+        if (dropRouter != null) {
+            dropRouter.clear();
+        }
         currentDrag = null;
         dragThresholdExceeded = false;
         currentDragProperty.set(null);
@@ -538,6 +735,8 @@ public class DockDragService {
         if (currentDrag == null) {
             return;
         }
+        dragFramePending = false;
+        stopDragFrameTimer();
 
         // Hide overlays
         hideGhostOverlay();
@@ -549,6 +748,10 @@ public class DockDragService {
         }
 
         unregisterDragCancelKeyHandlers();
+        invalidateSessionDropZones();
+        if (dropRouter != null) {
+            dropRouter.clear();
+        }
         currentDrag = null;
         dragThresholdExceeded = false;
         currentDragProperty.set(null);
@@ -583,6 +786,7 @@ public class DockDragService {
      */
     public void setLayoutEngine(DockLayoutEngine layoutEngine) {
         this.layoutEngine = layoutEngine;
+        invalidateSessionDropZones();
     }
 
     /**
@@ -634,11 +838,34 @@ public class DockDragService {
      * Sets an optional predicate that can suppress main-scene drop handling for given screen coordinates.
      *
      * @param suppressMainDropAtScreenPoint suppression predicate, or {@code null}
+     * @deprecated use {@link #setDropRouter(DockDropRouter)}, which only gives the main layout a drop target where
+     *     no floating window covers the pointer
      */
+    @Deprecated
     public void setSuppressMainDropAtScreenPoint(BiPredicate<Double, Double> suppressMainDropAtScreenPoint) {
         this.suppressMainDropAtScreenPoint = suppressMainDropAtScreenPoint;
     }
 
+    /**
+     * Sets the router that resolves drop targets across the main window, sidebars and floating windows. While a
+     * router is set, the main layout gets a drop target only where the router picks it as the front-most host, and
+     * {@link #setSuppressMainDropAtScreenPoint(BiPredicate)} is not consulted.
+     *
+     * @param dropRouter drop router, or {@code null} to resolve main-layout zones directly
+     */
+    public void setDropRouter(DockDropRouter dropRouter) {
+        this.dropRouter = dropRouter;
+    }
+
+    /**
+     * Returns the drop router.
+     *
+     * @return drop router, or {@code null}
+     */
+    public DockDropRouter getDropRouter() {
+        return dropRouter;
+    }
+
     /**
      * Returns the observable drag-data property.
      *
@@ -699,12 +926,15 @@ public class DockDragService {
          * Updates the rendered ghost image.
          *
          * @param img drag snapshot image, or {@code null} to hide
+         * @param width visible image width in pixels, starting at the left edge
+         * @param height visible image height in pixels, starting at the top edge
          */
-        public void setImage(Image img) {
+        public void setImage(Image img, double width, double height) {
             if (img != null) {
                 ghostView.setImage(img);
-                ghostView.setFitWidth(Math.min(300, img.getWidth()));
-                ghostView.setFitHeight(Math.min(200, img.getHeight()));
+                ghostView.setViewport(new Rectangle2D(0, 0, width, height));
+                ghostView.setFitWidth(Math.min(DockGhostSnapshotRenderer.MAX_WIDTH, width));
+                ghostView.setFitHeight(Math.min(DockGhostSnapshotRenderer.MAX_HEIGHT, height));
                 updatePosition();
                 setVisible(true);
             } else {
@@ -748,9 +978,14 @@ public class DockDragService {
     /**
      * Drop indicator that visualizes the drop zones.
      */
-    private static class DockDropIndicator extends Pane {
+    static class DockDropIndicator extends Pane {
         private final Rectangle indicator;
         private final Line insertLine;
+        private double shownMinX = Double.NaN;
+        private double shownMinY = Double.NaN;
+        private double shownMaxX = Double.NaN;
+        private double shownMaxY = Double.NaN;
+        private double shownInsertLineX = Double.NaN;
 
         /**
          * Creates an overlay indicator for the currently active drop zone.
@@ -775,13 +1010,31 @@ public class DockDragService {
 
         /**
          * Shows the indicator for one drop-zone bounds and optional tab insert line.
+         * Does nothing when the indicator already shows the same zone and insert line.
          *
-         * @param bounds target bounds in scene coordinates
-         * @param insertLineX optional tab insert x-position in scene coordinates
+         * @param minX minimum x-coordinate in scene coordinates
+         * @param minY minimum y-coordinate in scene coordinates
+         * @param maxX maximum x-coordinate in scene coordinates
+         * @param maxY maximum y-coordinate in scene coordinates
+         * @param insertLineX tab insert x-position in scene coordinates, or {@link Double#NaN} for none
          */
-        public void show(Bounds bounds, Double insertLineX) {
-            Point2D topLeft = sceneToLocal(bounds.getMinX(), bounds.getMinY());
-            Point2D bottomRight = sceneToLocal(bounds.getMaxX(), bounds.getMaxY());
+        public void show(double minX, double minY, double maxX, double maxY, double insertLineX) {
+            if (isVisible()
+                && Double.compare(shownMinX, minX) == 0
+                && Double.compare(shownMinY, minY) == 0
+                && Double.compare(shownMaxX, maxX) == 0
+                && Double.compare(shownMaxY, maxY) == 0
+                && Double.compare(shownInsertLineX, insertLineX) == 0) {
+                return;
+            }
+            shownMinX = minX;
+            shownMinY = minY;
+            shownMaxX = maxX;
+            shownMaxY = maxY;
+            shownInsertLineX = insertLineX;
+
+            Point2D topLeft = sceneToLocal(minX, minY);
+            Point2D bottomRight = sceneToLocal(maxX, maxY);
 
             double x = topLeft.getX();
             double y = topLeft.getY();
@@ -792,12 +1045,14 @@ public class DockDragService {
             indicator.setY(y);
             indicator.setWidth(width);
             indicator.setHeight(height);
-            setVisible(true);
-            toFront();
+            if (!isVisible()) {
+                setVisible(true);
+                toFront();
+            }
 
-            if (insertLineX != null) {
-                Point2D lineTop = sceneToLocal(insertLineX, bounds.getMinY());
-                Point2D lineBottom = sceneToLocal(insertLineX, bounds.getMaxY());
+            if (!Double.isNaN(insertLineX)) {
+                Point2D lineTop = sceneToLocal(insertLineX, minY);
+                Point2D lineBottom = sceneToLocal(insertLineX, maxY);
                 insertLine.setStartX(lineTop.getX());
                 insertLine.setStartY(lineTop.getY());
                 insertLine.setEndX(lineBottom.getX());
@@ -819,9 +1074,17 @@ public class DockDragService {
 
     /**
      * Overlay that renders all available drop zones.
+     * Zone rectangles are pooled and reused across render passes; hidden overlays keep their pool.
      */
-    private static class DockDropZonesOverlay extends Pane {
+    static class DockDropZonesOverlay extends Pane {
+        private static final Color ZONE_FILL = Color.web("#3a7bd5", 0.10);
+        private static final Color ZONE_STROKE = Color.web("#3a7bd5", 0.25);
+
         private final List<Rectangle> rectangles = new java.util.ArrayList<>();
+        private int usedRectangles;
+        private long renderedZoneSet = -1;
+        private DockDropVisualizationMode renderedMode;
+        private DockElement renderedTarget;
 
         /**
          * Creates an overlay layer that paints all candidate drop zones.
@@ -832,107 +1095,173 @@ public class DockDragService {
         }
 
         /**
-         * Renders the provided drop-zone set.
+         * Returns whether the overlay already shows the given zone set for the given mode and active target.
          *
-         * @param zones drop zones to render
+         * @param zoneSet version of the rendered zone set
+         * @param mode visualization mode
+         * @param target active target used to select zones
+         * @return {@code true} when a new render pass would produce the same output
          */
-        public void showZones(List<DockDropZone> zones) {
-            getChildren().clear();
-            rectangles.clear();
-
-            for (DockDropZone zone : zones) {
-                Bounds b = zone.getBounds();
-                if (b == null || b.getWidth() <= 0 || b.getHeight() <= 0) {
-                    continue;
-                }
-                Point2D topLeft = sceneToLocal(b.getMinX(), b.getMinY());
-                Point2D bottomRight = sceneToLocal(b.getMaxX(), b.getMaxY());
+        public boolean isRendered(long zoneSet, DockDropVisualizationMode mode, DockElement target) {
+            return renderedZoneSet == zoneSet && renderedMode == mode && renderedTarget == target;
+        }
 
-                double x = topLeft.getX();
-                double y = topLeft.getY();
-                double w = Math.max(1, bottomRight.getX() - topLeft.getX());
-                double h = Math.max(1, bottomRight.getY() - topLeft.getY());
+        /**
+         * Starts a new render pass. Previously used rectangles are recycled by subsequent {@link #addZone} calls.
+         *
+         * @param zoneSet version of the zone set being rendered
+         * @param mode visualization mode
+         * @param target active target used to select zones
+         */
+        public void beginZones(long zoneSet, DockDropVisualizationMode mode, DockElement target) {
+            usedRectangles = 0;
+            renderedZoneSet = zoneSet;
+            renderedMode = mode;
+            renderedTarget = target;
+        }
 
-                Rectangle rect = new Rectangle(x, y, w, h);
-                rect.setFill(Color.web("#3a7bd5", 0.10));
-                rect.setStroke(Color.web("#3a7bd5", 0.25));
+        /**
+         * Adds one drop zone to the current render pass.
+         *
+         * @param minX minimum x-coordinate in scene coordinates
+         * @param minY minimum y-coordinate in scene coordinates
+         * @param maxX maximum x-coordinate in scene coordinates
+         * @param maxY maximum y-coordinate in scene coordinates
+         */
+        public void addZone(double minX, double minY, double maxX, double maxY) {
+            if (maxX <= minX || maxY <= minY) {
+                return;
+            }
+            Point2D topLeft = sceneToLocal(minX, minY);
+            Point2D bottomRight = sceneToLocal(maxX, maxY);
+
+            Rectangle rect;
+            if (usedRectangles < rectangles.size()) {
+                rect = rectangles.get(usedRectangles);
+            } else {
+                rect = new Rectangle();
+                rect.setFill(ZONE_FILL);
+                rect.setStroke(ZONE_STROKE);
                 rect.setStrokeWidth(1);
                 rectangles.add(rect);
+                getChildren().add(rect);
             }
+            usedRectangles++;
+            rect.setX(topLeft.getX());
+            rect.setY(topLeft.getY());
+            rect.setWidth(Math.max(1, bottomRight.getX() - topLeft.getX()));
+            rect.setHeight(Math.max(1, bottomRight.getY() - topLeft.getY()));
+            rect.setVisible(true);
+        }
 
-            getChildren().addAll(rectangles);
-            setVisible(true);
+        /**
+         * Finishes the current render pass, hides unused pooled rectangles and shows the overlay when at least one
+         * zone was added.
+         */
+        public void endZones() {
+            for (int i = usedRectangles; i < rectangles.size(); i++) {
+                rectangles.get(i).setVisible(false);
+            }
+            setVisible(usedRectangles > 0);
         }
 
         /**
-         * Clears and hides all rendered drop zones.
+         * Hides all rendered drop zones.
          */
         public void hide() {
             setVisible(false);
-            getChildren().clear();
-            rectangles.clear();
+            renderedZoneSet = -1;
+            renderedMode = null;
+            renderedTarget = null;
         }
     }
 
-    private List<DockDropZone> filterZonesForDrag(List<DockDropZone> zones, DockNode draggedNode) {
-        List<DockDropZone> result = new ArrayList<>();
-        for (DockDropZone zone : zones) {
-            if (isZoneValidForDrag(zone, draggedNode)) {
-                result.add(zone);
-            }
+    /**
+     * Returns the valid drop zones of the current drag session.
+     * Zones are collected and filtered once and reused until the graph revision or the rendered view geometry
+     * changes, or the session cache is invalidated explicitly (for example after a hovered tab was activated).
+     */
+    DockDropZoneTable resolveSessionDropZones(DockNode draggedNode) {
+        long revision = dockGraph.getRevision();
+        long geometryVersion = layoutEngine.getViewGeometryVersion();
+        if (!sessionDropZonesValid
+            || revision != sessionDropZonesRevision
+            || geometryVersion != sessionDropZonesGeometryVersion) {
+            layoutEngine.collectDropZones(sessionDropZones);
+            sessionDropZones.retainIf(index -> isZoneValidForDrag(sessionDropZones, index, draggedNode));
+            sessionDropZonesValid = true;
+            sessionDropZonesRevision = revision;
+            sessionDropZonesGeometryVersion = geometryVersion;
+            dropZoneCollectionCount++;
         }
-        return result;
+        return sessionDropZones;
     }
 
-    private List<DockDropZone> getZonesForVisualization(List<DockDropZone> validZones, DockDropZone activeZone) {
-        if (dropVisualizationMode == DockDropVisualizationMode.OFF) {
-            return java.util.List.of();
-        }
-        if (dropVisualizationMode == DockDropVisualizationMode.ACTIVE_ONLY) {
-            return java.util.List.of();
-        }
-        if (dropVisualizationMode == DockDropVisualizationMode.ALL_ZONES) {
-            return validZones;
+    void invalidateSessionDropZones() {
+        sessionDropZonesValid = false;
+    }
+
+    long getDropZoneCollectionCount() {
+        return dropZoneCollectionCount;
+    }
+
+    private void updateDropZonesOverlay(DockDropZoneTable zones, int fromIndex, int toIndex, int activeIndex,
+                                        long zoneSet, double offsetX, double offsetY) {
+        if (dropZonesOverlay == null) {
+            return;
         }
-        if (activeZone == null) {
-            return java.util.List.of();
+        if (dropVisualizationMode == DockDropVisualizationMode.OFF
+            || dropVisualizationMode == DockDropVisualizationMode.ACTIVE_ONLY
+            || (activeIndex < 0 && dropVisualizationMode != DockDropVisualizationMode.ALL_ZONES)) {
+            dropZonesOverlay.hide();
+            return;
         }
-        if (dropVisualizationMode == DockDropVisualizationMode.SUBTREE) {
-            return filterZonesBySubtree(validZones, activeZone.getTarget());
+        DockElement activeTarget = activeIndex >= 0 && dropVisualizationMode != DockDropVisualizationMode.ALL_ZONES
+            ? zones.getTarget(activeIndex)
+            : null;
+        if (dropZonesOverlay.isRendered(zoneSet, dropVisualizationMode, activeTarget)) {
+            return;
         }
-        if (dropVisualizationMode == DockDropVisualizationMode.DEFAULT) {
-            return filterZonesByTarget(validZones, activeZone.getTarget());
+        dropZonesOverlay.beginZones(zoneSet, dropVisualizationMode, activeTarget);
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (isZoneVisualized(zones.getTarget(i), activeTarget)) {
+                dropZonesOverlay.addZone(zones.getMinX(i) - offsetX, zones.getMinY(i) - offsetY,
+                    zones.getMaxX(i) - offsetX, zones.getMaxY(i) - offsetY);
+            }
         }
-        return java.util.List.of();
+        dropZonesOverlay.endZones();
     }
 
-    private List<DockDropZone> filterZonesBySubtree(List<DockDropZone> zones, DockElement subtreeRoot) {
-        List<DockDropZone> result = new java.util.ArrayList<>();
-        for (DockDropZone zone : zones) {
-            if (zone.getTarget() != null && isDescendantOf(zone.getTarget(), subtreeRoot)) {
-                result.add(zone);
-            }
-        }
-        return result;
+    private boolean isZoneVisualized(DockElement target, DockElement activeTarget) {
+        return switch (dropVisualizationMode) {
+            case ALL_ZONES -> true;
+            case SUBTREE -> target != null && isDescendantOf(target, activeTarget);
+            case DEFAULT -> target == activeTarget;
+            default -> false;
+        };
     }
 
-    private List<DockDropZone> filterZonesByTarget(List<DockDropZone> zones, DockElement target) {
-        List<DockDropZone> result = new java.util.ArrayList<>();
-        for (DockDropZone zone : zones) {
-            if (zone.getTarget() == target) {
-                result.add(zone);
-            }
+    boolean isZoneValidForDrag(DockDropZone zone, DockNode draggedNode) {
+        if (zone == null) {
+            return false;
         }
-        return result;
+        Bounds bounds = zone.getBounds();
+        return isZoneValidForDrag(zone.getTarget(), zone.getPosition(), zone.getType(),
+            bounds != null ? bounds.getWidth() : 0, bounds != null ? bounds.getHeight() : 0, draggedNode);
     }
 
-    boolean isZoneValidForDrag(DockDropZone zone, DockNode draggedNode) {
-        if (zone == null || draggedNode == null) {
+    boolean isZoneValidForDrag(DockDropZoneTable zones, int index, DockNode draggedNode) {
+        return isZoneValidForDrag(zones.getTarget(index), zones.getPosition(index), zones.getType(index),
+            zones.getWidth(index), zones.getHeight(index), draggedNode);
+    }
+
+    private boolean isZoneValidForDrag(DockElement target, DockPosition position, DockDropZoneType type,
+                                       double width, double height, DockNode draggedNode) {
+        if (draggedNode == null) {
             return false;
         }
-        DockElement target = zone.getTarget();
         if (target == null) {
-            return isEmptyRootDropZone(zone);
+            return isEmptyRootDropZone(position, type, width, height);
         }
         if (!isElementVisibleForInteraction(target)) {
             return false;
@@ -944,17 +1273,27 @@ public class DockDragService {
     }
 
     boolean activateTabHoverIfNeeded(DockDropZone activeZone) {
-        if (activeZone == null || activeZone.getType() != DockDropZoneType.TAB_HEADER) {
+        if (activeZone == null || activeZone.getTabIndex() == null) {
             return false;
         }
-        if (!(activeZone.getTarget() instanceof DockTabPane targetTabPane)) {
+        return activateTabHover(activeZone.getTarget(), activeZone.getType(), activeZone.getTabIndex());
+    }
+
+    boolean activateTabHoverIfNeeded(DockDropZoneTable zones, int activeIndex) {
+        if (activeIndex < 0 || zones.getResolvedTabIndex() < 0) {
             return false;
         }
-        if (targetTabPane.getChildren().isEmpty()) {
+        return activateTabHover(zones.getTarget(activeIndex), zones.getType(activeIndex), zones.getResolvedTabIndex());
+    }
+
+    private boolean activateTabHover(DockElement target, DockDropZoneType type, int tabIndex) {
+        if (type != DockDropZoneType.TAB_HEADER) {
             return false;
         }
-        Integer tabIndex = activeZone.getTabIndex();
-        if (tabIndex == null) {
+        if (!(target instanceof DockTabPane targetTabPane)) {
+            return false;
+        }
+        if (targetTabPane.getChildren().isEmpty()) {
             return false;
         }
         int hoveredTabIndex = Math.clamp(tabIndex, 0, targetTabPane.getChildren().size() - 1);
@@ -1001,14 +1340,11 @@ public class DockDragService {
         return isEmptyRootDropPosition(position);
     }
 
-    private boolean isEmptyRootDropZone(DockDropZone zone) {
-        if (zone == null || zone.getBounds() == null) {
-            return false;
-        }
-        if (zone.getBounds().getWidth() <= 0 || zone.getBounds().getHeight() <= 0) {
+    private boolean isEmptyRootDropZone(DockPosition position, DockDropZoneType type, double width, double height) {
+        if (width <= 0 || height <= 0) {
             return false;
         }
-        return isEmptyRootDropPosition(zone.getPosition()) && zone.getType() == DockDropZoneType.CENTER;
+        return isEmptyRootDropPosition(position) && type == DockDropZoneType.CENTER;
     }
 
     private boolean isEmptyRootDropPosition(DockPosition position) {
@@ -1079,6 +1415,29 @@ public class DockDragService {
     public record DragHoverEvent(DockNode draggedNode, double screenX, double screenY) {
     }
 
+    /**
+     * Drag-frame timing of one drag session. Mouse events are counted individually, while hover callbacks and
+     * drop-target resolution run once per frame.
+     *
+     * @param eventCount mouse-dragged events received
+     * @param frameCount drag frames processed
+     * @param lastFrameNanos duration of the most recent drag frame in nanoseconds
+     * @param maxFrameNanos longest drag frame in nanoseconds
+     * @param totalFrameNanos accumulated drag-frame time in nanoseconds
+     */
+    public record DragFrameStats(long eventCount, long frameCount, long lastFrameNanos, long maxFrameNanos,
+                                 long totalFrameNanos) {
+
+        /**
+         * Returns the mean drag-frame duration.
+         *
+         * @return average frame time in nanoseconds, or {@code 0} when no frame was processed
+         */
+        public long averageFrameNanos() {
+            return frameCount == 0 ? 0 : totalFrameNanos / frameCount;
+        }
+    }
+
     private void registerDragCancelKeyHandlers(Scene sourceScene) {
         unregisterDragCancelKeyHandlers();
         addDragCancelKeyHandler(sourceScene);
@@ -0,0 +1,592 @@
+package org.snapfx.dnd;
+
+import javafx.geometry.Bounds;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.stage.Window;
+import org.snapfx.model.DockElement;
+import org.snapfx.model.DockGraph;
+import org.snapfx.model.DockNode;
+import org.snapfx.model.DockPosition;
+import org.snapfx.model.DockTabPane;
+import org.snapfx.view.DockDropZoneTable;
+import org.snapfx.view.DockDropZoneType;
+import org.snapfx.view.DockLayoutEngine;
+
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.function.Supplier;
+
+/**
+ * Routes drag pointer positions to one drop target across all dock hosts in screen space.
+ * <p>
+ * A host is a window with its own {@link DockLayoutEngine}, such as the main window or a floating window. On the first
+ * query of a drag session the router collects the drop zones of every host once, filters them for the dragged node,
+ * and stores them in one merged {@link DockDropZoneTable} in screen coordinates, each host owning a contiguous index
+ * range. The sidebar strips of a host and their insert slots are stored in screen coordinates as well.
+ * </p>
+ * <p>
+ * Each {@link #route(DockNode, double, double)} call then picks the front-most host at the pointer, checks its sidebar
+ * strips, and otherwise runs one best-zone query over the host's zone range, without scene-to-screen conversions or
+ * allocation. Repeated queries for the same pointer position return the previous result. The session is rebuilt when
+ * a host graph revision, rendered view geometry or window position changes, when the host list changes, or after a
+ * hovered tab header was activated.
+ * </p>
+ */
+public final class DockDropRouter {
+    /**
+     * Host index reported when no host contains the pointer.
+     */
+    public static final int NO_HOST = -1;
+
+    private static final Side[] SIDE_BAR_SIDES = {Side.LEFT, Side.RIGHT};
+    private static final double[] NO_CENTERS = new double[0];
+
+    private final DockDropZoneTable zones = new DockDropZoneTable();
+    private final DockDropZoneTable hostZones = new DockDropZoneTable();
+    private Supplier<? extends List<Host>> hostSupplier = List::of;
+    private Map<Side, ? extends Parent> sideBarStrips = Map.of();
+    private FrontHostLocator frontHostLocator;
+
+    private boolean valid;
+    private DockNode sessionNode;
+    private Host[] hosts = new Host[0];
+    private int[] zoneStarts = new int[0];
+    private int[] zoneEnds = new int[0];
+    private double[] hostMinX = new double[0];
+    private double[] hostMinY = new double[0];
+    private double[] hostMaxX = new double[0];
+    private double[] hostMaxY = new double[0];
+    private long[] hostRevisions = new long[0];
+    private long[] hostGeometryVersions = new long[0];
+    private Scene sideBarScene;
+    private Side[] sideBarSides = new Side[0];
+    private double[] sideBarMinX = new double[0];
+    private double[] sideBarMinY = new double[0];
+    private double[] sideBarMaxX = new double[0];
+    private double[] sideBarMaxY = new double[0];
+    private double[][] sideBarChildCenters = new double[0][];
+
+    private boolean routed;
+    private double routedScreenX;
+    private double routedScreenY;
+    private int routedHost = NO_HOST;
+    private int routedZone = -1;
+    private int routedSideBar = -1;
+    private int routedSideBarInsertIndex = -1;
+    private long buildCount;
+    private long routeCount;
+    private long queryCount;
+
+    /**
+     * Sets the supplier of drop hosts, ordered back to front. The first host is the base window beneath all others,
+     * usually the main window. The supplier is only called when a session is built.
+     *
+     * @param hostSupplier host supplier, or {@code null} for none
+     */
+    public void setHostSupplier(Supplier<? extends List<Host>> hostSupplier) {
+        this.hostSupplier = hostSupplier != null ? hostSupplier : List::of;
+        invalidate();
+    }
+
+    /**
+     * Sets the rendered sidebar strips. Strips are routed for the host whose scene contains them.
+     *
+     * @param sideBarStrips rendered strips by side, read when a session is built; {@code null} for none
+     */
+    public void setSideBarStrips(Map<Side, ? extends Parent> sideBarStrips) {
+        this.sideBarStrips = sideBarStrips != null ? sideBarStrips : Map.of();
+        invalidate();
+    }
+
+    /**
+     * Sets a locator for the front-most host owner at a screen point, for example a floating-window hit index.
+     * Without a locator, hosts are tested against their window bounds from front to back. With a locator, points it
+     * does not resolve fall through to the base host, and an owner without a host in the session triggers a rebuild.
+     *
+     * @param frontHostLocator front-host locator, or {@code null}
+     */
+    public void setFrontHostLocator(FrontHostLocator frontHostLocator) {
+        this.frontHostLocator = frontHostLocator;
+        invalidate();
+    }
+
+    /**
+     * Discards the current session; the next query rebuilds it.
+     */
+    public void invalidate() {
+        valid = false;
+        routed = false;
+    }
+
+    /**
+     * Ends the current drag session and releases its zones and hosts.
+     */
+    public void clear() {
+        invalidate();
+        sessionNode = null;
+        zones.clear();
+        hostZones.clear();
+        hosts = new Host[0];
+        zoneStarts = new int[0];
+        zoneEnds = new int[0];
+        sideBarScene = null;
+        sideBarSides = new Side[0];
+        sideBarChildCenters = new double[0][];
+        routedHost = NO_HOST;
+        routedZone = -1;
+        routedSideBar = -1;
+        routedSideBarInsertIndex = -1;
+    }
+
+    /**
+     * Routes a pointer position. Hovering a tab header of an inactive tab selects that tab and routes again.
+     *
+     * @param draggedNode node being dragged
+     * @param screenX pointer x-coordinate in screen space
+     * @param screenY pointer y-coordinate in screen space
+     * @return routed host index, or {@link #NO_HOST}
+     */
+    public int route(DockNode draggedNode, double screenX, double screenY) {
+        routeCount++;
+        if (draggedNode != sessionNode || !isSessionValid()) {
+            build(draggedNode);
+        } else if (routed && screenX == routedScreenX && screenY == routedScreenY) {
+            return routedHost;
+        }
+        query(screenX, screenY);
+        if (activateTabHoverIfNeeded()) {
+            build(draggedNode);
+            query(screenX, screenY);
+        }
+        return routedHost;
+    }
+
+    /**
+     * Returns the merged zone table of the current session in screen coordinates. The tab insert index and insert
+     * line of the routed zone can be read from it.
+     *
+     * @return merged zone table
+     */
+    public DockDropZoneTable getZones() {
+        return zones;
+    }
+
+    /**
+     * Returns the host routed by the last query.
+     *
+     * @return routed host, or {@code null}
+     */
+    public Host getRoutedHost() {
+        return routedHost == NO_HOST ? null : hosts[routedHost];
+    }
+
+    /**
+     * Returns the index of the host routed by the last query.
+     *
+     * @return routed host index, or {@link #NO_HOST}
+     */
+    public int getRoutedHostIndex() {
+        return routedHost;
+    }
+
+    /**
+     * Returns the zone routed by the last query.
+     *
+     * @return index into {@link #getZones()}, or {@code -1} when the pointer is over no zone or over a sidebar
+     */
+    public int getRoutedZone() {
+        return routedZone;
+    }
+
+    /**
+     * Returns the sidebar routed by the last query.
+     *
+     * @return sidebar side, or {@code null} when the pointer is not over a sidebar strip
+     */
+    public Side getRoutedSideBar() {
+        return routedSideBar < 0 ? null : sideBarSides[routedSideBar];
+    }
+
+    /**
+     * Returns the sidebar insert index routed by the last query.
+     *
+     * @return insert index, or {@code -1} when the pointer is not over a sidebar strip
+     */
+    public int getRoutedSideBarInsertIndex() {
+        return routedSideBarInsertIndex;
+    }
+
+    /**
+     * Returns the first zone index of a host.
+     *
+     * @param hostIndex host index
+     * @return first zone index
+     */
+    public int getZoneStart(int hostIndex) {
+        return zoneStarts[hostIndex];
+    }
+
+    /**
+     * Returns the zone index after the last zone of a host.
+     *
+     * @param hostIndex host index
+     * @return end zone index (exclusive)
+     */
+    public int getZoneEnd(int hostIndex) {
+        return zoneEnds[hostIndex];
+    }
+
+    /**
+     * Returns the screen x-coordinate of a host scene origin. Subtracting it converts zone coordinates back into the
+     * host scene.
+     *
+     * @param hostIndex host index
+     * @return screen x-coordinate of the scene origin
+     */
+    public double getHostScreenX(int hostIndex) {
+        return hostMinX[hostIndex];
+    }
+
+    /**
+     * Returns the screen y-coordinate of a host scene origin.
+     *
+     * @param hostIndex host index
+     * @return screen y-coordinate of the scene origin
+     */
+    public double getHostScreenY(int hostIndex) {
+        return hostMinY[hostIndex];
+    }
+
+    /**
+     * Returns how many sessions were built.
+     *
+     * @return session build count
+     */
+    public long getBuildCount() {
+        return buildCount;
+    }
+
+    /**
+     * Returns how many route requests were made.
+     *
+     * @return route request count
+     */
+    public long getRouteCount() {
+        return routeCount;
+    }
+
+    /**
+     * Returns how many best-target queries were run; repeated requests for the same pointer position reuse the
+     * previous result.
+     *
+     * @return query count
+     */
+    public long getQueryCount() {
+        return queryCount;
+    }
+
+    private boolean isSessionValid() {
+        if (!valid) {
+            return false;
+        }
+        for (int i = 0; i < hosts.length; i++) {
+            Host host = hosts[i];
+            Scene scene = host.scene();
+            Window window = scene.getWindow();
+            if (window == null
+                || !window.isShowing()
+                || window.getX() + scene.getX() != hostMinX[i]
+                || window.getY() + scene.getY() != hostMinY[i]
+                || hostMinX[i] + scene.getWidth() != hostMaxX[i]
+                || hostMinY[i] + scene.getHeight() != hostMaxY[i]
+                || host.dockGraph().getRevision() != hostRevisions[i]
+                || host.layoutEngine().getViewGeometryVersion() != hostGeometryVersions[i]) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    private void build(DockNode draggedNode) {
+        buildCount++;
+        valid = true;
+        routed = false;
+        sessionNode = draggedNode;
+        zones.clear();
+        List<Host> suppliedHosts = hostSupplier.get();
+        int hostCount = 0;
+        Host[] builtHosts = new Host[suppliedHosts == null ? 0 : suppliedHosts.size()];
+        int[] starts = new int[builtHosts.length];
+        int[] ends = new int[builtHosts.length];
+        double[] minX = new double[builtHosts.length];
+        double[] minY = new double[builtHosts.length];
+        double[] maxX = new double[builtHosts.length];
+        double[] maxY = new double[builtHosts.length];
+        long[] revisions = new long[builtHosts.length];
+        long[] geometryVersions = new long[builtHosts.length];
+        for (int h = 0; h < builtHosts.length; h++) {
+            Host host = suppliedHosts.get(h);
+            Scene scene = host != null ? host.scene() : null;
+            Window window = scene != null ? scene.getWindow() : null;
+            if (window == null || !window.isShowing()) {
+                continue;
+            }
+            double offsetX = window.getX() + scene.getX();
+            double offsetY = window.getY() + scene.getY();
+            builtHosts[hostCount] = host;
+            minX[hostCount] = offsetX;
+            minY[hostCount] = offsetY;
+            maxX[hostCount] = offsetX + scene.getWidth();
+            maxY[hostCount] = offsetY + scene.getHeight();
+            revisions[hostCount] = host.dockGraph().getRevision();
+            geometryVersions[hostCount] = host.layoutEngine().getViewGeometryVersion();
+            starts[hostCount] = zones.size();
+            host.layoutEngine().collectDropZones(hostZones);
+            for (int i = 0; i < hostZones.size(); i++) {
+                if (isZoneValidForDrag(host, i, draggedNode)) {
+                    zones.addTranslated(hostZones, i, offsetX, offsetY);
+                }
+            }
+            ends[hostCount] = zones.size();
+            hostCount++;
+        }
+        hostZones.clear();
+        hosts = Arrays.copyOf(builtHosts, hostCount);
+        zoneStarts = Arrays.copyOf(starts, hostCount);
+        zoneEnds = Arrays.copyOf(ends, hostCount);
+        hostMinX = Arrays.copyOf(minX, hostCount);
+        hostMinY = Arrays.copyOf(minY, hostCount);
+        hostMaxX = Arrays.copyOf(maxX, hostCount);
+        hostMaxY = Arrays.copyOf(maxY, hostCount);
+        hostRevisions = Arrays.copyOf(revisions, hostCount);
+        hostGeometryVersions = Arrays.copyOf(geometryVersions, hostCount);
+        buildSideBars();
+    }
+
+    private void buildSideBars() {
+        sideBarScene = null;
+        int count = 0;
+        Side[] sides = new Side[SIDE_BAR_SIDES.length];
+        double[] minX = new double[SIDE_BAR_SIDES.length];
+        double[] minY = new double[SIDE_BAR_SIDES.length];
+        double[] maxX = new double[SIDE_BAR_SIDES.length];
+        double[] maxY = new double[SIDE_BAR_SIDES.length];
+        double[][] childCenters = new double[SIDE_BAR_SIDES.length][];
+        for (Side side : SIDE_BAR_SIDES) {
+            Parent strip = sideBarStrips.get(side);
+            if (strip == null || strip.getScene() == null) {
+                continue;
+            }
+            Bounds stripBounds = strip.localToScreen(strip.getBoundsInLocal());
+            if (stripBounds == null) {
+                continue;
+            }
+            sideBarScene = strip.getScene();
+            sides[count] = side;
+            minX[count] = stripBounds.getMinX();
+            minY[count] = stripBounds.getMinY();
+            maxX[count] = stripBounds.getMaxX();
+            maxY[count] = stripBounds.getMaxY();
+            childCenters[count] = resolveChildCenters(strip);
+            count++;
+        }
+        sideBarSides = Arrays.copyOf(sides, count);
+        sideBarMinX = Arrays.copyOf(minX, count);
+        sideBarMinY = Arrays.copyOf(minY, count);
+        sideBarMaxX = Arrays.copyOf(maxX, count);
+        sideBarMaxY = Arrays.copyOf(maxY, count);
+        sideBarChildCenters = Arrays.copyOf(childCenters, count);
+    }
+
+    private static double[] resolveChildCenters(Parent strip) {
+        List<Node> children = strip.getChildrenUnmodifiable();
+        if (children.isEmpty()) {
+            return NO_CENTERS;
+        }
+        double[] centers = new double[children.size()];
+        int count = 0;
+        for (Node child : children) {
+            Bounds childBounds = child.localToScreen(child.getBoundsInLocal());
+            if (childBounds != null) {
+                centers[count++] = (childBounds.getMinY() + childBounds.getMaxY()) / 2.0;
+            }
+        }
+        return Arrays.copyOf(centers, count);
+    }
+
+    private void query(double screenX, double screenY) {
+        queryCount++;
+        routed = true;
+        routedScreenX = screenX;
+        routedScreenY = screenY;
+        routedZone = -1;
+        routedSideBar = -1;
+        routedSideBarInsertIndex = -1;
+        routedHost = findFrontHost(screenX, screenY);
+        if (routedHost == NO_HOST) {
+            return;
+        }
+        if (hosts[routedHost].scene() == sideBarScene) {
+            for (int s = 0; s < sideBarSides.length; s++) {
+                if (screenX >= sideBarMinX[s] && screenX <= sideBarMaxX[s]
+                    && screenY >= sideBarMinY[s] && screenY <= sideBarMaxY[s]) {
+                    routedSideBar = s;
+                    routedSideBarInsertIndex = insertIndexOf(sideBarChildCenters[s], screenY);
+                    return;
+                }
+            }
+        }
+        routedZone = zones.findBest(screenX, screenY, zoneStarts[routedHost], zoneEnds[routedHost]);
+    }
+
+    private int findFrontHost(double screenX, double screenY) {
+        if (frontHostLocator != null) {
+            Object owner = frontHostLocator.findFrontOwnerAt(screenX, screenY);
+            if (owner != null) {
+                for (int h = hosts.length - 1; h >= 0; h--) {
+                    if (hosts[h].owner() == owner) {
+                        return h;
+                    }
+                }
+                // A window shown after the session was built; route nowhere and rebuild on the next request.
+                valid = false;
+                return NO_HOST;
+            }
+            return hosts.length > 0 && containsHostPoint(0, screenX, screenY) ? 0 : NO_HOST;
+        }
+        for (int h = hosts.length - 1; h >= 0; h--) {
+            if (containsHostPoint(h, screenX, screenY)) {
+                return h;
+            }
+        }
+        return NO_HOST;
+    }
+
+    private boolean containsHostPoint(int hostIndex, double screenX, double screenY) {
+        return screenX >= hostMinX[hostIndex] && screenX <= hostMaxX[hostIndex]
+            && screenY >= hostMinY[hostIndex] && screenY <= hostMaxY[hostIndex];
+    }
+
+    /**
+     * Returns the number of child centers above the pointer, which is the insert index before the first child whose
+     * center lies below it.
+     */
+    private static int insertIndexOf(double[] centers, double screenY) {
+        int low = 0;
+        int high = centers.length;
+        while (low < high) {
+            int mid = (low + high) >>> 1;
+            if (centers[mid] <= screenY) {
+                low = mid + 1;
+            } else {
+                high = mid;
+            }
+        }
+        return low;
+    }
+
+    private boolean activateTabHoverIfNeeded() {
+        if (routedZone < 0 || zones.getType(routedZone) != DockDropZoneType.TAB_HEADER
+            || zones.getResolvedTabIndex() < 0
+            || !(zones.getTarget(routedZone) instanceof DockTabPane targetTabPane)
+            || targetTabPane.getChildren().isEmpty()) {
+            return false;
+        }
+        int hoveredTabIndex = Math.clamp(zones.getResolvedTabIndex(), 0, targetTabPane.getChildren().size() - 1);
+        if (targetTabPane.getSelectedIndex() == hoveredTabIndex) {
+            return false;
+        }
+        targetTabPane.setSelectedIndex(hoveredTabIndex);
+        return true;
+    }
+
+    private boolean isZoneValidForDrag(Host host, int index, DockNode draggedNode) {
+        if (draggedNode == null) {
+            return false;
+        }
+        DockElement target = hostZones.getTarget(index);
+        if (target == null) {
+            return host.emptyLayoutDropEnabled()
+                && host.dockGraph().getRoot() == null
+                && hostZones.getPosition(index) == DockPosition.CENTER
+                && hostZones.getType(index) == DockDropZoneType.CENTER
+                && hostZones.getWidth(index) > 0
+                && hostZones.getHeight(index) > 0;
+        }
+        return target != draggedNode
+            && isElementVisibleForInteraction(target)
+            && !isDescendantOf(target, draggedNode);
+    }
+
+    private static boolean isElementVisibleForInteraction(DockElement element) {
+        DockElement current = element;
+        while (current != null) {
+            if (current.getParent() instanceof DockTabPane parentTabPane) {
+                int childIndex = parentTabPane.getChildren().indexOf(current);
+                if (childIndex < 0 || childIndex != parentTabPane.getSelectedIndex()) {
+                    return false;
+                }
+            }
+            current = current.getParent();
+        }
+        return true;
+    }
+
+    private static boolean isDescendantOf(DockElement element, DockElement ancestor) {
+        DockElement current = element;
+        while (current != null) {
+            if (current == ancestor) {
+                return true;
+            }
+            current = current.getParent();
+        }
+        return false;
+    }
+
+    /**
+     * One window that accepts drops through its own layout engine.
+     *
+     * @param owner object identifying the host, for example the floating window
+     * @param scene scene hosting the layout
+     * @param layoutEngine layout engine collecting the drop zones
+     * @param dockGraph graph rendered by the layout engine
+     * @param emptyLayoutDropEnabled whether the empty-layout zone accepts drops while the graph has no root
+     */
+    public record Host(
+        Object owner,
+        Scene scene,
+        DockLayoutEngine layoutEngine,
+        DockGraph dockGraph,
+        boolean emptyLayoutDropEnabled
+    ) {
+        /**
+         * Validates host components.
+         */
+        public Host {
+            Objects.requireNonNull(owner, "owner");
+            Objects.requireNonNull(scene, "scene");
+            Objects.requireNonNull(layoutEngine, "layoutEngine");
+            Objects.requireNonNull(dockGraph, "dockGraph");
+        }
+    }
+
+    /**
+     * Resolves the owner of the front-most host at a screen point.
+     */
+    @FunctionalInterface
+    public interface FrontHostLocator {
+        /**
+         * Returns the owner of the front-most host at the point.
+         *
+         * @param screenX screen x-coordinate
+         * @param screenY screen y-coordinate
+         * @return host owner, or {@code null} when the point is not over a located host
+         */
+        Object findFrontOwnerAt(double screenX, double screenY);
+    }
+}
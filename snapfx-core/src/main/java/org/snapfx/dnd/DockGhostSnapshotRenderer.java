@@ -0,0 +1,143 @@
+package org.snapfx.dnd;
+
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import javafx.scene.SnapshotParameters;
+import javafx.scene.image.Image;
+import javafx.scene.image.WritableImage;
+import javafx.scene.paint.Color;
+import javafx.scene.transform.Scale;
+import org.snapfx.model.DockNode;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+import java.util.function.Consumer;
+
+/**
+ * Renders bounded-size drag ghost thumbnails.
+ *
+ * <p>Snapshots are scaled down to at most {@link #MAX_WIDTH} x {@link #MAX_HEIGHT} through
+ * {@link SnapshotParameters} and taken asynchronously on the next pulse, so drag activation does not read back the
+ * full-resolution view. Without caching every snapshot is rendered into one pooled {@link WritableImage}; with
+ * caching each dock node keeps its own thumbnail until its content or size changes or it is invalidated.</p>
+ */
+final class DockGhostSnapshotRenderer {
+    static final int MAX_WIDTH = 300;
+    static final int MAX_HEIGHT = 200;
+
+    private final Map<DockNode, CachedThumbnail> cache = new WeakHashMap<>();
+    private WritableImage pooledImage;
+    private boolean cachingEnabled;
+    private long requestGeneration;
+    private long renderCount;
+
+    /**
+     * Rendered thumbnail. The visible image area is {@code width} x {@code height} pixels starting at the top-left
+     * corner; pooled images can be larger.
+     *
+     * @param image thumbnail image
+     * @param width visible width in pixels
+     * @param height visible height in pixels
+     */
+    record Thumbnail(Image image, int width, int height) {
+    }
+
+    private record CachedThumbnail(Thumbnail thumbnail, Node content, double sourceWidth, double sourceHeight) {
+    }
+
+    boolean isCachingEnabled() {
+        return cachingEnabled;
+    }
+
+    void setCachingEnabled(boolean cachingEnabled) {
+        this.cachingEnabled = cachingEnabled;
+        if (!cachingEnabled) {
+            cache.clear();
+        }
+    }
+
+    /**
+     * Returns the cached thumbnail of a dock node when it is still valid for the given snapshot source.
+     *
+     * @param dockNode dragged dock node
+     * @param source node the thumbnail would be rendered from
+     * @return cached thumbnail, or {@code null}
+     */
+    Thumbnail getCached(DockNode dockNode, Node source) {
+        if (!cachingEnabled || dockNode == null || source == null) {
+            return null;
+        }
+        CachedThumbnail cached = cache.get(dockNode);
+        if (cached == null) {
+            return null;
+        }
+        Bounds bounds = source.getBoundsInLocal();
+        if (cached.content() != dockNode.getContent()
+            || cached.sourceWidth() != bounds.getWidth()
+            || cached.sourceHeight() != bounds.getHeight()) {
+            cache.remove(dockNode);
+            return null;
+        }
+        return cached.thumbnail();
+    }
+
+    /**
+     * Requests an asynchronous thumbnail snapshot. Only the result of the most recent request is delivered.
+     *
+     * @param dockNode dragged dock node
+     * @param source node to render
+     * @param onReady receives the thumbnail on the FX thread
+     * @return {@code false} when the source has no renderable size
+     */
+    boolean render(DockNode dockNode, Node source, Consumer<Thumbnail> onReady) {
+        Bounds bounds = source.getBoundsInLocal();
+        double sourceWidth = bounds.getWidth();
+        double sourceHeight = bounds.getHeight();
+        if (sourceWidth <= 0 || sourceHeight <= 0) {
+            return false;
+        }
+        double scale = Math.min(1.0, Math.min(MAX_WIDTH / sourceWidth, MAX_HEIGHT / sourceHeight));
+        int width = Math.clamp((long) Math.ceil(sourceWidth * scale), 1, MAX_WIDTH);
+        int height = Math.clamp((long) Math.ceil(sourceHeight * scale), 1, MAX_HEIGHT);
+
+        SnapshotParameters parameters = new SnapshotParameters();
+        parameters.setFill(Color.TRANSPARENT);
+        parameters.setTransform(new Scale(scale, scale));
+        boolean cacheResult = cachingEnabled;
+        WritableImage target = cacheResult ? new WritableImage(width, height) : pooledImage();
+        Node content = dockNode.getContent();
+        long generation = ++requestGeneration;
+        source.snapshot(result -> {
+            renderCount++;
+            Thumbnail thumbnail = new Thumbnail(result.getImage(), width, height);
+            if (cacheResult && cachingEnabled) {
+                cache.put(dockNode, new CachedThumbnail(thumbnail, content, sourceWidth, sourceHeight));
+            }
+            if (generation == requestGeneration) {
+                onReady.accept(thumbnail);
+            }
+            return null;
+        }, parameters, target);
+        return true;
+    }
+
+    /**
+     * Drops the cached thumbnail of one dock node.
+     *
+     * @param dockNode dock node whose thumbnail is stale
+     */
+    void invalidate(DockNode dockNode) {
+        cache.remove(dockNode);
+    }
+
+    long getRenderCount() {
+        return renderCount;
+    }
+
+    private WritableImage pooledImage() {
+        if (pooledImage == null) {
+            pooledImage = new WritableImage(MAX_WIDTH, MAX_HEIGHT);
+        }
+        return pooledImage;
+    }
+}
@@ -161,7 +161,10 @@ public final class DockFloatingController {
      * @param screenX screen x-coordinate
      * @param screenY screen y-coordinate
      * @return {@code true} when a floating window is hit at the screen point
+     * @deprecated use {@link DockFloatingWindowHitIndex#findTopWindowAt(double, double)}, which answers point
+     *     queries without scanning every window
      */
+    @Deprecated
     public boolean isMainDropSuppressedByFloatingWindow(
         List<DockFloatingWindow> floatingWindows,
         Double screenX,
@@ -180,7 +183,10 @@ public final class DockFloatingController {
      * @param screenX screen x-coordinate
      * @param screenY screen y-coordinate
      * @return top-most hit floating window, or {@code null}
+     * @deprecated use {@link DockFloatingWindowHitIndex#findTopWindowAt(double, double)}, which answers point
+     *     queries without scanning every window
      */
+    @Deprecated
     public DockFloatingWindow findTopFloatingWindowAt(
         List<DockFloatingWindow> floatingWindows,
         double screenX,
@@ -0,0 +1,178 @@
+package org.snapfx.floating;
+
+import javafx.animation.AnimationTimer;
+import javafx.stage.Stage;
+
+/**
+ * Coalesces floating-window moves and resizes into at most one bounds update per JavaFX frame.
+ * <p>
+ * A frame is the time between two pulses. The first request of a frame is applied right away, so a window follows
+ * the pointer without added latency. Further requests in the same frame only replace the pending target. A pulse that
+ * ends a frame with a write carries the pending target into the next frame, where the next request or the following
+ * pulse applies it. An update writes only the bounds that changed, so a move sets x and y but never width and height.
+ * Counters compare the stage bounds writes that per-event updates would have made with the writes actually made.
+ * </p>
+ */
+public final class DockFloatingMoveScheduler {
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            onPulse();
+        }
+    };
+    private boolean timerRunning;
+    private boolean appliedThisFrame;
+    private Stage pendingStage;
+    private double pendingX;
+    private double pendingY;
+    private double pendingWidth;
+    private double pendingHeight;
+    private long requestCount;
+    private long updateCount;
+    private long requestedWriteCount;
+    private long boundsWriteCount;
+
+    DockFloatingMoveScheduler() {
+    }
+
+    /**
+     * Requests a new window position.
+     */
+    void requestMove(Stage stage, double x, double y) {
+        request(stage, x, y, Double.NaN, Double.NaN, 2);
+    }
+
+    /**
+     * Requests new window bounds.
+     */
+    void requestBounds(Stage stage, double x, double y, double width, double height) {
+        request(stage, x, y, width, height, 4);
+    }
+
+    /**
+     * Applies the pending target immediately, for example when the pointer is released.
+     */
+    void flush() {
+        if (pendingStage != null) {
+            applyPending();
+            appliedThisFrame = true;
+        }
+    }
+
+    /**
+     * Drops the pending target and stops waiting for pulses.
+     */
+    void cancel() {
+        pendingStage = null;
+        appliedThisFrame = false;
+        stopTimer();
+    }
+
+    /**
+     * Returns how many moves and resizes were requested.
+     *
+     * @return request count
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns how many bounds updates were applied; at most one per frame.
+     *
+     * @return applied update count
+     */
+    public long getUpdateCount() {
+        return updateCount;
+    }
+
+    /**
+     * Returns how many stage bounds writes ({@code setX}, {@code setY}, {@code setWidth}, {@code setHeight}) were made.
+     * Each write is a property change plus a native window bounds request.
+     *
+     * @return bounds write count
+     */
+    public long getBoundsWriteCount() {
+        return boundsWriteCount;
+    }
+
+    /**
+     * Returns how many stage bounds writes were saved compared to writing every bound on every mouse event.
+     *
+     * @return saved bounds write count
+     */
+    public long getSavedBoundsWriteCount() {
+        return requestedWriteCount - boundsWriteCount;
+    }
+
+    private void request(Stage stage, double x, double y, double width, double height, int writes) {
+        if (stage == null) {
+            return;
+        }
+        requestCount++;
+        requestedWriteCount += writes;
+        if (pendingStage != null && pendingStage != stage) {
+            applyPending();
+        }
+        pendingStage = stage;
+        pendingX = x;
+        pendingY = y;
+        pendingWidth = width;
+        pendingHeight = height;
+        if (!appliedThisFrame) {
+            applyPending();
+            appliedThisFrame = true;
+        }
+        if (!timerRunning) {
+            timerRunning = true;
+            pulseTimer.start();
+        }
+    }
+
+    /**
+     * Ends the current frame. The pending target is applied only when the frame had no write yet.
+     */
+    void onPulse() {
+        boolean applied = appliedThisFrame;
+        appliedThisFrame = false;
+        if (applied) {
+            // The frame already has its update; a pending target waits for the next frame.
+            return;
+        }
+        if (pendingStage == null) {
+            // A frame passed without requests; stop until the next move.
+            stopTimer();
+            return;
+        }
+        applyPending();
+    }
+
+    private void applyPending() {
+        Stage stage = pendingStage;
+        pendingStage = null;
+        updateCount++;
+        if (stage.getX() != pendingX) {
+            stage.setX(pendingX);
+            boundsWriteCount++;
+        }
+        if (stage.getY() != pendingY) {
+            stage.setY(pendingY);
+            boundsWriteCount++;
+        }
+        if (!Double.isNaN(pendingWidth) && stage.getWidth() != pendingWidth) {
+            stage.setWidth(pendingWidth);
+            boundsWriteCount++;
+        }
+        if (!Double.isNaN(pendingHeight) && stage.getHeight() != pendingHeight) {
+            stage.setHeight(pendingHeight);
+            boundsWriteCount++;
+        }
+    }
+
+    private void stopTimer() {
+        if (timerRunning) {
+            timerRunning = false;
+            pulseTimer.stop();
+        }
+    }
+}
@@ -0,0 +1,331 @@
+package org.snapfx.floating;
+
+import javafx.beans.InvalidationListener;
+import javafx.beans.Observable;
+import javafx.geometry.Rectangle2D;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Snap candidates of one floating-window drag or resize, precomputed into sorted primitive arrays.
+ * <p>
+ * The session is built on the first move of a drag or resize. Screen, main-window and peer-window edges are stored
+ * per snapped axis, sorted by value, together with the perpendicular range a candidate must overlap and, for screen
+ * candidates, the screen they belong to. Every further move binary-searches the snap-distance window of each axis and
+ * checks only the candidates inside it, without allocating. Observables registered via {@link #watch(Observable)},
+ * such as peer-window bounds, invalidate the session when they change.
+ * </p>
+ * <p>
+ * The nearest candidate within the snap distance wins and ties go to the candidate collected first (screens, then the
+ * main window, then peers).
+ * </p>
+ */
+final class DockFloatingSnapSession {
+    static final int DRAG_X = 0;
+    static final int DRAG_Y = 1;
+    static final int RESIZE_LEFT = 0;
+    static final int RESIZE_RIGHT = 1;
+    static final int RESIZE_TOP = 2;
+    static final int RESIZE_BOTTOM = 3;
+
+    // Absorbs rounding of value +/- snap distance at the window borders; the exact distance is checked per candidate.
+    private static final double SEARCH_MARGIN = 1e-6;
+    private static final double UNBOUNDED_MIN = Double.NEGATIVE_INFINITY;
+    private static final double UNBOUNDED_MAX = Double.POSITIVE_INFINITY;
+
+    private final boolean resize;
+    private final double windowWidth;
+    private final double windowHeight;
+    private final double snapDistance;
+    private final Rectangle2D[] screenBounds;
+    private final int primaryScreenIndex;
+    private final boolean[] activeScreens;
+    private final Axis[] axes;
+    private final InvalidationListener invalidationListener = observable -> valid = false;
+    private final List<Observable> watchedObservables = new ArrayList<>();
+    private boolean valid = true;
+
+    /**
+     * Builds a session.
+     *
+     * @param resize {@code true} for resize edges ({@link #RESIZE_LEFT} to {@link #RESIZE_BOTTOM}), {@code false}
+     *               for drag positions ({@link #DRAG_X}, {@link #DRAG_Y})
+     * @param windowWidth width of the dragged window; unused for resize sessions
+     * @param windowHeight height of the dragged window; unused for resize sessions
+     * @param snapDistance snap distance, also used as perpendicular overlap tolerance
+     * @param screenBounds full bounds of all screens, used to find the screens under the pointer
+     * @param screenVisualBounds visual bounds of all screens, in the same order, used as snap targets
+     * @param primaryScreenIndex index of the primary screen, or {@code -1}
+     * @param overlapTargets main-window and peer bounds that require perpendicular overlap
+     */
+    DockFloatingSnapSession(
+        boolean resize,
+        double windowWidth,
+        double windowHeight,
+        double snapDistance,
+        Rectangle2D[] screenBounds,
+        Rectangle2D[] screenVisualBounds,
+        int primaryScreenIndex,
+        List<Rectangle2D> overlapTargets
+    ) {
+        this.resize = resize;
+        this.windowWidth = windowWidth;
+        this.windowHeight = windowHeight;
+        this.snapDistance = snapDistance;
+        this.screenBounds = screenBounds;
+        this.primaryScreenIndex = primaryScreenIndex;
+        this.activeScreens = new boolean[screenBounds.length];
+
+        AxisBuilder[] builders = new AxisBuilder[resize ? 4 : 2];
+        for (int i = 0; i < builders.length; i++) {
+            builders[i] = new AxisBuilder();
+        }
+        for (int s = 0; s < screenVisualBounds.length; s++) {
+            Rectangle2D bounds = screenVisualBounds[s];
+            if (bounds == null) {
+                continue;
+            }
+            if (resize) {
+                builders[RESIZE_LEFT].add(bounds.getMinX(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[RESIZE_RIGHT].add(bounds.getMaxX(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[RESIZE_TOP].add(bounds.getMinY(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[RESIZE_BOTTOM].add(bounds.getMaxY(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+            } else {
+                builders[DRAG_X].add(bounds.getMinX(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[DRAG_X].add(bounds.getMaxX() - windowWidth, UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[DRAG_Y].add(bounds.getMinY(), UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+                builders[DRAG_Y].add(bounds.getMaxY() - windowHeight, UNBOUNDED_MIN, UNBOUNDED_MAX, s);
+            }
+        }
+        for (Rectangle2D bounds : overlapTargets) {
+            if (bounds == null) {
+                continue;
+            }
+            double minX = bounds.getMinX();
+            double maxX = bounds.getMaxX();
+            double minY = bounds.getMinY();
+            double maxY = bounds.getMaxY();
+            if (resize) {
+                for (int axis : new int[] {RESIZE_LEFT, RESIZE_RIGHT}) {
+                    builders[axis].add(minX, minY, maxY, -1);
+                    builders[axis].add(maxX, minY, maxY, -1);
+                }
+                for (int axis : new int[] {RESIZE_TOP, RESIZE_BOTTOM}) {
+                    builders[axis].add(minY, minX, maxX, -1);
+                    builders[axis].add(maxY, minX, maxX, -1);
+                }
+            } else {
+                builders[DRAG_X].add(minX, minY, maxY, -1);
+                builders[DRAG_X].add(maxX - windowWidth, minY, maxY, -1);
+                builders[DRAG_X].add(minX - windowWidth, minY, maxY, -1);
+                builders[DRAG_X].add(maxX, minY, maxY, -1);
+                builders[DRAG_Y].add(minY, minX, maxX, -1);
+                builders[DRAG_Y].add(maxY - windowHeight, minX, maxX, -1);
+                builders[DRAG_Y].add(minY - windowHeight, minX, maxX, -1);
+                builders[DRAG_Y].add(maxY, minX, maxX, -1);
+            }
+        }
+        axes = new Axis[builders.length];
+        for (int i = 0; i < builders.length; i++) {
+            axes[i] = builders[i].build();
+        }
+    }
+
+    /**
+     * Invalidates this session when the observable changes, until {@link #close()} is called.
+     *
+     * @param observable observable to watch, for example a peer-window position
+     */
+    void watch(Observable observable) {
+        observable.addListener(invalidationListener);
+        watchedObservables.add(observable);
+    }
+
+    /**
+     * Stops watching all registered observables.
+     */
+    void close() {
+        for (Observable observable : watchedObservables) {
+            observable.removeListener(invalidationListener);
+        }
+        watchedObservables.clear();
+        valid = false;
+    }
+
+    /**
+     * Returns whether the session still answers for the given interaction.
+     *
+     * @param resize whether the interaction is a resize
+     * @param width current window width; only compared for drag sessions
+     * @param height current window height; only compared for drag sessions
+     * @return {@code true} while no watched observable changed and the interaction matches
+     */
+    boolean isValidFor(boolean resize, double width, double height) {
+        return valid
+            && this.resize == resize
+            && (resize || (windowWidth == width && windowHeight == height));
+    }
+
+    /**
+     * Selects the screens whose candidates apply to the current move, like
+     * {@code Screen.getScreensForRectangle}: screens under the pointer, else screens intersecting the window, else the
+     * primary screen.
+     */
+    void updateActiveScreens(
+        double pointerScreenX,
+        double pointerScreenY,
+        double windowX,
+        double windowY,
+        double width,
+        double height
+    ) {
+        if (markScreens(pointerScreenX, pointerScreenY, 1.0, 1.0)) {
+            return;
+        }
+        if (markScreens(windowX, windowY, Math.max(1.0, width), Math.max(1.0, height))) {
+            return;
+        }
+        if (primaryScreenIndex >= 0 && primaryScreenIndex < activeScreens.length) {
+            activeScreens[primaryScreenIndex] = true;
+        }
+    }
+
+    /**
+     * Snaps one axis value.
+     *
+     * @param axis axis constant matching the session kind
+     * @param value requested value
+     * @param perpendicularStart start of the window range on the perpendicular axis
+     * @param perpendicularEnd end of the window range on the perpendicular axis
+     * @return nearest candidate within the snap distance, or {@code value}
+     */
+    double snap(int axis, double value, double perpendicularStart, double perpendicularEnd) {
+        if (!Double.isFinite(value)) {
+            return value;
+        }
+        Axis candidates = axes[axis];
+        double bestValue = value;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        int bestOrder = Integer.MAX_VALUE;
+        double upperLimit = value + snapDistance + SEARCH_MARGIN;
+        for (int i = candidates.lowerBound(value - snapDistance - SEARCH_MARGIN);
+             i < candidates.values.length && candidates.values[i] <= upperLimit;
+             i++) {
+            int screen = candidates.screens[i];
+            if (screen >= 0 && !activeScreens[screen]) {
+                continue;
+            }
+            if (perpendicularEnd < candidates.rangeMins[i] - snapDistance
+                || candidates.rangeMaxs[i] < perpendicularStart - snapDistance) {
+                continue;
+            }
+            double distance = Math.abs(value - candidates.values[i]);
+            if (distance > snapDistance) {
+                continue;
+            }
+            if (distance < bestDistance || (distance == bestDistance && candidates.orders[i] < bestOrder)) {
+                bestValue = candidates.values[i];
+                bestDistance = distance;
+                bestOrder = candidates.orders[i];
+            }
+        }
+        return bestValue;
+    }
+
+    int getCandidateCount(int axis) {
+        return axes[axis].values.length;
+    }
+
+    /**
+     * Infers the transparent shadow inset of an undecorated owner stage from its stage-to-scene insets, keeping one
+     * pixel for the border.
+     *
+     * @return shadow inset, or {@code 0} when the insets show no shadow
+     */
+    static double inferShadowInset(double leftInset, double rightInset, double bottomInset) {
+        double smallestInset = Math.min(leftInset, Math.min(rightInset, bottomInset));
+        if (!Double.isFinite(smallestInset) || smallestInset <= 1.0) {
+            return 0.0;
+        }
+        return smallestInset - 1.0;
+    }
+
+    private boolean markScreens(double x, double y, double width, double height) {
+        boolean any = false;
+        for (int s = 0; s < screenBounds.length; s++) {
+            boolean active = screenBounds[s] != null && screenBounds[s].intersects(x, y, width, height);
+            activeScreens[s] = active;
+            any |= active;
+        }
+        return any;
+    }
+
+    /**
+     * Candidates of one axis in parallel arrays, sorted by value.
+     */
+    private record Axis(double[] values, double[] rangeMins, double[] rangeMaxs, int[] screens, int[] orders) {
+        int lowerBound(double key) {
+            int low = 0;
+            int high = values.length;
+            while (low < high) {
+                int mid = (low + high) >>> 1;
+                if (values[mid] < key) {
+                    low = mid + 1;
+                } else {
+                    high = mid;
+                }
+            }
+            return low;
+        }
+    }
+
+    private static final class AxisBuilder {
+        private double[] values = new double[16];
+        private double[] rangeMins = new double[16];
+        private double[] rangeMaxs = new double[16];
+        private int[] screens = new int[16];
+        private int size;
+
+        void add(double value, double rangeMin, double rangeMax, int screen) {
+            if (!Double.isFinite(value)) {
+                return;
+            }
+            if (size == values.length) {
+                int capacity = size * 2;
+                values = Arrays.copyOf(values, capacity);
+                rangeMins = Arrays.copyOf(rangeMins, capacity);
+                rangeMaxs = Arrays.copyOf(rangeMaxs, capacity);
+                screens = Arrays.copyOf(screens, capacity);
+            }
+            values[size] = value;
+            rangeMins[size] = rangeMin;
+            rangeMaxs[size] = rangeMax;
+            screens[size] = screen;
+            size++;
+        }
+
+        Axis build() {
+            // Sort by value; the insertion index breaks ties and is kept as collection order.
+            Integer[] sortedIndexes = new Integer[size];
+            for (int i = 0; i < size; i++) {
+                sortedIndexes[i] = i;
+            }
+            Arrays.sort(sortedIndexes, (a, b) -> {
+                int byValue = Double.compare(values[a], values[b]);
+                return byValue != 0 ? byValue : Integer.compare(a, b);
+            });
+            Axis axis = new Axis(new double[size], new double[size], new double[size], new int[size], new int[size]);
+            for (int i = 0; i < size; i++) {
+                int source = sortedIndexes[i];
+                axis.values[i] = values[source];
+                axis.rangeMins[i] = rangeMins[source];
+                axis.rangeMaxs[i] = rangeMaxs[source];
+                axis.screens[i] = screens[source];
+                axis.orders[i] = source;
+            }
+            return axis;
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.snapfx.floating;
 
 import org.snapfx.close.DockCloseSource;
 import org.snapfx.dnd.DockDragService;
+import org.snapfx.dnd.DockDropRouter;
 import org.snapfx.dnd.DockDropVisualizationMode;
 import org.snapfx.model.DockContainer;
 import org.snapfx.model.DockElement;
@@ -11,10 +12,13 @@ import org.snapfx.model.DockPosition;
 import org.snapfx.model.DockTabPane;
 import org.snapfx.theme.DockThemeStyleClasses;
 import org.snapfx.view.DockDropZone;
+import org.snapfx.view.DockDropZoneTable;
 import org.snapfx.view.DockDropZoneType;
 import org.snapfx.view.DockLayoutEngine;
 import org.snapfx.view.DockNodeView;
+import org.snapfx.view.DockRebuildScheduler;
 import javafx.application.Platform;
+import javafx.beans.InvalidationListener;
 import javafx.beans.value.ChangeListener;
 import javafx.event.ActionEvent;
 import javafx.geometry.Bounds;
@@ -106,23 +110,28 @@ public final class DockFloatingWindow {
     private static final double MAXIMIZED_RESTORE_DRAG_THRESHOLD = 6.0;
     private static final double MIN_WINDOW_WIDTH = 280.0;
     private static final double MIN_WINDOW_HEIGHT = 180.0;
+    private static final double DEFAULT_SNAP_DISTANCE = 12.0;
 
     private static final int RESIZE_LEFT = 1;
     private static final int RESIZE_RIGHT = 1 << 1;
     private static final int RESIZE_TOP = 1 << 2;
     private static final int RESIZE_BOTTOM = 1 << 3;
 
-    private final String id;
-    private final DockNode primaryDockNode;
-    private final String titlePrefix;
+    private String id;
+    private DockNode primaryDockNode;
+    private String titlePrefix;
     private final DockGraph floatingGraph;
     private final DockLayoutEngine floatingLayoutEngine;
+    private final DockRebuildScheduler rebuildScheduler;
     private final StackPane layoutContainer;
     private final FloatingDropIndicator dropIndicator;
     private final FloatingDropZonesOverlay dropZonesOverlay;
     private final List<Runnable> tabSelectionListenersCleanup;
 
     private Stage stage;
+    // Hidden stage kept by pooled windows so the next show skips stage construction
+    private Stage retainedStage;
+    private DockFloatingWindowPool ownerPool;
     private Double preferredX;
     private Double preferredY;
     private double preferredWidth = DEFAULT_WIDTH;
@@ -132,6 +141,7 @@ public final class DockFloatingWindow {
     private Runnable onAttachRequested;
     private Consumer<DockFloatingWindow> onWindowClosed;
     private Runnable onWindowActivated;
+    private Runnable onScreenBoundsChanged;
     private BooleanSupplier onCloseRequested;
     private BiConsumer<DockNode, DockCloseSource> onNodeCloseRequest;
     private Consumer<DockNode> onNodeFloatRequest;
@@ -176,11 +186,13 @@ public final class DockFloatingWindow {
     private BiConsumer<Boolean, DockFloatingPinSource> onAlwaysOnTopChanged;
     private Node resizeCursorTargetNode;
     private Cursor resizeCursorTargetPrevious;
-    private final DockFloatingSnapEngine snapEngine = new DockFloatingSnapEngine();
     private boolean snappingEnabled;
-    private double snapDistance = 12.0;
+    private double snapDistance = DEFAULT_SNAP_DISTANCE;
     private EnumSet<DockFloatingSnapTarget> snapTargets = EnumSet.noneOf(DockFloatingSnapTarget.class);
     private Supplier<List<DockFloatingWindow>> snapPeerWindowsSupplier;
+    private DockFloatingSnapSession snapSession;
+    private final DockFloatingMoveScheduler moveScheduler = new DockFloatingMoveScheduler();
+    private int snapSessionBuildCount;
 
     /**
      * Creates a floating window from one dock node using default title prefix and drag service.
@@ -240,17 +252,24 @@ public final class DockFloatingWindow {
      * @param dragService drag service used for floating-scene drag and drop interactions
      */
     public DockFloatingWindow(DockElement floatingRoot, String titlePrefix, DockDragService dragService) {
-        this.id = UUID.randomUUID().toString();
+        this(titlePrefix, dragService);
         DockElement rootElement = Objects.requireNonNull(floatingRoot, "floatingRoot");
         DockNode representative = findFirstDockNode(rootElement);
         this.primaryDockNode = Objects.requireNonNull(representative, "floatingRoot must contain at least one DockNode");
-        this.titlePrefix = (titlePrefix == null || titlePrefix.isBlank()) ? TITLE_PREFIX : titlePrefix;
+        floatingGraph.setRoot(rootElement);
+        installGraphListeners();
+    }
+
+    private DockFloatingWindow(String titlePrefix, DockDragService dragService) {
+        this.id = UUID.randomUUID().toString();
+        this.titlePrefix = resolveTitlePrefix(titlePrefix);
         this.floatingGraph = new DockGraph();
         this.floatingLayoutEngine = new DockLayoutEngine(floatingGraph, dragService);
         this.floatingLayoutEngine.setTextResolver(textResolver);
         this.floatingLayoutEngine.setOnNodeCloseRequest(this::handleInnerNodeCloseRequest);
         this.floatingLayoutEngine.setOnNodeFloatRequest(this::handleInnerNodeFloatRequest);
         this.floatingLayoutEngine.setCanFloatNodePredicate(node -> getDockNodes().size() > 1);
+        this.rebuildScheduler = new DockRebuildScheduler(this::rebuildLayout);
         this.layoutContainer = new StackPane();
         this.layoutContainer.getStyleClass().add(DockThemeStyleClasses.DOCK_FLOATING_LAYOUT_CONTAINER);
         this.dropIndicator = new FloatingDropIndicator();
@@ -260,22 +279,39 @@ public final class DockFloatingWindow {
         this.dropIndicator.setManaged(false);
         this.dropZonesOverlay.setMouseTransparent(true);
         this.dropZonesOverlay.setManaged(false);
+    }
 
-        floatingGraph.setRoot(rootElement);
-        floatingGraph.revisionProperty().addListener((obs, oldValue, newValue) ->
-            Platform.runLater(this::rebuildLayout)
-        );
-        floatingGraph.rootProperty().addListener((obs, oldValue, newValue) ->
-            Platform.runLater(() -> {
-                rebuildLayout();
-                if (newValue == null && stage != null && stage.isShowing()) {
-                    closeWithoutNotification();
-                }
-            })
-        );
+    /**
+     * Creates an empty floating window for {@link DockFloatingWindowPool}; it gets its layout via {@link #adopt}.
+     */
+    static DockFloatingWindow createShell(DockDragService dragService) {
+        DockFloatingWindow shell = new DockFloatingWindow(TITLE_PREFIX, dragService);
+        shell.installGraphListeners();
+        return shell;
+    }
+
+    private void installGraphListeners() {
+        floatingGraph.revisionProperty().addListener((obs, oldValue, newValue) -> rebuildScheduler.requestRebuild());
+        floatingGraph.rootProperty().addListener((obs, oldValue, newValue) -> {
+            rebuildScheduler.requestRebuild();
+            if (newValue == null) {
+                // Applies the rebuild requested above now instead of waiting for its pulse
+                Platform.runLater(() -> {
+                    rebuildScheduler.flush();
+                    // A pooled window may have been reused for a new layout in the meantime
+                    if (floatingGraph.getRoot() == null && stage != null && stage.isShowing()) {
+                        closeWithoutNotification();
+                    }
+                });
+            }
+        });
         floatingGraph.lockedProperty().addListener((obs, oldValue, newValue) -> updatePinButtonVisibility());
     }
 
+    private static String resolveTitlePrefix(String titlePrefix) {
+        return (titlePrefix == null || titlePrefix.isBlank()) ? TITLE_PREFIX : titlePrefix;
+    }
+
     private static DockNode findFirstDockNode(DockElement element) {
         if (element == null) {
             return null;
@@ -295,7 +331,7 @@ public final class DockFloatingWindow {
     }
 
     /**
-     * Returns the stable floating-window ID.
+     * Returns the stable floating-window ID. A window reused by {@link DockFloatingWindowPool} gets a new ID.
      *
      * @return floating-window ID
      */
@@ -303,6 +339,13 @@ public final class DockFloatingWindow {
         return id;
     }
 
+    /**
+     * Returns the prefix of generated floating-window titles.
+     */
+    String getTitlePrefix() {
+        return titlePrefix;
+    }
+
     /**
      * Returns the representative dock node used for title/icon fallbacks.
      *
@@ -362,12 +405,13 @@ public final class DockFloatingWindow {
 
     /**
      * Returns the current scene of this floating window, or {@code null} when not shown.
+     * Windows managed by {@link DockFloatingWindowPool} keep their scene while hidden.
      *
      * @return floating window scene, or {@code null}
      */
     public Scene getScene() {
         if (stage == null) {
-            return null;
+            return retainedStage == null ? null : retainedStage.getScene();
         }
         return stage.getScene();
     }
@@ -401,6 +445,19 @@ public final class DockFloatingWindow {
         return scenePoint != null && sceneRoot.getBoundsInLocal().contains(scenePoint);
     }
 
+    /**
+     * Returns the screen bounds of this floating window content, matching {@link #containsScreenPoint(double, double)}.
+     *
+     * @return screen bounds, or {@code null} while the window is not showing
+     */
+    Bounds resolveScreenBounds() {
+        if (stage == null || !stage.isShowing() || stage.getScene() == null) {
+            return null;
+        }
+        Node sceneRoot = stage.getScene().getRoot();
+        return sceneRoot == null ? null : sceneRoot.localToScreen(sceneRoot.getBoundsInLocal());
+    }
+
     /**
      * Brings this floating window to the foreground.
      */
@@ -511,6 +568,9 @@ public final class DockFloatingWindow {
      * @param ownerStage optional owner stage
      */
     public void show(Stage ownerStage) {
+        if (stage == null) {
+            stage = reuseRetainedStage(ownerStage);
+        }
         if (stage == null) {
             stage = createStage(ownerStage);
         }
@@ -519,7 +579,7 @@ public final class DockFloatingWindow {
         }
         stage.toFront();
         notifyWindowActivated();
-        rebuildLayout();
+        rebuildScheduler.rebuildNow();
     }
 
     /**
@@ -569,6 +629,13 @@ public final class DockFloatingWindow {
         this.onWindowActivated = onWindowActivated;
     }
 
+    /**
+     * Sets the callback invoked when the stage position, size or showing state, or the scene offset, changes.
+     */
+    void setOnScreenBoundsChanged(Runnable onScreenBoundsChanged) {
+        this.onScreenBoundsChanged = onScreenBoundsChanged;
+    }
+
     /**
      * Sets the callback used to veto or allow floating-window close requests.
      *
@@ -623,7 +690,7 @@ public final class DockFloatingWindow {
      */
     public void refreshLocalization() {
         floatingLayoutEngine.setTextResolver(textResolver);
-        rebuildLayout();
+        rebuildScheduler.rebuildNow();
         refreshTitleBarLocalization();
     }
 
@@ -634,6 +701,7 @@ public final class DockFloatingWindow {
      */
     public void setSnappingEnabled(boolean enabled) {
         snappingEnabled = enabled;
+        closeSnapSession();
     }
 
     /**
@@ -653,6 +721,7 @@ public final class DockFloatingWindow {
     public void setSnapDistance(double pixels) {
         if (Double.isFinite(pixels) && pixels >= 0.0) {
             snapDistance = pixels;
+            closeSnapSession();
         }
     }
 
@@ -680,6 +749,7 @@ public final class DockFloatingWindow {
             }
         }
         snapTargets = resolvedTargets;
+        closeSnapSession();
     }
 
     /**
@@ -701,6 +771,17 @@ public final class DockFloatingWindow {
      */
     public void setSnapPeerWindowsSupplier(Supplier<List<DockFloatingWindow>> supplier) {
         snapPeerWindowsSupplier = supplier;
+        closeSnapSession();
+    }
+
+    /**
+     * Returns the scheduler that coalesces title-bar drags and edge resizes into one bounds update per frame.
+     * Its counters show how many stage bounds writes were saved.
+     *
+     * @return floating-window move scheduler
+     */
+    public DockFloatingMoveScheduler getMoveScheduler() {
+        return moveScheduler;
     }
 
     /**
@@ -843,6 +924,15 @@ public final class DockFloatingWindow {
         handleInnerNodeFloatRequest(node);
     }
 
+    /**
+     * Returns the scheduler that coalesces rebuilds of this floating layout.
+     *
+     * @return floating-layout rebuild scheduler
+     */
+    public DockRebuildScheduler getRebuildScheduler() {
+        return rebuildScheduler;
+    }
+
     /**
      * Returns the rendered view for a dock node in this floating layout.
      *
@@ -860,7 +950,10 @@ public final class DockFloatingWindow {
      * @param screenY pointer y-coordinate in screen space
      * @param draggedNode node currently being dragged
      * @return resolved drop target, or {@code null} when none matches
+     * @deprecated drop targets are resolved across all windows by a {@link DockDropRouter} over
+     *     {@link #getDropHost()}; this method collects the zones of this window again on every call
      */
+    @Deprecated
     public DropTarget resolveDropTarget(double screenX, double screenY, DockNode draggedNode) {
         DropZoneResolution resolution = resolveDropZone(screenX, screenY, draggedNode, true);
         DockDropZone bestZone = resolution.activeZone();
@@ -883,7 +976,10 @@ public final class DockFloatingWindow {
      * @param screenX pointer x-coordinate in screen space
      * @param screenY pointer y-coordinate in screen space
      * @param visualizationMode drop visualization mode to apply
+     * @deprecated use {@link #updateDropPreview(DockDropRouter, DockDropVisualizationMode)}, which renders the
+     *     zones the router already collected
      */
+    @Deprecated
     public void updateDropPreview(
         DockNode draggedNode,
         double screenX,
@@ -913,6 +1009,73 @@ public final class DockFloatingWindow {
         dropIndicator.show(activeZone.getBounds(), activeZone.getInsertLineX());
     }
 
+    /**
+     * Updates floating-window drop preview visuals from the result of a drop router. The preview is cleared unless
+     * the router picked this window as the front-most host.
+     *
+     * @param router router holding the latest routed pointer position
+     * @param visualizationMode drop visualization mode to apply
+     */
+    public void updateDropPreview(DockDropRouter router, DockDropVisualizationMode visualizationMode) {
+        DockDropRouter.Host routedHost = router != null ? router.getRoutedHost() : null;
+        int activeIndex = router != null ? router.getRoutedZone() : -1;
+        if (routedHost == null || routedHost.owner() != this || activeIndex < 0) {
+            clearDropPreview();
+            return;
+        }
+        int host = router.getRoutedHostIndex();
+        DockDropZoneTable zones = router.getZones();
+        double offsetX = router.getHostScreenX(host);
+        double offsetY = router.getHostScreenY(host);
+        DockElement activeTarget = zones.getTarget(activeIndex);
+
+        if (visualizationMode == DockDropVisualizationMode.ALL_ZONES
+            || visualizationMode == DockDropVisualizationMode.SUBTREE
+            || visualizationMode == DockDropVisualizationMode.DEFAULT) {
+            // All zones do not depend on the active target, so moving between them keeps the rendered pass
+            DockElement renderTarget = visualizationMode == DockDropVisualizationMode.ALL_ZONES ? null : activeTarget;
+            long zoneSet = router.getBuildCount();
+            if (!dropZonesOverlay.isRendered(zoneSet, visualizationMode, renderTarget)) {
+                dropZonesOverlay.beginZones(zoneSet, visualizationMode, renderTarget);
+                for (int i = router.getZoneStart(host); i < router.getZoneEnd(host); i++) {
+                    DockElement target = zones.getTarget(i);
+                    boolean visualized = switch (visualizationMode) {
+                        case ALL_ZONES -> true;
+                        case SUBTREE -> target != null && isDescendantOf(target, activeTarget);
+                        default -> target == activeTarget;
+                    };
+                    if (visualized) {
+                        dropZonesOverlay.addZone(zones.getMinX(i) - offsetX, zones.getMinY(i) - offsetY,
+                            zones.getMaxX(i) - offsetX, zones.getMaxY(i) - offsetY);
+                    }
+                }
+                dropZonesOverlay.endZones();
+            }
+        } else {
+            dropZonesOverlay.hide();
+        }
+
+        if (visualizationMode == DockDropVisualizationMode.OFF) {
+            dropIndicator.hide();
+            return;
+        }
+        dropIndicator.show(zones.getMinX(activeIndex) - offsetX, zones.getMinY(activeIndex) - offsetY,
+            zones.getMaxX(activeIndex) - offsetX, zones.getMaxY(activeIndex) - offsetY,
+            zones.getResolvedInsertLineX() - offsetX);
+    }
+
+    /**
+     * Returns the drop-routing host of this window.
+     *
+     * @return drop host, or {@code null} while the window is not showing
+     */
+    public DockDropRouter.Host getDropHost() {
+        if (stage == null || !stage.isShowing() || stage.getScene() == null) {
+            return null;
+        }
+        return new DockDropRouter.Host(this, stage.getScene(), floatingLayoutEngine, floatingGraph, false);
+    }
+
     /**
      * Hides floating-window drop preview visuals.
      */
@@ -979,6 +1142,115 @@ public final class DockFloatingWindow {
         stage.close();
     }
 
+    /**
+     * Marks this window as managed by a pool, so hiding it keeps its stage for the next {@link #show(Stage)}.
+     * Leaving the pool drops a kept stage.
+     */
+    void setOwnerPool(DockFloatingWindowPool ownerPool) {
+        this.ownerPool = ownerPool;
+        if (ownerPool == null) {
+            retainedStage = null;
+        }
+    }
+
+    DockFloatingWindowPool getOwnerPool() {
+        return ownerPool;
+    }
+
+    /**
+     * Builds the hidden stage up front, unless this window already has one for the owner stage.
+     */
+    void prepareStage(Stage ownerStage) {
+        if (stage != null) {
+            return;
+        }
+        if (retainedStage == null || retainedStage.getOwner() != ownerStage) {
+            retainedStage = createStage(ownerStage);
+        }
+    }
+
+    /**
+     * Returns whether a hidden stage for the owner stage is kept for the next {@link #show(Stage)}.
+     */
+    boolean hasRetainedStage(Stage ownerStage) {
+        return retainedStage != null && retainedStage.getOwner() == ownerStage;
+    }
+
+    /**
+     * Resets the state and settings of a closed, empty window to the constructor defaults so the pool can hand it
+     * out again; the stage is kept.
+     */
+    void recycle() {
+        onAttachRequested = null;
+        onWindowClosed = null;
+        onWindowActivated = null;
+        onCloseRequested = null;
+        onNodeCloseRequest = null;
+        onNodeFloatRequest = null;
+        onNodePinToSideBarRequest = null;
+        onAlwaysOnTopChanged = null;
+        snapPeerWindowsSupplier = null;
+        primaryDockNode = null;
+        preferredX = null;
+        preferredY = null;
+        preferredWidth = DEFAULT_WIDTH;
+        preferredHeight = DEFAULT_HEIGHT;
+        restoreWidth = DEFAULT_WIDTH;
+        restoreHeight = DEFAULT_HEIGHT;
+        hasRestoreBounds = false;
+        alwaysOnTop = true;
+        floatingGraph.setLocked(false);
+        setTextResolver(null);
+        setPinButtonMode(null);
+        setPinLockedBehavior(null);
+        setPinToggleEnabled(true);
+        updatePinButtonState();
+        setSnappingEnabled(false);
+        setSnapDistance(DEFAULT_SNAP_DISTANCE);
+        setSnapTargets(null);
+        if (titleBarContextMenu != null) {
+            titleBarContextMenu.hide();
+            titleBarContextMenu = createTitleBarContextMenu();
+        }
+        rebuildScheduler.flush();
+        floatingLayoutEngine.clearCache();
+        layoutContainer.getChildren().clear();
+    }
+
+    /**
+     * Puts a layout subtree into this empty, recycled window and gives it a new ID and title prefix.
+     */
+    void adopt(DockElement floatingRoot, String titlePrefix) {
+        DockElement rootElement = Objects.requireNonNull(floatingRoot, "floatingRoot");
+        DockNode representative = findFirstDockNode(rootElement);
+        Objects.requireNonNull(representative, "floatingRoot must contain at least one DockNode");
+        if (!isEmpty() || isShowing()) {
+            throw new IllegalStateException("Only a hidden, empty floating window can adopt a layout");
+        }
+        id = UUID.randomUUID().toString();
+        this.titlePrefix = resolveTitlePrefix(titlePrefix);
+        primaryDockNode = representative;
+        floatingGraph.setRoot(rootElement);
+    }
+
+    private Stage reuseRetainedStage(Stage ownerStage) {
+        Stage window = retainedStage;
+        retainedStage = null;
+        // The owner of a stage cannot change once it has been set
+        if (window == null || window.getOwner() != ownerStage) {
+            return null;
+        }
+        window.setMaximized(false);
+        window.setWidth(preferredWidth);
+        window.setHeight(preferredHeight);
+        window.setAlwaysOnTop(alwaysOnTop);
+        applyWindowPosition(window, ownerStage);
+        refreshTitleBarLocalization();
+        updateMaximizeButtonState(window);
+        updatePinButtonVisibility();
+        return window;
+    }
+
     private Stage createStage(Stage ownerStage) {
         Stage window = new Stage(StageStyle.UNDECORATED);
         if (ownerStage != null) {
@@ -1017,6 +1289,18 @@ public final class DockFloatingWindow {
         });
         window.maximizedProperty().addListener((obs, oldValue, newValue) -> updateMaximizeButtonState(window));
         updateMaximizeButtonState(window);
+        InvalidationListener screenBoundsListener = observable -> {
+            if (onScreenBoundsChanged != null) {
+                onScreenBoundsChanged.run();
+            }
+        };
+        window.xProperty().addListener(screenBoundsListener);
+        window.yProperty().addListener(screenBoundsListener);
+        window.widthProperty().addListener(screenBoundsListener);
+        window.heightProperty().addListener(screenBoundsListener);
+        window.showingProperty().addListener(screenBoundsListener);
+        scene.xProperty().addListener(screenBoundsListener);
+        scene.yProperty().addListener(screenBoundsListener);
         window.setOnCloseRequest(event -> {
             if (!canProcessCloseRequest()) {
                 event.consume();
@@ -1267,6 +1551,8 @@ public final class DockFloatingWindow {
         hideTitleBarContextMenu();
         titleBarDragActive = false;
         awaitingMaximizedRestoreDrag = false;
+        closeSnapSession();
+        moveScheduler.flush();
         if (!isPrimaryTitleBarPress(event, window)) {
             return;
         }
@@ -1306,119 +1592,103 @@ public final class DockFloatingWindow {
         }
         double requestedX = event.getScreenX() - dragOffsetX;
         double requestedY = event.getScreenY() - dragOffsetY;
-        Point2D snappedPosition = resolveSnappedDragPosition(window, requestedX, requestedY, event.getScreenX(), event.getScreenY());
-        window.setX(snappedPosition.getX());
-        window.setY(snappedPosition.getY());
+        DockFloatingSnapSession session = resolveSnapSession(window, false);
+        if (session == null) {
+            moveScheduler.requestMove(window, requestedX, requestedY);
+            return;
+        }
+        double windowWidth = window.getWidth();
+        double windowHeight = window.getHeight();
+        session.updateActiveScreens(event.getScreenX(), event.getScreenY(), requestedX, requestedY, windowWidth, windowHeight);
+        moveScheduler.requestMove(
+            window,
+            session.snap(DockFloatingSnapSession.DRAG_X, requestedX, requestedY, requestedY + windowHeight),
+            session.snap(DockFloatingSnapSession.DRAG_Y, requestedY, requestedX, requestedX + windowWidth)
+        );
     }
 
-    private Point2D resolveSnappedDragPosition(
-        Stage window,
-        double requestedX,
-        double requestedY,
-        double pointerScreenX,
-        double pointerScreenY
-    ) {
-        if (!snappingEnabled || snapDistance <= 0.0 || window == null || snapTargets.isEmpty()) {
-            return new Point2D(requestedX, requestedY);
+    /**
+     * Returns the snap session of the current drag or resize, building it on the first move and again after a peer
+     * window, the owner window or the screen configuration changed.
+     */
+    private DockFloatingSnapSession resolveSnapSession(Stage window, boolean resize) {
+        if (!isResizeSnappingActive(window)) {
+            return null;
         }
-        List<Double> xCandidates = new ArrayList<>();
-        List<Double> yCandidates = new ArrayList<>();
-        collectSnapCandidates(window, requestedX, requestedY, pointerScreenX, pointerScreenY, xCandidates, yCandidates);
-        if (xCandidates.isEmpty() && yCandidates.isEmpty()) {
-            return new Point2D(requestedX, requestedY);
+        if (snapSession != null && snapSession.isValidFor(resize, window.getWidth(), window.getHeight())) {
+            return snapSession;
         }
-        return snapEngine.snap(requestedX, requestedY, snapDistance, xCandidates, yCandidates);
+        closeSnapSession();
+        snapSession = buildSnapSession(window, resize);
+        snapSessionBuildCount++;
+        return snapSession;
     }
 
-    private void collectSnapCandidates(
-        Stage window,
-        double requestedX,
-        double requestedY,
-        double pointerScreenX,
-        double pointerScreenY,
-        List<Double> xCandidates,
-        List<Double> yCandidates
-    ) {
-        if (window == null || xCandidates == null || yCandidates == null) {
-            return;
-        }
-        double windowWidth = window.getWidth();
-        double windowHeight = window.getHeight();
+    private DockFloatingSnapSession buildSnapSession(Stage window, boolean resize) {
+        Rectangle2D[] screenBounds = new Rectangle2D[0];
+        Rectangle2D[] screenVisualBounds = new Rectangle2D[0];
+        int primaryScreenIndex = -1;
         if (snapTargets.contains(DockFloatingSnapTarget.SCREEN)) {
-            snapEngine.addAlignmentCandidates(
-                resolveScreenSnapBounds(
-                    requestedX,
-                    requestedY,
-                    pointerScreenX,
-                    pointerScreenY,
-                    windowWidth,
-                    windowHeight
-                ),
-                windowWidth,
-                windowHeight,
-                xCandidates,
-                yCandidates
-            );
+            List<Screen> screens = Screen.getScreens();
+            screenBounds = new Rectangle2D[screens.size()];
+            screenVisualBounds = new Rectangle2D[screens.size()];
+            for (int i = 0; i < screens.size(); i++) {
+                screenBounds[i] = screens.get(i).getBounds();
+                screenVisualBounds[i] = screens.get(i).getVisualBounds();
+            }
+            primaryScreenIndex = screens.indexOf(Screen.getPrimary());
         }
+
+        List<Rectangle2D> overlapTargets = new ArrayList<>();
+        List<Stage> watchedStages = new ArrayList<>();
         if (snapTargets.contains(DockFloatingSnapTarget.MAIN_WINDOW)) {
             Rectangle2D mainWindowBounds = resolveMainWindowSnapBounds(window);
             if (mainWindowBounds != null) {
-                snapEngine.addOverlapAwareCandidates(
-                    List.of(mainWindowBounds),
-                    requestedX,
-                    requestedY,
-                    windowWidth,
-                    windowHeight,
-                    snapDistance,
-                    xCandidates,
-                    yCandidates
-                );
+                overlapTargets.add(mainWindowBounds);
+            }
+            if (window.getOwner() instanceof Stage ownerStage) {
+                watchedStages.add(ownerStage);
             }
         }
         if (snapTargets.contains(DockFloatingSnapTarget.FLOATING_WINDOWS)) {
-            snapEngine.addOverlapAwareCandidates(
-                resolvePeerFloatingSnapBounds(window),
-                requestedX,
-                requestedY,
-                windowWidth,
-                windowHeight,
-                snapDistance,
-                xCandidates,
-                yCandidates
-            );
+            overlapTargets.addAll(resolvePeerFloatingSnapBounds(window));
+            watchedStages.addAll(resolvePeerFloatingSnapStages(window));
+        }
+
+        DockFloatingSnapSession session = new DockFloatingSnapSession(
+            resize,
+            window.getWidth(),
+            window.getHeight(),
+            snapDistance,
+            screenBounds,
+            screenVisualBounds,
+            primaryScreenIndex,
+            overlapTargets
+        );
+        if (screenBounds.length > 0) {
+            session.watch(Screen.getScreens());
+        }
+        for (Stage watchedStage : watchedStages) {
+            session.watch(watchedStage.xProperty());
+            session.watch(watchedStage.yProperty());
+            session.watch(watchedStage.widthProperty());
+            session.watch(watchedStage.heightProperty());
         }
+        return session;
     }
 
-    private List<Rectangle2D> resolveScreenSnapBounds(
-        double requestedX,
-        double requestedY,
-        double pointerScreenX,
-        double pointerScreenY,
-        double windowWidth,
-        double windowHeight
-    ) {
-        List<Screen> screens = Screen.getScreensForRectangle(pointerScreenX, pointerScreenY, 1.0, 1.0);
-        if (screens.isEmpty()) {
-            screens = Screen.getScreensForRectangle(
-                requestedX,
-                requestedY,
-                Math.max(1.0, windowWidth),
-                Math.max(1.0, windowHeight)
-            );
-        }
-        if (screens.isEmpty()) {
-            Screen primaryScreen = Screen.getPrimary();
-            if (primaryScreen != null) {
-                screens = List.of(primaryScreen);
-            }
-        }
-        List<Rectangle2D> bounds = new ArrayList<>();
-        for (Screen screen : screens) {
-            if (screen != null) {
-                bounds.add(screen.getVisualBounds());
-            }
+    private void closeSnapSession() {
+        if (snapSession != null) {
+            snapSession.close();
+            snapSession = null;
         }
-        return bounds;
+    }
+
+    /**
+     * Returns how often a snap session was built; used to verify that moves reuse the session of their drag.
+     */
+    int getSnapSessionBuildCount() {
+        return snapSessionBuildCount;
     }
 
     private Rectangle2D resolveMainWindowSnapBounds(Stage window) {
@@ -1448,7 +1718,7 @@ public final class DockFloatingWindow {
         double leftInset = Math.max(0.0, sceneBounds.getMinX() - stageBounds.getMinX());
         double rightInset = Math.max(0.0, stageBounds.getMaxX() - sceneBounds.getMaxX());
         double bottomInset = Math.max(0.0, stageBounds.getMaxY() - sceneBounds.getMaxY());
-        double inferredShadowInset = snapEngine.inferShadowInset(leftInset, rightInset, bottomInset);
+        double inferredShadowInset = DockFloatingSnapSession.inferShadowInset(leftInset, rightInset, bottomInset);
         if (inferredShadowInset <= 0.0) {
             return stageBounds;
         }
@@ -1493,9 +1763,25 @@ public final class DockFloatingWindow {
         return peerBounds;
     }
 
+    private List<Stage> resolvePeerFloatingSnapStages(Stage window) {
+        List<Stage> peerStages = new ArrayList<>();
+        List<DockFloatingWindow> peerWindows = snapPeerWindowsSupplier == null ? null : snapPeerWindowsSupplier.get();
+        if (peerWindows == null) {
+            return peerStages;
+        }
+        for (DockFloatingWindow peerWindow : peerWindows) {
+            if (peerWindow != null && peerWindow != this && peerWindow.stage != null && peerWindow.stage != window) {
+                peerStages.add(peerWindow.stage);
+            }
+        }
+        return peerStages;
+    }
+
     private void onSceneMouseReleased(MouseEvent event) {
         titleBarDragActive = false;
         awaitingMaximizedRestoreDrag = false;
+        closeSnapSession();
+        moveScheduler.flush();
     }
 
     private void onTitleBarMouseClicked(MouseEvent event, Stage window) {
@@ -1674,6 +1960,8 @@ public final class DockFloatingWindow {
             }
             resizing = false;
             activeResizeMask = 0;
+            closeSnapSession();
+            moveScheduler.flush();
             updateResizeCursor(root, window, event);
         });
     }
@@ -1728,6 +2016,7 @@ public final class DockFloatingWindow {
     }
 
     private void beginResize(MouseEvent event, Stage window, int mask) {
+        moveScheduler.flush();
         resizing = true;
         activeResizeMask = mask;
         resizeStartScreenX = event.getScreenX();
@@ -1736,6 +2025,7 @@ public final class DockFloatingWindow {
         resizeStartWindowY = window.getY();
         resizeStartWindowWidth = window.getWidth();
         resizeStartWindowHeight = window.getHeight();
+        closeSnapSession();
         rememberRestoreBounds(window);
         event.consume();
     }
@@ -1793,10 +2083,13 @@ public final class DockFloatingWindow {
             minHeight
         );
 
-        window.setX(resizeBounds.x());
-        window.setY(resizeBounds.y());
-        window.setWidth(resizeBounds.width());
-        window.setHeight(resizeBounds.height());
+        moveScheduler.requestBounds(
+            window,
+            resizeBounds.x(),
+            resizeBounds.y(),
+            resizeBounds.width(),
+            resizeBounds.height()
+        );
     }
 
     private ResizeBounds resolveSnappedResizeBounds(
@@ -1824,23 +2117,12 @@ public final class DockFloatingWindow {
             return new ResizeBounds(requestedX, requestedY, requestedWidth, requestedHeight);
         }
 
-        List<Double> leftEdgeCandidates = new ArrayList<>();
-        List<Double> rightEdgeCandidates = new ArrayList<>();
-        List<Double> topEdgeCandidates = new ArrayList<>();
-        List<Double> bottomEdgeCandidates = new ArrayList<>();
-        collectResizeSnapEdgeCandidates(
-            window,
-            requestedX,
-            requestedY,
-            requestedWidth,
-            requestedHeight,
-            pointerScreenX,
-            pointerScreenY,
-            leftEdgeCandidates,
-            rightEdgeCandidates,
-            topEdgeCandidates,
-            bottomEdgeCandidates
-        );
+        DockFloatingSnapSession session = resolveSnapSession(window, true);
+        session.updateActiveScreens(pointerScreenX, pointerScreenY, requestedX, requestedY, requestedWidth, requestedHeight);
+        double verticalStart = requestedY;
+        double verticalEnd = requestedY + requestedHeight;
+        double horizontalStart = requestedX;
+        double horizontalEnd = requestedX + requestedWidth;
 
         double left = requestedX;
         double right = requestedX + requestedWidth;
@@ -1848,24 +2130,24 @@ public final class DockFloatingWindow {
         double bottom = requestedY + requestedHeight;
 
         if ((activeResizeMask & RESIZE_LEFT) != 0) {
-            left = snapEngine.snapAxis(left, snapDistance, leftEdgeCandidates);
+            left = session.snap(DockFloatingSnapSession.RESIZE_LEFT, left, verticalStart, verticalEnd);
             if (right - left < minWidth) {
                 left = right - minWidth;
             }
         } else if ((activeResizeMask & RESIZE_RIGHT) != 0) {
-            right = snapEngine.snapAxis(right, snapDistance, rightEdgeCandidates);
+            right = session.snap(DockFloatingSnapSession.RESIZE_RIGHT, right, verticalStart, verticalEnd);
             if (right - left < minWidth) {
                 right = left + minWidth;
             }
         }
 
         if ((activeResizeMask & RESIZE_TOP) != 0) {
-            top = snapEngine.snapAxis(top, snapDistance, topEdgeCandidates);
+            top = session.snap(DockFloatingSnapSession.RESIZE_TOP, top, horizontalStart, horizontalEnd);
             if (bottom - top < minHeight) {
                 top = bottom - minHeight;
             }
         } else if ((activeResizeMask & RESIZE_BOTTOM) != 0) {
-            bottom = snapEngine.snapAxis(bottom, snapDistance, bottomEdgeCandidates);
+            bottom = session.snap(DockFloatingSnapSession.RESIZE_BOTTOM, bottom, horizontalStart, horizontalEnd);
             if (bottom - top < minHeight) {
                 bottom = top + minHeight;
             }
@@ -1881,78 +2163,6 @@ public final class DockFloatingWindow {
             && !snapTargets.isEmpty();
     }
 
-    private void collectResizeSnapEdgeCandidates(
-        Stage window,
-        double requestedX,
-        double requestedY,
-        double requestedWidth,
-        double requestedHeight,
-        double pointerScreenX,
-        double pointerScreenY,
-        List<Double> leftEdgeCandidates,
-        List<Double> rightEdgeCandidates,
-        List<Double> topEdgeCandidates,
-        List<Double> bottomEdgeCandidates
-    ) {
-        if (window == null
-            || leftEdgeCandidates == null
-            || rightEdgeCandidates == null
-            || topEdgeCandidates == null
-            || bottomEdgeCandidates == null
-            || requestedWidth <= 0.0
-            || requestedHeight <= 0.0) {
-            return;
-        }
-
-        if (snapTargets.contains(DockFloatingSnapTarget.SCREEN)) {
-            snapEngine.addEdgeCandidates(
-                resolveScreenSnapBounds(
-                    requestedX,
-                    requestedY,
-                    pointerScreenX,
-                    pointerScreenY,
-                    requestedWidth,
-                    requestedHeight
-                ),
-                leftEdgeCandidates,
-                rightEdgeCandidates,
-                topEdgeCandidates,
-                bottomEdgeCandidates
-            );
-        }
-        if (snapTargets.contains(DockFloatingSnapTarget.MAIN_WINDOW)) {
-            Rectangle2D mainWindowBounds = resolveMainWindowSnapBounds(window);
-            if (mainWindowBounds != null) {
-                snapEngine.addOverlapAwareEdgeCandidates(
-                    List.of(mainWindowBounds),
-                    requestedX,
-                    requestedY,
-                    requestedWidth,
-                    requestedHeight,
-                    snapDistance,
-                    leftEdgeCandidates,
-                    rightEdgeCandidates,
-                    topEdgeCandidates,
-                    bottomEdgeCandidates
-                );
-            }
-        }
-        if (snapTargets.contains(DockFloatingSnapTarget.FLOATING_WINDOWS)) {
-            snapEngine.addOverlapAwareEdgeCandidates(
-                resolvePeerFloatingSnapBounds(window),
-                requestedX,
-                requestedY,
-                requestedWidth,
-                requestedHeight,
-                snapDistance,
-                leftEdgeCandidates,
-                rightEdgeCandidates,
-                topEdgeCandidates,
-                bottomEdgeCandidates
-            );
-        }
-    }
-
     private double resolveMinimumWindowWidth(Stage window) {
         double minimum = MIN_WINDOW_WIDTH;
         if (window != null) {
@@ -2033,9 +2243,11 @@ public final class DockFloatingWindow {
             return;
         }
         Node layout = floatingLayoutEngine.buildSceneGraph();
-        layoutContainer.getChildren().clear();
-        if (layout != null) {
-            layoutContainer.getChildren().add(layout);
+        // Keep a reused layout root attached so its views and DockNode content hosts stay in the scene.
+        if (layout == null) {
+            layoutContainer.getChildren().clear();
+        } else if (layoutContainer.getChildren().size() != 1 || layoutContainer.getChildren().getFirst() != layout) {
+            layoutContainer.getChildren().setAll(layout);
         }
         refreshTabSelectionListeners();
         updateInnerNodeActionVisibility();
@@ -2309,6 +2521,11 @@ public final class DockFloatingWindow {
     private static class FloatingDropIndicator extends Pane {
         private final Rectangle indicator;
         private final Line insertLine;
+        private double shownMinX = Double.NaN;
+        private double shownMinY = Double.NaN;
+        private double shownMaxX = Double.NaN;
+        private double shownMaxY = Double.NaN;
+        private double shownInsertLineX = Double.NaN;
 
         FloatingDropIndicator() {
             setMouseTransparent(true);
@@ -2333,9 +2550,27 @@ public final class DockFloatingWindow {
                 hide();
                 return;
             }
+            show(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY(),
+                insertLineX != null ? insertLineX : Double.NaN);
+        }
 
-            Point2D topLeft = sceneToLocal(bounds.getMinX(), bounds.getMinY());
-            Point2D bottomRight = sceneToLocal(bounds.getMaxX(), bounds.getMaxY());
+        void show(double minX, double minY, double maxX, double maxY, double insertLineX) {
+            if (isVisible()
+                && Double.compare(shownMinX, minX) == 0
+                && Double.compare(shownMinY, minY) == 0
+                && Double.compare(shownMaxX, maxX) == 0
+                && Double.compare(shownMaxY, maxY) == 0
+                && Double.compare(shownInsertLineX, insertLineX) == 0) {
+                return;
+            }
+            shownMinX = minX;
+            shownMinY = minY;
+            shownMaxX = maxX;
+            shownMaxY = maxY;
+            shownInsertLineX = insertLineX;
+
+            Point2D topLeft = sceneToLocal(minX, minY);
+            Point2D bottomRight = sceneToLocal(maxX, maxY);
             double x = topLeft.getX();
             double y = topLeft.getY();
             double width = Math.max(1, bottomRight.getX() - topLeft.getX());
@@ -2345,12 +2580,14 @@ public final class DockFloatingWindow {
             indicator.setY(y);
             indicator.setWidth(width);
             indicator.setHeight(height);
-            setVisible(true);
-            super.toFront();
+            if (!isVisible()) {
+                setVisible(true);
+                super.toFront();
+            }
 
-            if (insertLineX != null) {
-                Point2D lineTop = sceneToLocal(insertLineX, bounds.getMinY());
-                Point2D lineBottom = sceneToLocal(insertLineX, bounds.getMaxY());
+            if (!Double.isNaN(insertLineX)) {
+                Point2D lineTop = sceneToLocal(insertLineX, minY);
+                Point2D lineBottom = sceneToLocal(insertLineX, maxY);
                 insertLine.setStartX(lineTop.getX());
                 insertLine.setStartY(lineTop.getY());
                 insertLine.setEndX(lineBottom.getX());
@@ -2367,8 +2604,20 @@ public final class DockFloatingWindow {
         }
     }
 
+    /**
+     * Overlay that renders the candidate drop zones of this window. Zone rectangles are pooled and reused across
+     * render passes, like the main-layout overlay of {@link DockDragService}.
+     */
     private static class FloatingDropZonesOverlay extends Pane {
+        private static final long NO_ZONE_SET = -1;
+        private static final Color ZONE_FILL = Color.web("#3a7bd5", 0.10);
+        private static final Color ZONE_STROKE = Color.web("#3a7bd5", 0.25);
+
         private final List<Rectangle> rectangles = new ArrayList<>();
+        private int usedRectangles;
+        private long renderedZoneSet = NO_ZONE_SET;
+        private DockDropVisualizationMode renderedMode;
+        private DockElement renderedTarget;
 
         FloatingDropZonesOverlay() {
             setMouseTransparent(true);
@@ -2376,45 +2625,77 @@ public final class DockFloatingWindow {
         }
 
         void showZones(List<DockDropZone> zones) {
-            getChildren().clear();
-            rectangles.clear();
-            if (zones == null || zones.isEmpty()) {
-                hide();
+            beginZones(NO_ZONE_SET, null, null);
+            if (zones != null) {
+                for (DockDropZone zone : zones) {
+                    Bounds bounds = zone.getBounds();
+                    if (bounds != null) {
+                        addZone(bounds.getMinX(), bounds.getMinY(), bounds.getMaxX(), bounds.getMaxY());
+                    }
+                }
+            }
+            endZones();
+        }
+
+        boolean isRendered(long zoneSet, DockDropVisualizationMode mode, DockElement target) {
+            return zoneSet != NO_ZONE_SET
+                && renderedZoneSet == zoneSet
+                && renderedMode == mode
+                && renderedTarget == target;
+        }
+
+        void beginZones(long zoneSet, DockDropVisualizationMode mode, DockElement target) {
+            usedRectangles = 0;
+            renderedZoneSet = zoneSet;
+            renderedMode = mode;
+            renderedTarget = target;
+        }
+
+        void addZone(double minX, double minY, double maxX, double maxY) {
+            if (maxX <= minX || maxY <= minY) {
                 return;
             }
+            Point2D topLeft = sceneToLocal(minX, minY);
+            Point2D bottomRight = sceneToLocal(maxX, maxY);
 
-            for (DockDropZone zone : zones) {
-                Bounds bounds = zone.getBounds();
-                if (bounds == null || bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
-                    continue;
-                }
-                Point2D topLeft = sceneToLocal(bounds.getMinX(), bounds.getMinY());
-                Point2D bottomRight = sceneToLocal(bounds.getMaxX(), bounds.getMaxY());
-                double x = topLeft.getX();
-                double y = topLeft.getY();
-                double width = Math.max(1, bottomRight.getX() - topLeft.getX());
-                double height = Math.max(1, bottomRight.getY() - topLeft.getY());
-
-                Rectangle rect = new Rectangle(x, y, width, height);
-                rect.setFill(Color.web("#3a7bd5", 0.10));
-                rect.setStroke(Color.web("#3a7bd5", 0.25));
+            Rectangle rect;
+            if (usedRectangles < rectangles.size()) {
+                rect = rectangles.get(usedRectangles);
+            } else {
+                rect = new Rectangle();
+                rect.setFill(ZONE_FILL);
+                rect.setStroke(ZONE_STROKE);
                 rect.setStrokeWidth(1);
                 rectangles.add(rect);
+                getChildren().add(rect);
             }
+            usedRectangles++;
+            rect.setX(topLeft.getX());
+            rect.setY(topLeft.getY());
+            rect.setWidth(Math.max(1, bottomRight.getX() - topLeft.getX()));
+            rect.setHeight(Math.max(1, bottomRight.getY() - topLeft.getY()));
+            rect.setVisible(true);
+        }
 
-            if (rectangles.isEmpty()) {
-                hide();
+        void endZones() {
+            for (int i = usedRectangles; i < rectangles.size(); i++) {
+                rectangles.get(i).setVisible(false);
+            }
+            if (usedRectangles == 0) {
+                setVisible(false);
                 return;
             }
-            getChildren().addAll(rectangles);
-            setVisible(true);
-            super.toFront();
+            if (!isVisible()) {
+                setVisible(true);
+                super.toFront();
+            }
         }
 
         void hide() {
             setVisible(false);
-            getChildren().clear();
-            rectangles.clear();
+            renderedZoneSet = NO_ZONE_SET;
+            renderedMode = null;
+            renderedTarget = null;
         }
     }
 
@@ -2505,18 +2786,24 @@ public final class DockFloatingWindow {
         }
         if (titleBarContextMenu != null) {
             titleBarContextMenu.hide();
+        }
+        if (ownerPool != null) {
+            retainedStage = hiddenStage;
+        } else {
             titleBarContextMenu = null;
+            attachButton = null;
+            closeButton = null;
+            pinButton = null;
+            pinTooltip = null;
+            maximizeButton = null;
+            maximizeTooltip = null;
         }
-        attachButton = null;
-        closeButton = null;
-        pinButton = null;
-        pinTooltip = null;
-        maximizeButton = null;
-        maximizeTooltip = null;
 
         stage = null;
         resizing = false;
         activeResizeMask = 0;
+        closeSnapSession();
+        moveScheduler.cancel();
         suppressCloseRequestHandling = false;
         if (!suppressCloseNotification && onWindowClosed != null) {
             onWindowClosed.accept(this);
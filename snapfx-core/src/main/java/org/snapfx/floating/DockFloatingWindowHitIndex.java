@@ -0,0 +1,223 @@
+package org.snapfx.floating;
+
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+import javafx.geometry.Bounds;
+
+import java.util.Arrays;
+import java.util.Objects;
+import java.util.function.Function;
+
+/**
+ * Screen-space index of floating-window bounds for topmost-window point queries.
+ * <p>
+ * The index follows the z-order of the floating-window list, where the last window is the front-most one. SnapFX
+ * moves a window to the end of that list whenever it gains focus or is brought to front. Changes to the list and to
+ * a window's stage position, size or showing state only mark the index dirty; the next query rebuilds it.
+ * </p>
+ * <p>
+ * The rebuild splits the screen into vertical slabs at every window's left and right edge, and each slab into cells
+ * at the top and bottom edges of the windows covering it. Each cell stores its front-most window, so
+ * {@link #findTopWindowAt(double, double)} runs two binary searches and allocates nothing. Window edges count as
+ * inside, like {@link DockFloatingWindow#containsScreenPoint(double, double)}.
+ * </p>
+ */
+public final class DockFloatingWindowHitIndex {
+    private static final int NO_WINDOW = -1;
+    private static final double[] NO_EDGES = new double[0];
+
+    private final ObservableList<DockFloatingWindow> floatingWindows;
+    private final Function<DockFloatingWindow, Bounds> boundsResolver;
+    private final Runnable invalidator = this::invalidate;
+    private boolean dirty = true;
+    private long buildCount;
+
+    private DockFloatingWindow[] windows = new DockFloatingWindow[0];
+    private double[] slabEdges = NO_EDGES;
+    private double[][] cellEdges = new double[0][];
+    private int[][] cellTopWindows = new int[0][];
+
+    /**
+     * Creates an index over a floating-window list.
+     *
+     * @param floatingWindows floating windows in z-order, back-most first
+     */
+    public DockFloatingWindowHitIndex(ObservableList<DockFloatingWindow> floatingWindows) {
+        this(floatingWindows, DockFloatingWindow::resolveScreenBounds);
+    }
+
+    DockFloatingWindowHitIndex(
+        ObservableList<DockFloatingWindow> floatingWindows,
+        Function<DockFloatingWindow, Bounds> boundsResolver
+    ) {
+        this.floatingWindows = Objects.requireNonNull(floatingWindows, "floatingWindows");
+        this.boundsResolver = Objects.requireNonNull(boundsResolver, "boundsResolver");
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
+            floatingWindow.setOnScreenBoundsChanged(invalidator);
+        }
+        floatingWindows.addListener((ListChangeListener<DockFloatingWindow>) change -> {
+            while (change.next()) {
+                for (DockFloatingWindow removed : change.getRemoved()) {
+                    if (!floatingWindows.contains(removed)) {
+                        removed.setOnScreenBoundsChanged(null);
+                    }
+                }
+                for (DockFloatingWindow added : change.getAddedSubList()) {
+                    added.setOnScreenBoundsChanged(invalidator);
+                }
+            }
+            invalidate();
+        });
+    }
+
+    /**
+     * Marks the index dirty; the next query rebuilds it.
+     */
+    public void invalidate() {
+        dirty = true;
+    }
+
+    /**
+     * Returns the front-most floating window whose content contains the screen point.
+     *
+     * @param screenX screen x-coordinate
+     * @param screenY screen y-coordinate
+     * @return top floating window at the point, or {@code null}
+     */
+    public DockFloatingWindow findTopWindowAt(double screenX, double screenY) {
+        if (dirty) {
+            rebuild();
+        }
+        int slabCount = slabEdges.length - 1;
+        if (slabCount < 1 || !(screenX >= slabEdges[0]) || !(screenX <= slabEdges[slabCount])) {
+            return null;
+        }
+        int slab = Math.min(floorIndex(slabEdges, screenX), slabCount - 1);
+        int top = findTopInSlab(slab, screenY);
+        if (slab > 0 && screenX == slabEdges[slab]) {
+            // A point on a slab edge also lies on the right edge of the previous slab.
+            top = Math.max(top, findTopInSlab(slab - 1, screenY));
+        }
+        return top == NO_WINDOW ? null : windows[top];
+    }
+
+    /**
+     * Returns how often the index was rebuilt.
+     *
+     * @return rebuild count
+     */
+    public long getBuildCount() {
+        return buildCount;
+    }
+
+    private int findTopInSlab(int slab, double screenY) {
+        double[] edges = cellEdges[slab];
+        int cellCount = edges.length - 1;
+        if (cellCount < 1 || !(screenY >= edges[0]) || !(screenY <= edges[cellCount])) {
+            return NO_WINDOW;
+        }
+        int[] topWindows = cellTopWindows[slab];
+        int cell = Math.min(floorIndex(edges, screenY), cellCount - 1);
+        int top = topWindows[cell];
+        if (cell > 0 && screenY == edges[cell]) {
+            top = Math.max(top, topWindows[cell - 1]);
+        }
+        return top;
+    }
+
+    private void rebuild() {
+        dirty = false;
+        buildCount++;
+        int count = floatingWindows.size();
+        DockFloatingWindow[] indexedWindows = new DockFloatingWindow[count];
+        double[] minX = new double[count];
+        double[] minY = new double[count];
+        double[] maxX = new double[count];
+        double[] maxY = new double[count];
+        int indexed = 0;
+        for (DockFloatingWindow floatingWindow : floatingWindows) {
+            Bounds bounds = floatingWindow == null ? null : boundsResolver.apply(floatingWindow);
+            if (bounds == null || bounds.isEmpty()) {
+                continue;
+            }
+            indexedWindows[indexed] = floatingWindow;
+            minX[indexed] = bounds.getMinX();
+            minY[indexed] = bounds.getMinY();
+            maxX[indexed] = bounds.getMaxX();
+            maxY[indexed] = bounds.getMaxY();
+            indexed++;
+        }
+        windows = Arrays.copyOf(indexedWindows, indexed);
+
+        double[] xEdges = new double[indexed * 2];
+        for (int i = 0; i < indexed; i++) {
+            xEdges[2 * i] = minX[i];
+            xEdges[2 * i + 1] = maxX[i];
+        }
+        slabEdges = sortedDistinct(xEdges, xEdges.length);
+        int slabCount = Math.max(0, slabEdges.length - 1);
+        cellEdges = new double[slabCount][];
+        cellTopWindows = new int[slabCount][];
+
+        double[] yEdges = new double[indexed * 2];
+        for (int slab = 0; slab < slabCount; slab++) {
+            double slabMin = slabEdges[slab];
+            double slabMax = slabEdges[slab + 1];
+            int yEdgeCount = 0;
+            for (int i = 0; i < indexed; i++) {
+                if (minX[i] <= slabMin && maxX[i] >= slabMax) {
+                    yEdges[yEdgeCount++] = minY[i];
+                    yEdges[yEdgeCount++] = maxY[i];
+                }
+            }
+            double[] edges = sortedDistinct(yEdges, yEdgeCount);
+            int cellCount = Math.max(0, edges.length - 1);
+            int[] topWindows = new int[cellCount];
+            for (int cell = 0; cell < cellCount; cell++) {
+                int top = NO_WINDOW;
+                for (int i = indexed - 1; i >= 0; i--) {
+                    if (minX[i] <= slabMin && maxX[i] >= slabMax
+                        && minY[i] <= edges[cell] && maxY[i] >= edges[cell + 1]) {
+                        top = i;
+                        break;
+                    }
+                }
+                topWindows[cell] = top;
+            }
+            cellEdges[slab] = edges;
+            cellTopWindows[slab] = topWindows;
+        }
+    }
+
+    private static double[] sortedDistinct(double[] values, int length) {
+        if (length == 0) {
+            return NO_EDGES;
+        }
+        double[] sorted = Arrays.copyOf(values, length);
+        Arrays.sort(sorted);
+        int distinct = 1;
+        for (int i = 1; i < length; i++) {
+            if (sorted[i] != sorted[distinct - 1]) {
+                sorted[distinct++] = sorted[i];
+            }
+        }
+        return Arrays.copyOf(sorted, distinct);
+    }
+
+    /**
+     * Returns the index of the last edge less than or equal to the value; the value must not be below the first edge.
+     */
+    private static int floorIndex(double[] edges, double value) {
+        int low = 0;
+        int high = edges.length - 1;
+        while (low < high) {
+            int mid = (low + high + 1) >>> 1;
+            if (edges[mid] <= value) {
+                low = mid;
+            } else {
+                high = mid - 1;
+            }
+        }
+        return low;
+    }
+}
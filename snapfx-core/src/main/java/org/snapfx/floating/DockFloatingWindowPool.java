@@ -0,0 +1,251 @@
+package org.snapfx.floating;
+
+import javafx.stage.Stage;
+import org.snapfx.dnd.DockDragService;
+import org.snapfx.model.DockElement;
+
+import java.util.ArrayDeque;
+import java.util.Deque;
+import java.util.List;
+import java.util.function.Consumer;
+
+/**
+ * Bounded pool of hidden floating windows that are reused instead of being rebuilt.
+ *
+ * <p>Pooling is opt-in: the pool keeps no windows until {@link #setCapacity(int)} is called with a positive
+ * capacity. Windows handed out by {@link #acquire(DockElement, String)} keep their stage, scene and title bar when
+ * they are closed. Once such a window is closed and empty, {@link #release(DockFloatingWindow)} resets it to the
+ * settings of a newly constructed window and keeps it for the next {@code acquire} call, so showing it again only
+ * re-shows the existing stage. A released window gets a new ID when it is reused; references to it should not be
+ * kept after it was released.</p>
+ *
+ * <p>{@link #warmUp()} pre-creates up to {@linkplain #setWarmUpCount(int) warm-up count} hidden windows with their
+ * stages already built for the {@linkplain #setOwnerStage(Stage) owner stage}. Every idle window with a stage is
+ * passed to the {@linkplain #setOnWindowPrepared(Consumer) prepared callback}, which can apply stylesheets and
+ * key filters to its scene before the window is shown. Idle windows the pool drops are passed to the
+ * {@linkplain #setOnWindowDiscarded(Consumer) discarded callback}.</p>
+ */
+public final class DockFloatingWindowPool {
+    private final DockDragService dragService;
+    private final Deque<DockFloatingWindow> idleWindows = new ArrayDeque<>();
+    private int capacity;
+    private int warmUpCount;
+    private Stage ownerStage;
+    private Consumer<DockFloatingWindow> onWindowPrepared;
+    private Consumer<DockFloatingWindow> onWindowDiscarded;
+    private long createdCount;
+    private long reusedCount;
+
+    /**
+     * Creates an empty pool with capacity zero.
+     *
+     * @param dragService drag service used by the floating windows this pool creates
+     */
+    public DockFloatingWindowPool(DockDragService dragService) {
+        this.dragService = dragService;
+    }
+
+    /**
+     * Sets how many idle windows the pool keeps. Lowering it drops the surplus idle windows.
+     *
+     * @param capacity maximum idle window count; {@code 0} disables pooling
+     */
+    public void setCapacity(int capacity) {
+        if (capacity < 0) {
+            throw new IllegalArgumentException("capacity must not be negative");
+        }
+        this.capacity = capacity;
+        while (idleWindows.size() > capacity) {
+            discard(idleWindows.removeLast());
+        }
+    }
+
+    /**
+     * Returns how many idle windows the pool keeps.
+     *
+     * @return maximum idle window count
+     */
+    public int getCapacity() {
+        return capacity;
+    }
+
+    /**
+     * Sets how many idle windows {@link #warmUp()} prepares, limited by the capacity.
+     *
+     * @param warmUpCount window count to prepare, {@code 0} to skip warm-up
+     */
+    public void setWarmUpCount(int warmUpCount) {
+        if (warmUpCount < 0) {
+            throw new IllegalArgumentException("warmUpCount must not be negative");
+        }
+        this.warmUpCount = warmUpCount;
+    }
+
+    /**
+     * Returns how many idle windows {@link #warmUp()} prepares.
+     *
+     * @return warm-up window count
+     */
+    public int getWarmUpCount() {
+        return warmUpCount;
+    }
+
+    /**
+     * Sets the stage that owns the floating windows. Idle stages built for another owner are rebuilt on the next
+     * warm-up or release, since a stage owner cannot change.
+     *
+     * @param ownerStage owner stage, or {@code null}
+     */
+    public void setOwnerStage(Stage ownerStage) {
+        this.ownerStage = ownerStage;
+    }
+
+    /**
+     * Sets the callback that receives each idle window after its stage was built or kept on release.
+     *
+     * @param onWindowPrepared callback receiving the idle window, or {@code null}
+     */
+    public void setOnWindowPrepared(Consumer<DockFloatingWindow> onWindowPrepared) {
+        this.onWindowPrepared = onWindowPrepared;
+    }
+
+    /**
+     * Sets the callback that receives each idle window the pool drops through {@link #setCapacity(int)} or
+     * {@link #clear()}, so bindings added by the {@linkplain #setOnWindowPrepared(Consumer) prepared callback} can be
+     * removed.
+     *
+     * @param onWindowDiscarded callback receiving the dropped window, or {@code null}
+     */
+    public void setOnWindowDiscarded(Consumer<DockFloatingWindow> onWindowDiscarded) {
+        this.onWindowDiscarded = onWindowDiscarded;
+    }
+
+    /**
+     * Returns a floating window for the layout subtree with the default title prefix, reusing an idle window when
+     * one is available.
+     *
+     * @param floatingRoot layout subtree used as floating root
+     * @return floating window hosting the subtree, not yet shown
+     */
+    public DockFloatingWindow acquire(DockElement floatingRoot) {
+        return acquire(floatingRoot, null);
+    }
+
+    /**
+     * Returns a floating window for the layout subtree, reusing an idle window when one is available. A reused
+     * window has the same settings as a newly constructed one.
+     *
+     * @param floatingRoot layout subtree used as floating root
+     * @param titlePrefix title prefix used for generated floating-window titles, or {@code null} for the default
+     * @return floating window hosting the subtree, not yet shown
+     */
+    public DockFloatingWindow acquire(DockElement floatingRoot, String titlePrefix) {
+        DockFloatingWindow window = idleWindows.pollFirst();
+        if (window == null) {
+            window = new DockFloatingWindow(floatingRoot, titlePrefix, dragService);
+            createdCount++;
+        } else {
+            window.adopt(floatingRoot, titlePrefix);
+            reusedCount++;
+        }
+        window.setOwnerPool(capacity > 0 ? this : null);
+        return window;
+    }
+
+    /**
+     * Returns a closed, empty window from {@link #acquire(DockElement, String)} to the pool.
+     *
+     * @param window window to release
+     * @return {@code true} when the pool keeps the window for reuse
+     */
+    public boolean release(DockFloatingWindow window) {
+        if (window == null || window.getOwnerPool() != this || idleWindows.contains(window)) {
+            return false;
+        }
+        if (idleWindows.size() >= capacity || !window.isEmpty() || window.isShowing()) {
+            window.setOwnerPool(null);
+            return false;
+        }
+        window.recycle();
+        prepare(window);
+        idleWindows.addFirst(window);
+        return true;
+    }
+
+    /**
+     * Pre-creates idle windows with built stages until the pool holds the warm-up count.
+     *
+     * @return number of windows created
+     */
+    public int warmUp() {
+        int target = Math.min(warmUpCount, capacity);
+        int created = 0;
+        for (DockFloatingWindow window : idleWindows) {
+            if (!window.hasRetainedStage(ownerStage)) {
+                prepare(window);
+            }
+        }
+        while (idleWindows.size() < target) {
+            DockFloatingWindow window = DockFloatingWindow.createShell(dragService);
+            window.setOwnerPool(this);
+            prepare(window);
+            idleWindows.addLast(window);
+            created++;
+        }
+        createdCount += created;
+        return created;
+    }
+
+    /**
+     * Drops all idle windows.
+     */
+    public void clear() {
+        while (!idleWindows.isEmpty()) {
+            discard(idleWindows.removeFirst());
+        }
+    }
+
+    /**
+     * Returns the idle windows, most recently released first.
+     *
+     * @return snapshot of the idle windows
+     */
+    public List<DockFloatingWindow> getIdleWindows() {
+        return List.copyOf(idleWindows);
+    }
+
+    /**
+     * Returns how many windows the pool constructed, including warm-up windows.
+     *
+     * @return created window count
+     */
+    public long getCreatedCount() {
+        return createdCount;
+    }
+
+    /**
+     * Returns how many {@link #acquire(DockElement, String)} calls reused an idle window.
+     *
+     * @return reused window count
+     */
+    public long getReusedCount() {
+        return reusedCount;
+    }
+
+    private void discard(DockFloatingWindow window) {
+        if (onWindowDiscarded != null) {
+            onWindowDiscarded.accept(window);
+        }
+        window.setOwnerPool(null);
+    }
+
+    private void prepare(DockFloatingWindow window) {
+        if (ownerStage == null) {
+            return;
+        }
+        window.prepareStage(ownerStage);
+        if (onWindowPrepared != null) {
+            onWindowPrepared.accept(window);
+        }
+    }
+}
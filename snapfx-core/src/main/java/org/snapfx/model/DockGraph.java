@@ -16,6 +16,8 @@ import javafx.geometry.Side;
 import java.util.ArrayList;
 import java.util.EnumMap;
 import java.util.List;
+import java.util.Objects;
+import java.util.function.Consumer;
 
 /**
  * Central data structure of the docking system.
@@ -42,12 +44,17 @@ public class DockGraph {
 
     private final BooleanProperty locked;
     private final LongProperty revision;
-    private final ObjectProperty<DockElement> root;
+    private final DeferrableRootProperty root;
     private final EnumMap<Side, ObservableList<DockNode>> sideBarNodes;
     private final EnumMap<Side, ObservableList<DockNode>> readOnlySideBarNodes;
     private final EnumMap<Side, BooleanProperty> sideBarPinnedOpen;
     private final EnumMap<Side, DoubleProperty> sideBarPanelWidths;
+    private final DockGraphIndex index;
+    private final DockGraphChangeLog changeLog;
     private long layoutIdCounter = 0; // Counter for generating unique layout IDs
+    private int batchDepth;
+    private boolean revisionPendingInBatch;
+    private DockElement rootAtBatchStart;
 
     /**
      * Creates an empty dock graph with default sidebar state.
@@ -55,14 +62,17 @@ public class DockGraph {
     public DockGraph() {
         this.locked = new SimpleBooleanProperty(false);
         this.revision = new SimpleLongProperty(0);
-        this.root = new SimpleObjectProperty<>(null);
+        this.root = new DeferrableRootProperty();
         this.sideBarNodes = new EnumMap<>(Side.class);
         this.readOnlySideBarNodes = new EnumMap<>(Side.class);
         this.sideBarPinnedOpen = new EnumMap<>(Side.class);
         this.sideBarPanelWidths = new EnumMap<>(Side.class);
+        this.changeLog = new DockGraphChangeLog(this);
+        this.index = new DockGraphIndex(this, changeLog);
         for (Side side : Side.values()) {
             ObservableList<DockNode> nodes = FXCollections.observableArrayList();
             sideBarNodes.put(side, nodes);
+            index.trackSideBar(nodes);
             readOnlySideBarNodes.put(side, FXCollections.unmodifiableObservableList(nodes));
             sideBarPinnedOpen.put(side, new SimpleBooleanProperty(false));
             sideBarPanelWidths.put(side, new SimpleDoubleProperty(DEFAULT_SIDE_BAR_PANEL_WIDTH));
@@ -83,7 +93,103 @@ public class DockGraph {
     }
 
     private void bumpRevision() {
+        index.resolvePendingRemovals();
+        if (batchDepth > 0) {
+            revisionPendingInBatch = true;
+            return;
+        }
         revision.set(revision.get() + 1);
+        changeLog.publish();
+    }
+
+    /**
+     * Subscribes to structured change events of the main layout.
+     * <p>
+     * Each notification carries every change of one structural operation, or of one whole batch when called inside
+     * {@link #batch(Consumer)}. Tab selection and divider changes outside of operations are delivered as they happen.
+     * Changes are only recorded while at least one listener is registered.
+     * </p>
+     *
+     * @param listener listener receiving the changes of one operation or batch
+     */
+    public void addChangeListener(Consumer<List<DockGraphChange>> listener) {
+        Objects.requireNonNull(listener, "listener");
+        if (changeLog.addListener(listener)) {
+            index.setStateTracking(true);
+        }
+    }
+
+    /**
+     * Removes a listener registered with {@link #addChangeListener(Consumer)}.
+     *
+     * @param listener listener to remove
+     */
+    public void removeChangeListener(Consumer<List<DockGraphChange>> listener) {
+        if (listener != null && changeLog.removeListener(listener)) {
+            index.setStateTracking(false);
+        }
+    }
+
+    /**
+     * Runs several mutations as one batch.
+     * Revision and root notifications are deferred until the outermost batch closes, which then emits at most one
+     * root change and one revision increment. Batches can be nested.
+     *
+     * @param mutations mutations to apply to this graph
+     */
+    public void batch(Consumer<DockGraph> mutations) {
+        Objects.requireNonNull(mutations, "mutations");
+        beginUpdate();
+        try {
+            mutations.accept(this);
+        } finally {
+            endUpdate();
+        }
+    }
+
+    /**
+     * Opens a batch update. Every call must be paired with {@link #endUpdate()}.
+     * Prefer {@link #batch(Consumer)} when the mutations fit into one callback.
+     */
+    public void beginUpdate() {
+        if (batchDepth++ == 0) {
+            rootAtBatchStart = root.get();
+            revisionPendingInBatch = false;
+        }
+    }
+
+    /**
+     * Closes a batch update opened with {@link #beginUpdate()}.
+     * Closing the outermost batch publishes the deferred root change and revision increment.
+     */
+    public void endUpdate() {
+        if (batchDepth == 0) {
+            return;
+        }
+        batchDepth--;
+        if (batchDepth > 0) {
+            return;
+        }
+        boolean rootChanged = root.get() != rootAtBatchStart;
+        boolean revisionPending = revisionPendingInBatch;
+        rootAtBatchStart = null;
+        revisionPendingInBatch = false;
+        if (rootChanged) {
+            root.fireDeferredChange();
+        }
+        if (revisionPending) {
+            bumpRevision();
+        }
+        changeLog.publish();
+    }
+
+    /**
+     * Returns whether a batch update is currently open.
+     *
+     * @return {@code true} while inside {@link #batch(Consumer)} or between begin/end update calls
+     */
+    public boolean isBatchUpdating() {
+        return batchDepth > 0;
     }
 
     /**
@@ -115,7 +221,9 @@ public class DockGraph {
             // Assign layout IDs to all nodes in the tree
             assignLayoutIds(newRoot);
         }
+        DockElement oldRoot = root.get();
         root.set(newRoot);
+        index.rootChanged(oldRoot, newRoot);
         bumpRevision();
     }
 
@@ -386,7 +494,7 @@ public class DockGraph {
             return;
         }
 
-        if (isInMainTree(node)) {
+        if (isInMainLayout(node)) {
             rememberLastKnownPlacementForSideBarRestore(node);
             undock(node);
         }
@@ -998,7 +1106,10 @@ public class DockGraph {
         }
 
         // Find target again in case it moved due to flattening
-        DockElement currentTarget = findElementById(getRoot(), targetId);
+        DockElement currentTarget = findElementByLayoutId(targetId);
+        if (!isInMainLayout(currentTarget)) {
+            currentTarget = null;
+        }
 
         // If target is no longer in the tree (very unlikely but possible),
         // dock to root instead
@@ -1013,30 +1124,6 @@ public class DockGraph {
         dock(node, currentTarget, position, tabIndex);
     }
 
-    /**
-     * Finds an element by ID in the tree.
-     */
-    private DockElement findElementById(DockElement root, String id) {
-        if (root == null || id == null) {
-            return null;
-        }
-
-        if (id.equals(root.getId())) {
-            return root;
-        }
-
-        if (root instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                DockElement found = findElementById(child, id);
-                if (found != null) {
-                    return found;
-                }
-            }
-        }
-
-        return null;
-    }
-
     /**
      * Checks if the ancestorCandidate is an ancestor of the element in the tree.
      * @param ancestorCandidate The potential ancestor element
@@ -1160,27 +1247,34 @@ public class DockGraph {
      * @return matching element, or {@code null}
      */
     public DockElement findElementByLayoutId(String layoutId) {
-        if (layoutId == null) {
-            return null;
-        }
+        return index.findByLayoutId(layoutId);
+    }
 
-        DockElement mainMatch = findElementById(getRoot(), layoutId);
-        if (mainMatch != null) {
-            return mainMatch;
-        }
+    /**
+     * Returns all dock nodes with the given logical dock-node ID across main layout and sidebars.
+     *
+     * @param dockNodeId logical dock-node ID to look up
+     * @return matching nodes, or an empty list
+     */
+    public List<DockNode> findDockNodes(String dockNodeId) {
+        return index.findByDockNodeId(dockNodeId);
+    }
 
-        for (Side side : Side.values()) {
-            ObservableList<DockNode> entries = sideBarNodes.get(side);
-            if (entries == null) {
-                continue;
-            }
-            for (DockNode node : entries) {
-                if (layoutId.equals(node.getId())) {
-                    return node;
-                }
-            }
+    /**
+     * Returns whether the element is part of the main layout tree. Pinned sidebar nodes are not part of it.
+     *
+     * @param element element to check
+     * @return {@code true} when the element is reachable from the current root
+     */
+    public boolean isInMainLayout(DockElement element) {
+        if (element == null || !index.isIndexed(element)) {
+            return false;
         }
-        return null;
+        DockElement top = element;
+        while (top.getParent() != null) {
+            top = top.getParent();
+        }
+        return top == getRoot();
     }
 
     /**
@@ -1190,36 +1284,7 @@ public class DockGraph {
      * @return total count across all containers
      */
     public int getDockNodeCount(String dockNodeId) {
-        if (dockNodeId == null) {
-            return 0;
-        }
-        int count = countDockNodeId(getRoot(), dockNodeId);
-        for (Side side : Side.values()) {
-            ObservableList<DockNode> entries = sideBarNodes.get(side);
-            if (entries == null || entries.isEmpty()) {
-                continue;
-            }
-            for (DockNode node : entries) {
-                if (dockNodeId.equals(node.getDockNodeId())) {
-                    count++;
-                }
-            }
-        }
-        return count;
-    }
-
-    private int countDockNodeId(DockElement root, String dockNodeId) {
-        int count = 0;
-        if (root instanceof DockNode node) {
-            if (dockNodeId.equals(node.getDockNodeId())) {
-                count++;
-            }
-        } else if (root instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                count += countDockNodeId(child, dockNodeId);
-            }
-        }
-        return count;
+        return index.findByDockNodeId(dockNodeId).size();
     }
 
     private void clearSideBarsInternal(boolean resetVisibility) {
@@ -1294,30 +1359,6 @@ public class DockGraph {
         return null;
     }
 
-    private boolean isInMainTree(DockElement target) {
-        if (target == null) {
-            return false;
-        }
-        return target == getRoot() || findInTree(getRoot(), target);
-    }
-
-    private boolean findInTree(DockElement current, DockElement target) {
-        if (current == null || target == null) {
-            return false;
-        }
-        if (current == target) {
-            return true;
-        }
-        if (current instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                if (findInTree(child, target)) {
-                    return true;
-                }
-            }
-        }
-        return false;
-    }
-
     /**
      * Captures main-layout restore anchors before moving a node into a sidebar.
      * The algorithm prefers a neighbor-relative placement, and falls back to the parent container if needed.
@@ -1386,11 +1427,31 @@ public class DockGraph {
         DockElement target = node.getLastKnownTarget();
         DockPosition position = node.getLastKnownPosition();
         Integer tabIndex = node.getLastKnownTabIndex();
-        if (target == null || position == null || !isInMainTree(target)) {
+        if (target == null || position == null || !isInMainLayout(target)) {
             return false;
         }
 
         dock(node, target, position, position == DockPosition.CENTER ? tabIndex : null);
         return true;
     }
+
+    /**
+     * Root property that holds back change notifications while a batch update is open.
+     * The value itself is updated immediately so model operations inside the batch see the current root.
+     */
+    private final class DeferrableRootProperty extends SimpleObjectProperty<DockElement> {
+        @Override
+        protected void fireValueChangedEvent() {
+            if (batchDepth > 0) {
+                return;
+            }
+            super.fireValueChangedEvent();
+        }
+
+        private void fireDeferredChange() {
+            // Revalidate first so the next set() outside the batch notifies again.
+            get();
+            super.fireValueChangedEvent();
+        }
+    }
 }
@@ -0,0 +1,27 @@
+package org.snapfx.model;
+
+/**
+ * Describes one change of the main layout of a {@link DockGraph}.
+ *
+ * <p>Parents are {@code null} and indexes are {@code -1} for the root position or when the element is not part of
+ * the main layout on that side of the change. For {@link DockGraphChangeType#SELECTION_CHANGED} the indexes hold the
+ * previous and new selected tab index of the tab pane. For {@link DockGraphChangeType#DIVIDER_CHANGED} both indexes
+ * hold the index of the moved divider; its position can be read from the split pane. For both of these, old and new
+ * parent are the container's current parent.</p>
+ *
+ * @param type kind of change
+ * @param element element the change applies to
+ * @param oldParent parent before the change, or {@code null}
+ * @param oldIndex index in the old parent before the change, or {@code -1}
+ * @param newParent parent after the change, or {@code null}
+ * @param newIndex index in the new parent after the change, or {@code -1}
+ */
+public record DockGraphChange(
+    DockGraphChangeType type,
+    DockElement element,
+    DockContainer oldParent,
+    int oldIndex,
+    DockContainer newParent,
+    int newIndex
+) {
+}
@@ -0,0 +1,189 @@
+package org.snapfx.model;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+/**
+ * Collects {@link DockGraphChange} events of a {@link DockGraph} and delivers them to subscribers.
+ *
+ * <p>Structural changes are recorded per element as a before-state from the first child-list event; the after-state
+ * is read from the tree when the changes are published, so intermediate steps of one operation or batch collapse
+ * into a single change per element. Nothing is recorded while there are no subscribers.</p>
+ */
+final class DockGraphChangeLog {
+    private final DockGraph graph;
+    private final List<Consumer<List<DockGraphChange>>> listeners = new ArrayList<>();
+    private final Map<DockElement, TouchedElement> touchedElements = new IdentityHashMap<>();
+    private final List<TouchedElement> touchedOrder = new ArrayList<>();
+    private final List<DockGraphChange> stateChanges = new ArrayList<>();
+
+    DockGraphChangeLog(DockGraph graph) {
+        this.graph = graph;
+    }
+
+    boolean isRecording() {
+        return !listeners.isEmpty();
+    }
+
+    /**
+     * Adds a subscriber and returns whether recording just started.
+     */
+    boolean addListener(Consumer<List<DockGraphChange>> listener) {
+        boolean wasRecording = isRecording();
+        listeners.add(listener);
+        return !wasRecording;
+    }
+
+    /**
+     * Removes a subscriber and returns whether recording just stopped.
+     */
+    boolean removeListener(Consumer<List<DockGraphChange>> listener) {
+        boolean wasRecording = isRecording();
+        listeners.remove(listener);
+        if (wasRecording && !isRecording()) {
+            clear();
+            return true;
+        }
+        return false;
+    }
+
+    /**
+     * Records the before-state of an element touched by a structural change. The first record per publish wins.
+     */
+    void recordTouched(DockElement element, boolean existedBefore, DockContainer oldParent, int oldIndex) {
+        if (element == null || touchedElements.containsKey(element)) {
+            return;
+        }
+        TouchedElement touched = new TouchedElement(element, existedBefore, oldParent, existedBefore ? oldIndex : -1);
+        touchedElements.put(element, touched);
+        touchedOrder.add(touched);
+    }
+
+    void recordSelectionChanged(DockTabPane tabPane, int oldIndex, int newIndex) {
+        for (int i = 0; i < stateChanges.size(); i++) {
+            DockGraphChange pending = stateChanges.get(i);
+            if (pending.type() == DockGraphChangeType.SELECTION_CHANGED && pending.element() == tabPane) {
+                oldIndex = pending.oldIndex();
+                stateChanges.remove(i);
+                break;
+            }
+        }
+        if (oldIndex != newIndex) {
+            stateChanges.add(new DockGraphChange(
+                DockGraphChangeType.SELECTION_CHANGED, tabPane, tabPane.getParent(), oldIndex, tabPane.getParent(), newIndex
+            ));
+        }
+        publishStateChangeIfIdle();
+    }
+
+    void recordDividerChanged(DockSplitPane splitPane, int dividerIndex) {
+        for (DockGraphChange pending : stateChanges) {
+            if (pending.type() == DockGraphChangeType.DIVIDER_CHANGED
+                && pending.element() == splitPane
+                && pending.oldIndex() == dividerIndex) {
+                return;
+            }
+        }
+        stateChanges.add(new DockGraphChange(
+            DockGraphChangeType.DIVIDER_CHANGED, splitPane, splitPane.getParent(), dividerIndex, splitPane.getParent(), dividerIndex
+        ));
+        publishStateChangeIfIdle();
+    }
+
+    /**
+     * Delivers all pending changes as one list to every subscriber.
+     */
+    void publish() {
+        if (touchedOrder.isEmpty() && stateChanges.isEmpty()) {
+            return;
+        }
+        List<DockGraphChange> changes = drain();
+        if (changes.isEmpty()) {
+            return;
+        }
+        for (Consumer<List<DockGraphChange>> listener : List.copyOf(listeners)) {
+            listener.accept(changes);
+        }
+    }
+
+    private void publishStateChangeIfIdle() {
+        // Selection and divider updates that happen inside a structural operation wait for its revision bump
+        if (!graph.isBatchUpdating() && touchedOrder.isEmpty()) {
+            publish();
+        }
+    }
+
+    private List<DockGraphChange> drain() {
+        List<TouchedElement> touched = List.copyOf(touchedOrder);
+        List<DockGraphChange> pendingStateChanges = List.copyOf(stateChanges);
+        clear();
+
+        List<DockGraphChange> changes = new ArrayList<>(touched.size() + pendingStateChanges.size());
+        Map<DockElement, Boolean> donorContainers = new IdentityHashMap<>();
+        for (TouchedElement element : touched) {
+            element.resolveAfterState(graph);
+            if (element.existedBefore && element.existsAfter && element.oldParent != null) {
+                donorContainers.put(element.oldParent, Boolean.TRUE);
+            }
+        }
+        for (TouchedElement element : touched) {
+            DockGraphChangeType type = element.resolveType(donorContainers);
+            if (type != null) {
+                changes.add(new DockGraphChange(
+                    type, element.element, element.oldParent, element.oldIndex, element.newParent, element.newIndex
+                ));
+            }
+        }
+        for (DockGraphChange stateChange : pendingStateChanges) {
+            // Selection or divider updates of containers that left the layout in the same operation are noise
+            if (graph.isInMainLayout(stateChange.element())) {
+                changes.add(stateChange);
+            }
+        }
+        return List.copyOf(changes);
+    }
+
+    private void clear() {
+        touchedElements.clear();
+        touchedOrder.clear();
+        stateChanges.clear();
+    }
+
+    private static final class TouchedElement {
+        private final DockElement element;
+        private final boolean existedBefore;
+        private final DockContainer oldParent;
+        private final int oldIndex;
+        private boolean existsAfter;
+        private DockContainer newParent;
+        private int newIndex = -1;
+
+        private TouchedElement(DockElement element, boolean existedBefore, DockContainer oldParent, int oldIndex) {
+            this.element = element;
+            this.existedBefore = existedBefore;
+            this.oldParent = oldParent;
+            this.oldIndex = oldIndex;
+        }
+
+        private void resolveAfterState(DockGraph graph) {
+            existsAfter = graph.isInMainLayout(element);
+            if (existsAfter && element.getParent() != null) {
+                newParent = element.getParent();
+                newIndex = newParent.getChildren().indexOf(element);
+            }
+        }
+
+        private DockGraphChangeType resolveType(Map<DockElement, Boolean> donorContainers) {
+            if (existedBefore && existsAfter) {
+                return oldParent == newParent && oldIndex == newIndex ? null : DockGraphChangeType.MOVED;
+            }
+            if (existedBefore) {
+                return donorContainers.containsKey(element) ? DockGraphChangeType.FLATTENED : DockGraphChangeType.REMOVED;
+            }
+            return existsAfter ? DockGraphChangeType.INSERTED : null;
+        }
+    }
+}
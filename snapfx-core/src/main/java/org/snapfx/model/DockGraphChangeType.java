@@ -0,0 +1,19 @@
+package org.snapfx.model;
+
+/**
+ * Kind of structural or state change reported by {@link DockGraphChange}.
+ */
+public enum DockGraphChangeType {
+    /** Element (with its subtree) entered the main layout. */
+    INSERTED,
+    /** Element (with its subtree) left the main layout. */
+    REMOVED,
+    /** Element stayed in the main layout but changed its parent or index. */
+    MOVED,
+    /** Container left the main layout after its children were moved up into another container. */
+    FLATTENED,
+    /** Selected tab index of a tab pane changed. */
+    SELECTION_CHANGED,
+    /** Divider position of a split pane changed. */
+    DIVIDER_CHANGED
+}
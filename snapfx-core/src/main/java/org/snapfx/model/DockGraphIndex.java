@@ -0,0 +1,347 @@
+package org.snapfx.model;
+
+import javafx.beans.property.DoubleProperty;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.collections.ListChangeListener;
+import javafx.collections.ObservableList;
+
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
+/**
+ * Incrementally maintained lookup index of a {@link DockGraph}.
+ *
+ * <p>Maps layout IDs to elements and dock-node IDs to nodes across the main tree and the sidebars. A child-list
+ * listener on every indexed container keeps the maps current while elements are added, removed or flattened.
+ * Containers update parent links only after mutating their child lists, so removed elements are collected and
+ * resolved lazily once the parent links are consistent again: an element that is still attached (it was moved, not
+ * removed) stays indexed.</p>
+ *
+ * <p>While the {@link DockGraphChangeLog} is recording, the same listeners report the before-state of every touched
+ * element, and tab selection and split divider properties of indexed containers are observed as well.</p>
+ */
+final class DockGraphIndex {
+    private final DockGraph graph;
+    private final DockGraphChangeLog changeLog;
+    private final Map<String, DockElement> elementsByLayoutId = new HashMap<>();
+    private final Map<String, List<DockNode>> nodesByDockNodeId = new HashMap<>();
+    private final Map<DockElement, String> indexedLayoutIds = new IdentityHashMap<>();
+    private final Map<DockContainer, ListChangeListener<DockElement>> containerListeners = new IdentityHashMap<>();
+    private final Map<DockElement, Boolean> pendingRemovals = new IdentityHashMap<>();
+    private final Map<DockTabPane, ChangeListener<Number>> selectionListeners = new IdentityHashMap<>();
+    private final Map<DockSplitPane, DividerObserver> dividerObservers = new IdentityHashMap<>();
+    private final Map<DockSplitPane, Boolean> dividerResyncQueue = new IdentityHashMap<>();
+    private boolean stateTracking;
+
+    DockGraphIndex(DockGraph graph, DockGraphChangeLog changeLog) {
+        this.graph = graph;
+        this.changeLog = changeLog;
+    }
+
+    /**
+     * Registers a sidebar list so pinned nodes are indexed as well.
+     */
+    void trackSideBar(ObservableList<DockNode> entries) {
+        entries.addListener((ListChangeListener<DockNode>) change -> {
+            while (change.next()) {
+                for (DockNode removed : change.getRemoved()) {
+                    pendingRemovals.put(removed, Boolean.TRUE);
+                }
+                for (DockNode added : change.getAddedSubList()) {
+                    indexSubtree(added);
+                }
+            }
+        });
+    }
+
+    void rootChanged(DockElement oldRoot, DockElement newRoot) {
+        if (oldRoot == newRoot) {
+            return;
+        }
+        if (changeLog.isRecording()) {
+            changeLog.recordTouched(oldRoot, true, null, -1);
+            changeLog.recordTouched(newRoot, false, null, -1);
+        }
+        if (oldRoot != null) {
+            pendingRemovals.put(oldRoot, Boolean.TRUE);
+        }
+        if (newRoot != null) {
+            indexSubtree(newRoot);
+        }
+    }
+
+    DockElement findByLayoutId(String layoutId) {
+        if (layoutId == null) {
+            return null;
+        }
+        resolvePendingRemovals();
+        DockElement element = elementsByLayoutId.get(layoutId);
+        if (element == null) {
+            return null;
+        }
+        if (!isAttached(element)) {
+            unindexSubtree(element);
+            return null;
+        }
+        if (!layoutId.equals(element.getId())) {
+            // The layout ID was reassigned after indexing; move the entry to its current key
+            elementsByLayoutId.remove(layoutId, element);
+            String currentId = element.getId();
+            indexedLayoutIds.put(element, currentId == null ? "" : currentId);
+            if (currentId != null) {
+                elementsByLayoutId.put(currentId, element);
+            }
+            return null;
+        }
+        return element;
+    }
+
+    List<DockNode> findByDockNodeId(String dockNodeId) {
+        if (dockNodeId == null) {
+            return List.of();
+        }
+        resolvePendingRemovals();
+        List<DockNode> nodes = nodesByDockNodeId.get(dockNodeId);
+        if (nodes == null) {
+            return List.of();
+        }
+        List<DockNode> attached = new ArrayList<>(nodes.size());
+        for (DockNode node : nodes) {
+            if (isAttached(node)) {
+                attached.add(node);
+            }
+        }
+        return attached;
+    }
+
+    boolean isIndexed(DockElement element) {
+        resolvePendingRemovals();
+        return element != null && indexedLayoutIds.containsKey(element);
+    }
+
+    int size() {
+        resolvePendingRemovals();
+        return indexedLayoutIds.size();
+    }
+
+    /**
+     * Unindexes every collected removal that is no longer attached to the root or a sidebar.
+     */
+    void resolvePendingRemovals() {
+        if (!pendingRemovals.isEmpty()) {
+            List<DockElement> removals = new ArrayList<>(pendingRemovals.keySet());
+            pendingRemovals.clear();
+            for (DockElement removed : removals) {
+                unindexSubtree(removed);
+            }
+        }
+        if (!dividerResyncQueue.isEmpty()) {
+            // Split panes update their divider list after the child list, so observe the new dividers afterwards
+            List<DockSplitPane> splitPanes = new ArrayList<>(dividerResyncQueue.keySet());
+            dividerResyncQueue.clear();
+            for (DockSplitPane splitPane : splitPanes) {
+                DividerObserver observer = dividerObservers.get(splitPane);
+                if (observer != null) {
+                    observer.sync();
+                }
+            }
+        }
+    }
+
+    /**
+     * Starts or stops observing selection and divider state of all indexed containers.
+     */
+    void setStateTracking(boolean enabled) {
+        if (stateTracking == enabled) {
+            return;
+        }
+        stateTracking = enabled;
+        for (DockContainer container : List.copyOf(containerListeners.keySet())) {
+            if (enabled) {
+                observeContainerState(container);
+            } else {
+                unobserveContainerState(container);
+            }
+        }
+    }
+
+    private void indexSubtree(DockElement element) {
+        if (element == null || indexedLayoutIds.containsKey(element)) {
+            // Already indexed elements keep their subtree current through their own listeners
+            return;
+        }
+        pendingRemovals.remove(element);
+        String layoutId = element.getId();
+        indexedLayoutIds.put(element, layoutId == null ? "" : layoutId);
+        if (layoutId != null) {
+            elementsByLayoutId.put(layoutId, element);
+        }
+        if (element instanceof DockNode node && node.getDockNodeId() != null) {
+            nodesByDockNodeId.computeIfAbsent(node.getDockNodeId(), key -> new ArrayList<>(1)).add(node);
+        }
+        if (element instanceof DockContainer container) {
+            ListChangeListener<DockElement> listener = change -> onContainerChildrenChanged(container, change);
+            containerListeners.put(container, listener);
+            container.getChildren().addListener(listener);
+            if (stateTracking) {
+                observeContainerState(container);
+            }
+            for (DockElement child : container.getChildren()) {
+                indexSubtree(child);
+            }
+        }
+    }
+
+    private void unindexSubtree(DockElement element) {
+        if (element == null || !indexedLayoutIds.containsKey(element) || isAttached(element)) {
+            return;
+        }
+        String layoutId = indexedLayoutIds.remove(element);
+        if (!layoutId.isEmpty()) {
+            elementsByLayoutId.remove(layoutId, element);
+        }
+        if (element instanceof DockNode node && node.getDockNodeId() != null) {
+            List<DockNode> nodes = nodesByDockNodeId.get(node.getDockNodeId());
+            if (nodes != null) {
+                nodes.removeIf(candidate -> candidate == node);
+                if (nodes.isEmpty()) {
+                    nodesByDockNodeId.remove(node.getDockNodeId());
+                }
+            }
+        }
+        if (element instanceof DockContainer container) {
+            ListChangeListener<DockElement> listener = containerListeners.remove(container);
+            if (listener != null) {
+                container.getChildren().removeListener(listener);
+            }
+            unobserveContainerState(container);
+            for (DockElement child : container.getChildren()) {
+                unindexSubtree(child);
+            }
+        }
+    }
+
+    private void onContainerChildrenChanged(DockContainer container, ListChangeListener.Change<? extends DockElement> change) {
+        boolean recording = changeLog.isRecording();
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                if (recording) {
+                    for (int i = change.getFrom(); i < change.getTo(); i++) {
+                        changeLog.recordTouched(change.getList().get(change.getPermutation(i)), true, container, i);
+                    }
+                }
+                continue;
+            }
+            int removedIndex = change.getFrom();
+            for (DockElement removed : change.getRemoved()) {
+                if (recording) {
+                    changeLog.recordTouched(removed, true, container, removedIndex++);
+                }
+                pendingRemovals.put(removed, Boolean.TRUE);
+            }
+            for (DockElement added : change.getAddedSubList()) {
+                if (recording) {
+                    recordAdded(container, added);
+                }
+                indexSubtree(added);
+            }
+        }
+        if (stateTracking && container instanceof DockSplitPane splitPane) {
+            dividerResyncQueue.put(splitPane, Boolean.TRUE);
+        }
+    }
+
+    private void recordAdded(DockContainer container, DockElement added) {
+        // Parent links are updated after the list change, so a moved element still points to its old parent here
+        DockContainer previousParent = added.getParent();
+        if (previousParent != null && previousParent != container && containerListeners.containsKey(previousParent)) {
+            changeLog.recordTouched(added, true, previousParent, previousParent.getChildren().indexOf(added));
+        } else {
+            changeLog.recordTouched(added, false, null, -1);
+        }
+    }
+
+    private void observeContainerState(DockContainer container) {
+        if (container instanceof DockTabPane tabPane && !selectionListeners.containsKey(tabPane)) {
+            ChangeListener<Number> listener = (obs, oldValue, newValue) ->
+                changeLog.recordSelectionChanged(tabPane, oldValue.intValue(), newValue.intValue());
+            selectionListeners.put(tabPane, listener);
+            tabPane.selectedIndexProperty().addListener(listener);
+        } else if (container instanceof DockSplitPane splitPane && !dividerObservers.containsKey(splitPane)) {
+            DividerObserver observer = new DividerObserver(splitPane);
+            dividerObservers.put(splitPane, observer);
+            observer.sync();
+        }
+    }
+
+    private void unobserveContainerState(DockContainer container) {
+        if (container instanceof DockTabPane tabPane) {
+            ChangeListener<Number> listener = selectionListeners.remove(tabPane);
+            if (listener != null) {
+                tabPane.selectedIndexProperty().removeListener(listener);
+            }
+        } else if (container instanceof DockSplitPane splitPane) {
+            DividerObserver observer = dividerObservers.remove(splitPane);
+            if (observer != null) {
+                observer.detach();
+            }
+            dividerResyncQueue.remove(splitPane);
+        }
+    }
+
+    /**
+     * Returns whether the element is reachable from the current root or pinned in a sidebar.
+     * Walks parent links only, so the cost is bounded by the tree depth.
+     */
+    private boolean isAttached(DockElement element) {
+        DockElement top = element;
+        while (top.getParent() != null) {
+            top = top.getParent();
+        }
+        if (top == graph.getRoot()) {
+            return true;
+        }
+        return top == element && element instanceof DockNode node && graph.isPinnedToSideBar(node);
+    }
+
+    /**
+     * Observes the divider positions of one split pane for the change log.
+     */
+    private final class DividerObserver implements ChangeListener<Number> {
+        private final DockSplitPane splitPane;
+        private final List<DoubleProperty> observed = new ArrayList<>();
+
+        private DividerObserver(DockSplitPane splitPane) {
+            this.splitPane = splitPane;
+        }
+
+        private void sync() {
+            detach();
+            for (DoubleProperty divider : splitPane.getDividerPositions()) {
+                divider.addListener(this);
+                observed.add(divider);
+            }
+        }
+
+        private void detach() {
+            for (DoubleProperty divider : observed) {
+                divider.removeListener(this);
+            }
+            observed.clear();
+        }
+
+        @Override
+        public void changed(ObservableValue<? extends Number> observable, Number oldValue, Number newValue) {
+            for (int i = 0; i < observed.size(); i++) {
+                if (observed.get(i) == observable) {
+                    changeLog.recordDividerChanged(splitPane, i);
+                    return;
+                }
+            }
+        }
+    }
+}
@@ -3,8 +3,11 @@ package org.snapfx.model;
 import javafx.beans.property.*;
 import javafx.scene.Node;
 import javafx.scene.image.Image;
+import javafx.scene.layout.StackPane;
 
+import java.util.Objects;
 import java.util.UUID;
+import java.util.function.Supplier;
 
 /**
  * Wrapper class for a dockable JavaFX node.
@@ -34,6 +37,8 @@ public class DockNode implements DockElement {
     private final ObjectProperty<Image> icon;
     private final BooleanProperty closeable;
     private DockContainer parent;
+    private StackPane contentHost;
+    private Supplier<? extends Node> contentSupplier;
 
     // Store last known position for restore
     private DockElement lastKnownTarget;
@@ -76,6 +81,25 @@ public class DockNode implements DockElement {
         this.closeable = new SimpleBooleanProperty(true);
     }
 
+    /**
+     * Creates a DockNode whose content is created on first display.
+     * <p>
+     * The supplier runs once, on the FX thread, when the node is first shown by a layout view, a selected tab, a
+     * sidebar panel or a floating window, or when {@link #ensureContentCreated()} is called. Until then
+     * {@link #getContent()} returns {@code null}, so layouts with many hidden panels only pay for what is visible.
+     * </p>
+     *
+     * @param dockNodeId type-based identifier for this node
+     * @param contentSupplier creates the JavaFX content node
+     * @param title the title shown in headers and tabs
+     * @return dock node with deferred content
+     */
+    public static DockNode withContentSupplier(String dockNodeId, Supplier<? extends Node> contentSupplier, String title) {
+        DockNode node = new DockNode(dockNodeId, (Node) null, title);
+        node.setContentSupplier(contentSupplier);
+        return node;
+    }
+
     // Getters
 
     /**
@@ -138,9 +162,75 @@ public class DockNode implements DockElement {
     }
 
     public void setContent(Node content) {
+        contentSupplier = null;
         this.content.set(content);
     }
 
+    /**
+     * Releases the current content and defers new content to a supplier.
+     * <p>
+     * The supplier runs once, the next time the node is shown or {@link #ensureContentCreated()} is called. Until then
+     * {@link #getContent()} returns {@code null}.
+     * </p>
+     *
+     * @param contentSupplier creates the JavaFX content node
+     */
+    public void setContentSupplier(Supplier<? extends Node> contentSupplier) {
+        Objects.requireNonNull(contentSupplier, "contentSupplier");
+        content.set(null);
+        this.contentSupplier = contentSupplier;
+    }
+
+    /**
+     * Returns whether the content exists, that is whether the node has no pending content supplier.
+     *
+     * @return {@code false} while the content supplier has not run yet
+     */
+    public boolean isContentCreated() {
+        return contentSupplier == null;
+    }
+
+    /**
+     * Runs the pending content supplier, if any, and returns the content.
+     *
+     * @return current content, or {@code null} if the node has none
+     */
+    public Node ensureContentCreated() {
+        Supplier<? extends Node> supplier = contentSupplier;
+        if (supplier != null) {
+            contentSupplier = null;
+            content.set(supplier.get());
+        }
+        return content.get();
+    }
+
+    /**
+     * Returns the stable pane that parents this node's content.
+     *
+     * <p>The host is created on first access and always holds the current {@link #getContent() content}. Views,
+     * sidebar panels and floating windows place this host instead of the content itself, so layout rebuilds and
+     * moves re-parent only the host and never the application content.</p>
+     *
+     * @return content host of this node
+     */
+    public StackPane getContentHost() {
+        if (contentHost == null) {
+            StackPane host = new StackPane();
+            if (content.get() != null) {
+                host.getChildren().add(content.get());
+            }
+            content.addListener((obs, oldContent, newContent) -> {
+                if (newContent == null) {
+                    host.getChildren().clear();
+                } else {
+                    host.getChildren().setAll(newContent);
+                }
+            });
+            contentHost = host;
+        }
+        return contentHost;
+    }
+
     public Image getIcon() {
         return icon.get();
     }
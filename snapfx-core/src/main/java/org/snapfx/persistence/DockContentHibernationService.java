@@ -0,0 +1,321 @@
+package org.snapfx.persistence;
+
+import com.google.gson.JsonObject;
+import javafx.animation.Animation;
+import javafx.animation.KeyFrame;
+import javafx.animation.Timeline;
+import javafx.geometry.Side;
+import javafx.scene.Node;
+import javafx.scene.Parent;
+import javafx.util.Duration;
+import org.snapfx.model.DockContainer;
+import org.snapfx.model.DockElement;
+import org.snapfx.model.DockGraph;
+import org.snapfx.model.DockNode;
+import org.snapfx.model.DockTabPane;
+import org.snapfx.theme.DockThemeStyleClasses;
+
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Map;
+import java.util.Objects;
+import java.util.WeakHashMap;
+import java.util.function.Supplier;
+
+/**
+ * Releases the content of DockNodes that are not shown and recreates it when they are shown again.
+ *
+ * <p>Hibernation is opt-in. Once enabled, the service checks the tracked graphs once per second. Content that has not
+ * been shown for the {@linkplain #setIdleTimeout(Duration) idle timeout} is hibernated, and while more content is
+ * alive than the {@linkplain #setMaxLiveContentCount(int) live-content budget} allows, hidden content is hibernated
+ * least recently shown first. A node counts as shown while it is a split child or selected tab in its graph, or while
+ * its sidebar panel shows it.</p>
+ *
+ * <p>Only content that implements {@link DockNodeContentSerializer} is hibernated, and only while a
+ * {@link DockNodeFactory} is set. Hibernation stores the content state, releases the content node and leaves the
+ * node's empty content host as a {@code dock-view-placeholder}. When the node is shown again, the factory creates a
+ * new node for the same ID, its content takes the place of the released content and receives the stored state.
+ * Layouts saved in between keep the stored state.</p>
+ */
+public final class DockContentHibernationService {
+    private static final System.Logger LOGGER = System.getLogger(DockContentHibernationService.class.getName());
+    private static final Duration CHECK_INTERVAL = Duration.seconds(1);
+
+    private final Supplier<? extends Collection<DockGraph>> graphs;
+    private final Map<DockNode, Long> lastShownMillis = new WeakHashMap<>();
+    // Released scene-graph node count per currently hibernated node
+    private final Map<DockNode, Integer> hibernatedNodes = new WeakHashMap<>();
+    private final Timeline checkTimer;
+    private DockNodeFactory nodeFactory;
+    private Duration idleTimeout;
+    private int maxLiveContentCount;
+    private long hibernationCount;
+    private long restoreCount;
+
+    /**
+     * Creates a disabled hibernation service.
+     *
+     * @param graphs supplies the graphs whose nodes are tracked, evaluated on every check
+     */
+    public DockContentHibernationService(Supplier<? extends Collection<DockGraph>> graphs) {
+        this.graphs = Objects.requireNonNull(graphs, "graphs");
+        this.checkTimer = new Timeline(new KeyFrame(CHECK_INTERVAL, e -> hibernateIdleContent()));
+        this.checkTimer.setCycleCount(Animation.INDEFINITE);
+    }
+
+    /**
+     * Enables or disables the periodic check. Disabling keeps hibernated content hibernated until it is shown.
+     *
+     * @param enabled {@code true} to hibernate content automatically
+     */
+    public void setEnabled(boolean enabled) {
+        if (enabled == isEnabled()) {
+            return;
+        }
+        if (enabled) {
+            checkTimer.play();
+        } else {
+            checkTimer.stop();
+        }
+    }
+
+    /**
+     * Returns whether content is hibernated automatically.
+     *
+     * @return {@code true} while the periodic check runs
+     */
+    public boolean isEnabled() {
+        return checkTimer.getStatus() == Animation.Status.RUNNING;
+    }
+
+    /**
+     * Sets the factory that recreates hibernated content. Without a factory nothing is hibernated.
+     *
+     * @param nodeFactory factory used to recreate content, or {@code null}
+     */
+    public void setNodeFactory(DockNodeFactory nodeFactory) {
+        this.nodeFactory = nodeFactory;
+    }
+
+    /**
+     * Returns the factory that recreates hibernated content.
+     *
+     * @return node factory, or {@code null}
+     */
+    public DockNodeFactory getNodeFactory() {
+        return nodeFactory;
+    }
+
+    /**
+     * Sets how long content must be hidden before it is hibernated.
+     *
+     * @param idleTimeout idle timeout, or {@code null}/{@link Duration#INDEFINITE} to hibernate only over budget
+     */
+    public void setIdleTimeout(Duration idleTimeout) {
+        this.idleTimeout = idleTimeout;
+    }
+
+    /**
+     * Returns how long content must be hidden before it is hibernated.
+     *
+     * @return idle timeout, or {@code null} if idle content is kept
+     */
+    public Duration getIdleTimeout() {
+        return idleTimeout;
+    }
+
+    /**
+     * Sets how many DockNodes may hold live content before hidden content is hibernated, least recently shown first.
+     * Shown content always counts but is never hibernated.
+     *
+     * @param maxLiveContentCount live-content budget, or {@code 0} for no budget
+     */
+    public void setMaxLiveContentCount(int maxLiveContentCount) {
+        this.maxLiveContentCount = Math.max(0, maxLiveContentCount);
+    }
+
+    /**
+     * Returns the live-content budget.
+     *
+     * @return maximum number of DockNodes with live content, or {@code 0} for no budget
+     */
+    public int getMaxLiveContentCount() {
+        return maxLiveContentCount;
+    }
+
+    /**
+     * Runs a check immediately and hibernates idle and over-budget content.
+     *
+     * @return number of nodes hibernated by this check
+     */
+    public int hibernateIdleContent() {
+        return hibernateIdleContent(System.nanoTime() / 1_000_000L);
+    }
+
+    /**
+     * Returns how many DockNodes are currently hibernated.
+     *
+     * @return number of hibernated nodes
+     */
+    public int getHibernatedNodeCount() {
+        pruneRestoredNodes();
+        return hibernatedNodes.size();
+    }
+
+    /**
+     * Returns how many scene-graph nodes the currently hibernated content consisted of.
+     * This is the reclaimed memory in the units JavaFX allocates per content subtree.
+     *
+     * @return released scene-graph node count of all hibernated nodes
+     */
+    public int getReclaimedSceneNodeCount() {
+        pruneRestoredNodes();
+        return hibernatedNodes.values().stream().mapToInt(Integer::intValue).sum();
+    }
+
+    /**
+     * Returns how often content was hibernated since the service was created.
+     *
+     * @return total hibernation count
+     */
+    public long getHibernationCount() {
+        return hibernationCount;
+    }
+
+    /**
+     * Returns how often hibernated content was recreated since the service was created.
+     *
+     * @return total restore count
+     */
+    public long getRestoreCount() {
+        return restoreCount;
+    }
+
+    int hibernateIdleContent(long nowMillis) {
+        pruneRestoredNodes();
+        List<DockNode> hiddenCandidates = new ArrayList<>();
+        int[] liveCount = {0};
+        for (DockGraph graph : graphs.get()) {
+            if (graph.getRoot() != null) {
+                visitShownElements(graph.getRoot(), true, nowMillis, hiddenCandidates, liveCount);
+            }
+            for (Side side : Side.values()) {
+                for (DockNode node : graph.getSideBarNodes(side)) {
+                    Node content = node.getContent();
+                    visitNode(node, content != null && content.getScene() != null, nowMillis, hiddenCandidates, liveCount);
+                }
+            }
+        }
+        hiddenCandidates.sort(Comparator.comparingLong(lastShownMillis::get));
+
+        long idleMillis = idleTimeout == null || idleTimeout.isIndefinite() || idleTimeout.isUnknown()
+            ? Long.MAX_VALUE
+            : (long) idleTimeout.toMillis();
+        int hibernated = 0;
+        for (DockNode node : hiddenCandidates) {
+            boolean idle = nowMillis - lastShownMillis.get(node) >= idleMillis;
+            boolean overBudget = maxLiveContentCount > 0 && liveCount[0] > maxLiveContentCount;
+            if (!idle && !overBudget) {
+                // Candidates are ordered least recently shown first, so no later one qualifies either.
+                break;
+            }
+            hibernate(node);
+            liveCount[0]--;
+            hibernated++;
+        }
+        return hibernated;
+    }
+
+    private void visitShownElements(
+        DockElement element,
+        boolean shown,
+        long nowMillis,
+        List<DockNode> hiddenCandidates,
+        int[] liveCount
+    ) {
+        switch (element) {
+            case DockNode node -> visitNode(node, shown, nowMillis, hiddenCandidates, liveCount);
+            case DockTabPane tabPane -> {
+                List<DockElement> children = tabPane.getChildren();
+                int selectedIndex = children.isEmpty()
+                    ? -1
+                    : Math.clamp(tabPane.getSelectedIndex(), 0, children.size() - 1);
+                for (int i = 0; i < children.size(); i++) {
+                    visitShownElements(children.get(i), shown && i == selectedIndex, nowMillis, hiddenCandidates, liveCount);
+                }
+            }
+            case DockContainer container -> {
+                for (DockElement child : container.getChildren()) {
+                    visitShownElements(child, shown, nowMillis, hiddenCandidates, liveCount);
+                }
+            }
+            default -> {
+            }
+        }
+    }
+
+    private void visitNode(DockNode node, boolean shown, long nowMillis, List<DockNode> hiddenCandidates, int[] liveCount) {
+        if (!node.isContentCreated() || node.getContent() == null) {
+            return;
+        }
+        liveCount[0]++;
+        if (shown) {
+            lastShownMillis.put(node, nowMillis);
+            return;
+        }
+        lastShownMillis.putIfAbsent(node, nowMillis);
+        if (nodeFactory != null && node.getContent() instanceof DockNodeContentSerializer) {
+            hiddenCandidates.add(node);
+        }
+    }
+
+    private void hibernate(DockNode node) {
+        Node content = node.getContent();
+        JsonObject state = ((DockNodeContentSerializer) content).serializeContent();
+        int sceneNodeCount = countSceneNodes(content);
+        node.setContentSupplier(() -> restore(node));
+        if (state != null) {
+            DockPendingContentData.defer(node, state);
+        }
+        node.getContentHost().getStyleClass().add(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER);
+        hibernatedNodes.put(node, sceneNodeCount);
+        lastShownMillis.remove(node);
+        hibernationCount++;
+    }
+
+    private Node restore(DockNode node) {
+        hibernatedNodes.remove(node);
+        node.getContentHost().getStyleClass().remove(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER);
+        restoreCount++;
+        DockNode recreated = nodeFactory == null ? null : nodeFactory.createNode(node.getDockNodeId());
+        if (recreated == null || recreated == node) {
+            LOGGER.log(System.Logger.Level.WARNING,
+                "Hibernated content of DockNode '" + node.getDockNodeId() + "' could not be recreated by the node factory");
+            return null;
+        }
+        return recreated.ensureContentCreated();
+    }
+
+    private void pruneRestoredNodes() {
+        // Content replaced through setContent(...) ends hibernation without running the restore supplier.
+        hibernatedNodes.keySet().removeIf(node -> {
+            if (!node.isContentCreated()) {
+                return false;
+            }
+            node.getContentHost().getStyleClass().remove(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER);
+            return true;
+        });
+    }
+
+    private static int countSceneNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countSceneNodes(child);
+            }
+        }
+        return count;
+    }
+}
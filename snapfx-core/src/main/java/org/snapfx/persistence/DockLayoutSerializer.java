@@ -212,6 +212,9 @@ public class DockLayoutSerializer {
                 // Check if content implements DockNodeContentSerializer
                 if (node.getContent() instanceof DockNodeContentSerializer serializer) {
                     data.contentData = serializer.serializeContent();
+                } else if (!node.isContentCreated()) {
+                    // Lazy content that was never shown keeps the state it was restored with
+                    data.contentData = DockPendingContentData.get(node);
                 }
             }
             case DockSplitPane splitPane -> {
@@ -257,10 +260,12 @@ public class DockLayoutSerializer {
         JsonObject rootObject = parseRootJsonObject(normalizedJson);
         if (rootObject.isEmpty()) {
             boolean previouslyLocked = dockGraph.isLocked();
-            dockGraph.setLocked(false);
-            dockGraph.setRoot(null);
-            dockGraph.clearSideBars();
-            dockGraph.setLocked(previouslyLocked);
+            dockGraph.batch(graph -> {
+                graph.setLocked(false);
+                graph.setRoot(null);
+                graph.clearSideBars();
+                graph.setLocked(previouslyLocked);
+            });
             return;
         }
 
@@ -271,14 +276,17 @@ public class DockLayoutSerializer {
         DockElement root = data.root == null ? null : deserializeElement(data.root, "$.root");
         List<DeserializedSideBar> sideBars = deserializeSideBars(data.sideBars, root);
 
-        dockGraph.setLocked(false);
-        dockGraph.setRoot(root);
-        dockGraph.clearSideBars();
-        applyDeserializedSideBars(sideBars);
-        if (data.layoutIdCounter > 0) {
-            dockGraph.setLayoutIdCounter(data.layoutIdCounter);
-        }
-        dockGraph.setLocked(data.locked);
+        // Publish the restored root and every sidebar pin as one structural change.
+        dockGraph.batch(graph -> {
+            graph.setLocked(false);
+            graph.setRoot(root);
+            graph.clearSideBars();
+            applyDeserializedSideBars(sideBars);
+            if (data.layoutIdCounter > 0) {
+                graph.setLayoutIdCounter(data.layoutIdCounter);
+            }
+            graph.setLocked(data.locked);
+        });
     }
 
     private JsonObject parseRootJsonObject(String json) throws DockLayoutLoadException {
@@ -503,7 +511,14 @@ public class DockLayoutSerializer {
     }
 
     private void restoreNodeContentData(DockNode node, JsonObject contentData, String path) throws DockLayoutLoadException {
-        if (node == null || contentData == null || !(node.getContent() instanceof DockNodeContentSerializer serializer)) {
+        if (node == null || contentData == null) {
+            return;
+        }
+        if (!node.isContentCreated()) {
+            DockPendingContentData.defer(node, contentData);
+            return;
+        }
+        if (!(node.getContent() instanceof DockNodeContentSerializer serializer)) {
             return;
         }
         try {
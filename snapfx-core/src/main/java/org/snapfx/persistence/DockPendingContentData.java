@@ -0,0 +1,71 @@
+package org.snapfx.persistence;
+
+import com.google.gson.JsonObject;
+import javafx.beans.value.ChangeListener;
+import javafx.beans.value.ObservableValue;
+import javafx.scene.Node;
+import org.snapfx.model.DockNode;
+
+import java.util.Map;
+import java.util.WeakHashMap;
+
+/**
+ * Content state of DockNodes whose content does not exist yet.
+ *
+ * <p>Layout loading and content hibernation both keep the serialized state of lazy content here until its supplier
+ * runs. The state is then passed to the new content's {@link DockNodeContentSerializer}. Serializers read pending
+ * state back, so saving a layout keeps the state of content that was never shown. Entries are held weakly and are
+ * only accessed on the JavaFX application thread.</p>
+ */
+final class DockPendingContentData {
+    private static final System.Logger LOGGER = System.getLogger(DockPendingContentData.class.getName());
+    private static final Map<DockNode, JsonObject> PENDING = new WeakHashMap<>();
+
+    private DockPendingContentData() {
+    }
+
+    /**
+     * Keeps content data until the node's content is created. Deserialization errors at that point can no longer
+     * fail the caller and are logged instead.
+     *
+     * @param node lazy node
+     * @param contentData serialized content state
+     */
+    static void defer(DockNode node, JsonObject contentData) {
+        boolean listening = PENDING.containsKey(node);
+        PENDING.put(node, contentData);
+        if (listening) {
+            return;
+        }
+        node.contentProperty().addListener(new ChangeListener<>() {
+            @Override
+            public void changed(ObservableValue<? extends Node> observable, Node oldContent, Node newContent) {
+                if (newContent == null) {
+                    // Released content; keep waiting for the next content.
+                    return;
+                }
+                observable.removeListener(this);
+                JsonObject pending = PENDING.remove(node);
+                if (pending == null || !(newContent instanceof DockNodeContentSerializer serializer)) {
+                    return;
+                }
+                try {
+                    serializer.deserializeContent(pending);
+                } catch (RuntimeException e) {
+                    LOGGER.log(System.Logger.Level.WARNING,
+                        "Deferred content data of DockNode '" + node.getDockNodeId() + "' could not be deserialized", e);
+                }
+            }
+        });
+    }
+
+    /**
+     * Returns the pending content data of a node.
+     *
+     * @param node dock node
+     * @return pending content data, or {@code null} if the node has none
+     */
+    static JsonObject get(DockNode node) {
+        return PENDING.get(node);
+    }
+}
@@ -47,10 +47,14 @@ public class DockThemeStyleClasses {
     public static final String DOCK_SPLIT_PANE = "dock-split-pane";
     /** Style class for empty-layout placeholder. */
     public static final String DOCK_EMPTY_LAYOUT = "dock-empty-layout";
+    /** Style class for the placeholder of a tab content that is created incrementally. */
+    public static final String DOCK_VIEW_PLACEHOLDER = "dock-view-placeholder";
     /** Style class for dock-node title label. */
     public static final String DOCK_NODE_TITLE_LABEL = "dock-node-title-label";
     /** Style class for dock-node header. */
     public static final String DOCK_NODE_HEADER = "dock-node-header";
+    /** Style class for the lightweight single-region dock-node header. */
+    public static final String DOCK_NODE_HEADER_COMPACT = "dock-node-header-compact";
     /** Style class for dock-node root container. */
     public static final String DOCK_NODE_VIEW = "dock-node-view";
     /** Style class for dock-node content area. */
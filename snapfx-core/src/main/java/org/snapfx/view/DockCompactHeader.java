@@ -0,0 +1,346 @@
+package org.snapfx.view;
+
+import javafx.beans.property.BooleanProperty;
+import javafx.beans.property.SimpleBooleanProperty;
+import javafx.beans.property.StringProperty;
+import javafx.css.PseudoClass;
+import javafx.event.EventHandler;
+import javafx.event.EventType;
+import javafx.geometry.Insets;
+import javafx.geometry.VPos;
+import javafx.scene.Cursor;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.Image;
+import javafx.scene.image.ImageView;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.layout.Region;
+import javafx.scene.shape.Rectangle;
+import javafx.scene.text.Text;
+import org.snapfx.theme.DockThemeStyleClasses;
+
+import java.util.function.IntFunction;
+
+/**
+ * Lightweight dock-node header used by {@link DockHeaderRenderMode#COMPACT}.
+ *
+ * <p>The header is a single {@link Region} that lays out its title {@link Text}, optional icon and the float and
+ * close glyphs itself. The buttons are not controls: the header hit-tests their areas on mouse events and marks the
+ * hovered and pressed glyph with the {@code :hot} and {@code :armed} pseudo-classes. Title, glyphs and header keep
+ * the style classes of the standard header, so themes only need {@code -fx-fill} for the title text.</p>
+ *
+ * <p>The button tooltip is created on the first hover over the header and installed on it only while the pointer
+ * is over a button area, with the text of that button.</p>
+ */
+final class DockCompactHeader extends Region {
+    static final int NO_BUTTON = -1;
+    static final int FLOAT_BUTTON = 0;
+    static final int CLOSE_BUTTON = 1;
+    static final double BUTTON_SIZE = 20;
+    static final double ICON_SIZE = 16;
+    static final double SPACING = 5;
+
+    private static final PseudoClass HOT = PseudoClass.getPseudoClass("hot");
+    private static final PseudoClass ARMED = PseudoClass.getPseudoClass("armed");
+    // Shared by all headers; the source of a header mouse event is always the header itself.
+    private static final EventHandler<MouseEvent> MOUSE_HANDLER =
+        event -> ((DockCompactHeader) event.getSource()).onMouseEvent(event);
+
+    private final Text title = new Text();
+    private final Rectangle titleClip = new Rectangle();
+    private final Region floatGlyph;
+    private final Region closeGlyph;
+    private final BooleanProperty floatButtonVisible = createButtonVisibleProperty("floatButtonVisible");
+    private final BooleanProperty closeButtonVisible = createButtonVisibleProperty("closeButtonVisible");
+    private ImageView icon;
+    private Runnable onFloatAction;
+    private Runnable onCloseAction;
+    private IntFunction<String> buttonTooltipText;
+    private Tooltip buttonTooltip;
+    private boolean buttonTooltipInstalled;
+    private double floatButtonX = Double.NaN;
+    private double closeButtonX = Double.NaN;
+    private double buttonY;
+    private int hotButton = NO_BUTTON;
+    private int armedButton = NO_BUTTON;
+
+    DockCompactHeader() {
+        getStyleClass().addAll(DockThemeStyleClasses.DOCK_NODE_HEADER, DockThemeStyleClasses.DOCK_NODE_HEADER_COMPACT);
+        title.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_TITLE_LABEL);
+        title.setTextOrigin(VPos.TOP);
+        title.setClip(titleClip);
+        title.setMouseTransparent(true);
+        floatGlyph = createGlyph(DockThemeStyleClasses.DOCK_CONTROL_ICON_FLOAT);
+        closeGlyph = createGlyph(DockThemeStyleClasses.DOCK_CONTROL_ICON_CLOSE);
+        getChildren().addAll(title, floatGlyph, closeGlyph);
+        DockTooltips.installTooltipOnHover(this, Tooltip::new, tooltip -> buttonTooltip = tooltip);
+        addEventHandler(MouseEvent.ANY, MOUSE_HANDLER);
+    }
+
+    private BooleanProperty createButtonVisibleProperty(String name) {
+        return new SimpleBooleanProperty(this, name, true) {
+            @Override
+            protected void invalidated() {
+                requestLayout();
+            }
+        };
+    }
+
+    private Region createGlyph(String styleClass) {
+        Region glyph = new Region();
+        glyph.getStyleClass().addAll(DockThemeStyleClasses.DOCK_CONTROL_ICON, styleClass);
+        glyph.setMouseTransparent(true);
+        return glyph;
+    }
+
+    StringProperty titleProperty() {
+        return title.textProperty();
+    }
+
+    BooleanProperty floatButtonVisibleProperty() {
+        return floatButtonVisible;
+    }
+
+    BooleanProperty closeButtonVisibleProperty() {
+        return closeButtonVisible;
+    }
+
+    void setOnFloatAction(Runnable action) {
+        onFloatAction = action;
+    }
+
+    void setOnCloseAction(Runnable action) {
+        onCloseAction = action;
+    }
+
+    /**
+     * Sets the tooltip text of each button, resolved when the pointer enters the button area.
+     *
+     * @param buttonTooltipText maps {@link #FLOAT_BUTTON} or {@link #CLOSE_BUTTON} to tooltip text, or {@code null}
+     *                          for no tooltips
+     */
+    void setButtonTooltipText(IntFunction<String> buttonTooltipText) {
+        this.buttonTooltipText = buttonTooltipText;
+    }
+
+    /**
+     * Returns the tooltip currently installed for the hovered button.
+     *
+     * @return installed button tooltip, or {@code null} while no button is hovered
+     */
+    Tooltip getInstalledButtonTooltip() {
+        return buttonTooltipInstalled ? buttonTooltip : null;
+    }
+
+    void setIcon(Image image) {
+        if (image == null) {
+            if (icon != null) {
+                getChildren().remove(icon);
+                icon = null;
+            }
+            return;
+        }
+        if (icon == null) {
+            icon = new ImageView();
+            icon.setFitWidth(ICON_SIZE);
+            icon.setFitHeight(ICON_SIZE);
+            icon.setPreserveRatio(true);
+            icon.setSmooth(true);
+            icon.setMouseTransparent(true);
+            getChildren().add(icon);
+        }
+        icon.setImage(image);
+    }
+
+    Image getIcon() {
+        return icon == null ? null : icon.getImage();
+    }
+
+    /**
+     * Returns the button whose area contains a header-local point.
+     *
+     * @return {@link #FLOAT_BUTTON}, {@link #CLOSE_BUTTON} or {@link #NO_BUTTON}
+     */
+    int buttonAt(double x, double y) {
+        if (y < buttonY || y >= buttonY + BUTTON_SIZE) {
+            return NO_BUTTON;
+        }
+        if (isInButton(x, floatButtonX)) {
+            return FLOAT_BUTTON;
+        }
+        if (isInButton(x, closeButtonX)) {
+            return CLOSE_BUTTON;
+        }
+        return NO_BUTTON;
+    }
+
+    private static boolean isInButton(double x, double buttonX) {
+        return !Double.isNaN(buttonX) && x >= buttonX && x < buttonX + BUTTON_SIZE;
+    }
+
+    /**
+     * Runs the action of a button as if it was clicked.
+     *
+     * @param button {@link #FLOAT_BUTTON} or {@link #CLOSE_BUTTON}
+     */
+    void fireButton(int button) {
+        Runnable action = switch (button) {
+            case FLOAT_BUTTON -> floatButtonVisible.get() ? onFloatAction : null;
+            case CLOSE_BUTTON -> closeButtonVisible.get() ? onCloseAction : null;
+            default -> null;
+        };
+        if (action != null) {
+            action.run();
+        }
+    }
+
+    private void onMouseEvent(MouseEvent event) {
+        EventType<? extends MouseEvent> type = event.getEventType();
+        if (type == MouseEvent.MOUSE_EXITED) {
+            setHotButton(NO_BUTTON);
+            return;
+        }
+        int button = buttonAt(event.getX(), event.getY());
+        if (type == MouseEvent.MOUSE_MOVED || type == MouseEvent.MOUSE_ENTERED || type == MouseEvent.MOUSE_DRAGGED) {
+            setHotButton(button);
+            updateArmedState();
+        } else if (type == MouseEvent.MOUSE_PRESSED && event.getButton() == MouseButton.PRIMARY) {
+            armedButton = button;
+            updateArmedState();
+        } else if (type == MouseEvent.MOUSE_RELEASED && event.getButton() == MouseButton.PRIMARY) {
+            int released = armedButton;
+            armedButton = NO_BUTTON;
+            updateArmedState();
+            if (released != NO_BUTTON && released == button) {
+                fireButton(released);
+                event.consume();
+            }
+        }
+    }
+
+    private void setHotButton(int button) {
+        if (hotButton == button) {
+            return;
+        }
+        hotButton = button;
+        floatGlyph.pseudoClassStateChanged(HOT, button == FLOAT_BUTTON);
+        closeGlyph.pseudoClassStateChanged(HOT, button == CLOSE_BUTTON);
+        setCursor(button == NO_BUTTON ? null : Cursor.HAND);
+        updateButtonTooltip(button);
+    }
+
+    private void updateButtonTooltip(int button) {
+        if (buttonTooltipInstalled) {
+            Tooltip.uninstall(this, buttonTooltip);
+            buttonTooltipInstalled = false;
+        }
+        if (button == NO_BUTTON || buttonTooltipText == null || buttonTooltip == null) {
+            return;
+        }
+        buttonTooltip.setText(buttonTooltipText.apply(button));
+        Tooltip.install(this, buttonTooltip);
+        buttonTooltipInstalled = true;
+    }
+
+    private void updateArmedState() {
+        boolean armed = armedButton != NO_BUTTON && armedButton == hotButton;
+        floatGlyph.pseudoClassStateChanged(ARMED, armed && armedButton == FLOAT_BUTTON);
+        closeGlyph.pseudoClassStateChanged(ARMED, armed && armedButton == CLOSE_BUTTON);
+    }
+
+    private double iconWidth() {
+        return icon == null ? 0 : ICON_SIZE + SPACING;
+    }
+
+    private double buttonsWidth() {
+        double width = 0;
+        if (floatButtonVisible.get()) {
+            width += BUTTON_SIZE + SPACING;
+        }
+        if (closeButtonVisible.get()) {
+            width += BUTTON_SIZE + SPACING;
+        }
+        return width;
+    }
+
+    @Override
+    protected double computeMinWidth(double height) {
+        Insets insets = getInsets();
+        return insets.getLeft() + iconWidth() + buttonsWidth() + insets.getRight();
+    }
+
+    @Override
+    protected double computePrefWidth(double height) {
+        Insets insets = getInsets();
+        return insets.getLeft() + iconWidth() + title.getLayoutBounds().getWidth() + buttonsWidth() + insets.getRight();
+    }
+
+    @Override
+    protected double computePrefHeight(double width) {
+        Insets insets = getInsets();
+        double contentHeight = Math.max(BUTTON_SIZE, Math.max(ICON_SIZE, title.getLayoutBounds().getHeight()));
+        return insets.getTop() + contentHeight + insets.getBottom();
+    }
+
+    @Override
+    protected double computeMinHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override
+    protected double computeMaxHeight(double width) {
+        return computePrefHeight(width);
+    }
+
+    @Override
+    protected void layoutChildren() {
+        Insets insets = getInsets();
+        double left = insets.getLeft();
+        double top = insets.getTop();
+        double contentHeight = getHeight() - top - insets.getBottom();
+        double centerY = top + contentHeight / 2;
+
+        double right = getWidth() - insets.getRight();
+        closeButtonX = layoutButton(closeGlyph, closeButtonVisible.get(), right, centerY);
+        if (!Double.isNaN(closeButtonX)) {
+            right = closeButtonX - SPACING;
+        }
+        floatButtonX = layoutButton(floatGlyph, floatButtonVisible.get(), right, centerY);
+        if (!Double.isNaN(floatButtonX)) {
+            right = floatButtonX - SPACING;
+        }
+        buttonY = centerY - BUTTON_SIZE / 2;
+
+        double x = left;
+        if (icon != null) {
+            icon.relocate(x, centerY - ICON_SIZE / 2);
+            x += ICON_SIZE + SPACING;
+        }
+        double titleHeight = title.getLayoutBounds().getHeight();
+        title.relocate(snapPositionX(x), snapPositionY(centerY - titleHeight / 2));
+        titleClip.setWidth(Math.max(0, right - x));
+        titleClip.setHeight(titleHeight);
+    }
+
+    /**
+     * Places a glyph centered in its button area ending at {@code right}.
+     *
+     * @return left edge of the button area, or {@code NaN} when the button is hidden
+     */
+    private double layoutButton(Region glyph, boolean visible, double right, double centerY) {
+        glyph.setVisible(visible);
+        if (!visible) {
+            return Double.NaN;
+        }
+        double buttonX = right - BUTTON_SIZE;
+        double glyphWidth = glyph.prefWidth(-1);
+        double glyphHeight = glyph.prefHeight(-1);
+        glyph.resizeRelocate(
+            snapPositionX(buttonX + (BUTTON_SIZE - glyphWidth) / 2),
+            snapPositionY(centerY - glyphHeight / 2),
+            glyphWidth,
+            glyphHeight
+        );
+        return buttonX;
+    }
+}
@@ -0,0 +1,191 @@
+package org.snapfx.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.beans.property.ReadOnlyDoubleProperty;
+import javafx.beans.property.ReadOnlyDoubleWrapper;
+
+import java.util.Iterator;
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.function.Predicate;
+
+/**
+ * Ordered queue of views whose creation was deferred by an incremental layout build.
+ * <p>
+ * Entries are keyed by layout ID and realized in insertion order, once per pulse, until the per-frame time budget is
+ * used up. At least one entry is realized per pulse, so a single slow view never stalls the queue. Progress covers
+ * all entries queued since the queue was last empty; when the last entry is gone, progress returns to {@code 1} and
+ * the completion callback runs.
+ * </p>
+ *
+ * @param <T> handle that the realizer needs to create the view
+ */
+final class DockDeferredViewQueue<T> {
+    private final Map<String, T> pending = new LinkedHashMap<>();
+    private final Predicate<T> realizer;
+    private final ReadOnlyDoubleWrapper progress = new ReadOnlyDoubleWrapper(this, "progress", 1.0);
+    private final AnimationTimer timer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            realizeSlice(frameBudgetNanos);
+        }
+    };
+    private long frameBudgetNanos;
+    private int queuedCount;
+    private int completedCount;
+    private boolean timerRunning;
+    private boolean realizing;
+    private Runnable onRealized;
+
+    /**
+     * Creates a queue.
+     *
+     * @param realizer creates the view for an entry; returns {@code false} when the entry became obsolete
+     * @param frameBudgetNanos initial per-frame time budget in nanoseconds
+     */
+    DockDeferredViewQueue(Predicate<T> realizer, long frameBudgetNanos) {
+        this.realizer = realizer;
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    void add(String id, T handle) {
+        if (pending.put(id, handle) == null) {
+            queuedCount++;
+            updateProgress();
+        }
+        if (!timerRunning) {
+            timerRunning = true;
+            timer.start();
+        }
+    }
+
+    boolean contains(String id) {
+        return pending.containsKey(id);
+    }
+
+    /**
+     * Drops an entry without realizing it, for example because its tab was disposed.
+     */
+    void remove(String id) {
+        if (pending.remove(id) != null) {
+            completeEntry();
+        }
+    }
+
+    /**
+     * Realizes one entry immediately, for example because its tab was selected.
+     *
+     * @return {@code true} when a view was created
+     */
+    boolean realizeNow(String id) {
+        T handle = pending.remove(id);
+        if (handle == null) {
+            return false;
+        }
+        boolean realized = realizer.test(handle);
+        completeEntry();
+        return realized;
+    }
+
+    /**
+     * Realizes queued entries until the budget is used up; always realizes at least one entry.
+     *
+     * @param budgetNanos time budget in nanoseconds
+     * @return number of entries taken from the queue
+     */
+    int realizeSlice(long budgetNanos) {
+        long start = System.nanoTime();
+        int count = 0;
+        realizing = true;
+        try {
+            Iterator<Map.Entry<String, T>> iterator = pending.entrySet().iterator();
+            while (iterator.hasNext() && (count == 0 || System.nanoTime() - start < budgetNanos)) {
+                T handle = iterator.next().getValue();
+                iterator.remove();
+                count++;
+                realizer.test(handle);
+                completedCount++;
+                // Realizing a view may queue nested entries or drop others, so restart the iteration.
+                iterator = pending.entrySet().iterator();
+            }
+        } finally {
+            realizing = false;
+        }
+        if (count > 0) {
+            finishIfDrained();
+        }
+        return count;
+    }
+
+    /**
+     * Realizes every queued entry, including entries queued while realizing.
+     */
+    void realizeAll() {
+        while (!pending.isEmpty()) {
+            realizeSlice(Long.MAX_VALUE);
+        }
+    }
+
+    /**
+     * Drops all entries without realizing them and resets progress; the completion callback does not run.
+     */
+    void clear() {
+        pending.clear();
+        queuedCount = 0;
+        completedCount = 0;
+        progress.set(1.0);
+        stopTimer();
+    }
+
+    int size() {
+        return pending.size();
+    }
+
+    long getFrameBudgetNanos() {
+        return frameBudgetNanos;
+    }
+
+    void setFrameBudgetNanos(long frameBudgetNanos) {
+        this.frameBudgetNanos = frameBudgetNanos;
+    }
+
+    ReadOnlyDoubleProperty progressProperty() {
+        return progress.getReadOnlyProperty();
+    }
+
+    void setOnRealized(Runnable onRealized) {
+        this.onRealized = onRealized;
+    }
+
+    private void completeEntry() {
+        completedCount++;
+        if (!realizing) {
+            finishIfDrained();
+        }
+    }
+
+    private void finishIfDrained() {
+        if (!pending.isEmpty()) {
+            updateProgress();
+            return;
+        }
+        queuedCount = 0;
+        completedCount = 0;
+        progress.set(1.0);
+        stopTimer();
+        if (onRealized != null) {
+            onRealized.run();
+        }
+    }
+
+    private void stopTimer() {
+        if (timerRunning) {
+            timerRunning = false;
+            timer.stop();
+        }
+    }
+
+    private void updateProgress() {
+        progress.set(queuedCount == 0 ? 1.0 : (double) completedCount / queuedCount);
+    }
+}
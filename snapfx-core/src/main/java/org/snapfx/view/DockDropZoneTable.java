@@ -0,0 +1,469 @@
+package org.snapfx.view;
+
+import javafx.geometry.BoundingBox;
+import org.snapfx.model.DockElement;
+import org.snapfx.model.DockPosition;
+
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.function.IntPredicate;
+
+/**
+ * Compact, reusable table of drop zones stored as parallel primitive arrays.
+ *
+ * <p>Zone geometry, depth, priority and type are kept in primitive arrays so the best-zone query of a drag session
+ * runs without allocating. Tab-header zones also store the sorted edges of their tab headers, which lets the query
+ * resolve the tab insert index and insert-line position without scene-graph lookups. {@link DockDropZone} objects
+ * are only created on demand through {@link #getZone(int)} and cached until the table is cleared.</p>
+ */
+public final class DockDropZoneTable {
+    private static final int INITIAL_CAPACITY = 64;
+    private static final DockDropZoneType[] TYPES = DockDropZoneType.values();
+
+    private int size;
+    private double[] minX = new double[INITIAL_CAPACITY];
+    private double[] minY = new double[INITIAL_CAPACITY];
+    private double[] maxX = new double[INITIAL_CAPACITY];
+    private double[] maxY = new double[INITIAL_CAPACITY];
+    private int[] depth = new int[INITIAL_CAPACITY];
+    private int[] priority = new int[INITIAL_CAPACITY];
+    private byte[] type = new byte[INITIAL_CAPACITY];
+    private DockElement[] targets = new DockElement[INITIAL_CAPACITY];
+    private DockPosition[] positions = new DockPosition[INITIAL_CAPACITY];
+    private double[][] tabHeaderEdges = new double[INITIAL_CAPACITY][];
+    private DockDropZone[] zoneViews = new DockDropZone[INITIAL_CAPACITY];
+
+    private int resolvedTabIndex = -1;
+    private double resolvedInsertLineX = Double.NaN;
+
+    /**
+     * Returns the priority used to rank overlapping zones. Deeper zones win; within one depth tab zones beat edge
+     * zones, which beat center zones.
+     *
+     * @param zoneType zone type
+     * @param zoneDepth target depth in the layout tree
+     * @return zone priority (higher wins)
+     */
+    public static int priorityOf(DockDropZoneType zoneType, int zoneDepth) {
+        int typePriority = switch (zoneType) {
+            case TAB_INSERT -> 400;
+            case TAB_HEADER -> 350;
+            case EDGE -> 200;
+            case CENTER -> 100;
+        };
+        return (zoneDepth * 1000) + typePriority;
+    }
+
+    /**
+     * Removes all zones while keeping the allocated arrays for reuse.
+     */
+    public void clear() {
+        Arrays.fill(targets, 0, size, null);
+        Arrays.fill(positions, 0, size, null);
+        Arrays.fill(tabHeaderEdges, 0, size, null);
+        Arrays.fill(zoneViews, 0, size, null);
+        size = 0;
+        resolvedTabIndex = -1;
+        resolvedInsertLineX = Double.NaN;
+    }
+
+    /**
+     * Appends one zone.
+     *
+     * @param target drop target element, or {@code null} for the empty-layout zone
+     * @param position dock position of the zone
+     * @param zoneType zone type
+     * @param x minimum scene x-coordinate
+     * @param y minimum scene y-coordinate
+     * @param width zone width
+     * @param height zone height
+     * @param zoneDepth target depth in the layout tree
+     * @return index of the new zone
+     */
+    public int add(DockElement target, DockPosition position, DockDropZoneType zoneType,
+                   double x, double y, double width, double height, int zoneDepth) {
+        ensureCapacity(size + 1);
+        int index = size++;
+        minX[index] = x;
+        minY[index] = y;
+        maxX[index] = x + width;
+        maxY[index] = y + height;
+        depth[index] = zoneDepth;
+        priority[index] = priorityOf(zoneType, zoneDepth);
+        type[index] = (byte) zoneType.ordinal();
+        targets[index] = target;
+        positions[index] = position;
+        tabHeaderEdges[index] = null;
+        zoneViews[index] = null;
+        return index;
+    }
+
+    /**
+     * Appends a copy of a zone of another table, moved by the given offset. Tab header edges are moved as well, so a
+     * zone collected in scene space can be stored in screen space.
+     *
+     * @param source table holding the zone
+     * @param index zone index in the source table
+     * @param offsetX offset added to all x-coordinates
+     * @param offsetY offset added to all y-coordinates
+     * @return index of the new zone
+     */
+    public int addTranslated(DockDropZoneTable source, int index, double offsetX, double offsetY) {
+        source.checkIndex(index);
+        int added = add(source.targets[index], source.positions[index], TYPES[source.type[index]],
+            source.minX[index] + offsetX, source.minY[index] + offsetY,
+            source.maxX[index] - source.minX[index], source.maxY[index] - source.minY[index], source.depth[index]);
+        double[] edges = source.tabHeaderEdges[index];
+        if (edges != null) {
+            double[] translatedEdges = new double[edges.length];
+            for (int i = 0; i < edges.length; i++) {
+                translatedEdges[i] = edges[i] + offsetX;
+            }
+            tabHeaderEdges[added] = translatedEdges;
+        }
+        return added;
+    }
+
+    /**
+     * Stores the tab header edges of a tab-header zone as {@code [minX0, maxX0, minX1, maxX1, ...]} sorted by x.
+     *
+     * @param index zone index
+     * @param edges sorted tab header edges
+     */
+    public void setTabHeaderEdges(int index, double[] edges) {
+        checkIndex(index);
+        tabHeaderEdges[index] = edges;
+    }
+
+    /**
+     * Keeps only the zones accepted by the predicate, preserving their order.
+     *
+     * @param filter predicate receiving zone indexes of the current table
+     */
+    public void retainIf(IntPredicate filter) {
+        int write = 0;
+        for (int read = 0; read < size; read++) {
+            if (!filter.test(read)) {
+                continue;
+            }
+            if (write != read) {
+                minX[write] = minX[read];
+                minY[write] = minY[read];
+                maxX[write] = maxX[read];
+                maxY[write] = maxY[read];
+                depth[write] = depth[read];
+                priority[write] = priority[read];
+                type[write] = type[read];
+                targets[write] = targets[read];
+                positions[write] = positions[read];
+                tabHeaderEdges[write] = tabHeaderEdges[read];
+                zoneViews[write] = zoneViews[read];
+            }
+            write++;
+        }
+        Arrays.fill(targets, write, size, null);
+        Arrays.fill(positions, write, size, null);
+        Arrays.fill(tabHeaderEdges, write, size, null);
+        Arrays.fill(zoneViews, write, size, null);
+        size = write;
+    }
+
+    /**
+     * Finds the best zone containing the point: highest priority, then smallest area, then closest to the center.
+     * For tab-header zones the tab insert index and insert-line x-coordinate are resolved as well and can be read
+     * through {@link #getResolvedTabIndex()} and {@link #getResolvedInsertLineX()}. Allocates nothing.
+     *
+     * @param sceneX pointer x-coordinate in scene space
+     * @param sceneY pointer y-coordinate in scene space
+     * @return best zone index, or {@code -1} when no zone contains the point
+     */
+    public int findBest(double sceneX, double sceneY) {
+        return findBest(sceneX, sceneY, 0, size);
+    }
+
+    /**
+     * Finds the best zone containing the point among the zones in {@code [fromIndex, toIndex)}, with the same ranking
+     * and tab insert resolution as {@link #findBest(double, double)}. Allocates nothing.
+     *
+     * @param sceneX pointer x-coordinate in the coordinate space of the zones
+     * @param sceneY pointer y-coordinate in the coordinate space of the zones
+     * @param fromIndex first zone index to consider
+     * @param toIndex zone index after the last one to consider
+     * @return best zone index, or {@code -1} when no zone in the range contains the point
+     */
+    public int findBest(double sceneX, double sceneY, int fromIndex, int toIndex) {
+        if (fromIndex < 0 || toIndex > size || fromIndex > toIndex) {
+            throw new IndexOutOfBoundsException(
+                "Zone range [" + fromIndex + ", " + toIndex + ") out of bounds for size " + size);
+        }
+        int best = -1;
+        int bestPriority = Integer.MIN_VALUE;
+        double bestArea = Double.MAX_VALUE;
+        double bestDistance = Double.MAX_VALUE;
+        for (int i = fromIndex; i < toIndex; i++) {
+            if (sceneX < minX[i] || sceneX > maxX[i] || sceneY < minY[i] || sceneY > maxY[i]) {
+                continue;
+            }
+            int zonePriority = priority[i];
+            if (zonePriority < bestPriority) {
+                continue;
+            }
+            double area = area(i);
+            double distance = distanceFromCenter(i, sceneX, sceneY);
+            if (zonePriority > bestPriority
+                || area < bestArea
+                || (area == bestArea && distance < bestDistance)) {
+                best = i;
+                bestPriority = zonePriority;
+                bestArea = area;
+                bestDistance = distance;
+            }
+        }
+        resolveTabInsert(best, sceneX);
+        return best;
+    }
+
+    /**
+     * Returns the tab insert index resolved by the last {@code findBest} call.
+     *
+     * @return tab insert index, or {@code -1} when the best zone is not a tab-header zone
+     */
+    public int getResolvedTabIndex() {
+        return resolvedTabIndex;
+    }
+
+    /**
+     * Returns the insert-line x-coordinate resolved by the last {@code findBest} call.
+     *
+     * @return scene x-coordinate, or {@link Double#NaN} when unavailable
+     */
+    public double getResolvedInsertLineX() {
+        return resolvedInsertLineX;
+    }
+
+    /**
+     * Returns the number of zones.
+     *
+     * @return zone count
+     */
+    public int size() {
+        return size;
+    }
+
+    /**
+     * Returns whether the table contains no zones.
+     *
+     * @return {@code true} when empty
+     */
+    public boolean isEmpty() {
+        return size == 0;
+    }
+
+    /**
+     * Returns the target element of a zone.
+     *
+     * @param index zone index
+     * @return target element, or {@code null} for the empty-layout zone
+     */
+    public DockElement getTarget(int index) {
+        checkIndex(index);
+        return targets[index];
+    }
+
+    /**
+     * Returns the dock position of a zone.
+     *
+     * @param index zone index
+     * @return dock position
+     */
+    public DockPosition getPosition(int index) {
+        checkIndex(index);
+        return positions[index];
+    }
+
+    /**
+     * Returns the type of a zone.
+     *
+     * @param index zone index
+     * @return zone type
+     */
+    public DockDropZoneType getType(int index) {
+        checkIndex(index);
+        return TYPES[type[index]];
+    }
+
+    /**
+     * Returns the target depth of a zone.
+     *
+     * @param index zone index
+     * @return depth (higher is deeper)
+     */
+    public int getDepth(int index) {
+        checkIndex(index);
+        return depth[index];
+    }
+
+    /**
+     * Returns the minimum scene x-coordinate of a zone.
+     *
+     * @param index zone index
+     * @return minimum x-coordinate
+     */
+    public double getMinX(int index) {
+        checkIndex(index);
+        return minX[index];
+    }
+
+    /**
+     * Returns the minimum scene y-coordinate of a zone.
+     *
+     * @param index zone index
+     * @return minimum y-coordinate
+     */
+    public double getMinY(int index) {
+        checkIndex(index);
+        return minY[index];
+    }
+
+    /**
+     * Returns the maximum scene x-coordinate of a zone.
+     *
+     * @param index zone index
+     * @return maximum x-coordinate
+     */
+    public double getMaxX(int index) {
+        checkIndex(index);
+        return maxX[index];
+    }
+
+    /**
+     * Returns the maximum scene y-coordinate of a zone.
+     *
+     * @param index zone index
+     * @return maximum y-coordinate
+     */
+    public double getMaxY(int index) {
+        checkIndex(index);
+        return maxY[index];
+    }
+
+    /**
+     * Returns the width of a zone.
+     *
+     * @param index zone index
+     * @return zone width
+     */
+    public double getWidth(int index) {
+        checkIndex(index);
+        return maxX[index] - minX[index];
+    }
+
+    /**
+     * Returns the height of a zone.
+     *
+     * @param index zone index
+     * @return zone height
+     */
+    public double getHeight(int index) {
+        checkIndex(index);
+        return maxY[index] - minY[index];
+    }
+
+    /**
+     * Returns the zone as a {@link DockDropZone}, created on first access and cached until the table is cleared.
+     * The returned zone carries no tab insert data.
+     *
+     * @param index zone index
+     * @return drop zone view
+     */
+    public DockDropZone getZone(int index) {
+        checkIndex(index);
+        DockDropZone zone = zoneViews[index];
+        if (zone == null) {
+            zone = new DockDropZone(targets[index], positions[index], TYPES[type[index]],
+                new BoundingBox(minX[index], minY[index], maxX[index] - minX[index], maxY[index] - minY[index]),
+                depth[index], null, null);
+            zoneViews[index] = zone;
+        }
+        return zone;
+    }
+
+    /**
+     * Returns all zones as {@link DockDropZone} objects.
+     *
+     * @return list of zone views in table order
+     */
+    public List<DockDropZone> toZoneList() {
+        List<DockDropZone> zones = new ArrayList<>(size);
+        for (int i = 0; i < size; i++) {
+            zones.add(getZone(i));
+        }
+        return zones;
+    }
+
+    private void resolveTabInsert(int best, double sceneX) {
+        resolvedTabIndex = -1;
+        resolvedInsertLineX = Double.NaN;
+        if (best < 0 || type[best] != DockDropZoneType.TAB_HEADER.ordinal()) {
+            return;
+        }
+        double[] edges = tabHeaderEdges[best];
+        if (edges == null || edges.length < 2) {
+            return;
+        }
+        int tabCount = edges.length / 2;
+        int tabIndex = tabCount;
+        for (int i = 0; i < tabCount; i++) {
+            double centerX = (edges[i * 2] + edges[i * 2 + 1]) / 2.0;
+            if (sceneX < centerX) {
+                tabIndex = i;
+                break;
+            }
+        }
+        resolvedTabIndex = tabIndex;
+        if (tabIndex <= 0) {
+            resolvedInsertLineX = edges[0];
+        } else if (tabIndex >= tabCount) {
+            resolvedInsertLineX = edges[edges.length - 1];
+        } else {
+            resolvedInsertLineX = (edges[tabIndex * 2 - 1] + edges[tabIndex * 2]) / 2.0;
+        }
+    }
+
+    private double area(int index) {
+        return (maxX[index] - minX[index]) * (maxY[index] - minY[index]);
+    }
+
+    private double distanceFromCenter(int index, double sceneX, double sceneY) {
+        double halfWidth = (maxX[index] - minX[index]) / 2;
+        double halfHeight = (maxY[index] - minY[index]) / 2;
+        double dx = Math.abs(sceneX - (minX[index] + halfWidth)) / halfWidth;
+        double dy = Math.abs(sceneY - (minY[index] + halfHeight)) / halfHeight;
+        return Math.max(dx, dy);
+    }
+
+    private void checkIndex(int index) {
+        if (index < 0 || index >= size) {
+            throw new IndexOutOfBoundsException("Zone index " + index + " out of bounds for size " + size);
+        }
+    }
+
+    private void ensureCapacity(int capacity) {
+        if (capacity <= minX.length) {
+            return;
+        }
+        int newCapacity = Math.max(capacity, minX.length * 2);
+        minX = Arrays.copyOf(minX, newCapacity);
+        minY = Arrays.copyOf(minY, newCapacity);
+        maxX = Arrays.copyOf(maxX, newCapacity);
+        maxY = Arrays.copyOf(maxY, newCapacity);
+        depth = Arrays.copyOf(depth, newCapacity);
+        priority = Arrays.copyOf(priority, newCapacity);
+        type = Arrays.copyOf(type, newCapacity);
+        targets = Arrays.copyOf(targets, newCapacity);
+        positions = Arrays.copyOf(positions, newCapacity);
+        tabHeaderEdges = Arrays.copyOf(tabHeaderEdges, newCapacity);
+        zoneViews = Arrays.copyOf(zoneViews, newCapacity);
+    }
+}
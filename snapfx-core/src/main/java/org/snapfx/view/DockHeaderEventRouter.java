@@ -0,0 +1,150 @@
+package org.snapfx.view;
+
+import javafx.event.EventHandler;
+import javafx.event.EventTarget;
+import javafx.geometry.Point2D;
+import javafx.scene.Node;
+import javafx.scene.control.Button;
+import javafx.scene.input.ContextMenuEvent;
+import javafx.scene.input.MouseEvent;
+import org.snapfx.dnd.DockDragService;
+import org.snapfx.model.DockNode;
+
+/**
+ * Routes header and tab-header mouse interactions of one layout through a single set of event filters on the
+ * layout root.
+ *
+ * <p>Instead of installing pressed, dragged, released and context-menu handlers on every {@link DockNodeView}
+ * header and tab graphic, the router resolves the dock node from the event target: tab graphics are tagged with
+ * {@link DockLayoutEngine#TAB_DOCK_NODE_KEY}, node headers are found through their {@link DockNodeView} parent.
+ * The event target is used rather than the pick result because drag and release events keep targeting the pressed
+ * node while the pointer moves elsewhere.</p>
+ */
+final class DockHeaderEventRouter {
+    private final DockDragService dragService;
+    private final EventHandler<MouseEvent> pressedFilter = this::onMousePressed;
+    private final EventHandler<MouseEvent> draggedFilter = this::onMouseDragged;
+    private final EventHandler<MouseEvent> releasedFilter = this::onMouseReleased;
+    private final EventHandler<ContextMenuEvent> contextMenuFilter = this::onContextMenuRequested;
+    private Node root;
+
+    // Result of the last resolve(...) call; the router only runs on the FX thread.
+    private DockNode resolvedNode;
+    private DockNodeView resolvedView;
+    private boolean resolvedInteractive;
+
+    DockHeaderEventRouter(DockDragService dragService) {
+        this.dragService = dragService;
+    }
+
+    /**
+     * Moves the event filters to a new layout root. Attaching the current root again is a no-op.
+     *
+     * @param newRoot layout root, or {@code null} to only detach
+     */
+    void attach(Node newRoot) {
+        if (root == newRoot) {
+            return;
+        }
+        detach();
+        root = newRoot;
+        if (root == null) {
+            return;
+        }
+        root.addEventFilter(MouseEvent.MOUSE_PRESSED, pressedFilter);
+        root.addEventFilter(MouseEvent.MOUSE_DRAGGED, draggedFilter);
+        root.addEventFilter(MouseEvent.MOUSE_RELEASED, releasedFilter);
+        root.addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter);
+    }
+
+    void detach() {
+        if (root == null) {
+            return;
+        }
+        root.removeEventFilter(MouseEvent.MOUSE_PRESSED, pressedFilter);
+        root.removeEventFilter(MouseEvent.MOUSE_DRAGGED, draggedFilter);
+        root.removeEventFilter(MouseEvent.MOUSE_RELEASED, releasedFilter);
+        root.removeEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter);
+        root = null;
+    }
+
+    Node getRoot() {
+        return root;
+    }
+
+    private void onMousePressed(MouseEvent event) {
+        if (!resolve(event.getTarget(), event.getSceneX(), event.getSceneY())) {
+            return;
+        }
+        if (resolvedView != null) {
+            resolvedView.hideHeaderContextMenu();
+        }
+        if (!resolvedInteractive && dragService != null) {
+            dragService.startDrag(resolvedNode, event);
+        }
+    }
+
+    private void onMouseDragged(MouseEvent event) {
+        if (dragService == null || !dragService.isDragging()
+            || !resolve(event.getTarget(), Double.NaN, Double.NaN) || resolvedInteractive) {
+            return;
+        }
+        dragService.updateDrag(event);
+    }
+
+    private void onMouseReleased(MouseEvent event) {
+        if (dragService == null || !dragService.isDragging()
+            || !resolve(event.getTarget(), Double.NaN, Double.NaN) || resolvedInteractive) {
+            return;
+        }
+        dragService.endDrag(event);
+    }
+
+    private void onContextMenuRequested(ContextMenuEvent event) {
+        if (!resolve(event.getTarget(), event.getSceneX(), event.getSceneY()) || resolvedView == null) {
+            return;
+        }
+        if (resolvedView.showHeaderContextMenu(event.getScreenX(), event.getScreenY())) {
+            event.consume();
+        }
+    }
+
+    /**
+     * Walks from the event target towards the root until a node header or tagged tab graphic is found. Stops at
+     * the first {@link DockNodeView}, so events from panel content are never treated as header events. Buttons of
+     * a {@link DockCompactHeader} are hit-tested at the given scene position; drag and release events pass
+     * {@code NaN} because a drag that started on the title must keep going when the pointer crosses a button.
+     */
+    private boolean resolve(EventTarget target, double sceneX, double sceneY) {
+        resolvedNode = null;
+        resolvedView = null;
+        resolvedInteractive = false;
+        Node node = target instanceof Node targetNode ? targetNode : null;
+        while (node != null) {
+            if (node instanceof Button) {
+                resolvedInteractive = true;
+            }
+            if (node.hasProperties()
+                && node.getProperties().get(DockLayoutEngine.TAB_DOCK_NODE_KEY) instanceof DockNode dockNode) {
+                resolvedNode = dockNode;
+                return true;
+            }
+            if (node.getParent() instanceof DockNodeView view && view.getHeaderNode() == node) {
+                resolvedNode = view.getDockNode();
+                resolvedView = view;
+                if (node instanceof DockCompactHeader compactHeader && !Double.isNaN(sceneX)) {
+                    Point2D local = compactHeader.sceneToLocal(sceneX, sceneY);
+                    resolvedInteractive = local != null
+                        && compactHeader.buttonAt(local.getX(), local.getY()) != DockCompactHeader.NO_BUTTON;
+                }
+                return true;
+            }
+            if (node instanceof DockNodeView || node == root) {
+                break;
+            }
+            node = node.getParent();
+        }
+        resolvedInteractive = false;
+        return false;
+    }
+}
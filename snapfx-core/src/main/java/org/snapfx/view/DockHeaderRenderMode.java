@@ -0,0 +1,16 @@
+package org.snapfx.view;
+
+/**
+ * Controls how DockNode title bars are rendered.
+ */
+public enum DockHeaderRenderMode {
+    /**
+     * Render the title bar from standard controls (label, icon pane and buttons with tooltips).
+     */
+    STANDARD,
+    /**
+     * Render the title bar as one lightweight region that lays out its title, icon and button glyphs itself.
+     * Intended for layouts with many small panels; the float and close glyphs get their tooltips on first hover.
+     */
+    COMPACT
+}
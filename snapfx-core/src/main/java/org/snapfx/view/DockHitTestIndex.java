@@ -0,0 +1,206 @@
+package org.snapfx.view;
+
+import javafx.beans.InvalidationListener;
+import javafx.geometry.Bounds;
+import javafx.scene.Node;
+import org.snapfx.model.DockElement;
+
+import java.util.ArrayList;
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.function.IntConsumer;
+
+/**
+ * Scene-space uniform grid over the rendered views of a {@link DockLayoutEngine}.
+ *
+ * <p>The grid is built once per layout pass from the cached views and stays valid until a view is added or removed
+ * or the bounds of an indexed view or one of its ancestors change. Point queries only visit the entries of one grid
+ * cell and reuse the entry objects, so they do not allocate.</p>
+ */
+final class DockHitTestIndex {
+    private static final double MIN_CELL_SIZE = 48.0;
+    private static final int MAX_CELLS_PER_AXIS = 64;
+
+    private final InvalidationListener invalidationListener = obs -> invalidate();
+    private final List<Node> observedNodes = new ArrayList<>();
+    private Entry[] entries = new Entry[0];
+    private int[] cellStarts = new int[1];
+    private int[] cellEntries = new int[0];
+    private double gridMinX;
+    private double gridMinY;
+    private double cellWidth = 1.0;
+    private double cellHeight = 1.0;
+    private int columns;
+    private int rows;
+    private boolean valid;
+
+    /**
+     * Indexed view of one dock element with its scene bounds and per-query scratch values.
+     */
+    static final class Entry {
+        final DockElement element;
+        final Node node;
+        final Bounds bounds;
+        final Bounds tabHeaderBounds;
+        double distanceFromCenter;
+        boolean isTabHeader;
+
+        Entry(DockElement element, Node node, Bounds bounds, Bounds tabHeaderBounds) {
+            this.element = element;
+            this.node = node;
+            this.bounds = bounds;
+            this.tabHeaderBounds = tabHeaderBounds;
+        }
+    }
+
+    boolean isValid() {
+        return valid;
+    }
+
+    void invalidate() {
+        valid = false;
+    }
+
+    /**
+     * Replaces the indexed entries and starts observing the bounds of their views and ancestors.
+     */
+    void rebuild(List<Entry> newEntries) {
+        detach();
+        entries = newEntries.toArray(new Entry[0]);
+        buildGrid();
+        observe();
+        valid = true;
+    }
+
+    /**
+     * Adds all visible entries containing the point to {@code out} and fills their scratch values.
+     */
+    void query(double sceneX, double sceneY, List<Entry> out) {
+        if (entries.length == 0
+            || sceneX < gridMinX || sceneY < gridMinY
+            || sceneX > gridMinX + columns * cellWidth || sceneY > gridMinY + rows * cellHeight) {
+            return;
+        }
+        int column = Math.min(columns - 1, (int) ((sceneX - gridMinX) / cellWidth));
+        int row = Math.min(rows - 1, (int) ((sceneY - gridMinY) / cellHeight));
+        int cell = row * columns + column;
+        for (int i = cellStarts[cell]; i < cellStarts[cell + 1]; i++) {
+            Entry entry = entries[cellEntries[i]];
+            if (!entry.bounds.contains(sceneX, sceneY) || entry.node.getScene() == null || !isTreeVisible(entry.node)) {
+                continue;
+            }
+            Bounds b = entry.bounds;
+            double dx = Math.abs(sceneX - (b.getMinX() + b.getWidth() / 2)) / (b.getWidth() / 2);
+            double dy = Math.abs(sceneY - (b.getMinY() + b.getHeight() / 2)) / (b.getHeight() / 2);
+            entry.distanceFromCenter = Math.max(dx, dy);
+            entry.isTabHeader = entry.tabHeaderBounds != null && entry.tabHeaderBounds.contains(sceneX, sceneY);
+            out.add(entry);
+        }
+    }
+
+    /**
+     * Drops all entries and listeners.
+     */
+    void clear() {
+        detach();
+        entries = new Entry[0];
+        cellStarts = new int[1];
+        cellEntries = new int[0];
+        columns = 0;
+        rows = 0;
+        valid = false;
+    }
+
+    private void buildGrid() {
+        if (entries.length == 0) {
+            columns = 0;
+            rows = 0;
+            cellStarts = new int[1];
+            cellEntries = new int[0];
+            return;
+        }
+        double minX = Double.MAX_VALUE;
+        double minY = Double.MAX_VALUE;
+        double maxX = -Double.MAX_VALUE;
+        double maxY = -Double.MAX_VALUE;
+        for (Entry entry : entries) {
+            minX = Math.min(minX, entry.bounds.getMinX());
+            minY = Math.min(minY, entry.bounds.getMinY());
+            maxX = Math.max(maxX, entry.bounds.getMaxX());
+            maxY = Math.max(maxY, entry.bounds.getMaxY());
+        }
+        double width = Math.max(1.0, maxX - minX);
+        double height = Math.max(1.0, maxY - minY);
+        gridMinX = minX;
+        gridMinY = minY;
+        columns = Math.clamp((long) Math.ceil(width / MIN_CELL_SIZE), 1, MAX_CELLS_PER_AXIS);
+        rows = Math.clamp((long) Math.ceil(height / MIN_CELL_SIZE), 1, MAX_CELLS_PER_AXIS);
+        cellWidth = width / columns;
+        cellHeight = height / rows;
+
+        int[] counts = new int[columns * rows + 1];
+        for (Entry entry : entries) {
+            forEachCell(entry, cell -> counts[cell + 1]++);
+        }
+        for (int i = 1; i < counts.length; i++) {
+            counts[i] += counts[i - 1];
+        }
+        cellStarts = counts.clone();
+        cellEntries = new int[counts[counts.length - 1]];
+        int[] cursor = counts;
+        for (int index = 0; index < entries.length; index++) {
+            int entryIndex = index;
+            forEachCell(entries[index], cell -> cellEntries[cursor[cell]++] = entryIndex);
+        }
+    }
+
+    private void forEachCell(Entry entry, IntConsumer action) {
+        int firstColumn = toColumn(entry.bounds.getMinX());
+        int lastColumn = toColumn(entry.bounds.getMaxX());
+        int firstRow = toRow(entry.bounds.getMinY());
+        int lastRow = toRow(entry.bounds.getMaxY());
+        for (int row = firstRow; row <= lastRow; row++) {
+            for (int column = firstColumn; column <= lastColumn; column++) {
+                action.accept(row * columns + column);
+            }
+        }
+    }
+
+    private int toColumn(double sceneX) {
+        return Math.clamp((long) ((sceneX - gridMinX) / cellWidth), 0, columns - 1);
+    }
+
+    private int toRow(double sceneY) {
+        return Math.clamp((long) ((sceneY - gridMinY) / cellHeight), 0, rows - 1);
+    }
+
+    private void observe() {
+        Map<Node, Boolean> seen = new IdentityHashMap<>();
+        for (Entry entry : entries) {
+            // Ancestors include skin wrappers and hosts outside the layout that can move a view without resizing it
+            for (Node node = entry.node; node != null && seen.put(node, Boolean.TRUE) == null; node = node.getParent()) {
+                node.boundsInParentProperty().addListener(invalidationListener);
+                // Read once so the next change fires a new invalidation
+                node.getBoundsInParent();
+                observedNodes.add(node);
+            }
+        }
+    }
+
+    private void detach() {
+        for (Node node : observedNodes) {
+            node.boundsInParentProperty().removeListener(invalidationListener);
+        }
+        observedNodes.clear();
+    }
+
+    private static boolean isTreeVisible(Node node) {
+        for (Node current = node; current != null; current = current.getParent()) {
+            if (!current.isVisible()) {
+                return false;
+            }
+        }
+        return true;
+    }
+}
@@ -5,9 +5,12 @@ import org.snapfx.dnd.DockDragService;
 import org.snapfx.model.*;
 import org.snapfx.theme.DockThemeStyleClasses;
 import javafx.beans.binding.Bindings;
+import javafx.beans.property.ReadOnlyDoubleProperty;
 import javafx.beans.value.ChangeListener;
 import javafx.collections.ListChangeListener;
-import javafx.geometry.BoundingBox;
+import javafx.collections.ObservableList;
+import javafx.event.EventHandler;
+import javafx.event.EventTarget;
 import javafx.geometry.Bounds;
 import javafx.geometry.Pos;
 import javafx.geometry.Side;
@@ -23,19 +26,25 @@ import javafx.scene.control.SeparatorMenuItem;
 import javafx.scene.control.Tooltip;
 import javafx.scene.image.Image;
 import javafx.scene.image.ImageView;
+import javafx.scene.input.ContextMenuEvent;
+import javafx.scene.input.MouseEvent;
 import javafx.scene.layout.HBox;
 import javafx.scene.layout.Region;
 import javafx.scene.layout.StackPane;
+import javafx.util.Duration;
 
 import java.util.ArrayList;
 import java.util.HashMap;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Map;
 import java.util.Objects;
+import java.util.Set;
 import java.util.function.BiConsumer;
 import java.util.function.BiFunction;
 import java.util.function.Consumer;
 import java.util.function.Predicate;
+import java.util.function.Supplier;
 
 /**
  * Layout engine that converts the logical DockGraph into a visual scene graph.
@@ -60,10 +69,19 @@ public class DockLayoutEngine {
     private final DockGraph dockGraph;
     private final DockDragService dragService;
     private final Map<String, Node> viewCache;
+    private final DockHitTestIndex hitTestIndex = new DockHitTestIndex();
+    private final List<DockHitTestIndex.Entry> hitCandidates = new ArrayList<>();
+    private final DockHeaderEventRouter headerEventRouter;
+    private final DockDeferredViewQueue<Tab> deferredViews;
+    private long viewGeometryVersion;
     private final StackPane emptyLayoutView;
     private static final String CLEANUP_TASKS_KEY = "snapfx.cleanupTasks";
     private static final String TAB_CLEANUP_KEY = "snapfx.tabCleanup";
-    /** User-data key used on JavaFX tabs to map back to their {@link DockNode}. */
+    private static final String CONTEXT_MENU_FACTORY_KEY = "snapfx.contextMenuFactory";
+    private static final String VIEW_SIGNATURE_KEY = "snapfx.viewSignature";
+    private static final String DEFERRED_ELEMENT_KEY = "snapfx.deferredElement";
+    private static final Duration DEFAULT_INCREMENTAL_BUILD_FRAME_BUDGET = Duration.millis(8);
+    /** User-data key used on JavaFX tabs and their header graphics to map back to their {@link DockNode}. */
     public static final String TAB_DOCK_NODE_KEY = "snapfx.tabDockNode";
     private static final double DROP_ZONE_RATIO = 0.30;
     private static final double DROP_ZONE_MIN_PX = 40.0;
@@ -75,11 +93,19 @@ public class DockLayoutEngine {
 
     private DockCloseButtonMode closeButtonMode = DockCloseButtonMode.BOTH;
     private DockTitleBarMode titleBarMode = DockTitleBarMode.AUTO;
+    private DockHeaderRenderMode headerRenderMode = DockHeaderRenderMode.STANDARD;
+    private boolean incrementalBuildEnabled;
+    private Duration incrementalBuildFrameBudget = DEFAULT_INCREMENTAL_BUILD_FRAME_BUDGET;
     private BiConsumer<DockNode, DockCloseSource> onNodeCloseRequest;
     private Consumer<DockNode> onNodeFloatRequest;
     private BiConsumer<DockNode, Side> onNodePinToSideBarRequest;
     private Predicate<DockNode> canFloatNodePredicate = dockNode -> true;
     private BiFunction<String, Object[], String> textResolver = DEFAULT_TEXT_RESOLVER;
+    private Tooltip tabFloatTooltip;
+    private long viewConfigurationVersion;
+    private int createdViewCount;
+    private int lastBuildCreatedViewCount;
+    private int lastBuildReusedViewCount;
 
     /**
      * Creates a layout engine for one dock graph.
@@ -90,6 +116,11 @@ public class DockLayoutEngine {
     public DockLayoutEngine(DockGraph dockGraph, DockDragService dragService) {
         this.dockGraph = dockGraph;
         this.dragService = dragService;
+        this.headerEventRouter = new DockHeaderEventRouter(dragService);
+        this.deferredViews = new DockDeferredViewQueue<>(
+            this::realizeDeferredTab,
+            toNanos(DEFAULT_INCREMENTAL_BUILD_FRAME_BUDGET)
+        );
         this.viewCache = new HashMap<>();
         this.emptyLayoutView = new StackPane();
         this.emptyLayoutView.getStyleClass().add(DockThemeStyleClasses.DOCK_EMPTY_LAYOUT);
@@ -97,22 +128,129 @@ public class DockLayoutEngine {
 
     /**
      * Builds the visual representation of the DockGraph.
+     * <p>
+     * Views from previous builds are reconciled against the current graph by layout ID. Views whose element,
+     * structure and engine configuration are unchanged are reused together with their listeners; only changed
+     * subtrees are recreated, and views of elements that left the graph are disposed.
+     * </p>
+     * <p>
+     * With {@link #setIncrementalBuildEnabled(boolean) incremental builds} enabled, the contents of unselected tabs
+     * that have no reusable view are not created here. Their tabs show a placeholder and the views are created on
+     * later pulses within the {@link #setIncrementalBuildFrameBudget(Duration) frame budget}, or immediately when
+     * the tab is selected.
+     * </p>
      *
      * @return root JavaFX node representing the current dock layout
      */
     public Node buildSceneGraph() {
-        // Always clear caches to ensure fresh views
-        // This is critical after D&D operations to ensure views are properly attached
-        clearCache();
-
         DockElement root = dockGraph.getRoot();
         DockElement optimizedRoot = unwrapSingleContainerRoot(root);
 
         if (optimizedRoot == null) {
+            clearCache();
+            finishBuildStatistics(0);
+            headerEventRouter.attach(emptyLayoutView);
             return emptyLayoutView; // Empty layout
         }
 
-        return createView(optimizedRoot);
+        Set<String> liveIds = new HashSet<>();
+        Node view = reconcileView(optimizedRoot, liveIds);
+        disposeStaleViews(liveIds);
+        finishBuildStatistics(liveIds.size());
+        headerEventRouter.attach(view);
+        createShownContent(optimizedRoot);
+        return view;
+    }
+
+    /**
+     * Runs the content suppliers of lazy DockNodes the layout currently shows: every split child and the selected
+     * child of every tab pane. Content of unselected tabs is created when the tab gets selected.
+     */
+    private void createShownContent(DockElement element) {
+        switch (element) {
+            case DockNode dockNode -> dockNode.ensureContentCreated();
+            case DockTabPane tabPane -> {
+                if (!tabPane.getChildren().isEmpty()) {
+                    int selectedIndex = Math.clamp(tabPane.getSelectedIndex(), 0, tabPane.getChildren().size() - 1);
+                    createShownContent(tabPane.getChildren().get(selectedIndex));
+                }
+            }
+            case DockContainer container -> container.getChildren().forEach(this::createShownContent);
+            default -> {
+            }
+        }
+    }
+
+    /**
+     * Resolves the view for an element and descends into container children so nested changes are patched
+     * into reused container views.
+     */
+    private Node reconcileView(DockElement element, Set<String> liveIds) {
+        Node view = createView(element);
+        liveIds.add(element.getId());
+        if (element instanceof DockContainer container) {
+            for (DockElement child : container.getChildren()) {
+                if (deferredViews.contains(child.getId())) {
+                    // Still waiting behind a placeholder; keep cached descendants for the later realization
+                    markSubtreeLive(child, liveIds);
+                } else {
+                    reconcileView(child, liveIds);
+                }
+            }
+            syncContainerChildViews(container, view);
+        }
+        return view;
+    }
+
+    private void markSubtreeLive(DockElement element, Set<String> liveIds) {
+        liveIds.add(element.getId());
+        if (element instanceof DockContainer container) {
+            for (DockElement child : container.getChildren()) {
+                markSubtreeLive(child, liveIds);
+            }
+        }
+    }
+
+    /**
+     * Replaces child views inside a reused container view when a child view was recreated.
+     */
+    private void syncContainerChildViews(DockContainer container, Node view) {
+        if (container instanceof DockSplitPane model && view instanceof SplitPane splitPane) {
+            if (!isInSync(splitPane.getItems(), model)) {
+                rebuildSplitPane(splitPane, model);
+            }
+        } else if (container instanceof DockTabPane model && view instanceof TabPane tabPane) {
+            if (tabPane.getTabs().size() != model.getChildren().size()) {
+                rebuildTabPane(tabPane, model);
+                return;
+            }
+            for (int i = 0; i < tabPane.getTabs().size(); i++) {
+                Tab tab = tabPane.getTabs().get(i);
+                Node childView = viewCache.get(model.getChildren().get(i).getId());
+                if (childView != null && tab.getContent() != childView) {
+                    tab.setContent(childView);
+                }
+            }
+        }
+    }
+
+    private void disposeStaleViews(Set<String> liveIds) {
+        List<String> staleIds = new ArrayList<>();
+        for (String id : viewCache.keySet()) {
+            if (!liveIds.contains(id)) {
+                staleIds.add(id);
+            }
+        }
+        for (String id : staleIds) {
+            runCleanupTasks(viewCache.remove(id));
+        }
+    }
+
+    private void finishBuildStatistics(int liveViewCount) {
+        hitTestIndex.invalidate();
+        lastBuildCreatedViewCount = createdViewCount;
+        lastBuildReusedViewCount = Math.max(0, liveViewCount - createdViewCount);
+        createdViewCount = 0;
     }
 
     private DockElement unwrapSingleContainerRoot(DockElement root) {
@@ -134,7 +272,7 @@ public class DockLayoutEngine {
     }
 
     /**
-     * Recursively creates the view for a DockElement.
+     * Returns the cached view for a DockElement when it is still valid, otherwise recursively creates it.
      */
     private Node createView(DockElement element) {
         if (element == null) {
@@ -144,7 +282,11 @@ public class DockLayoutEngine {
         // Check cache
         Node cached = viewCache.get(element.getId());
         if (cached != null) {
-            return cached;
+            if (isViewReusable(element, cached)) {
+                return cached;
+            }
+            viewCache.remove(element.getId());
+            runCleanupTasks(cached);
         }
 
         Node view = switch (element) {
@@ -155,16 +297,41 @@ public class DockLayoutEngine {
         };
 
         viewCache.put(element.getId(), view);
+        hitTestIndex.invalidate();
+        recordViewSignature(element, view);
+        createdViewCount++;
         return view;
     }
 
+    private boolean isViewReusable(DockElement element, Node view) {
+        return view.getProperties().get(VIEW_SIGNATURE_KEY) instanceof ViewSignature signature
+            && signature.equals(createViewSignature(element));
+    }
+
+    private void recordViewSignature(DockElement element, Node view) {
+        view.getProperties().put(VIEW_SIGNATURE_KEY, createViewSignature(element));
+    }
+
+    /**
+     * Captures everything a view was built from: the element instance, its structural shape
+     * (child order for containers, title-bar visibility for nodes) and the engine configuration.
+     */
+    private ViewSignature createViewSignature(DockElement element) {
+        Object structure = switch (element) {
+            case DockNode dockNode -> shouldShowTitleBar(dockNode);
+            case DockContainer container -> List.copyOf(container.getChildren());
+            default -> null;
+        };
+        return new ViewSignature(element, structure, viewConfigurationVersion);
+    }
+
     private Node createDockNodeView(DockNode dockNode) {
-        DockNodeView nodeView = new DockNodeView(dockNode, dockGraph, dragService, textResolver);
+        DockNodeView nodeView = new DockNodeView(dockNode, dockGraph, dragService, textResolver, true, headerRenderMode);
 
         // Set close button action
         nodeView.setOnCloseRequest(() -> handleCloseRequest(dockNode, DockCloseSource.TITLE_BAR));
         nodeView.setOnFloatRequest(() -> handleFloatRequest(dockNode));
-        nodeView.setHeaderContextMenu(createHeaderContextMenu(dockNode));
+        nodeView.setHeaderContextMenuFactory(() -> createHeaderContextMenu(dockNode));
         applyTitleBarVisibility(nodeView, dockNode);
         applyTitleCloseVisibility(nodeView, dockNode);
 
@@ -186,21 +353,87 @@ public class DockLayoutEngine {
         bindDividerPositions(splitPane, model);
 
         // Listener for changes to children
-        ListChangeListener<DockElement> childrenListener = change -> {
-            while (change.next()) {
-                if (change.wasAdded() || change.wasRemoved()) {
-                    rebuildSplitPane(splitPane, model);
-                }
-            }
-        };
+        ListChangeListener<DockElement> childrenListener = change -> applySplitPaneChildChanges(splitPane, model, change);
         model.getChildren().addListener(childrenListener);
         registerCleanupTask(splitPane, () -> model.getChildren().removeListener(childrenListener));
-        splitPane.setContextMenu(createSplitPaneContextMenu(splitPane, model));
-        registerCleanupTask(splitPane, () -> splitPane.setContextMenu(null));
+        splitPane.getProperties().put(CONTEXT_MENU_FACTORY_KEY,
+            (Supplier<ContextMenu>) () -> createSplitPaneContextMenu(splitPane, model));
+        EventHandler<ContextMenuEvent> contextMenuFilter = event -> getOrCreateSplitPaneContextMenu(splitPane);
+        splitPane.addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter);
+        registerCleanupTask(splitPane, () -> {
+            splitPane.removeEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter);
+            splitPane.getProperties().remove(CONTEXT_MENU_FACTORY_KEY);
+            splitPane.setContextMenu(null);
+        });
 
         return splitPane;
     }
 
+    /**
+     * Applies a child-list change to the split pane items: only inserted children get views, removed items are
+     * dropped and permutations reorder the existing views. Falls back to a full rebuild if items and model diverge.
+     */
+    private void applySplitPaneChildChanges(SplitPane splitPane, DockSplitPane model,
+                                            ListChangeListener.Change<? extends DockElement> change) {
+        double[] positions = splitPane.getDividerPositions();
+        ObservableList<Node> items = splitPane.getItems();
+        boolean changed = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(items, change);
+                changed = true;
+                continue;
+            }
+            if (change.wasRemoved()) {
+                items.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                changed = true;
+            }
+            if (change.wasAdded()) {
+                List<Node> addedViews = new ArrayList<>(change.getAddedSize());
+                for (DockElement child : change.getAddedSubList()) {
+                    addedViews.add(createView(child));
+                }
+                items.addAll(change.getFrom(), addedViews);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        if (!isInSync(items, model)) {
+            rebuildSplitPane(splitPane, model);
+            return;
+        }
+        if (positions.length > 0 && !splitPane.getDividers().isEmpty()) {
+            splitPane.setDividerPositions(positions);
+        }
+        bindDividerPositions(splitPane, model);
+        recordViewSignature(model, splitPane);
+    }
+
+    private boolean isInSync(List<Node> items, DockContainer model) {
+        if (items.size() != model.getChildren().size()) {
+            return false;
+        }
+        for (int i = 0; i < items.size(); i++) {
+            if (items.get(i) != viewCache.get(model.getChildren().get(i).getId())) {
+                return false;
+            }
+        }
+        return true;
+    }
+
+    /**
+     * Reorders existing items in one step; setting items one by one would briefly parent a node twice.
+     */
+    private static <T> void permute(ObservableList<T> items, ListChangeListener.Change<?> change) {
+        List<T> reordered = new ArrayList<>(items);
+        for (int i = change.getFrom(); i < change.getTo(); i++) {
+            reordered.set(change.getPermutation(i), items.get(i));
+        }
+        items.setAll(reordered);
+    }
+
     private void rebuildSplitPane(SplitPane splitPane, DockSplitPane model) {
         // Store divider positions
         double[] positions = splitPane.getDividerPositions();
@@ -217,6 +450,7 @@ public class DockLayoutEngine {
         }
 
         bindDividerPositions(splitPane, model);
+        recordViewSignature(model, splitPane);
     }
 
     private void bindDividerPositions(SplitPane splitPane, DockSplitPane model) {
@@ -245,9 +479,19 @@ public class DockLayoutEngine {
         // Create tabs
         model.getChildren().forEach(child -> tabPane.getTabs().add(createTab(child, model)));
 
-        // Bind selection
+        // Deferred tab views and lazy DockNode content are created as soon as their tab is shown
+        tabPane.getSelectionModel().selectedItemProperty().addListener((obs, old, tab) -> {
+            realizeSelectedTab(tab);
+            int index = tabPane.getTabs().indexOf(tab);
+            if (index >= 0 && index < model.getChildren().size()) {
+                createShownContent(model.getChildren().get(index));
+            }
+        });
+
+        // Bind selection; tab insertions and removals must not push transient selections into the model
+        boolean[] syncingChildren = {false};
         tabPane.getSelectionModel().selectedIndexProperty().addListener((obs, old, newVal) -> {
-            if (newVal != null) {
+            if (newVal != null && !syncingChildren[0]) {
                 model.setSelectedIndex(newVal.intValue());
             }
         });
@@ -266,14 +510,29 @@ public class DockLayoutEngine {
 
         // Listener for changes
         ListChangeListener<DockElement> childrenListener = change -> {
-            while (change.next()) {
-                if (change.wasAdded() || change.wasRemoved()) {
-                    rebuildTabPane(tabPane, model);
-                }
+            syncingChildren[0] = true;
+            try {
+                applyTabPaneChildChanges(tabPane, model, change);
+            } finally {
+                syncingChildren[0] = false;
+            }
+            int modelIndex = model.getSelectedIndex();
+            if (modelIndex >= 0 && modelIndex < tabPane.getTabs().size()
+                && tabPane.getSelectionModel().getSelectedIndex() != modelIndex) {
+                tabPane.getSelectionModel().select(modelIndex);
             }
         };
         model.getChildren().addListener(childrenListener);
 
+        // Tab context menus are created on the first request for their tab
+        EventHandler<ContextMenuEvent> contextMenuFilter = event -> {
+            Tab tab = findTabForTarget(tabPane, event.getTarget());
+            if (tab != null) {
+                getOrCreateTabContextMenu(tab);
+            }
+        };
+        tabPane.addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter);
+
         // Auto-hide in locked mode
         tabPane.visibleProperty().bind(
             dockGraph.lockedProperty().not()
@@ -282,6 +541,8 @@ public class DockLayoutEngine {
 
         registerCleanupTask(tabPane, () -> model.selectedIndexProperty().removeListener(modelSelectionListener));
         registerCleanupTask(tabPane, () -> model.getChildren().removeListener(childrenListener));
+        registerCleanupTask(tabPane,
+            () -> tabPane.removeEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, contextMenuFilter));
         registerCleanupTask(tabPane, () -> {
             if (tabPane.visibleProperty().isBound()) {
                 tabPane.visibleProperty().unbind();
@@ -292,14 +553,56 @@ public class DockLayoutEngine {
         return tabPane;
     }
 
+    /**
+     * Applies a child-list change to the tabs: only inserted children get new tabs, removed tabs are disposed and
+     * permutations reorder the existing tabs. Falls back to a full rebuild if tabs and model diverge.
+     */
+    private void applyTabPaneChildChanges(TabPane tabPane, DockTabPane model,
+                                          ListChangeListener.Change<? extends DockElement> change) {
+        ObservableList<Tab> tabs = tabPane.getTabs();
+        boolean changed = false;
+        while (change.next()) {
+            if (change.wasPermutated()) {
+                permute(tabs, change);
+                changed = true;
+                continue;
+            }
+            if (change.wasRemoved()) {
+                List<Tab> removedTabs = new ArrayList<>(
+                    tabs.subList(change.getFrom(), change.getFrom() + change.getRemovedSize()));
+                tabs.remove(change.getFrom(), change.getFrom() + change.getRemovedSize());
+                removedTabs.forEach(this::disposeTab);
+                changed = true;
+            }
+            if (change.wasAdded()) {
+                List<Tab> addedTabs = new ArrayList<>(change.getAddedSize());
+                for (DockElement child : change.getAddedSubList()) {
+                    addedTabs.add(createTab(child, model));
+                }
+                tabs.addAll(change.getFrom(), addedTabs);
+                changed = true;
+            }
+        }
+        if (!changed) {
+            return;
+        }
+        boolean inSync = tabs.size() == model.getChildren().size();
+        for (int i = 0; inSync && i < tabs.size(); i++) {
+            DockElement child = model.getChildren().get(i);
+            Node content = tabs.get(i).getContent();
+            inSync = content == viewCache.get(child.getId()) || getDeferredElement(content) == child;
+        }
+        if (!inSync) {
+            rebuildTabPane(tabPane, model);
+            return;
+        }
+        recordViewSignature(model, tabPane);
+    }
+
     private void rebuildTabPane(TabPane tabPane, DockTabPane model) {
         int selectedIndex = tabPane.getSelectionModel().getSelectedIndex();
 
-        // Clear cache entries for all children to ensure fresh views
-        for (DockElement child : model.getChildren()) {
-            clearCacheForElement(child);
-        }
-
+        // Child views stay cached; createView recreates only those whose signature changed
         disposeTabs(tabPane);
         tabPane.getTabs().clear();
         for (DockElement child : model.getChildren()) {
@@ -311,23 +614,7 @@ public class DockLayoutEngine {
         if (selectedIndex >= 0 && selectedIndex < tabPane.getTabs().size()) {
             tabPane.getSelectionModel().select(selectedIndex);
         }
-    }
-
-    /**
-     * Recursively clears cache entries for an element and all its children.
-     */
-    private void clearCacheForElement(DockElement element) {
-        if (element == null) {
-            return;
-        }
-
-        viewCache.remove(element.getId());
-
-        if (element instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                clearCacheForElement(child);
-            }
-        }
+        recordViewSignature(model, tabPane);
     }
 
     /**
@@ -339,7 +626,9 @@ public class DockLayoutEngine {
      */
     private Tab createTab(DockElement element, DockTabPane ownerTabPane) {
         Tab tab = new Tab();
-        Node contentView = createView(element);
+        Node contentView = shouldDeferTabContent(element, ownerTabPane)
+            ? createDeferredPlaceholder(element, tab)
+            : createView(element);
         tab.setContent(contentView);
 
         if (element instanceof DockNode dockNode) {
@@ -347,11 +636,12 @@ public class DockLayoutEngine {
             tab.setGraphic(tabHeader.node());
             tab.getProperties().put(TAB_CLEANUP_KEY, tabHeader.cleanup());
             tab.getProperties().put(TAB_DOCK_NODE_KEY, dockNode);
+            tabHeader.node().getProperties().put(TAB_DOCK_NODE_KEY, dockNode);
             tab.textProperty().bind(dockNode.titleProperty());
             tab.getStyleClass().add(DockThemeStyleClasses.DOCK_TAB_GRAPHIC);
-            setupTabDragHandlers(tab, dockNode);
             bindTabCloseable(tab, dockNode);
-            tab.setContextMenu(createTabContextMenu(ownerTabPane, dockNode));
+            tab.getProperties().put(CONTEXT_MENU_FACTORY_KEY,
+                (Supplier<ContextMenu>) () -> createTabContextMenu(ownerTabPane, dockNode));
             tab.setOnCloseRequest(event -> {
                 handleCloseRequest(dockNode, DockCloseSource.TAB);
                 event.consume();
@@ -375,6 +665,65 @@ public class DockLayoutEngine {
         return tab;
     }
 
+    /**
+     * Unselected tab contents are deferred during incremental builds unless a reusable view already exists.
+     */
+    private boolean shouldDeferTabContent(DockElement element, DockTabPane ownerTabPane) {
+        if (!incrementalBuildEnabled || element.getId() == null) {
+            return false;
+        }
+        int selectedIndex = Math.max(0, ownerTabPane.getSelectedIndex());
+        if (ownerTabPane.getChildren().indexOf(element) == selectedIndex) {
+            return false;
+        }
+        Node cached = viewCache.get(element.getId());
+        return cached == null || !isViewReusable(element, cached);
+    }
+
+    private Node createDeferredPlaceholder(DockElement element, Tab tab) {
+        Node stale = viewCache.remove(element.getId());
+        if (stale != null) {
+            runCleanupTasks(stale);
+            hitTestIndex.invalidate();
+        }
+        StackPane placeholder = new StackPane();
+        placeholder.getStyleClass().add(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER);
+        placeholder.getProperties().put(DEFERRED_ELEMENT_KEY, element);
+        deferredViews.add(element.getId(), tab);
+        return placeholder;
+    }
+
+    private static DockElement getDeferredElement(Node content) {
+        if (content == null || !content.hasProperties()) {
+            return null;
+        }
+        return content.getProperties().get(DEFERRED_ELEMENT_KEY) instanceof DockElement element ? element : null;
+    }
+
+    /**
+     * Replaces the placeholder of a deferred tab with the real view.
+     *
+     * @return {@code false} when the tab was disposed or already realized
+     */
+    private boolean realizeDeferredTab(Tab tab) {
+        DockElement element = getDeferredElement(tab.getContent());
+        if (element == null || tab.getTabPane() == null) {
+            return false;
+        }
+        // Realized views belong to the build that deferred them, not to the next build's statistics
+        int buildCreatedViewCount = createdViewCount;
+        tab.setContent(createView(element));
+        createdViewCount = buildCreatedViewCount;
+        return true;
+    }
+
+    private void realizeSelectedTab(Tab tab) {
+        DockElement element = tab == null ? null : getDeferredElement(tab.getContent());
+        if (element != null) {
+            deferredViews.realizeNow(element.getId());
+        }
+    }
+
     private TabHeader createContainerTabHeader(Tab tab, DockElement element) {
         HBox tabHeader = new HBox(5);
         tabHeader.setAlignment(Pos.CENTER_LEFT);
@@ -388,19 +737,17 @@ public class DockLayoutEngine {
         List<Runnable> subtreeCleanup = new ArrayList<>();
 
         Runnable refreshHeader = () -> updateContainerTabHeader(tab, element, tabLabel, iconPane);
-        Runnable refreshListeners = () -> {
+        Runnable[] refreshListeners = new Runnable[1];
+        refreshListeners[0] = () -> {
             clearContainerTabHeaderListeners(subtreeCleanup);
-            registerContainerTabHeaderListeners(element, refreshHeader, subtreeCleanup);
+            registerContainerTabHeaderListeners(element, refreshHeader, refreshListeners[0], subtreeCleanup);
             refreshHeader.run();
         };
-        ChangeListener<Number> revisionListener = (obs, oldValue, newValue) -> refreshListeners.run();
-        dockGraph.revisionProperty().addListener(revisionListener);
-        refreshListeners.run();
+        refreshListeners[0].run();
 
         tabHeader.getChildren().addAll(iconPane, tabLabel);
 
         Runnable cleanup = () -> {
-            dockGraph.revisionProperty().removeListener(revisionListener);
             clearContainerTabHeaderListeners(subtreeCleanup);
             iconPane.getChildren().clear();
             iconPane.setVisible(true);
@@ -426,11 +773,36 @@ public class DockLayoutEngine {
         iconPane.setManaged(hasIcon);
     }
 
-    private void registerContainerTabHeaderListeners(DockElement element, Runnable onUpdate, List<Runnable> cleanup) {
-        if (element == null || onUpdate == null || cleanup == null) {
+    /**
+     * Subscribes a container tab header to exactly the state its text and icon depend on: the child lists of all
+     * containers in the subtree (node count), the tab selection along the path to the representative node, and the
+     * title and icon of that node. Membership and path changes re-register the subscription; title and icon changes
+     * only refresh the header.
+     */
+    private void registerContainerTabHeaderListeners(
+        DockElement element,
+        Runnable onUpdate,
+        Runnable onStructureChange,
+        List<Runnable> cleanup
+    ) {
+        if (element == null || onUpdate == null || onStructureChange == null || cleanup == null) {
             return;
         }
-        if (element instanceof DockNode dockNode) {
+        registerSubtreeMembershipListeners(element, onStructureChange, cleanup);
+
+        DockElement current = element;
+        while (current instanceof DockContainer container && !container.getChildren().isEmpty()) {
+            if (container instanceof DockTabPane tabPane) {
+                ChangeListener<Number> selectedIndexListener = (obs, oldValue, newValue) -> onStructureChange.run();
+                tabPane.selectedIndexProperty().addListener(selectedIndexListener);
+                cleanup.add(() -> tabPane.selectedIndexProperty().removeListener(selectedIndexListener));
+                int selectedIndex = Math.clamp(tabPane.getSelectedIndex(), 0, tabPane.getChildren().size() - 1);
+                current = tabPane.getChildren().get(selectedIndex);
+            } else {
+                current = container.getChildren().getFirst();
+            }
+        }
+        if (current instanceof DockNode dockNode) {
             ChangeListener<String> titleListener = (obs, oldValue, newValue) -> onUpdate.run();
             ChangeListener<Image> iconListener = (obs, oldValue, newValue) -> onUpdate.run();
             dockNode.titleProperty().addListener(titleListener);
@@ -438,15 +810,17 @@ public class DockLayoutEngine {
             cleanup.add(() -> dockNode.titleProperty().removeListener(titleListener));
             cleanup.add(() -> dockNode.iconProperty().removeListener(iconListener));
         }
-        if (element instanceof DockTabPane tabPane) {
-            ChangeListener<Number> selectedIndexListener = (obs, oldValue, newValue) -> onUpdate.run();
-            tabPane.selectedIndexProperty().addListener(selectedIndexListener);
-            cleanup.add(() -> tabPane.selectedIndexProperty().removeListener(selectedIndexListener));
+    }
+
+    private void registerSubtreeMembershipListeners(DockElement element, Runnable onChange, List<Runnable> cleanup) {
+        if (!(element instanceof DockContainer container)) {
+            return;
         }
-        if (element instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                registerContainerTabHeaderListeners(child, onUpdate, cleanup);
-            }
+        ListChangeListener<DockElement> childrenListener = change -> onChange.run();
+        container.getChildren().addListener(childrenListener);
+        cleanup.add(() -> container.getChildren().removeListener(childrenListener));
+        for (DockElement child : container.getChildren()) {
+            registerSubtreeMembershipListeners(child, onChange, cleanup);
         }
     }
 
@@ -717,7 +1091,7 @@ public class DockLayoutEngine {
         Button floatButton = new Button();
         floatButton.getStyleClass().addAll(DockThemeStyleClasses.DOCK_NODE_CLOSE_BUTTON, DockThemeStyleClasses.DOCK_TAB_FLOAT_BUTTON);
         floatButton.setGraphic(createControlIcon(DockThemeStyleClasses.DOCK_CONTROL_ICON_FLOAT));
-        floatButton.setTooltip(new Tooltip(text("dock.layout.tooltip.floatWindow")));
+        DockTooltips.installTooltipOnHover(floatButton, this::getTabFloatTooltip);
         floatButton.setFocusTraversable(false);
         floatButton.visibleProperty().bind(dockGraph.lockedProperty().not());
         floatButton.managedProperty().bind(floatButton.visibleProperty());
@@ -741,6 +1115,64 @@ public class DockLayoutEngine {
         return new TabHeader(tabHeader, cleanup);
     }
 
+    /**
+     * Returns the float-button tooltip shared by all tab headers of this engine.
+     */
+    private Tooltip getTabFloatTooltip() {
+        if (tabFloatTooltip == null) {
+            tabFloatTooltip = new Tooltip(text("dock.layout.tooltip.floatWindow"));
+        }
+        return tabFloatTooltip;
+    }
+
+    /**
+     * Returns the context menu of a dock-node tab, creating it on first access.
+     *
+     * @param tab tab created by this engine
+     * @return tab context menu, or {@code null} if the tab has none
+     */
+    ContextMenu getOrCreateTabContextMenu(Tab tab) {
+        if (tab.getContextMenu() == null
+            && tab.getProperties().remove(CONTEXT_MENU_FACTORY_KEY) instanceof Supplier<?> factory) {
+            tab.setContextMenu((ContextMenu) factory.get());
+        }
+        return tab.getContextMenu();
+    }
+
+    /**
+     * Returns the context menu of a split pane, creating it on first access.
+     *
+     * @param splitPane split pane created by this engine
+     * @return split pane context menu, or {@code null} if the split pane has none
+     */
+    ContextMenu getOrCreateSplitPaneContextMenu(SplitPane splitPane) {
+        if (splitPane.getContextMenu() == null
+            && splitPane.getProperties().remove(CONTEXT_MENU_FACTORY_KEY) instanceof Supplier<?> factory) {
+            splitPane.setContextMenu((ContextMenu) factory.get());
+        }
+        return splitPane.getContextMenu();
+    }
+
+    /**
+     * Resolves the tab whose header contains the event target. Tab headers are tagged with their tab by the
+     * TabPane skin; the tab graphic is checked as a fallback.
+     */
+    private Tab findTabForTarget(TabPane tabPane, EventTarget target) {
+        Node node = target instanceof Node targetNode ? targetNode : null;
+        while (node != null && node != tabPane) {
+            if (node.getProperties().get(Tab.class) instanceof Tab tab && tab.getTabPane() == tabPane) {
+                return tab;
+            }
+            for (Tab tab : tabPane.getTabs()) {
+                if (tab.getGraphic() == node) {
+                    return tab;
+                }
+            }
+            node = node.getParent();
+        }
+        return null;
+    }
+
     private Region createControlIcon(String styleClass) {
         Region icon = new Region();
         icon.getStyleClass().addAll(DockThemeStyleClasses.DOCK_CONTROL_ICON, styleClass);
@@ -759,50 +1191,6 @@ public class DockLayoutEngine {
         return icon;
     }
 
-    /**
-     * Sets up drag handlers for a tab header to enable D&amp;D for DockNode tabs.
-     * @param tab The Tab
-     * @param dockNode The DockNode
-     */
-    private void setupTabDragHandlers(Tab tab, DockNode dockNode) {
-        Node header = tab.getGraphic();
-        if (dragService != null && header != null) {
-            header.setOnMousePressed(e -> {
-                if (isInteractiveControlTarget(e.getTarget())) {
-                    return;
-                }
-                dragService.startDrag(dockNode, e);
-            });
-            header.setOnMouseDragged(e -> {
-                if (isInteractiveControlTarget(e.getTarget())) {
-                    return;
-                }
-                if (dragService.isDragging()) {
-                    dragService.updateDrag(e);
-                }
-            });
-            header.setOnMouseReleased(e -> {
-                if (dragService.isDragging()) {
-                    dragService.endDrag(e);
-                }
-            });
-        }
-    }
-
-    private boolean isInteractiveControlTarget(Object target) {
-        if (!(target instanceof Node node)) {
-            return false;
-        }
-        Node current = node;
-        while (current != null) {
-            if (current instanceof Button) {
-                return true;
-            }
-            current = current.getParent();
-        }
-        return false;
-    }
-
     /**
      * Binds the closeable property of a tab to the DockNode and DockGraph locked state.
      * @param tab The Tab
@@ -889,12 +1277,27 @@ public class DockLayoutEngine {
      * @return The best matching DockElement or null
      */
     public DockElement findElementAt(double sceneX, double sceneY) {
-        List<TargetCandidate> candidates = collectTargetCandidates(sceneX, sceneY);
-        if (candidates.isEmpty()) {
+        ensureHitTestIndex();
+        hitCandidates.clear();
+        hitTestIndex.query(sceneX, sceneY, hitCandidates);
+        if (hitCandidates.isEmpty()) {
             return null;
         }
-        candidates.sort(this::compareCandidates);
-        return candidates.getFirst().element;
+        hitCandidates.sort(this::compareCandidates);
+        DockElement element = hitCandidates.getFirst().element;
+        hitCandidates.clear();
+        return element;
+    }
+
+    /**
+     * Returns a counter that changes whenever rendered views were created, disposed, moved or resized since the
+     * previous call. Callers can use it to keep scene-space data such as drop zones between pointer events.
+     *
+     * @return current view geometry version
+     */
+    public long getViewGeometryVersion() {
+        ensureHitTestIndex();
+        return viewGeometryVersion;
     }
 
     /**
@@ -903,17 +1306,29 @@ public class DockLayoutEngine {
      * @return resolved drop zones in scene space
      */
     public List<DockDropZone> collectDropZones() {
-        List<DockDropZone> zones = new ArrayList<>();
+        DockDropZoneTable table = new DockDropZoneTable();
+        collectDropZones(table);
+        return table.toZoneList();
+    }
+
+    /**
+     * Collects drop zones for all elements in the current graph into a reusable zone table.
+     * Tab-header zones include their tab header edges so {@link DockDropZoneTable#findBest(double, double)} can
+     * resolve tab insert positions without scene-graph lookups.
+     *
+     * @param table target table, cleared before collecting
+     */
+    public void collectDropZones(DockDropZoneTable table) {
+        table.clear();
         DockElement root = dockGraph.getRoot();
         if (root == null) {
-            addEmptyLayoutDropZone(zones);
-            return zones;
+            addEmptyLayoutDropZone(table);
+            return;
         }
-        collectDropZonesRecursive(root, 0, zones);
-        return zones;
+        collectDropZonesRecursive(root, 0, table);
     }
 
-    private void addEmptyLayoutDropZone(List<DockDropZone> zones) {
+    private void addEmptyLayoutDropZone(DockDropZoneTable table) {
         if (emptyLayoutView.getScene() == null) {
             return;
         }
@@ -921,7 +1336,8 @@ public class DockLayoutEngine {
         if (bounds == null || bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
             return;
         }
-        zones.add(new DockDropZone(null, DockPosition.CENTER, DockDropZoneType.CENTER, bounds, 0, null, null));
+        table.add(null, DockPosition.CENTER, DockDropZoneType.CENTER,
+            bounds.getMinX(), bounds.getMinY(), bounds.getWidth(), bounds.getHeight(), 0);
     }
 
     /**
@@ -969,85 +1385,93 @@ public class DockLayoutEngine {
     }
 
     /**
-     * Collects all DockElements whose view contains the given scene coordinates.
-     * @param sceneX X coordinate
-     * @param sceneY Y coordinate
-     * @return List of TargetCandidate
+     * Rebuilds the hit-test grid from the current views if a layout pass or a bounds change invalidated it.
      */
-    private List<TargetCandidate> collectTargetCandidates(double sceneX, double sceneY) {
-        List<TargetCandidate> candidates = new ArrayList<>();
-        for (var entry : viewCache.entrySet()) {
-            Node n = entry.getValue();
-            if (n != null && n.getScene() != null) {
-                Bounds b = n.localToScene(n.getBoundsInLocal());
-                if (b.contains(sceneX, sceneY)) {
-                    DockElement element = findElementById(entry.getKey());
-                    addTargetCandidateIfValid(candidates, element, n, b, sceneX, sceneY);
-                }
-            }
+    private void ensureHitTestIndex() {
+        if (hitTestIndex.isValid()) {
+            return;
         }
-        return candidates;
+        List<DockHitTestIndex.Entry> entries = new ArrayList<>();
+        collectHitTestEntries(dockGraph.getRoot(), entries);
+        hitTestIndex.rebuild(entries);
+        viewGeometryVersion++;
     }
 
-    /**
-     * Adds a TargetCandidate to the list if the element is valid.
-     */
-    private void addTargetCandidateIfValid(List<TargetCandidate> candidates, DockElement element, Node n, Bounds b, double sceneX, double sceneY) {
-        if (element == null) return;
-        double distanceFromCenter = calculateDistanceFromCenter(b, sceneX, sceneY);
-        boolean isTabHeader = isOverTabHeader(n, sceneX, sceneY);
-        candidates.add(new TargetCandidate(element, n, b, distanceFromCenter, isTabHeader));
+    private void collectHitTestEntries(DockElement element, List<DockHitTestIndex.Entry> entries) {
+        if (element == null) {
+            return;
+        }
+        Node view = viewCache.get(element.getId());
+        if (view != null && view.getScene() != null) {
+            Bounds bounds = view.localToScene(view.getBoundsInLocal());
+            if (bounds.getWidth() > 0 && bounds.getHeight() > 0) {
+                entries.add(new DockHitTestIndex.Entry(element, view, bounds, resolveTabHeaderBounds(view)));
+            }
+        }
+        if (element instanceof DockContainer container) {
+            for (DockElement child : container.getChildren()) {
+                collectHitTestEntries(child, entries);
+            }
+        }
     }
 
-    private void collectDropZonesRecursive(DockElement element, int depth, List<DockDropZone> zones) {
+    private void collectDropZonesRecursive(DockElement element, int depth, DockDropZoneTable table) {
         Node view = viewCache.get(element.getId());
         if (view != null && view.getScene() != null) {
             Bounds bounds = view.localToScene(view.getBoundsInLocal());
-            addElementZones(element, view, bounds, depth, zones);
+            addElementZones(element, view, bounds, depth, table);
         }
 
         if (element instanceof DockContainer container) {
             for (DockElement child : container.getChildren()) {
-                collectDropZonesRecursive(child, depth + 1, zones);
+                collectDropZonesRecursive(child, depth + 1, table);
             }
         }
     }
 
-    private void addElementZones(DockElement element, Node view, Bounds bounds, int depth, List<DockDropZone> zones) {
+    private void addElementZones(DockElement element, Node view, Bounds bounds, int depth, DockDropZoneTable table) {
         if (bounds == null || bounds.getWidth() <= 0 || bounds.getHeight() <= 0) {
             return;
         }
 
         boolean isLeaf = !(element instanceof DockContainer);
-        Bounds zoneBounds = (isLeaf && element.getParent() != null)
-            ? insetBounds(bounds, LEAF_DROP_ZONE_INSET_PX)
-            : bounds;
-        if (zoneBounds.getWidth() <= 0 || zoneBounds.getHeight() <= 0) {
-            zoneBounds = bounds;
+        double x = bounds.getMinX();
+        double y = bounds.getMinY();
+        double w = bounds.getWidth();
+        double h = bounds.getHeight();
+        if (isLeaf && element.getParent() != null) {
+            double insetW = w - (LEAF_DROP_ZONE_INSET_PX * 2);
+            double insetH = h - (LEAF_DROP_ZONE_INSET_PX * 2);
+            if (insetW > 0 && insetH > 0) {
+                x += LEAF_DROP_ZONE_INSET_PX;
+                y += LEAF_DROP_ZONE_INSET_PX;
+                w = insetW;
+                h = insetH;
+            }
         }
 
         double zoneRatio = isLeaf ? LEAF_DROP_ZONE_RATIO : DROP_ZONE_RATIO;
         double zoneMin = isLeaf ? LEAF_DROP_ZONE_MIN_PX : DROP_ZONE_MIN_PX;
         double zoneMaxRatio = isLeaf ? LEAF_DROP_ZONE_MAX_RATIO : DROP_ZONE_MAX_RATIO;
 
-        double edgeW = calculateDropZoneEdgeSize(zoneBounds.getWidth(), zoneRatio, zoneMin, zoneMaxRatio);
-        double edgeH = calculateDropZoneEdgeSize(zoneBounds.getHeight(), zoneRatio, zoneMin, zoneMaxRatio);
-
-        Bounds left = new BoundingBox(zoneBounds.getMinX(), zoneBounds.getMinY(), edgeW, zoneBounds.getHeight());
-        Bounds right = new BoundingBox(zoneBounds.getMaxX() - edgeW, zoneBounds.getMinY(), edgeW, zoneBounds.getHeight());
-        Bounds top = new BoundingBox(zoneBounds.getMinX(), zoneBounds.getMinY(), zoneBounds.getWidth(), edgeH);
-        Bounds bottom = new BoundingBox(zoneBounds.getMinX(), zoneBounds.getMaxY() - edgeH, zoneBounds.getWidth(), edgeH);
+        double edgeW = calculateDropZoneEdgeSize(w, zoneRatio, zoneMin, zoneMaxRatio);
+        double edgeH = calculateDropZoneEdgeSize(h, zoneRatio, zoneMin, zoneMaxRatio);
 
-        Bounds center = buildCenterBounds(zoneBounds, edgeW, edgeH);
+        table.add(element, DockPosition.LEFT, DockDropZoneType.EDGE, x, y, edgeW, h, depth);
+        table.add(element, DockPosition.RIGHT, DockDropZoneType.EDGE, x + w - edgeW, y, edgeW, h, depth);
+        table.add(element, DockPosition.TOP, DockDropZoneType.EDGE, x, y, w, edgeH, depth);
+        table.add(element, DockPosition.BOTTOM, DockDropZoneType.EDGE, x, y + h - edgeH, w, edgeH, depth);
 
-        zones.add(new DockDropZone(element, DockPosition.LEFT, DockDropZoneType.EDGE, left, depth, null, null));
-        zones.add(new DockDropZone(element, DockPosition.RIGHT, DockDropZoneType.EDGE, right, depth, null, null));
-        zones.add(new DockDropZone(element, DockPosition.TOP, DockDropZoneType.EDGE, top, depth, null, null));
-        zones.add(new DockDropZone(element, DockPosition.BOTTOM, DockDropZoneType.EDGE, bottom, depth, null, null));
-        zones.add(new DockDropZone(element, DockPosition.CENTER, DockDropZoneType.CENTER, center, depth, null, null));
+        double innerW = w - (edgeW * 2);
+        double innerH = h - (edgeH * 2);
+        if (innerW <= 1 || innerH <= 1) {
+            table.add(element, DockPosition.CENTER, DockDropZoneType.CENTER, x, y, w, h, depth);
+        } else {
+            table.add(element, DockPosition.CENTER, DockDropZoneType.CENTER, x + edgeW, y + edgeH, innerW, innerH, depth);
+        }
 
         if (view instanceof TabPane tabPane) {
-            addTabHeaderZone(element, tabPane, depth, zones);
+            addTabHeaderZone(element, tabPane, depth, table);
         }
     }
 
@@ -1063,18 +1487,7 @@ public class DockLayoutEngine {
         return Math.clamp(span * ratio, normalizedMin, maxSize);
     }
 
-    private Bounds buildCenterBounds(Bounds bounds, double edgeW, double edgeH) {
-        double innerW = bounds.getWidth() - (edgeW * 2);
-        double innerH = bounds.getHeight() - (edgeH * 2);
-        if (innerW <= 1 || innerH <= 1) {
-            return bounds;
-        }
-        double innerX = bounds.getMinX() + edgeW;
-        double innerY = bounds.getMinY() + edgeH;
-        return new BoundingBox(innerX, innerY, innerW, innerH);
-    }
-
-    private void addTabHeaderZone(DockElement element, TabPane tabPane, int depth, List<DockDropZone> zones) {
+    private void addTabHeaderZone(DockElement element, TabPane tabPane, int depth, DockDropZoneTable table) {
         tabPane.applyCss();
         Node headerArea = tabPane.lookup(".tab-header-area");
         if (headerArea == null) {
@@ -1084,8 +1497,18 @@ public class DockLayoutEngine {
         if (headerBounds.getWidth() <= 0 || headerBounds.getHeight() <= 0) {
             return;
         }
-        zones.add(new DockDropZone(element, DockPosition.CENTER, DockDropZoneType.TAB_HEADER,
-            headerBounds, depth, null, null));
+        int index = table.add(element, DockPosition.CENTER, DockDropZoneType.TAB_HEADER,
+            headerBounds.getMinX(), headerBounds.getMinY(), headerBounds.getWidth(), headerBounds.getHeight(), depth);
+        List<Bounds> tabBounds = collectTabHeaderBounds(tabPane);
+        if (tabBounds.isEmpty()) {
+            return;
+        }
+        double[] edges = new double[tabBounds.size() * 2];
+        for (int i = 0; i < tabBounds.size(); i++) {
+            edges[i * 2] = tabBounds.get(i).getMinX();
+            edges[i * 2 + 1] = tabBounds.get(i).getMaxX();
+        }
+        table.setTabHeaderEdges(index, edges);
     }
 
     private Integer resolveTabInsertIndex(DockDropZone zone, double sceneX) {
@@ -1144,22 +1567,7 @@ public class DockLayoutEngine {
     }
 
     private int getZonePriority(DockDropZone zone) {
-        int typePriority = switch (zone.getType()) {
-            case TAB_INSERT -> 400;
-            case TAB_HEADER -> 350;
-            case EDGE -> 200;
-            case CENTER -> 100;
-        };
-        return (zone.getDepth() * 1000) + typePriority;
-    }
-
-    private Bounds insetBounds(Bounds bounds, double inset) {
-        double w = bounds.getWidth() - (inset * 2);
-        double h = bounds.getHeight() - (inset * 2);
-        if (w <= 0 || h <= 0) {
-            return bounds;
-        }
-        return new BoundingBox(bounds.getMinX() + inset, bounds.getMinY() + inset, w, h);
+        return DockDropZoneTable.priorityOf(zone.getType(), zone.getDepth());
     }
 
     /**
@@ -1177,12 +1585,12 @@ public class DockLayoutEngine {
     }
 
     /**
-     * Compares two TargetCandidates for selection priority.
+     * Compares two hit-test candidates for selection priority.
      * @param a First candidate
      * @param b Second candidate
      * @return Comparison result
      */
-    private int compareCandidates(TargetCandidate a, TargetCandidate b) {
+    private int compareCandidates(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         int tabHeaderResult = compareTabHeaderPriority(a, b);
         if (tabHeaderResult != 0) return tabHeaderResult;
         int leafResult = compareLeafPriority(a, b);
@@ -1192,7 +1600,7 @@ public class DockLayoutEngine {
         return compareAreaPriority(a, b);
     }
 
-    private int compareTabHeaderPriority(TargetCandidate a, TargetCandidate b) {
+    private int compareTabHeaderPriority(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         boolean aIsTabHeader = a.isTabHeader;
         boolean bIsTabHeader = b.isTabHeader;
         if (aIsTabHeader && !bIsTabHeader) return -1;
@@ -1201,7 +1609,7 @@ public class DockLayoutEngine {
     }
 
 
-    private int compareLeafPriority(TargetCandidate a, TargetCandidate b) {
+    private int compareLeafPriority(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         boolean aIsLeaf = a.element instanceof DockNode;
         boolean bIsLeaf = b.element instanceof DockNode;
         if (aIsLeaf && !bIsLeaf) return -1;
@@ -1209,7 +1617,7 @@ public class DockLayoutEngine {
         return 0;
     }
 
-    private int compareContainerPriority(TargetCandidate a, TargetCandidate b) {
+    private int compareContainerPriority(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         boolean aIsContainer = a.element instanceof DockContainer;
         boolean bIsContainer = b.element instanceof DockContainer;
         if (aIsContainer && !bIsContainer) return -1;
@@ -1217,7 +1625,7 @@ public class DockLayoutEngine {
         return 0;
     }
 
-    private int compareAreaPriority(TargetCandidate a, TargetCandidate b) {
+    private int compareAreaPriority(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         double aArea = a.bounds.getWidth() * a.bounds.getHeight();
         double bArea = b.bounds.getWidth() * b.bounds.getHeight();
         if (isNearCenter(a, b)) {
@@ -1228,93 +1636,59 @@ public class DockLayoutEngine {
         return 0;
     }
 
-    private boolean isNearCenter(TargetCandidate a, TargetCandidate b) {
+    private boolean isNearCenter(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         return a.distanceFromCenter < 0.6 && b.distanceFromCenter < 0.6;
     }
 
-    private boolean isNearEdge(TargetCandidate a, TargetCandidate b) {
+    private boolean isNearEdge(DockHitTestIndex.Entry a, DockHitTestIndex.Entry b) {
         return a.distanceFromCenter >= 0.6 || b.distanceFromCenter >= 0.6;
     }
 
     /**
-     * Finds the DockElement by its ID.
-     * @param id The ID of the DockElement
-     * @return The DockElement or null if not found
+     * Resolves the scene bounds of a tab pane's header area once per hit-test index build.
+     * @param node The view node
+     * @return Header bounds, or null if the node is not a rendered TabPane
      */
-    private DockElement findElementById(String id) {
-        DockElement root = dockGraph.getRoot();
-        if (root == null) return null;
-        if (root.getId().equals(id)) return root;
-        if (root instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                DockElement result = findElementByIdRecursive(child, id);
-                if (result != null) {
-                    return result;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Recursively finds the DockElement by its ID.
-     * @param element The current DockElement
-     * @param id The ID to find
-     * @return The DockElement or null if not found
-     */
-    private DockElement findElementByIdRecursive(DockElement element, String id) {
-        if (element.getId().equals(id)) {
-            return element;
-        }
-        if (element instanceof DockContainer container) {
-            for (DockElement child : container.getChildren()) {
-                DockElement result = findElementByIdRecursive(child, id);
-                if (result != null) {
-                    return result;
-                }
-            }
-        }
-        return null;
-    }
-
-    /**
-     * Checks if the given coordinates are over a tab header.
-     * @param node The node
-     * @param x X coordinate
-     * @param y Y coordinate
-     * @return True if over tab header, false otherwise
-     */
-    private boolean isOverTabHeader(Node node, double x, double y) {
+    private Bounds resolveTabHeaderBounds(Node node) {
         if (!(node instanceof TabPane tabPane) || tabPane.getScene() == null) {
-            return false;
+            return null;
         }
         Node headerArea = tabPane.lookup(".tab-header-area");
         if (headerArea == null) {
-            return false;
+            return null;
         }
-        Bounds headerBounds = headerArea.localToScene(headerArea.getBoundsInLocal());
-        return headerBounds.contains(x, y);
+        return headerArea.localToScene(headerArea.getBoundsInLocal());
     }
 
     private void disposeTabs(TabPane tabPane) {
         for (Tab tab : tabPane.getTabs()) {
-            Object cleanup = tab.getProperties().remove(TAB_CLEANUP_KEY);
-            if (cleanup instanceof Runnable runnable) {
-                runnable.run();
-            }
-            if (tab.textProperty().isBound()) {
-                tab.textProperty().unbind();
-            }
-            if (tab.closableProperty().isBound()) {
-                tab.closableProperty().unbind();
-            }
-            tab.setOnCloseRequest(null);
-            tab.setOnClosed(null);
-            tab.setGraphic(null);
-            tab.setContent(null);
+            disposeTab(tab);
         }
     }
 
+    private void disposeTab(Tab tab) {
+        Object cleanup = tab.getProperties().remove(TAB_CLEANUP_KEY);
+        if (cleanup instanceof Runnable runnable) {
+            runnable.run();
+        }
+        if (tab.textProperty().isBound()) {
+            tab.textProperty().unbind();
+        }
+        if (tab.closableProperty().isBound()) {
+            tab.closableProperty().unbind();
+        }
+        tab.getProperties().remove(CONTEXT_MENU_FACTORY_KEY);
+        tab.setContextMenu(null);
+        tab.setOnCloseRequest(null);
+        tab.setOnClosed(null);
+        tab.setGraphic(null);
+        DockElement deferredElement = getDeferredElement(tab.getContent());
+        if (deferredElement != null) {
+            deferredViews.remove(deferredElement.getId());
+        }
+        tab.setContent(null);
+    }
+
     @SuppressWarnings("unchecked")
     private void registerCleanupTask(Node view, Runnable cleanupTask) {
         if (view == null || cleanupTask == null) {
@@ -1364,6 +1738,8 @@ public class DockLayoutEngine {
             runCleanupTasks(view);
         }
         viewCache.clear();
+        hitTestIndex.clear();
+        deferredViews.clear();
     }
 
     /**
@@ -1411,6 +1787,8 @@ public class DockLayoutEngine {
      */
     public void setTextResolver(BiFunction<String, Object[], String> textResolver) {
         this.textResolver = textResolver == null ? DEFAULT_TEXT_RESOLVER : textResolver;
+        tabFloatTooltip = null;
+        viewConfigurationVersion++;
     }
 
     /**
@@ -1428,8 +1806,9 @@ public class DockLayoutEngine {
      * @param closeButtonMode close-button mode, ignored when {@code null}
      */
     public void setCloseButtonMode(DockCloseButtonMode closeButtonMode) {
-        if (closeButtonMode != null) {
+        if (closeButtonMode != null && closeButtonMode != this.closeButtonMode) {
             this.closeButtonMode = closeButtonMode;
+            viewConfigurationVersion++;
         }
     }
 
@@ -1448,11 +1827,125 @@ public class DockLayoutEngine {
      * @param titleBarMode title-bar mode, ignored when {@code null}
      */
     public void setTitleBarMode(DockTitleBarMode titleBarMode) {
-        if (titleBarMode != null) {
+        if (titleBarMode != null && titleBarMode != this.titleBarMode) {
             this.titleBarMode = titleBarMode;
+            viewConfigurationVersion++;
+        }
+    }
+
+    /**
+     * Returns the active dock-node header rendering mode.
+     *
+     * @return header render mode
+     */
+    public DockHeaderRenderMode getHeaderRenderMode() {
+        return headerRenderMode;
+    }
+
+    /**
+     * Sets how dock-node headers are rendered. Changing the mode recreates the dock-node views on the next build.
+     *
+     * @param headerRenderMode header render mode, ignored when {@code null}
+     */
+    public void setHeaderRenderMode(DockHeaderRenderMode headerRenderMode) {
+        if (headerRenderMode != null && headerRenderMode != this.headerRenderMode) {
+            this.headerRenderMode = headerRenderMode;
+            viewConfigurationVersion++;
         }
     }
 
+    /**
+     * Returns whether {@link #buildSceneGraph()} defers the contents of unselected tabs.
+     *
+     * @return {@code true} when incremental builds are enabled
+     */
+    public boolean isIncrementalBuildEnabled() {
+        return incrementalBuildEnabled;
+    }
+
+    /**
+     * Enables or disables incremental builds. With incremental builds, the selected tab of every tab pane and all
+     * splits are created by {@link #buildSceneGraph()}; the remaining tab contents are created on later pulses.
+     * Disabling incremental builds realizes all pending views immediately.
+     *
+     * @param incrementalBuildEnabled {@code true} to defer unselected tab contents
+     */
+    public void setIncrementalBuildEnabled(boolean incrementalBuildEnabled) {
+        this.incrementalBuildEnabled = incrementalBuildEnabled;
+        if (!incrementalBuildEnabled) {
+            deferredViews.realizeAll();
+        }
+    }
+
+    /**
+     * Returns the time per pulse spent on creating deferred views.
+     *
+     * @return frame budget
+     */
+    public Duration getIncrementalBuildFrameBudget() {
+        return incrementalBuildFrameBudget;
+    }
+
+    /**
+     * Sets the time per pulse spent on creating deferred views. At least one view is created per pulse.
+     *
+     * @param frameBudget frame budget, defaults to 8 ms when {@code null} or not positive
+     */
+    public void setIncrementalBuildFrameBudget(Duration frameBudget) {
+        incrementalBuildFrameBudget = frameBudget == null || !(frameBudget.toMillis() > 0)
+            ? DEFAULT_INCREMENTAL_BUILD_FRAME_BUDGET
+            : frameBudget;
+        deferredViews.setFrameBudgetNanos(toNanos(incrementalBuildFrameBudget));
+    }
+
+    /**
+     * Returns the share of deferred views created since views were last pending, from {@code 0} to {@code 1}.
+     * The value is {@code 1} while no views are pending.
+     *
+     * @return read-only realization progress property
+     */
+    public ReadOnlyDoubleProperty realizationProgressProperty() {
+        return deferredViews.progressProperty();
+    }
+
+    /**
+     * Returns how many tab contents are still shown as placeholders.
+     *
+     * @return pending deferred view count
+     */
+    public int getPendingViewCount() {
+        return deferredViews.size();
+    }
+
+    /**
+     * Creates all pending deferred views immediately.
+     */
+    public void realizePendingViews() {
+        deferredViews.realizeAll();
+    }
+
+    /**
+     * Sets the callback invoked when the last pending deferred view was created.
+     *
+     * @param onLayoutRealized completion callback, or {@code null}
+     */
+    public void setOnLayoutRealized(Runnable onLayoutRealized) {
+        deferredViews.setOnRealized(onLayoutRealized);
+    }
+
+    /**
+     * Creates deferred views until the budget is used up, as the pulse-driven realization does.
+     *
+     * @return number of pending entries processed
+     */
+    int realizePendingViews(Duration budget) {
+        return deferredViews.realizeSlice(toNanos(budget));
+    }
+
+    private static long toNanos(Duration duration) {
+        return (long) (duration.toMillis() * 1_000_000L);
+    }
+
     /**
      * Returns the Node view for a given DockElement, or null if not found.
      *
@@ -1476,29 +1969,33 @@ public class DockLayoutEngine {
         return null;
     }
 
-    private String text(String key, Object... args) {
-        String resolvedKey = Objects.requireNonNull(key, "key");
-        return textResolver.apply(resolvedKey, args == null ? new Object[0] : args);
+    /**
+     * Returns how many views the most recent {@link #buildSceneGraph()} had to create.
+     * Views created by live container listeners since the previous build are included.
+     *
+     * @return number of newly created views
+     */
+    public int getLastBuildCreatedViewCount() {
+        return lastBuildCreatedViewCount;
     }
 
     /**
-     * Helper class to represent a candidate for D&amp;D target selection.
+     * Returns how many cached views the most recent {@link #buildSceneGraph()} reused unchanged.
+     *
+     * @return number of reused views
      */
-    private static class TargetCandidate {
-        final DockElement element;
-        final Node node;
-        final Bounds bounds;
-        final double distanceFromCenter;
-        final boolean isTabHeader;
-        TargetCandidate(DockElement element, Node node, Bounds bounds, double distanceFromCenter, boolean isTabHeader) {
-            this.element = element;
-            this.node = node;
-            this.bounds = bounds;
-            this.distanceFromCenter = distanceFromCenter;
-            this.isTabHeader = isTabHeader;
-        }
+    public int getLastBuildReusedViewCount() {
+        return lastBuildReusedViewCount;
+    }
+
+    private String text(String key, Object... args) {
+        String resolvedKey = Objects.requireNonNull(key, "key");
+        return textResolver.apply(resolvedKey, args == null ? new Object[0] : args);
     }
 
     private record TabHeader(HBox node, Runnable cleanup) {
     }
+
+    private record ViewSignature(DockElement element, Object structure, long configurationVersion) {
+    }
 }
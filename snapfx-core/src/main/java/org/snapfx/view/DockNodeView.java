@@ -24,6 +24,7 @@ import javafx.scene.layout.VBox;
 
 import java.util.Objects;
 import java.util.function.BiFunction;
+import java.util.function.Supplier;
 
 /**
  * Visual representation of a DockNode.
@@ -40,14 +41,17 @@ public class DockNodeView extends VBox {
     private final DockGraph dockGraph;  // NOSONAR - needed for button actions, but not exposed publicly
     private final DockDragService dragService;
     private final HBox header;
+    private final DockCompactHeader compactHeader;
+    private final Region headerNode;
     private final StackPane iconPane;
     private final Button floatButton;
     private final Button closeButton;
     private final StackPane contentPane;
     private final Label titleLabel;
     private final ChangeListener<Image> iconListener;
-    private final ChangeListener<Node> contentListener;
     private ContextMenu headerContextMenu;
+    private Supplier<ContextMenu> headerContextMenuFactory;
+    private final boolean delegatedHeaderEvents;
     private final BiFunction<String, Object[], String> textResolver;
 
     /**
@@ -74,88 +78,138 @@ public class DockNodeView extends VBox {
         DockGraph dockGraph,
         DockDragService dragService,
         BiFunction<String, Object[], String> textResolver
+    ) {
+        this(dockNode, dockGraph, dragService, textResolver, false, DockHeaderRenderMode.STANDARD);
+        // Standalone views are always shown; views of a layout leave lazy content to the layout engine
+        dockNode.ensureContentCreated();
+    }
+
+    /**
+     * Creates a dock-node view whose header events are optionally routed by the owning layout.
+     *
+     * @param dockNode model node to render
+     * @param dockGraph owning dock graph (used for default close action and lock state)
+     * @param dragService drag service used for header drag interactions
+     * @param textResolver resolver for localized framework chrome strings
+     * @param delegatedHeaderEvents {@code true} if a {@link DockHeaderEventRouter} on the layout root handles header
+     *     drag and context-menu events, so the view installs no header handlers of its own
+     * @param headerRenderMode how the header is rendered; {@code null} selects the standard header
+     */
+    DockNodeView(
+        DockNode dockNode,
+        DockGraph dockGraph,
+        DockDragService dragService,
+        BiFunction<String, Object[], String> textResolver,
+        boolean delegatedHeaderEvents,
+        DockHeaderRenderMode headerRenderMode
     ) {
         this.dockNode = dockNode;
+        this.delegatedHeaderEvents = delegatedHeaderEvents;
         this.dockGraph = dockGraph;
         this.dragService = dragService;
         this.textResolver = textResolver == null ? DEFAULT_TEXT_RESOLVER : textResolver;
 
         getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_VIEW);
 
-        header = new HBox(5);
-        header.setAlignment(Pos.CENTER_LEFT);
-        header.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_HEADER);
-
-        iconPane = new StackPane();
-        iconPane.setPrefSize(16, 16);
-        iconPane.setMaxSize(16, 16);
-        iconPane.setMinSize(16, 16);
-
-        iconListener = (obs, oldIcon, newIcon) -> {
-            iconPane.getChildren().clear();
-            if (newIcon != null) {
-                iconPane.getChildren().add(createDockNodeIcon(newIcon));
+        if (headerRenderMode == DockHeaderRenderMode.COMPACT) {
+            header = null;
+            iconPane = null;
+            titleLabel = null;
+            floatButton = null;
+            closeButton = null;
+            compactHeader = new DockCompactHeader();
+            compactHeader.setIcon(dockNode.getIcon());
+            iconListener = (obs, oldIcon, newIcon) -> compactHeader.setIcon(newIcon);
+            dockNode.iconProperty().addListener(iconListener);
+            compactHeader.titleProperty().bind(dockNode.titleProperty());
+            compactHeader.setOnCloseAction(() -> dockGraph.undock(dockNode));
+            compactHeader.setButtonTooltipText(button -> text(button == DockCompactHeader.FLOAT_BUTTON
+                ? "dock.node.tooltip.floatWindow"
+                : "dock.node.tooltip.closePanel"));
+            compactHeader.floatButtonVisibleProperty().bind(dockGraph.lockedProperty().not());
+            compactHeader.closeButtonVisibleProperty().bind(
+                dockNode.closeableProperty()
+                    .and(dockGraph.lockedProperty().not())
+            );
+            headerNode = compactHeader;
+        } else {
+            compactHeader = null;
+            header = new HBox(5);
+            header.setAlignment(Pos.CENTER_LEFT);
+            header.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_HEADER);
+
+            iconPane = new StackPane();
+            iconPane.setPrefSize(16, 16);
+            iconPane.setMaxSize(16, 16);
+            iconPane.setMinSize(16, 16);
+
+            iconListener = (obs, oldIcon, newIcon) -> {
+                iconPane.getChildren().clear();
+                if (newIcon != null) {
+                    iconPane.getChildren().add(createDockNodeIcon(newIcon));
+                }
+            };
+            dockNode.iconProperty().addListener(iconListener);
+
+            if (dockNode.getIcon() != null) {
+                iconPane.getChildren().add(createDockNodeIcon(dockNode.getIcon()));
             }
-        };
-        dockNode.iconProperty().addListener(iconListener);
 
-        if (dockNode.getIcon() != null) {
-            iconPane.getChildren().add(createDockNodeIcon(dockNode.getIcon()));
+            iconPane.visibleProperty().bind(dockNode.iconProperty().isNotNull());
+            iconPane.managedProperty().bind(iconPane.visibleProperty());
+
+            titleLabel = new Label();
+            titleLabel.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_TITLE_LABEL);
+            titleLabel.textProperty().bind(dockNode.titleProperty());
+
+            floatButton = new Button();
+            floatButton.getStyleClass().addAll(DockThemeStyleClasses.DOCK_NODE_CLOSE_BUTTON, DockThemeStyleClasses.DOCK_NODE_FLOAT_BUTTON);
+            floatButton.setGraphic(createControlIcon(DockThemeStyleClasses.DOCK_CONTROL_ICON_FLOAT));
+            installTooltipOnHover(floatButton, "dock.node.tooltip.floatWindow");
+            floatButton.setFocusTraversable(false);
+            floatButton.setOnAction(e -> { });
+            floatButton.visibleProperty().bind(dockGraph.lockedProperty().not());
+            floatButton.managedProperty().bind(floatButton.visibleProperty());
+
+            closeButton = new Button();
+            closeButton.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_CLOSE_BUTTON);
+            closeButton.setGraphic(createControlIcon(DockThemeStyleClasses.DOCK_CONTROL_ICON_CLOSE));
+            installTooltipOnHover(closeButton, "dock.node.tooltip.closePanel");
+            closeButton.setFocusTraversable(false);
+            closeButton.setOnAction(e -> dockGraph.undock(dockNode));
+            closeButton.visibleProperty().bind(
+                dockNode.closeableProperty()
+                    .and(dockGraph.lockedProperty().not())
+            );
+            closeButton.managedProperty().bind(closeButton.visibleProperty());
+
+            Region spacer = new Region();
+            HBox.setHgrow(spacer, Priority.ALWAYS);
+            header.getChildren().addAll(iconPane, titleLabel, spacer, floatButton, closeButton);
+            headerNode = header;
         }
 
-        iconPane.visibleProperty().bind(dockNode.iconProperty().isNotNull());
-        iconPane.managedProperty().bind(iconPane.visibleProperty());
-
-        titleLabel = new Label();
-        titleLabel.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_TITLE_LABEL);
-        titleLabel.textProperty().bind(dockNode.titleProperty());
-
-        floatButton = new Button();
-        floatButton.getStyleClass().addAll(DockThemeStyleClasses.DOCK_NODE_CLOSE_BUTTON, DockThemeStyleClasses.DOCK_NODE_FLOAT_BUTTON);
-        floatButton.setGraphic(createControlIcon(DockThemeStyleClasses.DOCK_CONTROL_ICON_FLOAT));
-        floatButton.setTooltip(new Tooltip(text("dock.node.tooltip.floatWindow")));
-        floatButton.setFocusTraversable(false);
-        floatButton.setOnAction(e -> { });
-        floatButton.visibleProperty().bind(dockGraph.lockedProperty().not());
-        floatButton.managedProperty().bind(floatButton.visibleProperty());
-
-        closeButton = new Button();
-        closeButton.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_CLOSE_BUTTON);
-        closeButton.setGraphic(createControlIcon(DockThemeStyleClasses.DOCK_CONTROL_ICON_CLOSE));
-        closeButton.setTooltip(new Tooltip(text("dock.node.tooltip.closePanel")));
-        closeButton.setFocusTraversable(false);
-        closeButton.setOnAction(e -> dockGraph.undock(dockNode));
-        closeButton.visibleProperty().bind(
-            dockNode.closeableProperty()
-                .and(dockGraph.lockedProperty().not())
-        );
-        closeButton.managedProperty().bind(closeButton.visibleProperty());
-
-        Region spacer = new Region();
-        HBox.setHgrow(spacer, Priority.ALWAYS);
-        header.getChildren().addAll(iconPane, titleLabel, spacer, floatButton, closeButton);
-
-        contentPane = new StackPane();
-        contentPane.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_CONTENT);
+        // The content host is owned by the dock node, so recreated views adopt it without re-parenting the content.
+        contentPane = dockNode.getContentHost();
+        if (!contentPane.getStyleClass().contains(DockThemeStyleClasses.DOCK_NODE_CONTENT)) {
+            contentPane.getStyleClass().add(DockThemeStyleClasses.DOCK_NODE_CONTENT);
+        }
         VBox.setVgrow(contentPane, Priority.ALWAYS);
 
-        if (dockNode.getContent() != null) {
-            contentPane.getChildren().add(dockNode.getContent());
+        if (!delegatedHeaderEvents) {
+            headerNode.setOnMousePressed(this::onHeaderPressed);
+            headerNode.setOnMouseDragged(this::onHeaderDragged);
+            headerNode.setOnMouseReleased(this::onHeaderReleased);
         }
 
-        contentListener = (obs, oldContent, newContent) -> {
-            contentPane.getChildren().clear();
-            if (newContent != null) {
-                contentPane.getChildren().add(newContent);
-            }
-        };
-        dockNode.contentProperty().addListener(contentListener);
-
-        header.setOnMousePressed(this::onHeaderPressed);
-        header.setOnMouseDragged(this::onHeaderDragged);
-        header.setOnMouseReleased(this::onHeaderReleased);
+        getChildren().addAll(headerNode, contentPane);
+    }
 
-        getChildren().addAll(header, contentPane);
+    /**
+     * Creates the button tooltip on first hover instead of during view construction.
+     */
+    private void installTooltipOnHover(Button button, String key) {
+        DockTooltips.installTooltipOnHover(button, () -> new Tooltip(text(key)));
     }
 
     private String text(String key, Object... args) {
@@ -165,7 +219,7 @@ public class DockNodeView extends VBox {
 
     private void onHeaderPressed(MouseEvent event) {
         hideHeaderContextMenu();
-        if (isInteractiveControlTarget(event.getTarget())) {
+        if (isInteractiveControlTarget(event)) {
             return;
         }
         if (dragService != null) {
@@ -174,7 +228,7 @@ public class DockNodeView extends VBox {
     }
 
     private void onHeaderDragged(MouseEvent event) {
-        if (isInteractiveControlTarget(event.getTarget())) {
+        if (compactHeader == null && isInteractiveControlTarget(event)) {
             return;
         }
         if (dragService != null && dragService.isDragging()) {
@@ -183,7 +237,7 @@ public class DockNodeView extends VBox {
     }
 
     private void onHeaderReleased(MouseEvent event) {
-        if (isInteractiveControlTarget(event.getTarget())) {
+        if (compactHeader == null && isInteractiveControlTarget(event)) {
             return;
         }
         if (dragService != null && dragService.isDragging()) {
@@ -191,8 +245,11 @@ public class DockNodeView extends VBox {
         }
     }
 
-    private boolean isInteractiveControlTarget(Object target) {
-        if (!(target instanceof Node node)) {
+    private boolean isInteractiveControlTarget(MouseEvent event) {
+        if (compactHeader != null) {
+            return compactHeader.buttonAt(event.getX(), event.getY()) != DockCompactHeader.NO_BUTTON;
+        }
+        if (!(event.getTarget() instanceof Node node)) {
             return false;
         }
         Node current = node;
@@ -229,6 +286,10 @@ public class DockNodeView extends VBox {
      * @param handler close action callback, or {@code null}
      */
     public void setOnCloseRequest(Runnable handler) {
+        if (compactHeader != null) {
+            compactHeader.setOnCloseAction(handler);
+            return;
+        }
         closeButton.setOnAction(e -> {
             if (handler != null) {
                 handler.run();
@@ -242,6 +303,10 @@ public class DockNodeView extends VBox {
      * @param handler float action callback, or {@code null}
      */
     public void setOnFloatRequest(Runnable handler) {
+        if (compactHeader != null) {
+            compactHeader.setOnFloatAction(handler);
+            return;
+        }
         floatButton.setOnAction(e -> {
             if (handler != null) {
                 handler.run();
@@ -258,6 +323,11 @@ public class DockNodeView extends VBox {
         if (expression == null) {
             return;
         }
+        if (compactHeader != null) {
+            compactHeader.closeButtonVisibleProperty().unbind();
+            compactHeader.closeButtonVisibleProperty().bind(expression);
+            return;
+        }
         closeButton.visibleProperty().unbind();
         closeButton.visibleProperty().bind(expression);
         if (closeButton.managedProperty().isBound()) {
@@ -272,6 +342,11 @@ public class DockNodeView extends VBox {
      * @param visible target visibility
      */
     public void setCloseButtonVisible(boolean visible) {
+        if (compactHeader != null) {
+            compactHeader.closeButtonVisibleProperty().unbind();
+            compactHeader.closeButtonVisibleProperty().set(visible);
+            return;
+        }
         closeButton.visibleProperty().unbind();
         closeButton.setVisible(visible);
         if (closeButton.managedProperty().isBound()) {
@@ -289,6 +364,11 @@ public class DockNodeView extends VBox {
         if (expression == null) {
             return;
         }
+        if (compactHeader != null) {
+            compactHeader.floatButtonVisibleProperty().unbind();
+            compactHeader.floatButtonVisibleProperty().bind(expression);
+            return;
+        }
         floatButton.visibleProperty().unbind();
         floatButton.visibleProperty().bind(expression);
         if (floatButton.managedProperty().isBound()) {
@@ -303,6 +383,11 @@ public class DockNodeView extends VBox {
      * @param visible target visibility
      */
     public void setFloatButtonVisible(boolean visible) {
+        if (compactHeader != null) {
+            compactHeader.floatButtonVisibleProperty().unbind();
+            compactHeader.floatButtonVisibleProperty().set(visible);
+            return;
+        }
         floatButton.visibleProperty().unbind();
         floatButton.setVisible(visible);
         if (floatButton.managedProperty().isBound()) {
@@ -317,7 +402,7 @@ public class DockNodeView extends VBox {
      * @return {@code true} when the float button is visible
      */
     public boolean isFloatButtonVisible() {
-        return floatButton.isVisible();
+        return compactHeader != null ? compactHeader.floatButtonVisibleProperty().get() : floatButton.isVisible();
     }
 
     /**
@@ -326,7 +411,7 @@ public class DockNodeView extends VBox {
      * @return {@code true} when the close button is visible
      */
     public boolean isCloseButtonVisible() {
-        return closeButton.isVisible();
+        return compactHeader != null ? compactHeader.closeButtonVisibleProperty().get() : closeButton.isVisible();
     }
 
     /**
@@ -341,12 +426,28 @@ public class DockNodeView extends VBox {
     /**
      * Returns the header container node.
      *
-     * @return dock-node header
+     * <p>Views built with {@link DockHeaderRenderMode#COMPACT} have no {@code HBox} header; use
+     * {@link #getHeaderNode()} to reach the header in both modes.</p>
+     *
+     * @return dock-node header, or {@code null} when the view renders a {@link DockHeaderRenderMode#COMPACT} header
      */
     public HBox getHeader() {
         return header;
     }
 
+    /**
+     * Returns the header node in either header render mode.
+     *
+     * @return dock-node header region
+     */
+    public Region getHeaderNode() {
+        return headerNode;
+    }
+
+    DockCompactHeader getCompactHeader() {
+        return compactHeader;
+    }
+
     /**
      * Installs a context menu for the node header.
      *
@@ -354,22 +455,62 @@ public class DockNodeView extends VBox {
      */
     public void setHeaderContextMenu(ContextMenu contextMenu) {
         headerContextMenu = contextMenu;
-        header.setOnContextMenuRequested(this::onHeaderContextMenuRequested);
+        headerContextMenuFactory = null;
+        installHeaderContextMenuHandler();
+    }
+
+    /**
+     * Installs a factory for the node header context menu.
+     *
+     * <p>The menu is created on the first header context-menu request and reused afterwards.</p>
+     *
+     * @param contextMenuFactory factory creating the header context menu
+     */
+    public void setHeaderContextMenuFactory(Supplier<ContextMenu> contextMenuFactory) {
+        headerContextMenu = null;
+        headerContextMenuFactory = contextMenuFactory;
+        installHeaderContextMenuHandler();
     }
 
     ContextMenu getHeaderContextMenu() {
+        if (headerContextMenu == null && headerContextMenuFactory != null) {
+            headerContextMenu = headerContextMenuFactory.get();
+            headerContextMenuFactory = null;
+        }
         return headerContextMenu;
     }
 
+    boolean isHeaderContextMenuCreated() {
+        return headerContextMenu != null;
+    }
+
+    private void installHeaderContextMenuHandler() {
+        if (!delegatedHeaderEvents && headerNode.getOnContextMenuRequested() == null) {
+            headerNode.setOnContextMenuRequested(this::onHeaderContextMenuRequested);
+        }
+    }
+
     private void onHeaderContextMenuRequested(ContextMenuEvent event) {
-        if (headerContextMenu == null) {
-            return;
+        if (showHeaderContextMenu(event.getScreenX(), event.getScreenY())) {
+            event.consume();
+        }
+    }
+
+    /**
+     * Shows the header context menu at the given screen position, creating it on first use.
+     *
+     * @return {@code true} if a menu was shown
+     */
+    boolean showHeaderContextMenu(double screenX, double screenY) {
+        ContextMenu contextMenu = getHeaderContextMenu();
+        if (contextMenu == null) {
+            return false;
         }
-        headerContextMenu.show(header, event.getScreenX(), event.getScreenY());
-        event.consume();
+        contextMenu.show(headerNode, screenX, screenY);
+        return true;
     }
 
-    private void hideHeaderContextMenu() {
+    void hideHeaderContextMenu() {
         if (headerContextMenu == null) {
             return;
         }
@@ -382,8 +523,8 @@ public class DockNodeView extends VBox {
      * @param visible target header visibility
      */
     public void setHeaderVisible(boolean visible) {
-        header.setVisible(visible);
-        header.setManaged(visible);
+        headerNode.setVisible(visible);
+        headerNode.setManaged(visible);
     }
 
     /**
@@ -391,35 +532,45 @@ public class DockNodeView extends VBox {
      */
     public void dispose() {
         dockNode.iconProperty().removeListener(iconListener);
-        dockNode.contentProperty().removeListener(contentListener);
-
-        titleLabel.textProperty().unbind();
 
-        iconPane.visibleProperty().unbind();
-        iconPane.managedProperty().unbind();
-        iconPane.getChildren().clear();
+        if (compactHeader != null) {
+            compactHeader.titleProperty().unbind();
+            compactHeader.floatButtonVisibleProperty().unbind();
+            compactHeader.closeButtonVisibleProperty().unbind();
+            compactHeader.setOnFloatAction(null);
+            compactHeader.setOnCloseAction(null);
+            compactHeader.setIcon(null);
+        } else {
+            titleLabel.textProperty().unbind();
+
+            iconPane.visibleProperty().unbind();
+            iconPane.managedProperty().unbind();
+            iconPane.getChildren().clear();
 
-        closeButton.visibleProperty().unbind();
-        if (closeButton.managedProperty().isBound()) {
-            closeButton.managedProperty().unbind();
-        }
-        closeButton.setOnAction(null);
+            closeButton.visibleProperty().unbind();
+            if (closeButton.managedProperty().isBound()) {
+                closeButton.managedProperty().unbind();
+            }
+            closeButton.setOnAction(null);
 
-        floatButton.visibleProperty().unbind();
-        if (floatButton.managedProperty().isBound()) {
-            floatButton.managedProperty().unbind();
+            floatButton.visibleProperty().unbind();
+            if (floatButton.managedProperty().isBound()) {
+                floatButton.managedProperty().unbind();
+            }
+            floatButton.setOnAction(null);
         }
-        floatButton.setOnAction(null);
 
-        header.setOnMousePressed(null);
-        header.setOnMouseDragged(null);
-        header.setOnMouseReleased(null);
-        header.setOnContextMenuRequested(null);
+        headerNode.setOnMousePressed(null);
+        headerNode.setOnMouseDragged(null);
+        headerNode.setOnMouseReleased(null);
+        headerNode.setOnContextMenuRequested(null);
         if (headerContextMenu != null) {
             headerContextMenu.hide();
         }
         headerContextMenu = null;
+        headerContextMenuFactory = null;
 
-        contentPane.getChildren().clear();
+        // Only release the host if no newer view has adopted it yet.
+        getChildren().remove(contentPane);
     }
 }
@@ -0,0 +1,142 @@
+package org.snapfx.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+
+import java.util.Objects;
+
+/**
+ * Coalesces layout rebuild requests into at most one scheduled rebuild per JavaFX pulse.
+ * <p>
+ * Revision, root, locale and sidebar invalidations only mark the layout dirty. The first request after a flush starts
+ * a one-shot {@link AnimationTimer}, so the rebuild runs on the next pulse before it renders; every further request
+ * arriving before that pulse is counted as coalesced and does not schedule another rebuild. {@link #flush()} and
+ * {@link #rebuildNow()} still rebuild synchronously when a caller needs the new layout right away.
+ * </p>
+ */
+public final class DockRebuildScheduler {
+    private final Runnable rebuildAction;
+    private final AnimationTimer pulseTimer = new AnimationTimer() {
+        @Override
+        public void handle(long now) {
+            flush();
+        }
+    };
+    private boolean timerRunning;
+    private boolean dirty;
+    private long requestCount;
+    private long coalescedCount;
+    private long rebuildCount;
+
+    /**
+     * Creates a scheduler for one rebuild action.
+     *
+     * @param rebuildAction action that performs the actual layout rebuild
+     */
+    public DockRebuildScheduler(Runnable rebuildAction) {
+        this.rebuildAction = Objects.requireNonNull(rebuildAction, "rebuildAction");
+    }
+
+    /**
+     * Marks the layout dirty and schedules one rebuild for the next pulse if none is pending.
+     */
+    public void requestRebuild() {
+        requestCount++;
+        if (dirty) {
+            coalescedCount++;
+            return;
+        }
+        dirty = true;
+        if (Platform.isFxApplicationThread()) {
+            startTimer();
+        } else {
+            Platform.runLater(this::startTimer);
+        }
+    }
+
+    /**
+     * Runs the pending rebuild immediately, if any, and stops waiting for the next pulse.
+     */
+    public void flush() {
+        stopTimer();
+        if (!dirty) {
+            return;
+        }
+        dirty = false;
+        rebuildCount++;
+        rebuildAction.run();
+    }
+
+    /**
+     * Rebuilds immediately and absorbs any pending scheduled request into this rebuild.
+     */
+    public void rebuildNow() {
+        requestCount++;
+        if (dirty) {
+            coalescedCount++;
+            dirty = false;
+            stopTimer();
+        }
+        rebuildCount++;
+        rebuildAction.run();
+    }
+
+    /**
+     * Drops a pending rebuild without running it.
+     */
+    public void cancel() {
+        dirty = false;
+        stopTimer();
+    }
+
+    /**
+     * Returns whether a rebuild is pending.
+     *
+     * @return {@code true} when a rebuild was requested but not executed yet
+     */
+    public boolean isRebuildPending() {
+        return dirty;
+    }
+
+    /**
+     * Returns how many rebuild requests were received.
+     *
+     * @return total request count
+     */
+    public long getRequestCount() {
+        return requestCount;
+    }
+
+    /**
+     * Returns how many rebuild requests were absorbed into an already pending rebuild.
+     *
+     * @return coalesced request count
+     */
+    public long getCoalescedCount() {
+        return coalescedCount;
+    }
+
+    /**
+     * Returns how many rebuilds were actually executed.
+     *
+     * @return executed rebuild count
+     */
+    public long getRebuildCount() {
+        return rebuildCount;
+    }
+
+    private void startTimer() {
+        // A flush, cancel or synchronous rebuild may have run before a timer start posted from another thread
+        if (dirty && !timerRunning) {
+            timerRunning = true;
+            pulseTimer.start();
+        }
+    }
+
+    private void stopTimer() {
+        if (timerRunning) {
+            timerRunning = false;
+            pulseTimer.stop();
+        }
+    }
+}
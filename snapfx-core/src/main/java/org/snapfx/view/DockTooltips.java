@@ -0,0 +1,59 @@
+package org.snapfx.view;
+
+import javafx.event.EventHandler;
+import javafx.scene.Node;
+import javafx.scene.control.Control;
+import javafx.scene.control.Tooltip;
+import javafx.scene.input.MouseEvent;
+
+import java.util.Objects;
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * Lazy tooltip creation for dock views.
+ *
+ * <p>Headers, tabs and buttons are built far more often than they are hovered, so their tooltips are created on the
+ * first {@link MouseEvent#MOUSE_ENTERED} instead of during view construction. The installing handler removes itself
+ * after that first event.</p>
+ */
+final class DockTooltips {
+
+    private DockTooltips() {
+    }
+
+    /**
+     * Sets the supplied tooltip on a control when the pointer first enters it, unless the control has a tooltip by
+     * then.
+     *
+     * @param control control receiving the tooltip
+     * @param tooltipSupplier creates or returns the tooltip on first hover
+     */
+    static void installTooltipOnHover(Control control, Supplier<Tooltip> tooltipSupplier) {
+        installTooltipOnHover(control, tooltipSupplier, tooltip -> {
+            if (control.getTooltip() == null) {
+                control.setTooltip(tooltip);
+            }
+        });
+    }
+
+    /**
+     * Passes the supplied tooltip to an installer when the pointer first enters a node.
+     *
+     * @param node node whose first hover creates the tooltip
+     * @param tooltipSupplier creates or returns the tooltip on first hover
+     * @param tooltipInstaller receives the tooltip, for example to keep it for hover-area specific installation
+     */
+    static void installTooltipOnHover(Node node, Supplier<Tooltip> tooltipSupplier, Consumer<Tooltip> tooltipInstaller) {
+        Objects.requireNonNull(tooltipSupplier, "tooltipSupplier");
+        Objects.requireNonNull(tooltipInstaller, "tooltipInstaller");
+        EventHandler<MouseEvent> installer = new EventHandler<>() {
+            @Override
+            public void handle(MouseEvent event) {
+                node.removeEventHandler(MouseEvent.MOUSE_ENTERED, this);
+                tooltipInstaller.accept(tooltipSupplier.get());
+            }
+        };
+        node.addEventHandler(MouseEvent.MOUSE_ENTERED, installer);
+    }
+}
@@ -23,16 +23,20 @@ import org.snapfx.persistence.DockLayoutLoadException;
 import org.snapfx.sidebar.DockSideBarMode;
 import org.snapfx.shortcuts.DockShortcutAction;
 import org.snapfx.theme.DockThemeStyleClasses;
+import org.snapfx.view.DockRebuildScheduler;
+import org.snapfx.view.DockTitleBarMode;
 import com.google.gson.JsonArray;
 import com.google.gson.JsonObject;
 import com.google.gson.JsonParser;
 import javafx.animation.PauseTransition;
 import javafx.application.Application;
 import javafx.event.Event;
+import javafx.animation.AnimationTimer;
 import javafx.application.Platform;
 import javafx.geometry.Bounds;
 import javafx.geometry.Side;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ContextMenu;
@@ -157,6 +161,73 @@ class SnapFXTest {
         assertTrue(snapFX.isPinnedToSideBar(tool), "Mode NEVER should hide sidebars without losing pinned model state");
     }
 
+    @Test
+    void testCompoundMutationsCoalesceIntoSingleRootRebuild() {
+        DockNode main = new DockNode("main", new Label("Main"), "Main");
+        DockNode tool = new DockNode("tool", new Label("Tool"), "Tool");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        snapFX.dock(main, null, DockPosition.CENTER);
+        snapFX.dock(tool, main, DockPosition.RIGHT);
+        snapFX.dock(console, main, DockPosition.BOTTOM);
+        snapFX.buildLayout();
+        waitForFxEvents();
+
+        DockRebuildScheduler scheduler = snapFX.getRebuildScheduler();
+        long rebuildsBefore = scheduler.getRebuildCount();
+        long coalescedBefore = scheduler.getCoalescedCount();
+
+        runOnFxThreadAndWait(() -> {
+            snapFX.getDockGraph().move(console, tool, DockPosition.CENTER);
+            snapFX.pinToSideBar(tool, Side.LEFT);
+            snapFX.getDockGraph().pinOpenSideBar(Side.LEFT);
+            assertTrue(scheduler.isRebuildPending());
+        });
+        waitForFxEvents();
+
+        assertEquals(rebuildsBefore + 1, scheduler.getRebuildCount());
+        assertTrue(scheduler.getCoalescedCount() > coalescedBefore);
+        assertFalse(scheduler.isRebuildPending());
+    }
+
+    @Test
+    void testDockNodeContentKeepsItsParentAcrossRebuildsAndMoves() {
+        Label toolContent = new Label("Tool");
+        DockNode main = new DockNode("main", new Label("Main"), "Main");
+        DockNode tool = new DockNode("tool", toolContent, "Tool");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        snapFX.dock(main, null, DockPosition.CENTER);
+        snapFX.dock(tool, main, DockPosition.RIGHT);
+        snapFX.dock(console, main, DockPosition.BOTTOM);
+        Scene scene = new Scene(snapFX.buildLayout(), 800, 600);
+        waitForFxEvents();
+
+        assertSame(tool.getContentHost(), toolContent.getParent());
+        AtomicInteger parentChanges = new AtomicInteger();
+        toolContent.parentProperty().addListener((obs, oldParent, newParent) -> parentChanges.incrementAndGet());
+
+        runOnFxThreadAndWait(() -> snapFX.getDockGraph().move(tool, console, DockPosition.CENTER));
+        waitForFxEvents();
+        assertSame(scene, toolContent.getScene());
+
+        runOnFxThreadAndWait(() -> snapFX.setTitleBarMode(DockTitleBarMode.ALWAYS));
+        waitForFxEvents();
+
+        runOnFxThreadAndWait(() -> {
+            snapFX.pinToSideBar(tool, Side.LEFT);
+            snapFX.pinOpenSideBar(Side.LEFT);
+        });
+        waitForFxEvents();
+        assertNotNull(findNodeWithStyleClass(scene.getRoot(), DockThemeStyleClasses.DOCK_SIDEBAR_PANEL_PINNED));
+        assertSame(scene, toolContent.getScene());
+
+        runOnFxThreadAndWait(() -> snapFX.restoreFromSideBar(tool));
+        waitForFxEvents();
+
+        assertSame(scene, toolContent.getScene());
+        assertSame(tool.getContentHost(), toolContent.getParent());
+        assertEquals(0, parentChanges.get(), "DockNode content must never be re-parented by the framework");
+    }
+
     @Test
     void testSetShortcutRemovesDuplicateBindingFromPreviousAction() {
         KeyCodeCombination ctrlW = new KeyCodeCombination(KeyCode.W, KeyCombination.SHORTCUT_DOWN);
@@ -1695,63 +1766,71 @@ class SnapFXTest {
     }
 
     @Test
-    void testSidebarDropAtScenePointPinsDockedNodeAtExactInsertIndex() {
-        DockNode main = new DockNode("main", new Label("Main"), "Main");
-        DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
-        DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
-
-        snapFX.dock(main, null, DockPosition.CENTER);
-        snapFX.dock(toolA, main, DockPosition.RIGHT);
-        snapFX.dock(toolB, main, DockPosition.BOTTOM);
-        snapFX.pinToSideBar(toolA, Side.LEFT);
-        snapFX.pinToSideBar(toolB, Side.LEFT);
-
-        Scene scene = new Scene(snapFX.buildLayout(), 800, 600);
-        scene.getRoot().applyCss();
-        scene.getRoot().layout();
-
-        javafx.scene.layout.VBox leftStrip = findSideBarStrip(scene.getRoot(), Side.LEFT);
-        assertNotNull(leftStrip);
-        List<Button> iconButtons = findSideBarIconButtons(leftStrip);
-        assertEquals(2, iconButtons.size());
+    void testRoutedSidebarDropPinsDockedNodeAtExactInsertIndex() {
+        runOnFxThreadAndWait(() -> {
+            DockNode main = new DockNode("main", new Label("Main"), "Main");
+            DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
+            DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
 
-        Bounds firstBounds = iconButtons.get(0).localToScene(iconButtons.get(0).getBoundsInLocal());
-        Bounds secondBounds = iconButtons.get(1).localToScene(iconButtons.get(1).getBoundsInLocal());
-        double sceneX = (firstBounds.getMinX() + firstBounds.getMaxX()) / 2.0;
-        double sceneY = (firstBounds.getMaxY() + secondBounds.getMinY()) / 2.0;
+            snapFX.dock(main, null, DockPosition.CENTER);
+            snapFX.dock(toolA, main, DockPosition.RIGHT);
+            snapFX.dock(toolB, main, DockPosition.BOTTOM);
+            snapFX.pinToSideBar(toolA, Side.LEFT);
+            snapFX.pinToSideBar(toolB, Side.LEFT);
 
-        assertTrue(tryDropIntoSideBarAtScenePoint(snapFX, main, sceneX, sceneY));
-        assertEquals(List.of(toolA, main, toolB), List.copyOf(snapFX.getSideBarNodes(Side.LEFT)));
-        assertTrue(snapFX.isPinnedToSideBar(main));
-        assertFalse(isInGraph(snapFX, main));
+            Stage stage = showLayoutInStage(snapFX);
+            try {
+                javafx.scene.layout.VBox leftStrip = findSideBarStrip(stage.getScene().getRoot(), Side.LEFT);
+                assertNotNull(leftStrip);
+                List<Button> iconButtons = findSideBarIconButtons(leftStrip);
+                assertEquals(2, iconButtons.size());
+
+                Bounds firstBounds = iconButtons.get(0).localToScreen(iconButtons.get(0).getBoundsInLocal());
+                Bounds secondBounds = iconButtons.get(1).localToScreen(iconButtons.get(1).getBoundsInLocal());
+                double screenX = (firstBounds.getMinX() + firstBounds.getMaxX()) / 2.0;
+                double screenY = (firstBounds.getMaxY() + secondBounds.getMinY()) / 2.0;
+
+                invokeUnresolvedDropRequest(snapFX, new DockDragService.FloatDetachRequest(main, screenX, screenY));
+                assertEquals(List.of(toolA, main, toolB), List.copyOf(snapFX.getSideBarNodes(Side.LEFT)));
+                assertTrue(snapFX.isPinnedToSideBar(main));
+                assertFalse(isInGraph(snapFX, main));
+                assertTrue(snapFX.getFloatingWindows().isEmpty());
+            } finally {
+                stage.close();
+            }
+        });
     }
 
     @Test
-    void testSidebarDropAtScenePointReordersPinnedNodeWithinStrip() {
-        DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
-        DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
-        DockNode toolC = new DockNode("toolC", new Label("Tool C"), "Tool C");
-
-        snapFX.pinToSideBar(toolA, Side.LEFT);
-        snapFX.pinToSideBar(toolB, Side.LEFT);
-        snapFX.pinToSideBar(toolC, Side.LEFT);
-
-        Scene scene = new Scene(snapFX.buildLayout(), 800, 600);
-        scene.getRoot().applyCss();
-        scene.getRoot().layout();
-
-        javafx.scene.layout.VBox leftStrip = findSideBarStrip(scene.getRoot(), Side.LEFT);
-        assertNotNull(leftStrip);
-        List<Button> iconButtons = findSideBarIconButtons(leftStrip);
-        assertEquals(3, iconButtons.size());
+    void testRoutedSidebarDropReordersPinnedNodeWithinStrip() {
+        runOnFxThreadAndWait(() -> {
+            DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
+            DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
+            DockNode toolC = new DockNode("toolC", new Label("Tool C"), "Tool C");
 
-        Button lastButton = iconButtons.getLast();
-        Bounds lastBounds = lastButton.localToScene(lastButton.getBoundsInLocal());
-        double sceneX = (lastBounds.getMinX() + lastBounds.getMaxX()) / 2.0;
-        double sceneY = lastBounds.getMaxY() + 8.0;
+            snapFX.pinToSideBar(toolA, Side.LEFT);
+            snapFX.pinToSideBar(toolB, Side.LEFT);
+            snapFX.pinToSideBar(toolC, Side.LEFT);
 
-        assertTrue(tryDropIntoSideBarAtScenePoint(snapFX, toolB, sceneX, sceneY));
-        assertEquals(List.of(toolA, toolC, toolB), List.copyOf(snapFX.getSideBarNodes(Side.LEFT)));
+            Stage stage = showLayoutInStage(snapFX);
+            try {
+                javafx.scene.layout.VBox leftStrip = findSideBarStrip(stage.getScene().getRoot(), Side.LEFT);
+                assertNotNull(leftStrip);
+                List<Button> iconButtons = findSideBarIconButtons(leftStrip);
+                assertEquals(3, iconButtons.size());
+
+                Button lastButton = iconButtons.getLast();
+                Bounds lastBounds = lastButton.localToScreen(lastButton.getBoundsInLocal());
+                double screenX = (lastBounds.getMinX() + lastBounds.getMaxX()) / 2.0;
+                double screenY = lastBounds.getMaxY() + 8.0;
+
+                invokeUnresolvedDropRequest(snapFX, new DockDragService.FloatDetachRequest(toolB, screenX, screenY));
+                assertEquals(List.of(toolA, toolC, toolB), List.copyOf(snapFX.getSideBarNodes(Side.LEFT)));
+                assertTrue(snapFX.getFloatingWindows().isEmpty());
+            } finally {
+                stage.close();
+            }
+        });
     }
 
     @Test
@@ -1971,38 +2050,47 @@ class SnapFXTest {
     }
 
     @Test
-    void testSidebarDropPreviewLineIsShownForStripHoverAndClearedOutsideStrip() {
-        DockNode main = new DockNode("main", new Label("Main"), "Main");
-        DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
-        DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
-
-        snapFX.dock(main, null, DockPosition.CENTER);
-        snapFX.dock(toolA, main, DockPosition.RIGHT);
-        snapFX.dock(toolB, main, DockPosition.BOTTOM);
-        snapFX.pinToSideBar(toolA, Side.LEFT);
-        snapFX.pinToSideBar(toolB, Side.LEFT);
-
-        Scene scene = new Scene(snapFX.buildLayout(), 800, 600);
-        scene.getRoot().applyCss();
-        scene.getRoot().layout();
-
-        javafx.scene.layout.VBox leftStrip = findSideBarStrip(scene.getRoot(), Side.LEFT);
-        assertNotNull(leftStrip);
-        List<Button> iconButtons = findSideBarIconButtons(leftStrip);
-        assertEquals(2, iconButtons.size());
-
-        Bounds firstBounds = iconButtons.get(0).localToScene(iconButtons.get(0).getBoundsInLocal());
-        Bounds secondBounds = iconButtons.get(1).localToScene(iconButtons.get(1).getBoundsInLocal());
-        double stripSceneX = (firstBounds.getMinX() + firstBounds.getMaxX()) / 2.0;
-        double betweenSceneY = (firstBounds.getMaxY() + secondBounds.getMinY()) / 2.0;
+    void testRoutedSidebarDropPreviewLineIsShownForStripHoverAndClearedOutsideStrip() {
+        runOnFxThreadAndWait(() -> {
+            DockNode main = new DockNode("main", new Label("Main"), "Main");
+            DockNode toolA = new DockNode("toolA", new Label("Tool A"), "Tool A");
+            DockNode toolB = new DockNode("toolB", new Label("Tool B"), "Tool B");
 
-        assertTrue(updateSideBarDropPreviewAtScenePoint(snapFX, main, stripSceneX, betweenSceneY));
-        Node previewLine = findNodeWithStyleClass(scene.getRoot(), DockThemeStyleClasses.DOCK_SIDEBAR_DROP_INSERT_LINE);
-        assertNotNull(previewLine);
-        assertTrue(previewLine.isVisible());
+            snapFX.dock(main, null, DockPosition.CENTER);
+            snapFX.dock(toolA, main, DockPosition.RIGHT);
+            snapFX.dock(toolB, main, DockPosition.BOTTOM);
+            snapFX.pinToSideBar(toolA, Side.LEFT);
+            snapFX.pinToSideBar(toolB, Side.LEFT);
 
-        assertFalse(updateSideBarDropPreviewAtScenePoint(snapFX, main, 400.0, 300.0));
-        assertFalse(previewLine.isVisible());
+            Stage stage = showLayoutInStage(snapFX);
+            try {
+                Parent root = stage.getScene().getRoot();
+                javafx.scene.layout.VBox leftStrip = findSideBarStrip(root, Side.LEFT);
+                assertNotNull(leftStrip);
+                List<Button> iconButtons = findSideBarIconButtons(leftStrip);
+                assertEquals(2, iconButtons.size());
+
+                Bounds firstBounds = iconButtons.get(0).localToScreen(iconButtons.get(0).getBoundsInLocal());
+                Bounds secondBounds = iconButtons.get(1).localToScreen(iconButtons.get(1).getBoundsInLocal());
+                double stripScreenX = (firstBounds.getMinX() + firstBounds.getMaxX()) / 2.0;
+                double betweenScreenY = (firstBounds.getMaxY() + secondBounds.getMinY()) / 2.0;
+
+                invokeDragHover(snapFX, new DockDragService.DragHoverEvent(main, stripScreenX, betweenScreenY));
+                Node previewLine = findNodeWithStyleClass(root, DockThemeStyleClasses.DOCK_SIDEBAR_DROP_INSERT_LINE);
+                assertNotNull(previewLine);
+                assertTrue(previewLine.isVisible());
+
+                Bounds rootBounds = root.localToScreen(root.getBoundsInLocal());
+                invokeDragHover(snapFX, new DockDragService.DragHoverEvent(
+                    main,
+                    rootBounds.getMinX() + 400.0,
+                    rootBounds.getMinY() + 300.0
+                ));
+                assertFalse(previewLine.isVisible());
+            } finally {
+                stage.close();
+            }
+        });
     }
 
     @Test
@@ -2408,39 +2496,26 @@ class SnapFXTest {
         }
     }
 
-    private boolean tryDropIntoSideBarAtScenePoint(SnapFX framework, DockNode node, double sceneX, double sceneY) {
-        try {
-            Method method = SnapFX.class.getDeclaredMethod(
-                "tryDropIntoSideBarAtScenePoint",
-                DockNode.class,
-                double.class,
-                double.class
-            );
-            method.setAccessible(true);
-            return (boolean) method.invoke(framework, node, sceneX, sceneY);
-        } catch (ReflectiveOperationException exception) {
-            Throwable cause = exception.getCause();
-            String detail = cause != null ? cause.toString() : exception.toString();
-            fail("Failed to invoke sidebar scene-point drop helper via reflection: " + detail);
-            return false;
-        }
+    private Stage showLayoutInStage(SnapFX framework) {
+        Stage stage = new Stage();
+        stage.setScene(new Scene(framework.buildLayout(), 800, 600));
+        stage.setX(100);
+        stage.setY(100);
+        stage.show();
+        stage.getScene().getRoot().applyCss();
+        stage.getScene().getRoot().layout();
+        return stage;
     }
 
-    private boolean updateSideBarDropPreviewAtScenePoint(SnapFX framework, DockNode node, double sceneX, double sceneY) {
+    private void invokeDragHover(SnapFX framework, DockDragService.DragHoverEvent hoverEvent) {
         try {
-            Method method = SnapFX.class.getDeclaredMethod(
-                "updateSideBarDropPreviewAtScenePoint",
-                DockNode.class,
-                double.class,
-                double.class
-            );
+            Method method = SnapFX.class.getDeclaredMethod("handleDragHover", DockDragService.DragHoverEvent.class);
             method.setAccessible(true);
-            return (boolean) method.invoke(framework, node, sceneX, sceneY);
+            method.invoke(framework, hoverEvent);
         } catch (ReflectiveOperationException exception) {
             Throwable cause = exception.getCause();
             String detail = cause != null ? cause.toString() : exception.toString();
-            fail("Failed to invoke sidebar drop-preview helper via reflection: " + detail);
-            return false;
+            fail("Failed to invoke drag hover handler via reflection: " + detail);
         }
     }
 
@@ -2790,8 +2865,15 @@ class SnapFXTest {
         if (Platform.isFxApplicationThread()) {
             return;
         }
+        // Layout rebuilds run on the next pulse, so wait for a pulse after the queued events
         CountDownLatch latch = new CountDownLatch(1);
-        Platform.runLater(latch::countDown);
+        Platform.runLater(() -> new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                latch.countDown();
+            }
+        }.start());
         try {
             assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX events");
         } catch (InterruptedException exception) {
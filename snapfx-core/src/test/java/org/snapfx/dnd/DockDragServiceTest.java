@@ -6,28 +6,41 @@ import org.snapfx.model.DockPosition;
 import org.snapfx.model.DockSplitPane;
 import org.snapfx.model.DockTabPane;
 import org.snapfx.view.DockDropZone;
+import org.snapfx.view.DockDropZoneTable;
 import org.snapfx.view.DockDropZoneType;
+import org.snapfx.view.DockLayoutEngine;
 import javafx.application.Platform;
+import javafx.collections.ListChangeListener;
 import javafx.event.Event;
 import javafx.geometry.BoundingBox;
 import javafx.geometry.Orientation;
+import javafx.scene.Node;
 import javafx.scene.Scene;
+import javafx.scene.control.SplitPane;
 import javafx.scene.control.Label;
 import javafx.scene.input.KeyCode;
 import javafx.scene.input.KeyEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.PickResult;
+import javafx.scene.layout.Pane;
 import javafx.scene.layout.StackPane;
+import javafx.scene.shape.Line;
+import javafx.scene.shape.Rectangle;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.assertEquals;
 import static org.junit.jupiter.api.Assertions.assertFalse;
 import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
 import static org.junit.jupiter.api.Assertions.assertTrue;
 
 class DockDragServiceTest {
@@ -229,6 +242,202 @@ class DockDragServiceTest {
         assertTrue(dragService.isDragging());
     }
 
+    @Test
+    void testDragEventsWithinOneFrameAreResolvedOnce() {
+        Scene scene = new Scene(new StackPane(), 300, 200);
+        DockNode dragged = new DockNode(new Label("Dragged"), "Dragged");
+        List<DockDragService.DragHoverEvent> hoverEvents = new ArrayList<>();
+        dragService.setOnDragHover(hoverEvents::add);
+
+        runOnFxThreadAndWait(() -> {
+            dragService.startDrag(dragged, createPrimaryPressEvent(scene));
+            for (int i = 1; i <= 5; i++) {
+                dragService.updateDrag(createPrimaryDragEvent(scene, 120 + (i * 10), 90));
+            }
+            assertTrue(hoverEvents.isEmpty());
+            assertEquals(170.0, dragService.getCurrentDrag().getMouseX(), 0.0001);
+
+            dragService.flushDragFrame();
+            assertEquals(1, hoverEvents.size());
+            assertEquals(170.0, hoverEvents.getFirst().screenX(), 0.0001);
+
+            DockDragService.DragFrameStats stats = dragService.getDragFrameStats();
+            assertEquals(5, stats.eventCount());
+            assertEquals(1, stats.frameCount());
+            assertTrue(stats.maxFrameNanos() >= stats.lastFrameNanos());
+            assertEquals(stats.totalFrameNanos(), stats.averageFrameNanos());
+        });
+        runOnFxThreadAndWait(() -> {
+            assertEquals(1, hoverEvents.size());
+            dragService.cancelDrag();
+        });
+    }
+
+    @Test
+    void testPendingDragFrameIsFlushedOnNextPulse() throws InterruptedException {
+        Scene scene = new Scene(new StackPane(), 300, 200);
+        DockNode dragged = new DockNode(new Label("Dragged"), "Dragged");
+        CountDownLatch hovered = new CountDownLatch(1);
+        List<DockDragService.DragHoverEvent> hoverEvents = new ArrayList<>();
+        dragService.setOnDragHover(event -> {
+            hoverEvents.add(event);
+            hovered.countDown();
+        });
+
+        runOnFxThreadAndWait(() -> {
+            dragService.startDrag(dragged, createPrimaryPressEvent(scene));
+            dragService.updateDrag(createPrimaryDragEvent(scene, 140, 90));
+            dragService.updateDrag(createPrimaryDragEvent(scene, 150, 90));
+            assertTrue(hoverEvents.isEmpty());
+        });
+
+        assertTrue(hovered.await(5, TimeUnit.SECONDS), "Timed out waiting for the drag frame pulse");
+        runOnFxThreadAndWait(() -> {
+            assertEquals(1, hoverEvents.size());
+            assertEquals(150.0, hoverEvents.getFirst().screenX(), 0.0001);
+            assertEquals(1, dragService.getDragFrameStats().frameCount());
+            dragService.cancelDrag();
+        });
+    }
+
+    @Test
+    void testDropZonesOverlayReusesRectanglesAcrossPasses() {
+        DockDragService.DockDropZonesOverlay overlay = new DockDragService.DockDropZonesOverlay();
+        DockNode target = new DockNode(new Label("Target"), "Target");
+
+        overlay.beginZones(1, DockDropVisualizationMode.ALL_ZONES, null);
+        overlay.addZone(0, 0, 100, 50);
+        overlay.addZone(0, 50, 100, 100);
+        overlay.addZone(100, 0, 200, 100);
+        overlay.endZones();
+        List<Node> firstPass = List.copyOf(overlay.getChildren());
+        assertEquals(3, firstPass.size());
+        assertTrue(overlay.isVisible());
+        assertTrue(overlay.isRendered(1, DockDropVisualizationMode.ALL_ZONES, null));
+        assertFalse(overlay.isRendered(2, DockDropVisualizationMode.ALL_ZONES, null));
+        assertFalse(overlay.isRendered(1, DockDropVisualizationMode.DEFAULT, target));
+
+        // A smaller pass reuses the first rectangles and hides the rest instead of removing them
+        overlay.beginZones(2, DockDropVisualizationMode.DEFAULT, target);
+        overlay.addZone(10, 20, 60, 80);
+        overlay.endZones();
+        assertEquals(firstPass, overlay.getChildren());
+        Rectangle reused = (Rectangle) firstPass.getFirst();
+        assertTrue(reused.isVisible());
+        assertEquals(10.0, reused.getX(), 0.0001);
+        assertEquals(60.0, reused.getHeight(), 0.0001);
+        assertFalse(firstPass.get(1).isVisible());
+        assertFalse(firstPass.get(2).isVisible());
+
+        overlay.beginZones(3, DockDropVisualizationMode.ALL_ZONES, null);
+        overlay.addZone(0, 0, 100, 50);
+        overlay.addZone(0, 50, 100, 100);
+        overlay.endZones();
+        assertEquals(firstPass, overlay.getChildren());
+        assertTrue(firstPass.get(1).isVisible());
+        assertFalse(firstPass.get(2).isVisible());
+
+        // Hiding keeps the pool but forgets the rendered pass
+        overlay.hide();
+        assertFalse(overlay.isVisible());
+        assertFalse(overlay.isRendered(3, DockDropVisualizationMode.ALL_ZONES, null));
+        assertEquals(firstPass, overlay.getChildren());
+
+        overlay.beginZones(4, DockDropVisualizationMode.ALL_ZONES, null);
+        overlay.endZones();
+        assertFalse(overlay.isVisible());
+    }
+
+    @Test
+    void testDropIndicatorIgnoresRepeatedShowOfSameZone() {
+        DockDragService.DockDropIndicator indicator = new DockDragService.DockDropIndicator();
+        Pane parent = new Pane(indicator, new Pane());
+        Rectangle zone = (Rectangle) indicator.getChildren().get(0);
+        Line insertLine = (Line) indicator.getChildren().get(1);
+        List<ListChangeListener.Change<? extends Node>> parentChanges = new ArrayList<>();
+        parent.getChildren().addListener((ListChangeListener<Node>) parentChanges::add);
+
+        indicator.show(10, 20, 110, 70, 40);
+        assertTrue(indicator.isVisible());
+        assertSame(indicator, parent.getChildren().getLast());
+        assertFalse(parentChanges.isEmpty());
+        assertTrue(insertLine.isVisible());
+        assertEquals(40.0, insertLine.getStartX(), 0.0001);
+
+        // Marker values reveal whether an unchanged show writes the shapes again
+        parentChanges.clear();
+        zone.setX(-1);
+        insertLine.setStartX(-1);
+        indicator.show(10, 20, 110, 70, 40);
+        assertEquals(-1.0, zone.getX(), 0.0001);
+        assertEquals(-1.0, insertLine.getStartX(), 0.0001);
+        assertTrue(parentChanges.isEmpty());
+
+        indicator.show(10, 20, 110, 70, Double.NaN);
+        assertEquals(10.0, zone.getX(), 0.0001);
+        assertFalse(insertLine.isVisible());
+        assertTrue(parentChanges.isEmpty());
+
+        // A hidden indicator is shown again even for the same zone
+        indicator.hide();
+        zone.setX(-1);
+        indicator.show(10, 20, 110, 70, Double.NaN);
+        assertTrue(indicator.isVisible());
+        assertEquals(10.0, zone.getX(), 0.0001);
+    }
+
+    private MouseEvent createPrimaryDragEvent(Scene scene, double screenX, double screenY) {
+        var source = scene.getRoot();
+        return new MouseEvent(
+            source,
+            source,
+            MouseEvent.MOUSE_DRAGGED,
+            0,
+            0,
+            screenX,
+            screenY,
+            MouseButton.PRIMARY,
+            1,
+            false,
+            false,
+            false,
+            false,
+            true,
+            false,
+            false,
+            true,
+            false,
+            false,
+            new PickResult(source, 0, 0)
+        );
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        CountDownLatch latch = new CountDownLatch(1);
+        Throwable[] error = new Throwable[1];
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error[0] = throwable;
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX events");
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError(interruptedException);
+        }
+        if (error[0] instanceof AssertionError assertionError) {
+            throw assertionError;
+        }
+        if (error[0] != null) {
+            throw new AssertionError(error[0]);
+        }
+    }
+
     private MouseEvent createPrimaryPressEvent(Scene scene) {
         var source = scene.getRoot();
         return new MouseEvent(
@@ -254,4 +463,39 @@ class DockDragServiceTest {
             new PickResult(source, 0, 0)
         );
     }
+
+    @Test
+    void testSessionDropZonesAreReusedUntilRevisionOrGeometryChanges() {
+        DockNode left = new DockNode(new Label("Left"), "Left");
+        DockNode right = new DockNode(new Label("Right"), "Right");
+        DockNode dragged = new DockNode(new Label("Dragged"), "Dragged");
+        dockGraph.setRoot(left);
+        dockGraph.dock(right, left, DockPosition.RIGHT);
+        DockLayoutEngine layoutEngine = new DockLayoutEngine(dockGraph, dragService);
+        dragService.setLayoutEngine(layoutEngine);
+        SplitPane splitView = (SplitPane) layoutEngine.buildSceneGraph();
+        Scene scene = new Scene(new StackPane(splitView), 800, 400);
+        scene.getRoot().applyCss();
+        scene.getRoot().layout();
+
+        DockDropZoneTable first = dragService.resolveSessionDropZones(dragged);
+        DockDropZoneTable second = dragService.resolveSessionDropZones(dragged);
+        assertSame(first, second);
+        assertEquals(1, dragService.getDropZoneCollectionCount());
+        assertFalse(first.isEmpty());
+
+        splitView.setDividerPositions(0.8);
+        scene.getRoot().layout();
+        dragService.resolveSessionDropZones(dragged);
+        assertEquals(2, dragService.getDropZoneCollectionCount());
+
+        dragService.invalidateSessionDropZones();
+        dragService.resolveSessionDropZones(dragged);
+        assertEquals(3, dragService.getDropZoneCollectionCount());
+
+        dockGraph.setLocked(true);
+        dockGraph.setLocked(false);
+        dragService.resolveSessionDropZones(dragged);
+        assertEquals(3, dragService.getDropZoneCollectionCount());
+    }
 }
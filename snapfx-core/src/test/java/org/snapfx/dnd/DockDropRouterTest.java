@@ -0,0 +1,185 @@
+package org.snapfx.dnd;
+
+import javafx.application.Platform;
+import javafx.geometry.Side;
+import javafx.scene.Parent;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.BorderPane;
+import javafx.scene.layout.Region;
+import javafx.scene.layout.StackPane;
+import javafx.scene.layout.VBox;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockGraph;
+import org.snapfx.model.DockNode;
+import org.snapfx.view.DockLayoutEngine;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DockDropRouterTest {
+
+    @BeforeAll
+    static void initJavaFx() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException ignored) {
+            // JavaFX toolkit already started by another test class.
+        }
+    }
+
+    @Test
+    void testRoutesToFrontMostHostAndReusesSessionUntilWindowMoves() {
+        runOnFxThreadAndWait(() -> {
+            DockNode mainNode = new DockNode(new Label("Main"), "Main");
+            DockNode floatingNode = new DockNode(new Label("Floating"), "Floating");
+            TestHost main = createHost("main", mainNode, null, 100, 100, 400, 300);
+            TestHost floating = createHost("floating", floatingNode, null, 300, 200, 300, 200);
+            try {
+                DockDropRouter router = new DockDropRouter();
+                router.setHostSupplier(() -> List.of(main.host(), floating.host()));
+                DockNode dragged = new DockNode(new Label("Dragged"), "Dragged");
+
+                // Only the main window covers this point
+                assertEquals(0, router.route(dragged, main.screenX(20), main.screenY(20)));
+                assertSame(mainNode, router.getZones().getTarget(router.getRoutedZone()));
+
+                // Both windows cover the floating window center; the later host is in front
+                double overlapX = floating.screenX(150);
+                double overlapY = floating.screenY(100);
+                assertEquals(1, router.route(dragged, overlapX, overlapY));
+                assertSame("floating", router.getRoutedHost().owner());
+                assertSame(floatingNode, router.getZones().getTarget(router.getRoutedZone()));
+                int routedZone = router.getRoutedZone();
+                assertTrue(routedZone >= router.getZoneStart(1) && routedZone < router.getZoneEnd(1));
+
+                // Repeated requests reuse the session and the previous result
+                router.route(dragged, overlapX, overlapY);
+                assertEquals(1, router.getBuildCount());
+                assertEquals(3, router.getRouteCount());
+                assertEquals(2, router.getQueryCount());
+
+                // Moving a host window rebuilds the session
+                floating.stage().setX(floating.stage().getX() + 10);
+                router.route(dragged, floating.screenX(150), floating.screenY(100));
+                assertEquals(2, router.getBuildCount());
+                assertSame(floatingNode, router.getZones().getTarget(router.getRoutedZone()));
+
+                assertEquals(DockDropRouter.NO_HOST, router.route(dragged, -100_000, -100_000));
+                assertNull(router.getRoutedHost());
+            } finally {
+                main.stage().close();
+                floating.stage().close();
+            }
+        });
+    }
+
+    @Test
+    void testRoutesSideBarStripsAndSkipsZonesOfDraggedNode() {
+        runOnFxThreadAndWait(() -> {
+            DockNode mainNode = new DockNode(new Label("Main"), "Main");
+            VBox strip = new VBox(new Region(), new Region());
+            strip.setPrefWidth(40);
+            for (var child : strip.getChildren()) {
+                ((Region) child).setPrefSize(40, 40);
+            }
+            TestHost main = createHost("main", mainNode, strip, 100, 100, 400, 300);
+            try {
+                DockDropRouter router = new DockDropRouter();
+                router.setHostSupplier(() -> List.of(main.host()));
+                router.setSideBarStrips(Map.of(Side.LEFT, strip));
+                DockNode dragged = new DockNode(new Label("Dragged"), "Dragged");
+
+                // Below the center of the first strip child, above the second one
+                assertEquals(0, router.route(dragged, main.screenX(20), main.screenY(30)));
+                assertEquals(Side.LEFT, router.getRoutedSideBar());
+                assertEquals(1, router.getRoutedSideBarInsertIndex());
+                assertEquals(-1, router.getRoutedZone());
+
+                assertEquals(0, router.route(dragged, main.screenX(200), main.screenY(150)));
+                assertNull(router.getRoutedSideBar());
+                assertSame(mainNode, router.getZones().getTarget(router.getRoutedZone()));
+
+                // The dragged node cannot be dropped onto itself
+                assertEquals(0, router.route(mainNode, main.screenX(200), main.screenY(150)));
+                assertEquals(-1, router.getRoutedZone());
+            } finally {
+                main.stage().close();
+            }
+        });
+    }
+
+    private static TestHost createHost(
+        String owner,
+        DockNode rootNode,
+        Parent sideBarStrip,
+        double x,
+        double y,
+        double width,
+        double height
+    ) {
+        DockGraph graph = new DockGraph();
+        graph.setRoot(rootNode);
+        DockLayoutEngine engine = new DockLayoutEngine(graph, new DockDragService(graph));
+        BorderPane root = new BorderPane(new StackPane(engine.buildSceneGraph()));
+        if (sideBarStrip != null) {
+            root.setLeft(sideBarStrip);
+        }
+        Scene scene = new Scene(root, width, height);
+        Stage stage = new Stage();
+        stage.setScene(scene);
+        stage.setX(x);
+        stage.setY(y);
+        stage.show();
+        root.applyCss();
+        root.layout();
+        return new TestHost(new DockDropRouter.Host(owner, scene, engine, graph, true), stage);
+    }
+
+    private record TestHost(DockDropRouter.Host host, Stage stage) {
+        double screenX(double sceneX) {
+            return stage.getX() + host.scene().getX() + sceneX;
+        }
+
+        double screenY(double sceneY) {
+            return stage.getY() + host.scene().getY() + sceneY;
+        }
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX thread");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for JavaFX thread", e);
+        }
+        if (error.get() != null) {
+            throw new AssertionError("JavaFX test action failed", error.get());
+        }
+    }
+}
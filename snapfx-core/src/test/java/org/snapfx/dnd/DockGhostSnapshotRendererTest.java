@@ -0,0 +1,106 @@
+package org.snapfx.dnd;
+
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockNode;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for bounded-size drag ghost thumbnails.
+ */
+class DockGhostSnapshotRendererTest {
+
+    @BeforeAll
+    static void initJavaFx() {
+        try {
+            Platform.startup(() -> { });
+        } catch (IllegalStateException ignored) {
+            // JavaFX toolkit already started by another test class.
+        }
+    }
+
+    @Test
+    void testLargeSourceIsRenderedAsBoundedThumbnail() {
+        DockGhostSnapshotRenderer renderer = new DockGhostSnapshotRenderer();
+        Region source = createSource(1200, 600);
+        DockNode dockNode = new DockNode(new Label("Chart"), "Chart");
+
+        DockGhostSnapshotRenderer.Thumbnail thumbnail = renderAndWait(renderer, dockNode, source);
+
+        assertEquals(DockGhostSnapshotRenderer.MAX_WIDTH, thumbnail.width());
+        assertEquals(150, thumbnail.height());
+        assertTrue(thumbnail.image().getWidth() <= DockGhostSnapshotRenderer.MAX_WIDTH);
+        assertTrue(thumbnail.image().getHeight() <= DockGhostSnapshotRenderer.MAX_HEIGHT);
+    }
+
+    @Test
+    void testPooledImageIsReusedWithoutCaching() {
+        DockGhostSnapshotRenderer renderer = new DockGhostSnapshotRenderer();
+        DockNode dockNode = new DockNode(new Label("Table"), "Table");
+
+        DockGhostSnapshotRenderer.Thumbnail first = renderAndWait(renderer, dockNode, createSource(800, 400));
+        DockGhostSnapshotRenderer.Thumbnail second = renderAndWait(renderer, dockNode, createSource(400, 800));
+
+        assertSame(first.image(), second.image());
+        assertNull(renderer.getCached(dockNode, createSource(400, 800)));
+        assertEquals(2, renderer.getRenderCount());
+    }
+
+    @Test
+    void testCachedThumbnailIsInvalidatedByContentAndSizeChanges() {
+        DockGhostSnapshotRenderer renderer = new DockGhostSnapshotRenderer();
+        renderer.setCachingEnabled(true);
+        DockNode dockNode = new DockNode(new Label("Editor"), "Editor");
+        Region source = createSource(640, 480);
+
+        DockGhostSnapshotRenderer.Thumbnail thumbnail = renderAndWait(renderer, dockNode, source);
+        assertSame(thumbnail, renderer.getCached(dockNode, source));
+
+        source.resize(320, 480);
+        assertNull(renderer.getCached(dockNode, source));
+
+        renderAndWait(renderer, dockNode, source);
+        assertNotNull(renderer.getCached(dockNode, source));
+        dockNode.setContent(new Label("Replaced"));
+        assertNull(renderer.getCached(dockNode, source));
+
+        renderAndWait(renderer, dockNode, source);
+        renderer.invalidate(dockNode);
+        assertNull(renderer.getCached(dockNode, source));
+    }
+
+    private Region createSource(double width, double height) {
+        Region region = new Region();
+        region.setStyle("-fx-background-color: steelblue;");
+        region.resize(width, height);
+        return region;
+    }
+
+    private DockGhostSnapshotRenderer.Thumbnail renderAndWait(
+        DockGhostSnapshotRenderer renderer,
+        DockNode dockNode,
+        Region source
+    ) {
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<DockGhostSnapshotRenderer.Thumbnail> result = new AtomicReference<>();
+        Platform.runLater(() -> assertTrue(renderer.render(dockNode, source, thumbnail -> {
+            result.set(thumbnail);
+            latch.countDown();
+        })));
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for ghost snapshot");
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            fail("Interrupted while waiting for ghost snapshot", interruptedException);
+        }
+        return result.get();
+    }
+}
@@ -0,0 +1,151 @@
+package org.snapfx.floating;
+
+import javafx.application.Platform;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DockFloatingMoveSchedulerTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException ignored) {
+            // JavaFX is already running.
+        }
+    }
+
+    @Test
+    void testRequestsWithinOneFrameCollapseIntoOneUpdate() {
+        runOnFxThreadAndWait(() -> {
+            DockFloatingMoveScheduler scheduler = new DockFloatingMoveScheduler();
+            Stage stage = new Stage();
+            stage.setX(0);
+            stage.setY(0);
+            stage.setWidth(400);
+            stage.setHeight(300);
+
+            // The first request of a frame is applied right away
+            scheduler.requestMove(stage, 10, 20);
+            assertEquals(10.0, stage.getX(), 0.0001);
+            assertEquals(20.0, stage.getY(), 0.0001);
+
+            scheduler.requestMove(stage, 30, 40);
+            scheduler.requestMove(stage, 50, 60);
+            assertEquals(10.0, stage.getX(), 0.0001);
+            assertEquals(1, scheduler.getUpdateCount());
+
+            // The pulse ending a frame that already had its update keeps the target pending
+            scheduler.onPulse();
+            assertEquals(10.0, stage.getX(), 0.0001);
+            assertEquals(1, scheduler.getUpdateCount());
+
+            scheduler.flush();
+            assertEquals(50.0, stage.getX(), 0.0001);
+            assertEquals(60.0, stage.getY(), 0.0001);
+            assertEquals(3, scheduler.getRequestCount());
+            assertEquals(2, scheduler.getUpdateCount());
+            assertEquals(4, scheduler.getBoundsWriteCount());
+            assertEquals(2, scheduler.getSavedBoundsWriteCount());
+
+            // Unchanged bounds are not written again
+            scheduler.requestBounds(stage, 50, 60, 500, 300);
+            scheduler.flush();
+            assertEquals(500.0, stage.getWidth(), 0.0001);
+            assertEquals(5, scheduler.getBoundsWriteCount());
+            assertEquals(5, scheduler.getSavedBoundsWriteCount());
+            scheduler.cancel();
+        });
+    }
+
+    @Test
+    void testContinuousMovesApplyFirstRequestOfEveryFrame() {
+        runOnFxThreadAndWait(() -> {
+            DockFloatingMoveScheduler scheduler = new DockFloatingMoveScheduler();
+            Stage stage = new Stage();
+
+            for (int frame = 0; frame < 3; frame++) {
+                double x = 100.0 * frame;
+                scheduler.requestMove(stage, x, 0);
+                assertEquals(x, stage.getX(), 0.0001, "first move of frame " + frame);
+                scheduler.requestMove(stage, x + 10, 0);
+                scheduler.requestMove(stage, x + 20, 0);
+                assertEquals(x, stage.getX(), 0.0001);
+                scheduler.onPulse();
+                assertEquals(frame + 1, scheduler.getUpdateCount(), "one update per frame");
+            }
+
+            // Once moves stop, the next pulse applies the carried target and the one after stops the timer
+            assertEquals(200.0, stage.getX(), 0.0001);
+            scheduler.onPulse();
+            assertEquals(220.0, stage.getX(), 0.0001);
+            assertEquals(4, scheduler.getUpdateCount());
+            scheduler.onPulse();
+            assertEquals(4, scheduler.getUpdateCount());
+            scheduler.cancel();
+        });
+    }
+
+    @Test
+    void testPendingTargetIsAppliedOnNextPulse() throws InterruptedException {
+        DockFloatingMoveScheduler scheduler = new DockFloatingMoveScheduler();
+        AtomicReference<Stage> stage = new AtomicReference<>();
+        runOnFxThreadAndWait(() -> {
+            stage.set(new Stage());
+            scheduler.requestMove(stage.get(), 10, 10);
+            scheduler.requestMove(stage.get(), 80, 90);
+            assertEquals(10.0, stage.get().getX(), 0.0001);
+        });
+
+        long deadline = System.nanoTime() + TimeUnit.SECONDS.toNanos(5);
+        double[] x = {Double.NaN};
+        while (System.nanoTime() < deadline) {
+            runOnFxThreadAndWait(() -> x[0] = stage.get().getX());
+            if (x[0] == 80.0) {
+                break;
+            }
+            Thread.sleep(20);
+        }
+        assertEquals(80.0, x[0], 0.0001);
+        runOnFxThreadAndWait(() -> {
+            assertEquals(90.0, stage.get().getY(), 0.0001);
+            assertEquals(2, scheduler.getUpdateCount());
+            scheduler.cancel();
+        });
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX thread");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for JavaFX thread", e);
+        }
+        if (error.get() != null) {
+            throw new AssertionError("JavaFX test action failed", error.get());
+        }
+    }
+}
@@ -0,0 +1,170 @@
+package org.snapfx.floating;
+
+import javafx.beans.property.SimpleDoubleProperty;
+import javafx.geometry.Rectangle2D;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DockFloatingSnapSessionTest {
+    private static final Rectangle2D LEFT_SCREEN = new Rectangle2D(0.0, 0.0, 1920.0, 1080.0);
+    private static final Rectangle2D LEFT_VISUAL = new Rectangle2D(0.0, 0.0, 1920.0, 1040.0);
+    private static final Rectangle2D RIGHT_SCREEN = new Rectangle2D(1920.0, 0.0, 1920.0, 1080.0);
+    private static final Rectangle2D RIGHT_VISUAL = new Rectangle2D(1920.0, 0.0, 1920.0, 1040.0);
+
+    @Test
+    void testDragSnapsToScreenUnderPointerOnly() {
+        DockFloatingSnapSession session = createDragSession(List.of());
+
+        session.updateActiveScreens(100.0, 100.0, 8.0, 7.0, 200.0, 120.0);
+        assertEquals(0.0, session.snap(DockFloatingSnapSession.DRAG_X, 8.0, 7.0, 127.0), 0.0001);
+        assertEquals(0.0, session.snap(DockFloatingSnapSession.DRAG_Y, 7.0, 8.0, 208.0), 0.0001);
+        // Right screen edges do not apply while the pointer is on the left screen
+        assertEquals(1925.0, session.snap(DockFloatingSnapSession.DRAG_X, 1925.0, 7.0, 127.0), 0.0001);
+
+        session.updateActiveScreens(2000.0, 100.0, 1925.0, 7.0, 200.0, 120.0);
+        assertEquals(1920.0, session.snap(DockFloatingSnapSession.DRAG_X, 1925.0, 7.0, 127.0), 0.0001);
+        // Bottom edge alignment subtracts the window height from the visual bounds
+        assertEquals(920.0, session.snap(DockFloatingSnapSession.DRAG_Y, 915.0, 1925.0, 2125.0), 0.0001);
+    }
+
+    @Test
+    void testDragPeerCandidatesRequirePerpendicularOverlap() {
+        DockFloatingSnapSession session = createDragSession(List.of(new Rectangle2D(300.0, 80.0, 640.0, 420.0)));
+        session.updateActiveScreens(500.0, 500.0, 289.0, 80.0, 640.0, 420.0);
+
+        assertEquals(300.0, session.snap(DockFloatingSnapSession.DRAG_X, 289.0, 80.0, 500.0), 0.0001);
+        // Adjacent placement: window right edge meets the peer's left edge
+        assertEquals(100.0, session.snap(DockFloatingSnapSession.DRAG_X, 95.0, 80.0, 500.0), 0.0001);
+        // No vertical overlap within the snap distance
+        assertEquals(289.0, session.snap(DockFloatingSnapSession.DRAG_X, 289.0, 600.0, 1020.0), 0.0001);
+    }
+
+    @Test
+    void testNearestCandidateWinsAndTiesKeepCollectionOrder() {
+        List<Rectangle2D> peers = new ArrayList<>(List.of(
+            new Rectangle2D(110.0, 0.0, 100.0, 100.0),
+            new Rectangle2D(90.0, 0.0, 100.0, 100.0)
+        ));
+        DockFloatingSnapSession session = new DockFloatingSnapSession(
+            true, 0.0, 0.0, 12.0, new Rectangle2D[0], new Rectangle2D[0], -1, peers
+        );
+
+        // 90 and 110 are equally near; the first collected peer wins
+        assertEquals(110.0, session.snap(DockFloatingSnapSession.RESIZE_LEFT, 100.0, 0.0, 50.0), 0.0001);
+        assertEquals(150.0, session.snap(DockFloatingSnapSession.RESIZE_LEFT, 150.0, 0.0, 50.0), 0.0001);
+        assertEquals(4, session.getCandidateCount(DockFloatingSnapSession.RESIZE_LEFT));
+
+        peers.add(new Rectangle2D(103.0, 0.0, 100.0, 100.0));
+        DockFloatingSnapSession withNearerPeer = new DockFloatingSnapSession(
+            true, 0.0, 0.0, 12.0, new Rectangle2D[0], new Rectangle2D[0], -1, peers
+        );
+        assertEquals(103.0, withNearerPeer.snap(DockFloatingSnapSession.RESIZE_LEFT, 100.0, 0.0, 50.0), 0.0001);
+    }
+
+    @Test
+    void testWatchedObservableInvalidatesUntilClosed() {
+        SimpleDoubleProperty peerX = new SimpleDoubleProperty(300.0);
+        DockFloatingSnapSession session = createDragSession(List.of());
+        session.watch(peerX);
+        peerX.get();
+
+        assertTrue(session.isValidFor(false, 200.0, 120.0));
+        assertFalse(session.isValidFor(false, 210.0, 120.0));
+        assertFalse(session.isValidFor(true, 200.0, 120.0));
+
+        peerX.set(310.0);
+        assertFalse(session.isValidFor(false, 200.0, 120.0));
+
+        DockFloatingSnapSession next = createDragSession(List.of());
+        next.watch(peerX);
+        peerX.get();
+        next.close();
+        peerX.set(320.0);
+        assertFalse(next.isValidFor(false, 200.0, 120.0));
+    }
+
+    @Test
+    void testLargeCandidateSetSnapsLikeLinearScan() {
+        List<Rectangle2D> peers = new ArrayList<>();
+        for (int i = 0; i < 60; i++) {
+            peers.add(new Rectangle2D(37.0 * i, 23.0 * (i % 7), 180.0 + (i % 5) * 13.0, 140.0));
+        }
+        DockFloatingSnapSession session = new DockFloatingSnapSession(
+            true, 0.0, 0.0, 9.0, new Rectangle2D[0], new Rectangle2D[0], -1, peers
+        );
+        for (double value = -50.0; value < 2500.0; value += 3.7) {
+            assertEquals(
+                linearSnap(peers, value, 40.0, 140.0, 9.0, true),
+                session.snap(DockFloatingSnapSession.RESIZE_LEFT, value, 40.0, 140.0),
+                0.0,
+                "left at " + value
+            );
+            assertEquals(
+                linearSnap(peers, value, value, value + 200.0, 9.0, false),
+                session.snap(DockFloatingSnapSession.RESIZE_TOP, value, value, value + 200.0),
+                0.0,
+                "top at " + value
+            );
+        }
+    }
+
+    @Test
+    void testInferShadowInsetCompensatesBorder() {
+        assertEquals(5.0, DockFloatingSnapSession.inferShadowInset(6.0, 6.0, 6.0), 0.0001);
+        assertEquals(3.0, DockFloatingSnapSession.inferShadowInset(6.0, 4.0, 6.0), 0.0001);
+        assertEquals(0.0, DockFloatingSnapSession.inferShadowInset(1.0, 1.0, 1.0), 0.0001);
+        assertEquals(0.0, DockFloatingSnapSession.inferShadowInset(Double.NaN, 6.0, 6.0), 0.0001);
+    }
+
+    /**
+     * Reference resize-edge snap that scans every peer edge whose perpendicular range overlaps the window.
+     */
+    private double linearSnap(
+        List<Rectangle2D> peers,
+        double value,
+        double perpendicularStart,
+        double perpendicularEnd,
+        double snapDistance,
+        boolean horizontal
+    ) {
+        double best = value;
+        double bestDistance = Double.POSITIVE_INFINITY;
+        for (Rectangle2D peer : peers) {
+            double rangeMin = horizontal ? peer.getMinY() : peer.getMinX();
+            double rangeMax = horizontal ? peer.getMaxY() : peer.getMaxX();
+            if (perpendicularEnd < rangeMin - snapDistance || rangeMax < perpendicularStart - snapDistance) {
+                continue;
+            }
+            double[] edges = horizontal
+                ? new double[] {peer.getMinX(), peer.getMaxX()}
+                : new double[] {peer.getMinY(), peer.getMaxY()};
+            for (double edge : edges) {
+                double distance = Math.abs(value - edge);
+                if (distance <= snapDistance && distance < bestDistance) {
+                    best = edge;
+                    bestDistance = distance;
+                }
+            }
+        }
+        return best;
+    }
+
+    private DockFloatingSnapSession createDragSession(List<Rectangle2D> overlapTargets) {
+        return new DockFloatingSnapSession(
+            false,
+            200.0,
+            120.0,
+            12.0,
+            new Rectangle2D[] {LEFT_SCREEN, RIGHT_SCREEN},
+            new Rectangle2D[] {LEFT_VISUAL, RIGHT_VISUAL},
+            0,
+            overlapTargets
+        );
+    }
+}
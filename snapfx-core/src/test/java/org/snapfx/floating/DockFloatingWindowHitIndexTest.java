@@ -0,0 +1,127 @@
+package org.snapfx.floating;
+
+import javafx.application.Platform;
+import javafx.collections.FXCollections;
+import javafx.collections.ObservableList;
+import javafx.geometry.BoundingBox;
+import javafx.geometry.Bounds;
+import javafx.scene.control.Label;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockNode;
+
+import java.util.HashMap;
+import java.util.Map;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DockFloatingWindowHitIndexTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException ignored) {
+            // JavaFX is already running.
+        }
+    }
+
+    @Test
+    void testTopWindowFollowsListOrderAndInclusiveEdges() {
+        runOnFxThreadAndWait(() -> {
+            ObservableList<DockFloatingWindow> windows = FXCollections.observableArrayList();
+            Map<DockFloatingWindow, Bounds> bounds = new HashMap<>();
+            DockFloatingWindowHitIndex index = new DockFloatingWindowHitIndex(windows, bounds::get);
+            DockFloatingWindow back = createWindow("Back");
+            DockFloatingWindow front = createWindow("Front");
+            DockFloatingWindow hidden = createWindow("Hidden");
+            bounds.put(back, new BoundingBox(0, 0, 400, 300));
+            bounds.put(front, new BoundingBox(200, 100, 400, 300));
+            windows.addAll(back, front, hidden);
+
+            assertSame(back, index.findTopWindowAt(100, 50));
+            assertSame(front, index.findTopWindowAt(300, 200));
+            assertSame(front, index.findTopWindowAt(500, 350));
+            assertNull(index.findTopWindowAt(500, 50));
+            assertNull(index.findTopWindowAt(-1, 50));
+            assertNull(index.findTopWindowAt(700, 200));
+            // Edges count as inside, also where a slab or cell boundary splits a window
+            assertSame(back, index.findTopWindowAt(0, 0));
+            assertSame(back, index.findTopWindowAt(400, 50));
+            assertSame(front, index.findTopWindowAt(600, 400));
+            assertSame(back, index.findTopWindowAt(100, 300));
+            assertEquals(1, index.getBuildCount());
+
+            // Activating the back window moves it to the end of the list, in front
+            windows.remove(back);
+            windows.add(back);
+            assertSame(back, index.findTopWindowAt(300, 200));
+            assertSame(front, index.findTopWindowAt(500, 350));
+            assertEquals(2, index.getBuildCount());
+        });
+    }
+
+    @Test
+    void testIndexIsRebuiltOnlyAfterInvalidation() {
+        runOnFxThreadAndWait(() -> {
+            ObservableList<DockFloatingWindow> windows = FXCollections.observableArrayList();
+            Map<DockFloatingWindow, Bounds> bounds = new HashMap<>();
+            DockFloatingWindowHitIndex index = new DockFloatingWindowHitIndex(windows, bounds::get);
+            DockFloatingWindow window = createWindow("Window");
+            bounds.put(window, new BoundingBox(0, 0, 100, 100));
+            windows.add(window);
+
+            for (int i = 0; i < 10; i++) {
+                assertSame(window, index.findTopWindowAt(50, 50));
+            }
+            assertEquals(1, index.getBuildCount());
+
+            bounds.put(window, new BoundingBox(500, 500, 100, 100));
+            index.invalidate();
+            assertNull(index.findTopWindowAt(50, 50));
+            assertSame(window, index.findTopWindowAt(550, 550));
+            assertEquals(2, index.getBuildCount());
+
+            windows.clear();
+            assertNull(index.findTopWindowAt(550, 550));
+            assertEquals(3, index.getBuildCount());
+        });
+    }
+
+    private static DockFloatingWindow createWindow(String title) {
+        return new DockFloatingWindow(new DockNode(new Label(title), title));
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX thread");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for JavaFX thread", e);
+        }
+        if (error.get() != null) {
+            throw new AssertionError("JavaFX test action failed", error.get());
+        }
+    }
+}
@@ -0,0 +1,213 @@
+package org.snapfx.floating;
+
+import javafx.application.Platform;
+import javafx.scene.Scene;
+import javafx.scene.control.Label;
+import javafx.scene.layout.StackPane;
+import javafx.stage.Stage;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockNode;
+
+import java.util.ArrayList;
+import java.util.EnumSet;
+import java.util.List;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicReference;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+import static org.junit.jupiter.api.Assertions.assertFalse;
+import static org.junit.jupiter.api.Assertions.assertNotEquals;
+import static org.junit.jupiter.api.Assertions.assertNotNull;
+import static org.junit.jupiter.api.Assertions.assertSame;
+import static org.junit.jupiter.api.Assertions.assertTrue;
+
+class DockFloatingWindowPoolTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException ignored) {
+            // JavaFX is already running.
+        }
+    }
+
+    @Test
+    void testReleasedWindowIsReusedWithItsStage() {
+        AtomicReference<Stage> owner = new AtomicReference<>();
+        AtomicReference<DockFloatingWindow> reused = new AtomicReference<>();
+        runOnFxThreadAndWait(() -> {
+            owner.set(createOwnerStage());
+            List<DockFloatingWindow> prepared = new ArrayList<>();
+            DockFloatingWindowPool pool = new DockFloatingWindowPool(null);
+            pool.setOwnerStage(owner.get());
+            pool.setCapacity(2);
+            pool.setOnWindowPrepared(prepared::add);
+
+            DockNode first = new DockNode(new Label("First"), "First");
+            DockFloatingWindow window = pool.acquire(first);
+            window.show(owner.get());
+            Scene scene = window.getScene();
+            String firstId = window.getId();
+
+            window.closeWithoutNotification();
+            window.undockNode(first);
+            assertTrue(pool.release(window));
+            assertFalse(pool.release(window));
+            assertEquals(List.of(window), pool.getIdleWindows());
+            assertEquals(List.of(window), prepared);
+            assertSame(scene, window.getScene());
+
+            DockNode second = new DockNode(new Label("Second"), "Second");
+            reused.set(pool.acquire(second));
+            assertSame(window, reused.get());
+            assertNotEquals(firstId, reused.get().getId());
+            assertSame(second, reused.get().getDockNode());
+            reused.get().show(owner.get());
+            assertTrue(reused.get().isShowing());
+            assertSame(scene, reused.get().getScene());
+            assertEquals(1, pool.getCreatedCount());
+            assertEquals(1, pool.getReusedCount());
+        });
+
+        // The close queued when the first layout was removed must not hide the reused window
+        runOnFxThreadAndWait(() -> {
+            assertTrue(reused.get().isShowing());
+            reused.get().closeWithoutNotification();
+            owner.get().close();
+        });
+    }
+
+    @Test
+    void testWarmUpPreparesStagesUpToCapacity() {
+        runOnFxThreadAndWait(() -> {
+            Stage owner = createOwnerStage();
+            try {
+                List<Scene> preparedScenes = new ArrayList<>();
+                DockFloatingWindowPool pool = new DockFloatingWindowPool(null);
+                pool.setOwnerStage(owner);
+                pool.setOnWindowPrepared(window -> preparedScenes.add(window.getScene()));
+                pool.setWarmUpCount(3);
+                assertEquals(0, pool.warmUp());
+
+                pool.setCapacity(1);
+                assertEquals(1, pool.warmUp());
+                assertEquals(0, pool.warmUp());
+                assertEquals(1, preparedScenes.size());
+                Scene prewarmed = preparedScenes.getFirst();
+                assertNotNull(prewarmed);
+
+                DockNode node = new DockNode(new Label("Node"), "Node");
+                DockFloatingWindow window = pool.acquire(node);
+                assertTrue(pool.getIdleWindows().isEmpty());
+                window.show(owner);
+                assertSame(prewarmed, window.getScene());
+                assertSame(node, window.getDockNode());
+                assertEquals(1, pool.getCreatedCount());
+                assertEquals(1, pool.getReusedCount());
+                window.closeWithoutNotification();
+
+                // Without capacity, windows are neither kept on close nor taken back
+                pool.setCapacity(0);
+                DockNode other = new DockNode(new Label("Other"), "Other");
+                DockFloatingWindow unpooled = pool.acquire(other);
+                unpooled.undockNode(other);
+                assertFalse(pool.release(unpooled));
+                assertTrue(pool.getIdleWindows().isEmpty());
+            } finally {
+                owner.close();
+            }
+        });
+    }
+
+    @Test
+    void testReusedWindowHasDefaultSettingsAndRequestedTitlePrefix() {
+        runOnFxThreadAndWait(() -> {
+            DockFloatingWindowPool pool = new DockFloatingWindowPool(null);
+            pool.setCapacity(1);
+            DockNode first = new DockNode(new Label("First"), "First");
+            DockFloatingWindow window = pool.acquire(first);
+            window.setPinButtonMode(DockFloatingPinButtonMode.NEVER);
+            window.setPinLockedBehavior(DockFloatingPinLockedBehavior.HIDE_BUTTON);
+            window.setPinToggleEnabled(false);
+            window.setSnappingEnabled(true);
+            window.setSnapDistance(30);
+            window.setSnapTargets(EnumSet.allOf(DockFloatingSnapTarget.class));
+            window.setAlwaysOnTop(false);
+            window.setPreferredSize(800, 600);
+            window.undockNode(first);
+            assertTrue(pool.release(window));
+
+            DockFloatingWindow reused = pool.acquire(new DockNode(new Label("Second"), "Second"), "Tools");
+            DockFloatingWindow fresh = new DockFloatingWindow(new DockNode(new Label("Fresh"), "Fresh"));
+            assertSame(window, reused);
+            assertEquals(fresh.getPinButtonMode(), reused.getPinButtonMode());
+            assertEquals(fresh.getPinLockedBehavior(), reused.getPinLockedBehavior());
+            assertEquals(fresh.isPinToggleEnabled(), reused.isPinToggleEnabled());
+            assertEquals(fresh.isSnappingEnabled(), reused.isSnappingEnabled());
+            assertEquals(fresh.getSnapDistance(), reused.getSnapDistance(), 0.0001);
+            assertEquals(fresh.getSnapTargets(), reused.getSnapTargets());
+            assertEquals(fresh.isAlwaysOnTop(), reused.isAlwaysOnTop());
+            assertEquals(fresh.getPreferredWidth(), reused.getPreferredWidth(), 0.0001);
+            assertEquals("Tools", reused.getTitlePrefix());
+        });
+    }
+
+    @Test
+    void testDroppedIdleWindowsAreReportedAsDiscarded() {
+        runOnFxThreadAndWait(() -> {
+            List<DockFloatingWindow> discarded = new ArrayList<>();
+            DockFloatingWindowPool pool = new DockFloatingWindowPool(null);
+            pool.setOnWindowDiscarded(discarded::add);
+            pool.setCapacity(3);
+            pool.setWarmUpCount(3);
+            assertEquals(3, pool.warmUp());
+            List<DockFloatingWindow> idle = pool.getIdleWindows();
+
+            pool.setCapacity(1);
+            assertEquals(idle.subList(1, 3).reversed(), discarded);
+            assertEquals(List.of(idle.getFirst()), pool.getIdleWindows());
+
+            pool.clear();
+            assertEquals(3, discarded.size());
+            assertSame(idle.getFirst(), discarded.get(2));
+            assertTrue(pool.getIdleWindows().isEmpty());
+        });
+    }
+
+    private static Stage createOwnerStage() {
+        Stage owner = new Stage();
+        owner.setScene(new Scene(new StackPane(), 200, 200));
+        owner.show();
+        return owner;
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX thread");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for JavaFX thread", e);
+        }
+        if (error.get() != null) {
+            throw new AssertionError("JavaFX test action failed", error.get());
+        }
+    }
+}
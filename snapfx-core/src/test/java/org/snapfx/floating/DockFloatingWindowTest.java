@@ -582,6 +582,70 @@ class DockFloatingWindowTest {
         });
     }
 
+    @Test
+    void testSceneDragReusesSnapSessionUntilPeerMovesOrDragEnds() {
+        runOnFxThreadAndWait(() -> {
+            DockFloatingWindow floatingWindow = new DockFloatingWindow(new DockNode(new Label("Node"), "Node"));
+            DockFloatingWindow peerWindow = new DockFloatingWindow(new DockNode(new Label("Peer"), "Peer"));
+
+            Stage peerStage = new Stage();
+            peerStage.setX(300);
+            peerStage.setY(80);
+            peerStage.setWidth(640);
+            peerStage.setHeight(420);
+            writeStage(peerWindow, peerStage);
+
+            floatingWindow.setSnappingEnabled(true);
+            floatingWindow.setSnapDistance(15.0);
+            floatingWindow.setSnapTargets(EnumSet.of(DockFloatingSnapTarget.FLOATING_WINDOWS));
+            floatingWindow.setSnapPeerWindowsSupplier(() -> List.of(peerWindow));
+
+            Stage stage = new Stage();
+            stage.setX(100);
+            stage.setY(80);
+            stage.setWidth(640);
+            stage.setHeight(420);
+
+            HBox titleBar = new HBox();
+            invokeOnTitleBarMousePressed(
+                floatingWindow,
+                createMouseEvent(MouseEvent.MOUSE_PRESSED, 180, 120, 80, 12, titleBar, titleBar, MouseButton.PRIMARY, 1),
+                stage,
+                titleBar
+            );
+            for (double screenX = 500; screenX >= 369; screenX -= 1) {
+                invokeOnSceneMouseDragged(
+                    floatingWindow,
+                    createMouseEvent(MouseEvent.MOUSE_DRAGGED, screenX, 190, 30, 140, titleBar, titleBar, MouseButton.PRIMARY, 1),
+                    stage,
+                    titleBar
+                );
+            }
+            floatingWindow.getMoveScheduler().flush();
+            assertEquals(300.0, stage.getX(), 0.0001);
+            assertEquals(1, floatingWindow.getSnapSessionBuildCount());
+
+            // A peer moving during the drag invalidates the precomputed candidates
+            peerStage.setX(400);
+            invokeOnSceneMouseDragged(
+                floatingWindow,
+                createMouseEvent(MouseEvent.MOUSE_DRAGGED, 469, 190, 30, 140, titleBar, titleBar, MouseButton.PRIMARY, 1),
+                stage,
+                titleBar
+            );
+            floatingWindow.getMoveScheduler().flush();
+            assertEquals(400.0, stage.getX(), 0.0001);
+            assertEquals(2, floatingWindow.getSnapSessionBuildCount());
+
+            invokeOnSceneMouseReleased(
+                floatingWindow,
+                createMouseEvent(MouseEvent.MOUSE_RELEASED, 469, 190, 30, 140, titleBar, titleBar, MouseButton.PRIMARY, 1)
+            );
+            peerStage.setX(500);
+            assertEquals(2, floatingWindow.getSnapSessionBuildCount());
+        });
+    }
+
     @Test
     void testSecondaryTitleBarPressDoesNotActivateSceneDrag() {
         runOnFxThreadAndWait(() -> {
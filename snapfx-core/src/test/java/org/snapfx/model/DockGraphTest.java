@@ -12,6 +12,7 @@ import org.junit.jupiter.api.Test;
 import java.time.Duration;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.function.Consumer;
 
 import static org.junit.jupiter.api.Assertions.*;
 
@@ -1735,6 +1736,250 @@ class DockGraphTest {
         }
     }
 
+    @Test
+    void testBatchEmitsSingleRevisionAndRootChange() {
+        List<Long> revisions = new ArrayList<>();
+        List<DockElement> rootChanges = new ArrayList<>();
+        dockGraph.revisionProperty().addListener((obs, oldValue, newValue) -> revisions.add(newValue.longValue()));
+        dockGraph.rootProperty().addListener((obs, oldValue, newValue) -> rootChanges.add(newValue));
+
+        DockNode first = new DockNode(new Label("First"), "First");
+        dockGraph.batch(graph -> {
+            graph.dock(first, null, DockPosition.CENTER);
+            DockNode previous = first;
+            for (int i = 0; i < 50; i++) {
+                DockNode next = new DockNode(new Label("Node " + i), "Node " + i);
+                graph.dock(next, previous, i % 2 == 0 ? DockPosition.RIGHT : DockPosition.BOTTOM);
+                previous = next;
+            }
+            graph.pinToSideBar(previous, Side.LEFT);
+            assertTrue(graph.isBatchUpdating());
+            assertTrue(revisions.isEmpty());
+            assertTrue(rootChanges.isEmpty());
+        });
+
+        assertFalse(dockGraph.isBatchUpdating());
+        assertEquals(1, revisions.size());
+        assertEquals(1, rootChanges.size());
+        assertSame(dockGraph.getRoot(), rootChanges.getFirst());
+        assertEquals(50, collectLeafNodes(dockGraph.getRoot()).size());
+        assertEquals(1, dockGraph.getSideBarNodes(Side.LEFT).size());
+    }
+
+    @Test
+    void testNestedBatchesPublishOnlyWhenOutermostCloses() {
+        List<Long> revisions = new ArrayList<>();
+        dockGraph.revisionProperty().addListener((obs, oldValue, newValue) -> revisions.add(newValue.longValue()));
+
+        DockNode left = new DockNode(new Label("Left"), "Left");
+        DockNode right = new DockNode(new Label("Right"), "Right");
+        dockGraph.beginUpdate();
+        dockGraph.batch(graph -> graph.dock(left, null, DockPosition.CENTER));
+        assertTrue(revisions.isEmpty());
+        dockGraph.dock(right, left, DockPosition.RIGHT);
+        dockGraph.endUpdate();
+
+        assertEquals(1, revisions.size());
+        assertInstanceOf(DockSplitPane.class, dockGraph.getRoot());
+    }
+
+    @Test
+    void testBatchWithoutStructuralChangeDoesNotNotify() {
+        DockNode node = new DockNode(new Label("Node"), "Node");
+        dockGraph.setRoot(node);
+        long revisionBefore = dockGraph.getRevision();
+        List<DockElement> rootChanges = new ArrayList<>();
+        dockGraph.rootProperty().addListener((obs, oldValue, newValue) -> rootChanges.add(newValue));
+
+        dockGraph.batch(graph -> {
+        });
+
+        assertEquals(revisionBefore, dockGraph.getRevision());
+        assertTrue(rootChanges.isEmpty());
+
+        // Notifications resume normally after the batch
+        dockGraph.setRoot(null);
+        assertEquals(1, rootChanges.size());
+        assertEquals(revisionBefore + 1, dockGraph.getRevision());
+    }
+
+    @Test
+    void testBatchPublishesChangesWhenMutationThrows() {
+        DockNode node = new DockNode(new Label("Node"), "Node");
+        long revisionBefore = dockGraph.getRevision();
+
+        assertThrows(IllegalStateException.class, () -> dockGraph.batch(graph -> {
+            graph.setRoot(node);
+            throw new IllegalStateException("boom");
+        }));
+
+        assertFalse(dockGraph.isBatchUpdating());
+        assertSame(node, dockGraph.getRoot());
+        assertEquals(revisionBefore + 1, dockGraph.getRevision());
+    }
+
+    @Test
+    void testLayoutIdIndexTracksDockMoveFlattenAndSideBars() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        DockNode console2 = new DockNode("console", new Label("Console 2"), "Console 2");
+        DockNode tools = new DockNode("tools", new Label("Tools"), "Tools");
+
+        dockGraph.dock(editor, null, DockPosition.CENTER);
+        dockGraph.dock(console, editor, DockPosition.BOTTOM);
+        dockGraph.dock(console2, console, DockPosition.CENTER);
+        dockGraph.dock(tools, editor, DockPosition.RIGHT);
+
+        assertSame(editor, dockGraph.findElementByLayoutId(editor.getId()));
+        assertSame(console.getParent(), dockGraph.findElementByLayoutId(console.getParent().getId()));
+        assertEquals(2, dockGraph.getDockNodeCount("console"));
+        assertEquals(List.of(console, console2), dockGraph.findDockNodes("console"));
+
+        // Moving the second console out of the tab pane flattens it away
+        DockContainer flattenedTabPane = console.getParent();
+        dockGraph.move(console2, tools, DockPosition.BOTTOM);
+        assertNull(dockGraph.findElementByLayoutId(flattenedTabPane.getId()));
+        assertFalse(dockGraph.isInMainLayout(flattenedTabPane));
+        assertSame(console2, dockGraph.findElementByLayoutId(console2.getId()));
+
+        dockGraph.pinToSideBar(tools, Side.RIGHT);
+        assertSame(tools, dockGraph.findElementByLayoutId(tools.getId()));
+        assertFalse(dockGraph.isInMainLayout(tools));
+        assertEquals(1, dockGraph.getDockNodeCount("tools"));
+
+        dockGraph.undock(console2);
+        assertNull(dockGraph.findElementByLayoutId(console2.getId()));
+        assertEquals(1, dockGraph.getDockNodeCount("console"));
+
+        dockGraph.setRoot(null);
+        dockGraph.clearSideBars();
+        assertNull(dockGraph.findElementByLayoutId(editor.getId()));
+        assertEquals(0, dockGraph.getDockNodeCount("console"));
+        assertEquals(0, dockGraph.getDockNodeCount("tools"));
+    }
+
+    @Test
+    void testLayoutIdIndexMatchesTreeAfterManyOperations() {
+        List<DockNode> nodes = new ArrayList<>();
+        DockNode first = new DockNode("node", new Label("Node"), "Node");
+        dockGraph.dock(first, null, DockPosition.CENTER);
+        nodes.add(first);
+        DockPosition[] positions = DockPosition.values();
+        for (int i = 1; i < 200; i++) {
+            DockNode node = new DockNode("node", new Label("Node " + i), "Node " + i);
+            dockGraph.dock(node, nodes.get((i * 7) % nodes.size()), positions[i % positions.length]);
+            nodes.add(node);
+        }
+        for (int i = 0; i < 60; i++) {
+            DockNode source = nodes.get((i * 13) % nodes.size());
+            DockNode target = nodes.get((i * 31 + 5) % nodes.size());
+            dockGraph.move(source, target, positions[(i + 2) % positions.length]);
+        }
+        for (int i = 0; i < 20; i++) {
+            dockGraph.undock(nodes.get(i * 5));
+        }
+
+        List<DockNode> leaves = collectLeafNodes(dockGraph.getRoot());
+        assertEquals(leaves.size(), dockGraph.getDockNodeCount("node"));
+        for (DockNode leaf : leaves) {
+            assertSame(leaf, dockGraph.findElementByLayoutId(leaf.getId()));
+            assertTrue(dockGraph.isInMainLayout(leaf));
+            DockContainer parent = leaf.getParent();
+            if (parent != null) {
+                assertSame(parent, dockGraph.findElementByLayoutId(parent.getId()));
+            }
+        }
+        for (int i = 0; i < 20; i++) {
+            DockNode removed = nodes.get(i * 5);
+            assertNull(dockGraph.findElementByLayoutId(removed.getId()));
+            assertFalse(dockGraph.isInMainLayout(removed));
+        }
+    }
+
+    @Test
+    void testChangeListenerReportsRemovedNodeAndFlattenedTabPane() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        DockNode tools = new DockNode("tools", new Label("Tools"), "Tools");
+        dockGraph.dock(editor, null, DockPosition.CENTER);
+        dockGraph.dock(console, editor, DockPosition.BOTTOM);
+        dockGraph.dock(tools, console, DockPosition.CENTER);
+        DockSplitPane split = (DockSplitPane) dockGraph.getRoot();
+        DockTabPane tabPane = (DockTabPane) console.getParent();
+
+        List<List<DockGraphChange>> notifications = new ArrayList<>();
+        dockGraph.addChangeListener(notifications::add);
+        dockGraph.undock(tools);
+
+        assertEquals(1, notifications.size());
+        List<DockGraphChange> changes = notifications.getFirst();
+        assertTrue(changes.contains(new DockGraphChange(DockGraphChangeType.REMOVED, tools, tabPane, 1, null, -1)));
+        assertTrue(changes.contains(new DockGraphChange(DockGraphChangeType.MOVED, console, tabPane, 0, split, 1)));
+        assertTrue(changes.contains(new DockGraphChange(DockGraphChangeType.FLATTENED, tabPane, split, 1, null, -1)));
+        assertEquals(3, changes.size());
+    }
+
+    @Test
+    void testChangeListenerDeliversOneNotificationPerBatch() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        List<List<DockGraphChange>> notifications = new ArrayList<>();
+        dockGraph.addChangeListener(notifications::add);
+
+        dockGraph.batch(graph -> {
+            graph.dock(editor, null, DockPosition.CENTER);
+            DockNode previous = editor;
+            for (int i = 0; i < 10; i++) {
+                DockNode next = new DockNode("node", new Label("Node " + i), "Node " + i);
+                graph.dock(next, previous, DockPosition.RIGHT);
+                previous = next;
+            }
+        });
+
+        assertEquals(1, notifications.size());
+        DockGraphChange rootInsert = notifications.getFirst().stream()
+            .filter(change -> change.element() == dockGraph.getRoot())
+            .findFirst()
+            .orElseThrow();
+        assertEquals(DockGraphChangeType.INSERTED, rootInsert.type());
+        assertNull(rootInsert.newParent());
+    }
+
+    @Test
+    void testChangeListenerReportsSelectionAndDividerChanges() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        DockNode tools = new DockNode("tools", new Label("Tools"), "Tools");
+        dockGraph.dock(editor, null, DockPosition.CENTER);
+        dockGraph.dock(console, editor, DockPosition.BOTTOM);
+        dockGraph.dock(tools, console, DockPosition.CENTER);
+        DockSplitPane split = (DockSplitPane) dockGraph.getRoot();
+        DockTabPane tabPane = (DockTabPane) console.getParent();
+        tabPane.setSelectedIndex(1);
+
+        List<DockGraphChange> changes = new ArrayList<>();
+        dockGraph.addChangeListener(changes::addAll);
+        tabPane.setSelectedIndex(0);
+        split.setDividerPosition(0, 0.25);
+
+        assertEquals(List.of(
+            new DockGraphChange(DockGraphChangeType.SELECTION_CHANGED, tabPane, split, 1, split, 0),
+            new DockGraphChange(DockGraphChangeType.DIVIDER_CHANGED, split, null, 0, null, 0)
+        ), changes);
+    }
+
+    @Test
+    void testRemovedChangeListenerStopsRecording() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        List<DockGraphChange> changes = new ArrayList<>();
+        Consumer<List<DockGraphChange>> listener = changes::addAll;
+        dockGraph.addChangeListener(listener);
+        dockGraph.removeChangeListener(listener);
+
+        dockGraph.dock(editor, null, DockPosition.CENTER);
+
+        assertTrue(changes.isEmpty());
+    }
+
     /**
      * Helper method to verify no nested TabPanes exist in the tree
      */
@@ -0,0 +1,162 @@
+package org.snapfx.persistence;
+
+import com.google.gson.JsonObject;
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import javafx.util.Duration;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockGraph;
+import org.snapfx.model.DockNode;
+import org.snapfx.model.DockPosition;
+import org.snapfx.model.DockTabPane;
+import org.snapfx.theme.DockThemeStyleClasses;
+
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for idle and budget-driven content hibernation.
+ */
+class DockContentHibernationServiceTest {
+    private DockGraph dockGraph;
+    private DockContentHibernationService service;
+    private AtomicInteger factoryCalls;
+    private DockNode first;
+    private DockNode second;
+    private DockNode third;
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // JavaFX is already running
+        }
+    }
+
+    @BeforeEach
+    void setUp() {
+        dockGraph = new DockGraph();
+        service = new DockContentHibernationService(() -> List.of(dockGraph));
+        factoryCalls = new AtomicInteger();
+        service.setNodeFactory(nodeId -> {
+            factoryCalls.incrementAndGet();
+            return new DockNode(nodeId, new StatefulLabel(), nodeId);
+        });
+
+        first = createNode("first");
+        second = createNode("second");
+        third = createNode("third");
+        dockGraph.setRoot(first);
+        dockGraph.dock(second, first, DockPosition.CENTER);
+        dockGraph.dock(third, first, DockPosition.CENTER);
+        tabPane().setSelectedIndex(0);
+    }
+
+    @Test
+    void testIdleHiddenContentIsHibernatedAndRestoredWithState() {
+        service.setIdleTimeout(Duration.seconds(10));
+
+        assertEquals(0, service.hibernateIdleContent(0));
+        tabPane().setSelectedIndex(1);
+        assertEquals(0, service.hibernateIdleContent(5_000));
+
+        // Third was never shown; first was last shown at 0 ms as well, second is shown
+        assertEquals(2, service.hibernateIdleContent(10_000));
+        assertFalse(first.isContentCreated());
+        assertFalse(third.isContentCreated());
+        assertTrue(second.isContentCreated());
+        assertNull(third.getContent());
+        assertTrue(third.getContentHost().getStyleClass().contains(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER));
+        assertEquals(2, service.getHibernatedNodeCount());
+        assertEquals(2, service.getReclaimedSceneNodeCount());
+        assertEquals(0, factoryCalls.get());
+
+        // Saving keeps the state of hibernated content
+        DockLayoutSerializer serializer = new DockLayoutSerializer(dockGraph);
+        assertTrue(serializer.serialize().contains("state-of-third"));
+
+        StatefulLabel restored = assertInstanceOf(StatefulLabel.class, third.ensureContentCreated());
+        assertEquals("state-of-third", restored.state);
+        assertSame(third.getContentHost(), restored.getParent());
+        assertFalse(third.getContentHost().getStyleClass().contains(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER));
+        assertEquals(1, factoryCalls.get());
+        assertEquals(1, service.getHibernatedNodeCount());
+        assertEquals(2, service.getHibernationCount());
+        assertEquals(1, service.getRestoreCount());
+    }
+
+    @Test
+    void testLiveContentBudgetHibernatesLeastRecentlyShownFirst() {
+        assertEquals(0, service.hibernateIdleContent(0));
+        tabPane().setSelectedIndex(2);
+        assertEquals(0, service.hibernateIdleContent(1_000));
+        tabPane().setSelectedIndex(1);
+
+        // Three live nodes over a budget of two: first (shown at 0 ms) goes before third (shown at 1000 ms)
+        service.setMaxLiveContentCount(2);
+        assertEquals(1, service.hibernateIdleContent(2_000));
+        assertFalse(first.isContentCreated());
+        assertTrue(third.isContentCreated());
+
+        service.setMaxLiveContentCount(1);
+        assertEquals(1, service.hibernateIdleContent(3_000));
+        assertFalse(third.isContentCreated());
+        assertTrue(second.isContentCreated());
+        assertEquals(0, service.hibernateIdleContent(4_000));
+
+        // Restored content is tracked again and counts against the budget
+        first.ensureContentCreated();
+        assertEquals(1, service.hibernateIdleContent(5_000));
+        assertFalse(first.isContentCreated());
+        assertTrue(second.isContentCreated());
+        assertEquals(3, service.getHibernationCount());
+        assertEquals(1, service.getRestoreCount());
+    }
+
+    @Test
+    void testContentWithoutSerializerOrFactoryIsKept() {
+        DockNode plain = new DockNode("plain", new Label("Plain"), "Plain");
+        dockGraph.dock(plain, first, DockPosition.CENTER);
+        tabPane().setSelectedIndex(0);
+        service.setMaxLiveContentCount(1);
+
+        service.setNodeFactory(null);
+        assertEquals(0, service.hibernateIdleContent(0));
+
+        service.setNodeFactory(nodeId -> new DockNode(nodeId, new StatefulLabel(), nodeId));
+        assertEquals(2, service.hibernateIdleContent(1_000));
+        assertTrue(plain.isContentCreated());
+        assertTrue(first.isContentCreated());
+    }
+
+    private DockTabPane tabPane() {
+        return (DockTabPane) dockGraph.getRoot();
+    }
+
+    private static DockNode createNode(String id) {
+        StatefulLabel content = new StatefulLabel();
+        content.state = "state-of-" + id;
+        return new DockNode(id, content, id);
+    }
+
+    private static final class StatefulLabel extends Label implements DockNodeContentSerializer {
+        private String state;
+
+        @Override
+        public JsonObject serializeContent() {
+            JsonObject data = new JsonObject();
+            data.addProperty("state", state);
+            return data;
+        }
+
+        @Override
+        public void deserializeContent(JsonObject data) {
+            state = data.get("state").getAsString();
+        }
+    }
+}
@@ -1,6 +1,7 @@
 package org.snapfx.persistence;
 
 import org.snapfx.model.*;
+import com.google.gson.JsonObject;
 import javafx.application.Platform;
 import javafx.geometry.Side;
 import javafx.scene.control.Label;
@@ -8,6 +9,8 @@ import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
 
+import java.util.concurrent.atomic.AtomicInteger;
+
 import static org.junit.jupiter.api.Assertions.*;
 
 /**
@@ -520,4 +523,48 @@ class DockLayoutSerializerTest {
         assertEquals(1, restoredGraph.getSideBarNodes(Side.RIGHT).size());
         assertEquals("detached", restoredGraph.getSideBarNodes(Side.RIGHT).getFirst().getDockNodeId());
     }
+
+    @Test
+    void testLazyNodeContentDataIsAppliedWhenContentIsCreated() throws DockLayoutLoadException {
+        StatefulLabel original = new StatefulLabel();
+        original.state = "scrolled";
+        dockGraph.setRoot(new DockNode("lazy", original, "Lazy"));
+        String json = serializer.serialize();
+
+        DockGraph restoredGraph = new DockGraph();
+        DockLayoutSerializer restoredSerializer = new DockLayoutSerializer(restoredGraph);
+        AtomicInteger creations = new AtomicInteger();
+        restoredSerializer.setNodeFactory(nodeId -> DockNode.withContentSupplier(nodeId, () -> {
+            creations.incrementAndGet();
+            return new StatefulLabel();
+        }, "Lazy"));
+        restoredSerializer.deserialize(json);
+
+        DockNode restored = assertInstanceOf(DockNode.class, restoredGraph.getRoot());
+        assertEquals(0, creations.get());
+        assertFalse(restored.isContentCreated());
+
+        // Saving again before the content was shown keeps the restored state
+        assertTrue(restoredSerializer.serialize().contains("scrolled"));
+
+        StatefulLabel content = assertInstanceOf(StatefulLabel.class, restored.ensureContentCreated());
+        assertEquals(1, creations.get());
+        assertEquals("scrolled", content.state);
+    }
+
+    private static final class StatefulLabel extends Label implements DockNodeContentSerializer {
+        private String state;
+
+        @Override
+        public JsonObject serializeContent() {
+            JsonObject data = new JsonObject();
+            data.addProperty("state", state);
+            return data;
+        }
+
+        @Override
+        public void deserializeContent(JsonObject data) {
+            state = data.get("state").getAsString();
+        }
+    }
 }
@@ -0,0 +1,198 @@
+package org.snapfx.view;
+
+import javafx.application.Platform;
+import javafx.event.Event;
+import javafx.event.EventType;
+import javafx.scene.control.Label;
+import javafx.scene.control.Tooltip;
+import javafx.scene.image.WritableImage;
+import javafx.scene.input.MouseButton;
+import javafx.scene.input.MouseEvent;
+import javafx.scene.input.PickResult;
+import javafx.scene.layout.Region;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.dnd.DockDragService;
+import org.snapfx.model.DockGraph;
+import org.snapfx.model.DockNode;
+import org.snapfx.model.DockPosition;
+import org.snapfx.theme.DockThemeStyleClasses;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for the single-region compact dock-node header.
+ */
+class DockCompactHeaderTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // JavaFX is already running
+        }
+    }
+
+    @Test
+    void testButtonsAreHitTestedAndFireActions() {
+        DockCompactHeader header = new DockCompactHeader();
+        AtomicInteger floatCount = new AtomicInteger();
+        AtomicInteger closeCount = new AtomicInteger();
+        header.setOnFloatAction(floatCount::incrementAndGet);
+        header.setOnCloseAction(closeCount::incrementAndGet);
+        header.titleProperty().set("Metrics");
+        header.resize(300, 30);
+        header.layout();
+
+        assertEquals(DockCompactHeader.CLOSE_BUTTON, header.buttonAt(290, 15));
+        assertEquals(DockCompactHeader.FLOAT_BUTTON, header.buttonAt(265, 15));
+        assertEquals(DockCompactHeader.NO_BUTTON, header.buttonAt(100, 15));
+
+        click(header, 290, 15);
+        click(header, 100, 15);
+        assertEquals(1, closeCount.get());
+        assertEquals(0, floatCount.get());
+
+        // Releasing outside the pressed button cancels the click
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_PRESSED, 265, 15));
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_RELEASED, 100, 15));
+        assertEquals(0, floatCount.get());
+
+        header.closeButtonVisibleProperty().set(false);
+        header.layout();
+        assertEquals(DockCompactHeader.FLOAT_BUTTON, header.buttonAt(290, 15));
+        click(header, 290, 15);
+        assertEquals(1, floatCount.get());
+        assertEquals(1, closeCount.get());
+    }
+
+    @Test
+    void testCompactNodeViewFollowsNodeAndVisibilityApi() {
+        DockGraph dockGraph = new DockGraph();
+        DockNode dockNode = new DockNode(new Label("Content"), "Before");
+        dockGraph.setRoot(dockNode);
+        DockNodeView nodeView = new DockNodeView(
+            dockNode, dockGraph, null, null, true, DockHeaderRenderMode.COMPACT
+        );
+
+        assertNull(nodeView.getHeader());
+        DockCompactHeader header = assertInstanceOf(DockCompactHeader.class, nodeView.getHeaderNode());
+        assertTrue(header.getStyleClass().contains(DockThemeStyleClasses.DOCK_NODE_HEADER));
+        assertEquals("Before", header.titleProperty().get());
+
+        dockNode.setTitle("After");
+        WritableImage icon = new WritableImage(16, 16);
+        dockNode.setIcon(icon);
+        assertEquals("After", header.titleProperty().get());
+        assertSame(icon, header.getIcon());
+
+        assertTrue(nodeView.isFloatButtonVisible());
+        dockGraph.setLocked(true);
+        assertFalse(nodeView.isFloatButtonVisible());
+        assertFalse(nodeView.isCloseButtonVisible());
+        dockGraph.setLocked(false);
+        nodeView.setCloseButtonVisible(false);
+        assertFalse(nodeView.isCloseButtonVisible());
+
+        nodeView.dispose();
+        dockNode.setTitle("Disposed");
+        assertEquals("After", header.titleProperty().get());
+        assertNull(header.getIcon());
+    }
+
+    @Test
+    void testButtonTooltipsAreCreatedOnHoverAndFollowHoveredButton() {
+        DockGraph dockGraph = new DockGraph();
+        DockNode dockNode = new DockNode(new Label("Content"), "Metrics");
+        dockGraph.setRoot(dockNode);
+        DockNodeView nodeView = new DockNodeView(
+            dockNode, dockGraph, null, null, true, DockHeaderRenderMode.COMPACT
+        );
+        DockCompactHeader header = assertInstanceOf(DockCompactHeader.class, nodeView.getHeaderNode());
+        header.resize(300, 30);
+        header.layout();
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_MOVED, 265, 15));
+        assertNull(header.getInstalledButtonTooltip());
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_ENTERED, 100, 15));
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_MOVED, 100, 15));
+        assertNull(header.getInstalledButtonTooltip());
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_MOVED, 265, 15));
+        Tooltip tooltip = header.getInstalledButtonTooltip();
+        assertNotNull(tooltip);
+        assertEquals("Float window", tooltip.getText());
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_MOVED, 290, 15));
+        assertSame(tooltip, header.getInstalledButtonTooltip());
+        assertEquals("Close panel", tooltip.getText());
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_EXITED, 400, 15));
+        assertNull(header.getInstalledButtonTooltip());
+    }
+
+    @Test
+    void testRouterDoesNotStartDragsFromCompactButtons() {
+        DockGraph dockGraph = new DockGraph();
+        List<DockNode> pressedNodes = new ArrayList<>();
+        DockDragService recordingDragService = new DockDragService(dockGraph) {
+            @Override
+            public void startDrag(DockNode node, MouseEvent event) {
+                pressedNodes.add(node);
+            }
+        };
+        DockLayoutEngine layoutEngine = new DockLayoutEngine(dockGraph, recordingDragService);
+        layoutEngine.setHeaderRenderMode(DockHeaderRenderMode.COMPACT);
+        DockNode left = new DockNode(new Label("Left"), "Left");
+        DockNode right = new DockNode(new Label("Right"), "Right");
+        dockGraph.setRoot(left);
+        dockGraph.dock(right, left, DockPosition.RIGHT);
+        layoutEngine.buildSceneGraph();
+
+        DockNodeView nodeView = layoutEngine.getDockNodeView(left);
+        assertNotNull(nodeView);
+        Region header = nodeView.getHeaderNode();
+        // Views are not skinned here, so the header is laid out standalone; scene and local coordinates match.
+        header.resize(300, 30);
+        header.layout();
+
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_PRESSED, 290, 15));
+        assertTrue(pressedNodes.isEmpty());
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_PRESSED, 40, 15));
+        assertEquals(List.of(left), pressedNodes);
+    }
+
+    private void click(DockCompactHeader header, double x, double y) {
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_PRESSED, x, y));
+        Event.fireEvent(header, createMouseEvent(MouseEvent.MOUSE_RELEASED, x, y));
+    }
+
+    private MouseEvent createMouseEvent(EventType<MouseEvent> type, double x, double y) {
+        return new MouseEvent(
+            type,
+            x,
+            y,
+            x,
+            y,
+            MouseButton.PRIMARY,
+            1,
+            false,
+            false,
+            false,
+            false,
+            type == MouseEvent.MOUSE_PRESSED,
+            false,
+            false,
+            false,
+            false,
+            true,
+            new PickResult(null, x, y)
+        );
+    }
+}
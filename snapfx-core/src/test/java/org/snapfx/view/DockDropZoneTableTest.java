@@ -0,0 +1,125 @@
+package org.snapfx.view;
+
+import javafx.application.Platform;
+import javafx.scene.control.Label;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+import org.snapfx.model.DockNode;
+import org.snapfx.model.DockPosition;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DockDropZoneTable best-zone queries.
+ */
+class DockDropZoneTableTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // JavaFX is already running
+        }
+    }
+
+    @Test
+    void testFindBestPrefersDeeperZones() {
+        DockNode outer = new DockNode(new Label("Outer"), "Outer");
+        DockNode inner = new DockNode(new Label("Inner"), "Inner");
+        DockDropZoneTable table = new DockDropZoneTable();
+        table.add(outer, DockPosition.CENTER, DockDropZoneType.CENTER, 0, 0, 400, 400, 0);
+        int innerIndex = table.add(inner, DockPosition.LEFT, DockDropZoneType.EDGE, 100, 100, 50, 200, 1);
+
+        assertEquals(innerIndex, table.findBest(120, 150));
+        assertSame(inner, table.getTarget(table.findBest(120, 150)));
+        assertEquals(0, table.findBest(300, 300));
+        assertEquals(-1, table.findBest(500, 500));
+    }
+
+    @Test
+    void testFindBestResolvesTabInsertIndexAndLine() {
+        DockNode target = new DockNode(new Label("Tabs"), "Tabs");
+        DockDropZoneTable table = new DockDropZoneTable();
+        int header = table.add(target, DockPosition.CENTER, DockDropZoneType.TAB_HEADER, 0, 0, 300, 24, 0);
+        table.setTabHeaderEdges(header, new double[]{0, 100, 110, 210});
+
+        assertEquals(header, table.findBest(20, 10));
+        assertEquals(0, table.getResolvedTabIndex());
+        assertEquals(0, table.getResolvedInsertLineX());
+
+        table.findBest(150, 10);
+        assertEquals(1, table.getResolvedTabIndex());
+        assertEquals(105, table.getResolvedInsertLineX());
+
+        table.findBest(280, 10);
+        assertEquals(2, table.getResolvedTabIndex());
+        assertEquals(210, table.getResolvedInsertLineX());
+
+        table.findBest(500, 10);
+        assertEquals(-1, table.getResolvedTabIndex());
+        assertTrue(Double.isNaN(table.getResolvedInsertLineX()));
+    }
+
+    @Test
+    void testRetainIfCompactsZonesAndKeepsOrder() {
+        DockNode first = new DockNode(new Label("First"), "First");
+        DockNode second = new DockNode(new Label("Second"), "Second");
+        DockDropZoneTable table = new DockDropZoneTable();
+        for (int i = 0; i < 100; i++) {
+            table.add(i % 2 == 0 ? first : second, DockPosition.CENTER, DockDropZoneType.CENTER, i, 0, 1, 1, 0);
+        }
+
+        table.retainIf(index -> table.getTarget(index) == second);
+
+        assertEquals(50, table.size());
+        for (int i = 0; i < table.size(); i++) {
+            assertSame(second, table.getTarget(i));
+            assertEquals((i * 2) + 1, table.getMinX(i));
+        }
+        DockDropZone zone = table.getZone(0);
+        assertSame(zone, table.getZone(0));
+        assertEquals(1, zone.getBounds().getMinX());
+
+        table.clear();
+        assertTrue(table.isEmpty());
+        assertThrows(IndexOutOfBoundsException.class, () -> table.getTarget(0));
+    }
+
+    @Test
+    void testFindBestDoesNotAllocate() {
+        ThreadMXBean threadBean = ManagementFactory.getThreadMXBean();
+        assumeAllocationCounting(threadBean);
+        com.sun.management.ThreadMXBean allocationBean = (com.sun.management.ThreadMXBean) threadBean;
+
+        DockNode target = new DockNode(new Label("Target"), "Target");
+        DockDropZoneTable table = new DockDropZoneTable();
+        for (int i = 0; i < 200; i++) {
+            table.add(target, DockPosition.CENTER, DockDropZoneType.CENTER, i * 10, 0, 10, 100, i % 5);
+        }
+        int header = table.add(target, DockPosition.CENTER, DockDropZoneType.TAB_HEADER, 0, 0, 2000, 24, 10);
+        table.setTabHeaderEdges(header, new double[]{0, 100, 110, 210});
+
+        long sink = 0;
+        for (int i = 0; i < 10_000; i++) {
+            sink += table.findBest(i % 2000, i % 100);
+        }
+        long threadId = Thread.currentThread().threadId();
+        long before = allocationBean.getThreadAllocatedBytes(threadId);
+        for (int i = 0; i < 10_000; i++) {
+            sink += table.findBest(i % 2000, i % 100);
+        }
+        long allocated = allocationBean.getThreadAllocatedBytes(threadId) - before;
+
+        assertTrue(sink != 0);
+        assertTrue(allocated < 10_000, "findBest allocated " + allocated + " bytes for 10000 queries");
+    }
+
+    private static void assumeAllocationCounting(ThreadMXBean threadBean) {
+        org.junit.jupiter.api.Assumptions.assumeTrue(threadBean instanceof com.sun.management.ThreadMXBean bean
+            && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled());
+    }
+}
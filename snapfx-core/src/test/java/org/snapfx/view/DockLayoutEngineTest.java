@@ -11,6 +11,7 @@ import javafx.geometry.Bounds;
 import javafx.geometry.Orientation;
 import javafx.geometry.Side;
 import javafx.scene.Node;
+import javafx.scene.Parent;
 import javafx.scene.Scene;
 import javafx.scene.control.Button;
 import javafx.scene.control.ContextMenu;
@@ -18,6 +19,7 @@ import javafx.scene.control.Label;
 import javafx.scene.control.MenuItem;
 import javafx.scene.control.SeparatorMenuItem;
 import javafx.scene.control.SplitPane;
+import javafx.scene.input.ContextMenuEvent;
 import javafx.scene.input.MouseButton;
 import javafx.scene.input.MouseEvent;
 import javafx.scene.input.PickResult;
@@ -25,22 +27,26 @@ import javafx.scene.image.ImageView;
 import javafx.scene.image.WritableImage;
 import javafx.scene.layout.StackPane;
 import javafx.scene.layout.HBox;
+import javafx.util.Duration;
 import javafx.scene.control.Tab;
 import javafx.scene.control.TabPane;
 import org.junit.jupiter.api.BeforeAll;
 import org.junit.jupiter.api.BeforeEach;
 import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.TestReporter;
 import org.testfx.framework.junit5.ApplicationTest;
 
 import java.lang.reflect.Field;
 import java.lang.reflect.Method;
 import java.util.ArrayList;
 import java.util.List;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Objects;
 import java.util.stream.Stream;
 import java.util.concurrent.CountDownLatch;
 import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
 import java.util.concurrent.atomic.AtomicReference;
 
 import static org.junit.jupiter.api.Assertions.*;
@@ -153,6 +159,58 @@ class DockLayoutEngineTest extends ApplicationTest {
         assertEquals("Renamed", tabPane.getTabs().get(0).getText());
     }
 
+    @Test
+    void testTabPaneChildChangesKeepExistingTabs() {
+        DockNode node1 = new DockNode(new Label("Test1"), "Node 1");
+        DockNode node2 = new DockNode(new Label("Test2"), "Node 2");
+        DockNode node3 = new DockNode(new Label("Test3"), "Node 3");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.CENTER);
+        dockGraph.dock(node3, node2, DockPosition.CENTER);
+
+        TabPane tabPane = (TabPane) layoutEngine.buildSceneGraph();
+        List<Tab> originalTabs = List.copyOf(tabPane.getTabs());
+        DockTabPane model = (DockTabPane) dockGraph.getRoot();
+
+        DockNode added = new DockNode(new Label("Added"), "Added");
+        model.addChild(added, 1);
+
+        assertEquals(4, tabPane.getTabs().size());
+        assertSame(originalTabs.get(0), tabPane.getTabs().get(0));
+        assertSame(originalTabs.get(1), tabPane.getTabs().get(2));
+        assertSame(originalTabs.get(2), tabPane.getTabs().get(3));
+        assertEquals("Added", tabPane.getTabs().get(1).getText());
+
+        model.removeChild(node2);
+
+        assertEquals(3, tabPane.getTabs().size());
+        assertSame(originalTabs.get(0), tabPane.getTabs().get(0));
+        assertSame(originalTabs.get(2), tabPane.getTabs().get(2));
+        assertNull(originalTabs.get(1).getContent());
+        assertEquals(model.getSelectedIndex(), tabPane.getSelectionModel().getSelectedIndex());
+    }
+
+    @Test
+    void testSplitPaneChildChangesKeepExistingItems() {
+        DockNode left = new DockNode(new Label("Left"), "Left");
+        DockNode right = new DockNode(new Label("Right"), "Right");
+        dockGraph.setRoot(left);
+        dockGraph.dock(right, left, DockPosition.RIGHT);
+
+        SplitPane splitPane = (SplitPane) layoutEngine.buildSceneGraph();
+        Node leftView = splitPane.getItems().get(0);
+        Node rightView = splitPane.getItems().get(1);
+        DockSplitPane model = (DockSplitPane) dockGraph.getRoot();
+
+        DockNode middle = new DockNode(new Label("Middle"), "Middle");
+        model.getChildren().add(1, middle);
+
+        assertEquals(3, splitPane.getItems().size());
+        assertSame(leftView, splitPane.getItems().get(0));
+        assertSame(rightView, splitPane.getItems().get(2));
+        assertSame(layoutEngine.getDockNodeView(middle), splitPane.getItems().get(1));
+    }
+
     @Test
     void testContainerTabUsesRepresentativeNodeTitleAndIconSummary() {
         DockNode plainNode = new DockNode(new Label("Plain"), "Plain");
@@ -219,6 +277,39 @@ class DockLayoutEngineTest extends ApplicationTest {
         assertEquals(icon2, iconView.getImage());
     }
 
+    @Test
+    void testContainerTabHeaderTracksRepresentativeTitleAndSubtreeMembership() {
+        DockNode plainNode = new DockNode(new Label("Plain"), "Plain");
+        DockNode splitNode1 = new DockNode(new Label("Split 1"), "Split 1");
+        DockNode splitNode2 = new DockNode(new Label("Split 2"), "Split 2");
+        DockSplitPane splitPane = new DockSplitPane(Orientation.HORIZONTAL);
+        splitPane.addChild(splitNode1);
+        splitPane.addChild(splitNode2);
+
+        DockTabPane rootTabPane = new DockTabPane();
+        rootTabPane.addChild(plainNode);
+        rootTabPane.addChild(splitPane);
+        dockGraph.setRoot(rootTabPane);
+
+        TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
+        Tab containerTab = tabPane.getTabs().get(1);
+        assertEquals("Split 1 +1", containerTab.getText());
+
+        splitNode2.setTitle("Ignored");
+        assertEquals("Split 1 +1", containerTab.getText());
+
+        splitNode1.setTitle("Renamed");
+        assertEquals("Renamed +1", containerTab.getText());
+
+        DockTabPane nestedTabs = new DockTabPane();
+        nestedTabs.addChild(new DockNode(new Label("Nested 1"), "Nested 1"));
+        splitPane.addChild(nestedTabs);
+        assertEquals("Renamed +2", containerTab.getText());
+
+        nestedTabs.addChild(new DockNode(new Label("Nested 2"), "Nested 2"));
+        assertEquals("Renamed +3", containerTab.getText());
+    }
+
     /**
      * Regression test: Tab close must use the same close handler as the title bar.
      * Bug: Closing a tab bypassed onNodeCloseRequest, so hidden nodes were not tracked.
@@ -260,7 +351,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         dockGraph.dock(node2, node1, DockPosition.CENTER);
 
         TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
-        ContextMenu contextMenu = tabPane.getTabs().getFirst().getContextMenu();
+        ContextMenu contextMenu = layoutEngine.getOrCreateTabContextMenu(tabPane.getTabs().getFirst());
         assertNotNull(contextMenu);
 
         List<String> itemLabels = contextMenu.getItems().stream().map(MenuItem::getText).toList();
@@ -290,7 +381,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         });
 
         TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
-        ContextMenu contextMenu = tabPane.getTabs().getFirst().getContextMenu();
+        ContextMenu contextMenu = layoutEngine.getOrCreateTabContextMenu(tabPane.getTabs().getFirst());
         MenuItem closeOthersItem = contextMenu.getItems().stream()
             .filter(item -> "Close Others".equals(item.getText()))
             .findFirst()
@@ -351,7 +442,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         assertTrue(closeGraphic.getStyleClass().contains(DockThemeStyleClasses.DOCK_CONTROL_ICON_CLOSE));
 
         MouseEvent press = createPrimaryPressEvent(nodeView.getHeader(), closeButton);
-        nodeView.getHeader().getOnMousePressed().handle(press);
+        Event.fireEvent(closeButton, press);
         assertFalse(dragService.isDragging());
     }
 
@@ -405,8 +496,10 @@ class DockLayoutEngineTest extends ApplicationTest {
         assertTrue(floatGraphic.getStyleClass().contains(DockThemeStyleClasses.DOCK_CONTROL_ICON));
         assertTrue(floatGraphic.getStyleClass().contains(DockThemeStyleClasses.DOCK_CONTROL_ICON_FLOAT));
 
+        new Scene(new StackPane(tabPane), 640, 480);
+        tabPane.applyCss();
         MouseEvent press = createPrimaryPressEvent((HBox) tabHeader, floatButton);
-        ((HBox) tabHeader).getOnMousePressed().handle(press);
+        Event.fireEvent(floatButton, press);
         assertFalse(dragService.isDragging());
     }
 
@@ -596,7 +689,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         SplitPane splitPane = assertInstanceOf(SplitPane.class, layoutEngine.buildSceneGraph());
         splitPane.setDividerPositions(0.8);
 
-        ContextMenu contextMenu = splitPane.getContextMenu();
+        ContextMenu contextMenu = layoutEngine.getOrCreateSplitPaneContextMenu(splitPane);
         assertNotNull(contextMenu);
         MenuItem resetItem = contextMenu.getItems().stream()
             .filter(item -> "Reset Splitter Ratios".equals(item.getText()))
@@ -610,6 +703,104 @@ class DockLayoutEngineTest extends ApplicationTest {
         assertEquals(0.5, model.getDividerPositions().get(0).get(), 0.0001);
     }
 
+    @Test
+    void testContextMenusAndTooltipsAreCreatedOnDemand() {
+        DockNode node1 = new DockNode(new Label("Test1"), "Node 1");
+        DockNode node2 = new DockNode(new Label("Test2"), "Node 2");
+        DockNode node3 = new DockNode(new Label("Test3"), "Node 3");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.CENTER);
+        dockGraph.dock(node3, dockGraph.getRoot(), DockPosition.RIGHT);
+
+        SplitPane splitPane = assertInstanceOf(SplitPane.class, layoutEngine.buildSceneGraph());
+        TabPane tabPane = assertInstanceOf(TabPane.class, splitPane.getItems().getFirst());
+        Tab tab = tabPane.getTabs().getFirst();
+        DockNodeView nodeView = layoutEngine.getDockNodeView(node3);
+        assertNotNull(nodeView);
+        Button headerFloatButton = findButton(nodeView.getHeader(), DockThemeStyleClasses.DOCK_NODE_FLOAT_BUTTON);
+        Button tabFloatButton = findButton((HBox) tab.getGraphic(), DockThemeStyleClasses.DOCK_TAB_FLOAT_BUTTON);
+        Button otherTabFloatButton = findButton(
+            (HBox) tabPane.getTabs().get(1).getGraphic(),
+            DockThemeStyleClasses.DOCK_TAB_FLOAT_BUTTON
+        );
+
+        assertFalse(nodeView.isHeaderContextMenuCreated());
+        assertNull(tab.getContextMenu());
+        assertNull(splitPane.getContextMenu());
+        assertNull(headerFloatButton.getTooltip());
+        assertNull(tabFloatButton.getTooltip());
+
+        // Consume below the tab pane so the materialized menus are not shown without a window.
+        new Scene(new StackPane(splitPane), 640, 480);
+        splitPane.applyCss();
+        tab.getGraphic().addEventFilter(ContextMenuEvent.CONTEXT_MENU_REQUESTED, ContextMenuEvent::consume);
+        Event.fireEvent(tab.getGraphic(), new ContextMenuEvent(
+            ContextMenuEvent.CONTEXT_MENU_REQUESTED, 0, 0, 0, 0, false, new PickResult(tab.getGraphic(), 0, 0)
+        ));
+
+        assertNotNull(tab.getContextMenu());
+        assertNull(tabPane.getTabs().get(1).getContextMenu());
+        assertNotNull(splitPane.getContextMenu());
+
+        MouseEvent press = createPrimaryPressEvent(tabFloatButton, tabFloatButton);
+        tabFloatButton.fireEvent(press.copyFor(tabFloatButton, tabFloatButton, MouseEvent.MOUSE_ENTERED));
+        otherTabFloatButton.fireEvent(press.copyFor(otherTabFloatButton, otherTabFloatButton, MouseEvent.MOUSE_ENTERED));
+        headerFloatButton.fireEvent(press.copyFor(headerFloatButton, headerFloatButton, MouseEvent.MOUSE_ENTERED));
+
+        assertNotNull(tabFloatButton.getTooltip());
+        assertSame(tabFloatButton.getTooltip(), otherTabFloatButton.getTooltip());
+        assertEquals("Float window", headerFloatButton.getTooltip().getText());
+    }
+
+    @Test
+    void testHeaderEventsAreRoutedFromLayoutRoot() {
+        List<DockNode> pressedNodes = new ArrayList<>();
+        DockDragService recordingDragService = new DockDragService(dockGraph) {
+            @Override
+            public void startDrag(DockNode node, MouseEvent event) {
+                pressedNodes.add(node);
+            }
+        };
+        DockLayoutEngine engine = new DockLayoutEngine(dockGraph, recordingDragService);
+        DockNode node1 = new DockNode(new Label("Test1"), "Node 1");
+        DockNode node2 = new DockNode(new Label("Test2"), "Node 2");
+        DockNode node3 = new DockNode(new Label("Test3"), "Node 3");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.CENTER);
+        dockGraph.dock(node3, dockGraph.getRoot(), DockPosition.RIGHT);
+
+        SplitPane splitPane = assertInstanceOf(SplitPane.class, engine.buildSceneGraph());
+        new Scene(new StackPane(splitPane), 640, 480);
+        splitPane.applyCss();
+        TabPane tabPane = assertInstanceOf(TabPane.class, splitPane.getItems().getFirst());
+        HBox tabHeader = (HBox) tabPane.getTabs().get(1).getGraphic();
+        DockNodeView nodeView = engine.getDockNodeView(node3);
+        assertNotNull(nodeView);
+        assertNull(nodeView.getHeader().getOnMousePressed());
+        assertNull(nodeView.getHeader().getOnContextMenuRequested());
+        assertNull(tabHeader.getOnMousePressed());
+
+        Node headerTitle = nodeView.getHeader().getChildren().get(1);
+        Node tabTitle = tabHeader.getChildren().get(1);
+        Node content = node3.getContent();
+        Button headerFloatButton = findButton(nodeView.getHeader(), DockThemeStyleClasses.DOCK_NODE_FLOAT_BUTTON);
+        Event.fireEvent(headerTitle, createPrimaryPressEvent(headerTitle, headerTitle));
+        Event.fireEvent(tabTitle, createPrimaryPressEvent(tabTitle, tabTitle));
+        Event.fireEvent(content, createPrimaryPressEvent(content, content));
+        Event.fireEvent(headerFloatButton, createPrimaryPressEvent(headerFloatButton, headerFloatButton));
+
+        assertEquals(List.of(node3, node2), pressedNodes);
+
+        dockGraph.undock(node3);
+        TabPane rebuiltTabPane = assertInstanceOf(TabPane.class, engine.buildSceneGraph());
+        new Scene(new StackPane(rebuiltTabPane), 640, 480);
+        rebuiltTabPane.applyCss();
+        Node rebuiltTabTitle = ((HBox) rebuiltTabPane.getTabs().get(1).getGraphic()).getChildren().get(1);
+        Event.fireEvent(rebuiltTabTitle, createPrimaryPressEvent(rebuiltTabTitle, rebuiltTabTitle));
+
+        assertEquals(List.of(node3, node2, node2), pressedNodes);
+    }
+
     @Test
     void testHeaderContextMenuFloatActionUsesCallback() {
         DockNode node = new DockNode(new Label("Test"), "Node 1");
@@ -695,7 +886,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         layoutEngine.setOnNodePinToSideBarRequest(null);
 
         TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
-        ContextMenu tabContextMenu = tabPane.getTabs().getFirst().getContextMenu();
+        ContextMenu tabContextMenu = layoutEngine.getOrCreateTabContextMenu(tabPane.getTabs().getFirst());
         assertNotNull(tabContextMenu);
         MenuItem tabMoveLeftItem = tabContextMenu.getItems().stream()
             .filter(item -> "Move to Left Sidebar".equals(item.getText()))
@@ -764,7 +955,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         nodeView.setHeaderContextMenu(contextMenu);
 
         MouseEvent pressEvent = createPrimaryPressEvent(nodeView.getHeader(), nodeView.getHeader());
-        nodeView.getHeader().getOnMousePressed().handle(pressEvent);
+        Event.fireEvent(nodeView.getHeader(), pressEvent);
 
         assertTrue(contextMenu.isHideCalled());
     }
@@ -778,7 +969,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         layoutEngine.setCanFloatNodePredicate(ignored -> false);
 
         TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
-        ContextMenu contextMenu = tabPane.getTabs().getFirst().getContextMenu();
+        ContextMenu contextMenu = layoutEngine.getOrCreateTabContextMenu(tabPane.getTabs().getFirst());
         assertNotNull(contextMenu);
         MenuItem floatItem = contextMenu.getItems().stream()
             .filter(item -> "Float".equals(item.getText()))
@@ -812,7 +1003,7 @@ class DockLayoutEngineTest extends ApplicationTest {
         });
 
         TabPane tabPane = assertInstanceOf(TabPane.class, layoutEngine.buildSceneGraph());
-        ContextMenu contextMenu = tabPane.getTabs().getFirst().getContextMenu();
+        ContextMenu contextMenu = layoutEngine.getOrCreateTabContextMenu(tabPane.getTabs().getFirst());
         assertNotNull(contextMenu);
         MenuItem moveRightItem = contextMenu.getItems().stream()
             .filter(item -> "Move to Right Sidebar".equals(item.getText()))
@@ -972,6 +1163,313 @@ class DockLayoutEngineTest extends ApplicationTest {
             }
         }
     }
+
+    @Test
+    void testRebuildReusesUnchangedViews() {
+        DockNode node1 = new DockNode(new Label("A"), "A");
+        DockNode node2 = new DockNode(new Label("B"), "B");
+        DockNode node3 = new DockNode(new Label("C"), "C");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.RIGHT);
+
+        Node firstRoot = layoutEngine.buildSceneGraph();
+        DockNodeView firstView = layoutEngine.getDockNodeView(node1);
+
+        dockGraph.dock(node3, node2, DockPosition.RIGHT);
+        Node secondRoot = layoutEngine.buildSceneGraph();
+
+        assertSame(firstRoot, secondRoot);
+        assertSame(firstView, layoutEngine.getDockNodeView(node1));
+        assertNotNull(layoutEngine.getDockNodeView(node3));
+        assertEquals(3, ((SplitPane) secondRoot).getItems().size());
+        assertEquals(countElements(dockGraph.getRoot()), getViewCache().size());
+    }
+
+    @Test
+    void testRebuildRecreatesNodeViewWhenTitleBarModeChanges() {
+        DockNode node1 = new DockNode(new Label("A"), "A");
+        DockNode node2 = new DockNode(new Label("B"), "B");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.RIGHT);
+
+        layoutEngine.buildSceneGraph();
+        DockNodeView firstView = layoutEngine.getDockNodeView(node1);
+
+        layoutEngine.setTitleBarMode(DockTitleBarMode.NEVER);
+        layoutEngine.buildSceneGraph();
+
+        assertNotSame(firstView, layoutEngine.getDockNodeView(node1));
+        assertFalse(layoutEngine.getDockNodeView(node1).getHeader().isVisible());
+    }
+
+    @Test
+    void testMovingNodeIntoTabPaneRecreatesOnlyAffectedViews() {
+        DockNode node1 = new DockNode(new Label("A"), "A");
+        DockNode node2 = new DockNode(new Label("B"), "B");
+        DockNode node3 = new DockNode(new Label("C"), "C");
+        dockGraph.dock(node1, null, DockPosition.CENTER);
+        dockGraph.dock(node2, node1, DockPosition.RIGHT);
+        dockGraph.dock(node3, node2, DockPosition.RIGHT);
+
+        layoutEngine.buildSceneGraph();
+        DockNodeView untouchedView = layoutEngine.getDockNodeView(node1);
+
+        dockGraph.move(node3, node2, DockPosition.CENTER);
+        Node root = layoutEngine.buildSceneGraph();
+
+        SplitPane rootSplit = assertInstanceOf(SplitPane.class, root);
+        assertSame(untouchedView, layoutEngine.getDockNodeView(node1));
+        TabPane tabPane = assertInstanceOf(TabPane.class, rootSplit.getItems().get(1));
+        assertEquals(2, tabPane.getTabs().size());
+        assertSame(layoutEngine.getDockNodeView(node3), tabPane.getTabs().get(1).getContent());
+        assertEquals(countElements(dockGraph.getRoot()), getViewCache().size());
+    }
+
+    /**
+     * Rebuild benchmark: the number of views a rebuild creates must follow the size of the change,
+     * not the size of the layout.
+     */
+    @Test
+    void testRebuildCostScalesWithChangeSizeNotLayoutSize() {
+        int smallLayoutCreatedViews = measureCreatedViewsForSingleDock(25);
+        dockGraph = new DockGraph();
+        dragService = new DockDragService(dockGraph);
+        layoutEngine = new DockLayoutEngine(dockGraph, dragService);
+        int largeLayoutCreatedViews = measureCreatedViewsForSingleDock(300);
+
+        assertTrue(smallLayoutCreatedViews <= 3, "Unexpected view churn: " + smallLayoutCreatedViews);
+        assertTrue(largeLayoutCreatedViews <= 3, "Unexpected view churn: " + largeLayoutCreatedViews);
+        assertTrue(layoutEngine.getLastBuildReusedViewCount() >= 290);
+    }
+
+    private int measureCreatedViewsForSingleDock(int nodeCount) {
+        List<DockNode> nodes = buildLargeLayout(nodeCount);
+        layoutEngine.buildSceneGraph();
+        assertEquals(countElements(dockGraph.getRoot()), layoutEngine.getLastBuildCreatedViewCount());
+
+        DockNode addedNode = new DockNode(new Label("Added"), "Added");
+        dockGraph.dock(addedNode, nodes.get(nodeCount / 2), DockPosition.BOTTOM);
+        layoutEngine.buildSceneGraph();
+        assertNotNull(layoutEngine.getDockNodeView(addedNode));
+        assertEquals(countElements(dockGraph.getRoot()), getViewCache().size());
+        return layoutEngine.getLastBuildCreatedViewCount();
+    }
+
+    @Test
+    void testIncrementalBuildDefersUnselectedTabContents() {
+        DockNode first = new DockNode(new Label("First"), "First");
+        DockNode second = new DockNode(new Label("Second"), "Second");
+        DockNode third = new DockNode(new Label("Third"), "Third");
+        DockNode fourth = new DockNode(new Label("Fourth"), "Fourth");
+        AtomicInteger realizedCallbacks = new AtomicInteger();
+
+        runOnFxThreadAndWait(() -> {
+            dockGraph.setRoot(first);
+            dockGraph.dock(second, first, DockPosition.CENTER);
+            dockGraph.dock(third, first, DockPosition.CENTER);
+            dockGraph.dock(fourth, first, DockPosition.CENTER);
+            ((DockTabPane) dockGraph.getRoot()).setSelectedIndex(0);
+            layoutEngine.setIncrementalBuildEnabled(true);
+            layoutEngine.setOnLayoutRealized(realizedCallbacks::incrementAndGet);
+
+            TabPane tabPane = (TabPane) layoutEngine.buildSceneGraph();
+            assertNotNull(layoutEngine.getDockNodeView(first));
+            assertNull(layoutEngine.getDockNodeView(second));
+            assertEquals(3, layoutEngine.getPendingViewCount());
+            assertEquals(0.0, layoutEngine.realizationProgressProperty().get());
+            assertTrue(tabPane.getTabs().get(1).getContent().getStyleClass()
+                .contains(DockThemeStyleClasses.DOCK_VIEW_PLACEHOLDER));
+
+            // Selecting a placeholder tab realizes it right away
+            tabPane.getSelectionModel().select(3);
+            assertSame(layoutEngine.getDockNodeView(fourth), tabPane.getTabs().get(3).getContent());
+            assertEquals(2, layoutEngine.getPendingViewCount());
+
+            // A slice always realizes at least one view, even without budget
+            assertEquals(1, layoutEngine.realizePendingViews(Duration.ZERO));
+            assertNotNull(layoutEngine.getDockNodeView(second));
+            assertEquals(2.0 / 3.0, layoutEngine.realizationProgressProperty().get(), 1e-9);
+            assertEquals(0, realizedCallbacks.get());
+
+            layoutEngine.realizePendingViews();
+            assertEquals(0, layoutEngine.getPendingViewCount());
+            assertEquals(1.0, layoutEngine.realizationProgressProperty().get());
+            assertEquals(1, realizedCallbacks.get());
+            assertSame(layoutEngine.getDockNodeView(third), tabPane.getTabs().get(2).getContent());
+
+            // Realized views are reused like eagerly built ones
+            assertSame(tabPane, layoutEngine.buildSceneGraph());
+            assertEquals(0, layoutEngine.getLastBuildCreatedViewCount());
+            assertEquals(0, layoutEngine.getPendingViewCount());
+        });
+    }
+
+    @Test
+    void testIncrementalBuildRealizesLargeLayoutAcrossPulses() throws InterruptedException {
+        CountDownLatch realized = new CountDownLatch(1);
+        AtomicInteger eagerViewCount = new AtomicInteger();
+        AtomicInteger totalElementCount = new AtomicInteger();
+        List<DockNode> nodes = new ArrayList<>();
+
+        runOnFxThreadAndWait(() -> {
+            nodes.addAll(buildLargeLayout(1000));
+            totalElementCount.set(countElements(dockGraph.getRoot()));
+            layoutEngine.setIncrementalBuildEnabled(true);
+            layoutEngine.setIncrementalBuildFrameBudget(Duration.millis(4));
+            layoutEngine.setOnLayoutRealized(realized::countDown);
+            layoutEngine.buildSceneGraph();
+            eagerViewCount.set(getViewCache().size());
+            assertTrue(layoutEngine.getPendingViewCount() > 0);
+        });
+
+        assertTrue(realized.await(30, TimeUnit.SECONDS), "Deferred views were not realized by the pulse timer");
+        runOnFxThreadAndWait(() -> {
+            assertEquals(0, layoutEngine.getPendingViewCount());
+            assertEquals(totalElementCount.get(), getViewCache().size());
+            assertTrue(eagerViewCount.get() < totalElementCount.get(),
+                "eager=" + eagerViewCount.get() + ", total=" + totalElementCount.get());
+            for (DockNode node : nodes) {
+                assertNotNull(layoutEngine.getDockNodeView(node), node.getTitle());
+            }
+        });
+    }
+
+    @Test
+    void testLazyContentIsCreatedOnlyWhenShown() {
+        AtomicInteger editorCreations = new AtomicInteger();
+        AtomicInteger consoleCreations = new AtomicInteger();
+        AtomicInteger outlineCreations = new AtomicInteger();
+        DockNode editor = DockNode.withContentSupplier("editor", () -> {
+            editorCreations.incrementAndGet();
+            return new Label("Editor");
+        }, "Editor");
+        DockNode console = DockNode.withContentSupplier("console", () -> {
+            consoleCreations.incrementAndGet();
+            return new Label("Console");
+        }, "Console");
+        DockNode outline = DockNode.withContentSupplier("outline", () -> {
+            outlineCreations.incrementAndGet();
+            return new Label("Outline");
+        }, "Outline");
+
+        runOnFxThreadAndWait(() -> {
+            dockGraph.setRoot(editor);
+            dockGraph.dock(console, editor, DockPosition.CENTER);
+            dockGraph.dock(outline, editor, DockPosition.RIGHT);
+            DockTabPane tabModel = (DockTabPane) editor.getParent();
+            tabModel.setSelectedIndex(0);
+
+            layoutEngine.buildSceneGraph();
+            assertTrue(editor.isContentCreated());
+            assertTrue(outline.isContentCreated());
+            assertFalse(console.isContentCreated());
+            assertNull(console.getContent());
+            assertEquals(0, consoleCreations.get());
+
+            TabPane tabPane = (TabPane) layoutEngine.getViewForElement(tabModel);
+            tabPane.getSelectionModel().select(1);
+            assertTrue(console.isContentCreated());
+            assertInstanceOf(Label.class, console.getContent());
+            assertSame(console.getContentHost(), console.getContent().getParent());
+
+            layoutEngine.buildSceneGraph();
+            assertEquals(1, editorCreations.get());
+            assertEquals(1, consoleCreations.get());
+            assertEquals(1, outlineCreations.get());
+        });
+    }
+
+    @Test
+    void testCompactHeaderModeReducesHeaderSceneNodes(TestReporter testReporter) {
+        HeaderBenchmark standard = measureHeaderBenchmark(DockHeaderRenderMode.STANDARD, 500);
+        HeaderBenchmark compact = measureHeaderBenchmark(DockHeaderRenderMode.COMPACT, 500);
+        String report = "standard=" + standard + ", compact=" + compact;
+        publishHeaderBenchmark(testReporter, "standard", standard);
+        publishHeaderBenchmark(testReporter, "compact", compact);
+
+        assertEquals(standard.headers(), compact.headers(), report);
+        // Pulse times are only reported; asserting on them would make the test machine dependent.
+        assertTrue(compact.headerNodes() * 2 <= standard.headerNodes(), report);
+    }
+
+    private HeaderBenchmark measureHeaderBenchmark(DockHeaderRenderMode mode, int nodeCount) {
+        dockGraph = new DockGraph();
+        dragService = new DockDragService(dockGraph);
+        layoutEngine = new DockLayoutEngine(dockGraph, dragService);
+        layoutEngine.setTitleBarMode(DockTitleBarMode.ALWAYS);
+        layoutEngine.setHeaderRenderMode(mode);
+        List<DockNode> nodes = buildLargeLayout(nodeCount);
+        Scene scene = createStyledScene(layoutEngine.buildSceneGraph(), 1600, 1200);
+
+        long start = System.nanoTime();
+        scene.getRoot().applyCss();
+        scene.getRoot().layout();
+        long firstPulseNanos = System.nanoTime() - start;
+
+        scene.getRoot().resize(1400, 1000);
+        start = System.nanoTime();
+        scene.getRoot().layout();
+        long relayoutNanos = System.nanoTime() - start;
+
+        int headerNodes = 0;
+        for (DockNode node : nodes) {
+            headerNodes += countSceneNodes(layoutEngine.getDockNodeView(node).getHeaderNode());
+        }
+        return new HeaderBenchmark(nodes.size(), headerNodes, firstPulseNanos, relayoutNanos);
+    }
+
+    private void publishHeaderBenchmark(TestReporter testReporter, String mode, HeaderBenchmark benchmark) {
+        testReporter.publishEntry(Map.of(
+            mode + ".headers", Integer.toString(benchmark.headers()),
+            mode + ".headerNodes", Integer.toString(benchmark.headerNodes()),
+            mode + ".firstPulseMillis", formatMillis(benchmark.firstPulseNanos()),
+            mode + ".relayoutMillis", formatMillis(benchmark.relayoutNanos())
+        ));
+    }
+
+    private String formatMillis(long nanos) {
+        return String.format(Locale.ROOT, "%.3f", nanos / 1_000_000.0);
+    }
+
+    private int countSceneNodes(Node node) {
+        int count = 1;
+        if (node instanceof Parent parent) {
+            for (Node child : parent.getChildrenUnmodifiable()) {
+                count += countSceneNodes(child);
+            }
+        }
+        return count;
+    }
+
+    private record HeaderBenchmark(int headers, int headerNodes, long firstPulseNanos, long relayoutNanos) {
+    }
+
+    @Test
+    void testFindElementAtUsesHitTestIndexAndFollowsDividerMoves() {
+        DockNode editor = new DockNode("editor", new Label("Editor"), "Editor");
+        DockNode console = new DockNode("console", new Label("Console"), "Console");
+        dockGraph.setRoot(editor);
+        dockGraph.dock(console, editor, DockPosition.RIGHT);
+
+        SplitPane splitView = (SplitPane) layoutEngine.buildSceneGraph();
+        Scene scene = createStyledScene(splitView, 800, 400);
+        splitView.setDividerPositions(0.5);
+        scene.getRoot().applyCss();
+        scene.getRoot().layout();
+
+        assertSame(editor, layoutEngine.findElementAt(200, 200));
+        assertSame(console, layoutEngine.findElementAt(480, 200));
+        assertSame(console, layoutEngine.findElementAt(480, 200));
+        assertNull(layoutEngine.findElementAt(900, 200));
+
+        // Moving the divider changes view bounds and must invalidate the cached grid
+        splitView.setDividerPositions(0.8);
+        scene.getRoot().layout();
+
+        assertSame(editor, layoutEngine.findElementAt(480, 200));
+        assertSame(console, layoutEngine.findElementAt(720, 200));
+    }
+
     private List<Node> getDirectDividerNodes(SplitPane splitPane) {
         return splitPane.getChildrenUnmodifiable().stream()
             .filter(child -> child.getStyleClass().contains("split-pane-divider"))
@@ -1012,6 +1510,33 @@ class DockLayoutEngineTest extends ApplicationTest {
             fail("Interrupted while waiting for JavaFX events", interruptedException);
         }
     }
+    private void runOnFxThreadAndWait(Runnable action) {
+        if (Platform.isFxApplicationThread()) {
+            action.run();
+            return;
+        }
+        CountDownLatch latch = new CountDownLatch(1);
+        AtomicReference<Throwable> error = new AtomicReference<>();
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error.set(throwable);
+            } finally {
+                latch.countDown();
+            }
+        });
+        try {
+            assertTrue(latch.await(30, TimeUnit.SECONDS), "Timed out waiting for JavaFX thread");
+        } catch (InterruptedException e) {
+            Thread.currentThread().interrupt();
+            throw new AssertionError("Interrupted while waiting for JavaFX thread", e);
+        }
+        if (error.get() != null) {
+            throw new AssertionError("JavaFX action failed", error.get());
+        }
+    }
+
     private List<DockNode> buildLargeLayout(int nodeCount) {
         List<DockNode> nodes = new ArrayList<>(nodeCount);
         DockPosition[] positions = {
@@ -1078,6 +1603,15 @@ class DockLayoutEngineTest extends ApplicationTest {
             () -> "Menu item '" + itemText + "' missing icon class: " + iconClass);
     }
 
+    private Button findButton(HBox header, String styleClass) {
+        return header.getChildren().stream()
+            .filter(Button.class::isInstance)
+            .map(Button.class::cast)
+            .filter(button -> button.getStyleClass().contains(styleClass))
+            .findFirst()
+            .orElseThrow();
+    }
+
     private MouseEvent createPrimaryPressEvent(Node source, Node target) {
         return new MouseEvent(
             source,
@@ -0,0 +1,146 @@
+package org.snapfx.view;
+
+import javafx.animation.AnimationTimer;
+import javafx.application.Platform;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+/**
+ * Tests for DockRebuildScheduler request coalescing.
+ */
+class DockRebuildSchedulerTest {
+
+    @BeforeAll
+    static void initJavaFX() {
+        try {
+            Platform.startup(() -> {});
+        } catch (IllegalStateException e) {
+            // JavaFX is already running
+        }
+    }
+
+    @Test
+    void testRequestsWithinOnePulseCollapseIntoSingleRebuild() {
+        AtomicInteger rebuilds = new AtomicInteger();
+        DockRebuildScheduler scheduler = new DockRebuildScheduler(rebuilds::incrementAndGet);
+
+        runOnFxThreadAndWait(() -> {
+            for (int i = 0; i < 5; i++) {
+                scheduler.requestRebuild();
+            }
+            assertTrue(scheduler.isRebuildPending());
+            assertEquals(0, rebuilds.get());
+        });
+        waitForPulse();
+
+        assertEquals(1, rebuilds.get());
+        assertEquals(5, scheduler.getRequestCount());
+        assertEquals(4, scheduler.getCoalescedCount());
+        assertEquals(1, scheduler.getRebuildCount());
+        assertFalse(scheduler.isRebuildPending());
+    }
+
+    @Test
+    void testRequestAfterFlushWaitsForNextPulse() {
+        AtomicInteger rebuilds = new AtomicInteger();
+        DockRebuildScheduler scheduler = new DockRebuildScheduler(rebuilds::incrementAndGet);
+
+        runOnFxThreadAndWait(() -> {
+            scheduler.requestRebuild();
+            scheduler.flush();
+            assertEquals(1, rebuilds.get());
+            scheduler.requestRebuild();
+            scheduler.requestRebuild();
+            assertEquals(1, rebuilds.get());
+            assertTrue(scheduler.isRebuildPending());
+        });
+
+        waitForPulse();
+        assertEquals(2, rebuilds.get());
+        assertEquals(2, scheduler.getRebuildCount());
+        assertEquals(1, scheduler.getCoalescedCount());
+        assertFalse(scheduler.isRebuildPending());
+    }
+
+    @Test
+    void testRebuildNowAbsorbsPendingRequest() {
+        AtomicInteger rebuilds = new AtomicInteger();
+        DockRebuildScheduler scheduler = new DockRebuildScheduler(rebuilds::incrementAndGet);
+
+        runOnFxThreadAndWait(() -> {
+            scheduler.requestRebuild();
+            scheduler.rebuildNow();
+            assertEquals(1, rebuilds.get());
+        });
+        waitForPulse();
+
+        assertEquals(1, rebuilds.get());
+        assertEquals(1, scheduler.getCoalescedCount());
+    }
+
+    @Test
+    void testCancelDropsPendingRebuild() {
+        AtomicInteger rebuilds = new AtomicInteger();
+        DockRebuildScheduler scheduler = new DockRebuildScheduler(rebuilds::incrementAndGet);
+
+        runOnFxThreadAndWait(() -> {
+            scheduler.requestRebuild();
+            scheduler.cancel();
+        });
+        waitForPulse();
+
+        assertEquals(0, rebuilds.get());
+        assertEquals(0, scheduler.getRebuildCount());
+    }
+
+    private void runOnFxThreadAndWait(Runnable action) {
+        CountDownLatch latch = new CountDownLatch(1);
+        Throwable[] error = new Throwable[1];
+        Platform.runLater(() -> {
+            try {
+                action.run();
+            } catch (Throwable throwable) {
+                error[0] = throwable;
+            } finally {
+                latch.countDown();
+            }
+        });
+        awaitLatch(latch);
+        if (error[0] instanceof AssertionError assertionError) {
+            throw assertionError;
+        }
+        if (error[0] != null) {
+            throw new AssertionError(error[0]);
+        }
+    }
+
+    /**
+     * Waits until a pulse has run all animation timers started before this call.
+     */
+    private void waitForPulse() {
+        CountDownLatch latch = new CountDownLatch(1);
+        Platform.runLater(() -> new AnimationTimer() {
+            @Override
+            public void handle(long now) {
+                stop();
+                latch.countDown();
+            }
+        }.start());
+        awaitLatch(latch);
+    }
+
+    private void awaitLatch(CountDownLatch latch) {
+        try {
+            assertTrue(latch.await(5, TimeUnit.SECONDS), "Timed out waiting for JavaFX events");
+        } catch (InterruptedException interruptedException) {
+            Thread.currentThread().interrupt();
+            fail("Interrupted while waiting for JavaFX events", interruptedException);
+        }
+    }
+}
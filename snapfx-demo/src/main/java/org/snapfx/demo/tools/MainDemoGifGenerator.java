@@ -336,7 +336,7 @@ public class MainDemoGifGenerator extends Application {
         DockNode dockNode = findDockNodeById(snapFX.getDockGraph().getRoot(), dockNodeId);
         if (dockNode != null) {
             DockNodeView nodeView = snapFX.getLayoutEngine().getDockNodeView(dockNode);
-            Node header = nodeView == null ? null : nodeView.getHeader();
+            Node header = nodeView == null ? null : nodeView.getHeaderNode();
             Bounds bounds = resolveScreenBoundsWithRetry(header);
             if (bounds != null) {
                 double x = bounds.getMinX() + bounds.getWidth() * Math.clamp(horizontalRatio, 0.0, 1.0);